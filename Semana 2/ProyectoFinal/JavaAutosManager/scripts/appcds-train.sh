@@ -0,0 +1,73 @@
+#!/bin/bash
+# Prepara el arranque rápido a partir del jar empaquetado con -Pfast-startup:
+#   1. Extrae el jar en un directorio con application.jar (las clases de la aplicación, que
+#      referencia las dependencias de lib/ en su manifiesto). CDS solo archiva clases leídas
+#      de ficheros jar, no de los jars anidados del jar ejecutable de Spring Boot.
+#   2. Hace una ejecución de entrenamiento con el AOT de Spring activado: arranca la aplicación,
+#      le envía algunas peticiones y la detiene; al salir, la JVM vuelca las clases cargadas
+#      en el archivo AppCDS application.jsa.
+#
+# Uso: scripts/appcds-train.sh target/api-0.0.1-SNAPSHOT.jar target/fast-startup
+# Ejecutar: java -XX:SharedArchiveFile=application.jsa -Dspring.aot.enabled=true \
+#           --add-modules jdk.incubator.vector -jar application.jar --spring.profiles.active=prod
+set -euo pipefail
+
+JAR=${1:?"Uso: $0 <jar ejecutable> <directorio de salida>"}
+OUT=${2:?"Uso: $0 <jar ejecutable> <directorio de salida>"}
+PORT=${TRAINING_PORT:-18081}
+JAVA=${JAVA:-java}
+
+echo "Extrayendo $JAR en $OUT..."
+rm -rf "$OUT"
+mkdir -p "$OUT/lib"
+UNPACKED=$(mktemp -d)
+trap 'rm -rf "$UNPACKED"' EXIT
+unzip -q "$JAR" -d "$UNPACKED"
+cp "$UNPACKED"/BOOT-INF/lib/*.jar "$OUT/lib/"
+
+START_CLASS=$(sed -n 's/^Start-Class: *\([^[:space:]]*\).*/\1/p' "$UNPACKED/META-INF/MANIFEST.MF")
+{
+    echo "Main-Class: $START_CLASS"
+    # Una línea de continuación por dependencia, en el orden del classpath de Spring Boot
+    header="Class-Path: "
+    while read -r entry; do
+        echo "${header}lib/${entry##*/}"
+        header="  "
+    done < <(sed -n 's/^- "\(.*\)"$/\1/p' "$UNPACKED/BOOT-INF/classpath.idx")
+} > "$UNPACKED/manifest.txt"
+jar --create --file "$OUT/application.jar" --manifest "$UNPACKED/manifest.txt" -C "$UNPACKED/BOOT-INF/classes" .
+
+echo "Ejecución de entrenamiento en el puerto $PORT..."
+cd "$OUT"
+"$JAVA" -XX:ArchiveClassesAtExit=application.jsa -Dspring.aot.enabled=true \
+    --add-modules jdk.incubator.vector -jar application.jar \
+    --spring.profiles.active=prod --server.port="$PORT" --server.address=localhost \
+    --spring.jpa.show-sql=false --logging.level.root=WARN --logging.level.org.hibernate.SQL=WARN \
+    --logging.level.org.hibernate.type.descriptor.sql.BasicBinder=WARN > training.log 2>&1 &
+PID=$!
+
+for _ in $(seq 1 600); do
+    if curl -sf -o /dev/null "http://localhost:$PORT/actuator/health"; then
+        break
+    fi
+    if ! kill -0 "$PID" 2>/dev/null; then
+        echo "La aplicación terminó durante el entrenamiento; ver $OUT/training.log" >&2
+        exit 1
+    fi
+    sleep 0.1
+done
+
+# Las rutas habituales: páginas, API REST, documentación y recursos estáticos
+for path in / /automoviles /automoviles/nuevo /api/automoviles /api/automoviles/1 /api-docs \
+            /api/estadisticas/dashboard /webjars/bootstrap/5.2.3/css/bootstrap.min.css; do
+    curl -s -o /dev/null -w "  %{http_code} $path\n" "http://localhost:$PORT$path"
+done
+
+kill "$PID"
+wait "$PID" || true
+
+if [ ! -s application.jsa ]; then
+    echo "No se generó el archivo AppCDS; ver $OUT/training.log" >&2
+    exit 1
+fi
+echo "Archivo AppCDS: $OUT/application.jsa ($(du -h application.jsa | cut -f1))"
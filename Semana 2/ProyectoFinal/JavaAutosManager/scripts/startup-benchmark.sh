@@ -0,0 +1,61 @@
+#!/bin/bash
+# Mide el tiempo hasta la primera petición correcta (desde que se lanza la JVM hasta el primer
+# 200 de la URL) en cada modo de arranque:
+#   jar      java -jar del jar ejecutable, sin AOT ni CDS (antes)
+#   aot      jar extraído con el AOT de Spring activado
+#   aot-cds  jar extraído con el AOT de Spring y el archivo AppCDS del entrenamiento (después)
+#
+# Requiere un build con: mvn -Pfast-startup package
+# Uso: scripts/startup-benchmark.sh [ejecuciones por modo] [ruta]   (por defecto 5 y /api/automoviles)
+set -euo pipefail
+
+cd "$(dirname "$0")/.."
+RUNS=${1:-5}
+URL_PATH=${2:-/api/automoviles}
+PORT=${BENCHMARK_PORT:-18082}
+JAVA=${JAVA:-java}
+JAR=$(ls target/*.jar | grep -v '\.original$' | head -1)
+FAST=target/fast-startup
+
+if [ ! -f "$FAST/application.jsa" ]; then
+    echo "Falta $FAST/application.jsa; ejecutar antes: mvn -Pfast-startup package" >&2
+    exit 1
+fi
+
+APP_ARGS=(--spring.profiles.active=prod --server.port="$PORT" --server.address=localhost
+          --spring.jpa.show-sql=false --logging.level.root=WARN --logging.level.org.hibernate.SQL=WARN
+          --logging.level.org.hibernate.type.descriptor.sql.BasicBinder=WARN)
+
+# Lanza un modo y escribe los milisegundos hasta el primer 200
+measure() {
+    local mode=$1 dir=. jvm=(--add-modules jdk.incubator.vector)
+    case "$mode" in
+        jar)     jvm+=(-jar "$JAR") ;;
+        aot)     dir=$FAST; jvm+=(-Dspring.aot.enabled=true -jar application.jar) ;;
+        aot-cds) dir=$FAST; jvm+=(-XX:SharedArchiveFile=application.jsa -Dspring.aot.enabled=true -jar application.jar) ;;
+    esac
+    local start pid
+    start=$(date +%s%N)
+    (cd "$dir" && exec "$JAVA" "${jvm[@]}" "${APP_ARGS[@]}") > "target/startup-$mode.log" 2>&1 &
+    pid=$!
+    until curl -sf -o /dev/null "http://localhost:$PORT$URL_PATH"; do
+        if ! kill -0 "$pid" 2>/dev/null; then
+            echo "El modo $mode terminó sin responder; ver target/startup-$mode.log" >&2
+            exit 1
+        fi
+        sleep 0.02
+    done
+    echo $(( ($(date +%s%N) - start) / 1000000 ))
+    kill "$pid"
+    wait "$pid" 2>/dev/null || true
+}
+
+echo "Tiempo hasta la primera petición correcta a $URL_PATH ($RUNS ejecuciones por modo, en ms)"
+for mode in jar aot aot-cds; do
+    times=()
+    for _ in $(seq 1 "$RUNS"); do
+        times+=("$(measure "$mode")")
+    done
+    median=$(printf '%s\n' "${times[@]}" | sort -n | awk '{a[NR]=$1} END {print (NR % 2) ? a[(NR+1)/2] : int((a[NR/2]+a[NR/2+1])/2)}')
+    printf '%-8s mediana %6s   (%s)\n' "$mode" "$median" "${times[*]}"
+done
@@ -0,0 +1,130 @@
+package com.empleados.api.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.empleados.api.analytics.GroupedCostStats;
+import com.empleados.api.analytics.ScalarCostAggregationKernel;
+import com.empleados.api.analytics.VectorCostAggregationKernel;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+/**
+ * Compara los kernels escalar y vectorial con streams paralelos sobre la columna de costos.
+ * <p>
+ * Ejecutar con: {@code mvn -Pbenchmark test-compile exec:exec}
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"--add-modules", "jdk.incubator.vector", "-Xmx2g"})
+@State(Scope.Benchmark)
+public class CostAggregationBenchmark {
+
+    @Param({"10000000"})
+    private int rows;
+
+    @Param({"2", "8"})
+    private int departamentosDistintos;
+
+    private long[] costos;
+    private int[] departamentos;
+
+    private final ScalarCostAggregationKernel scalar = new ScalarCostAggregationKernel();
+    private final VectorCostAggregationKernel vector = new VectorCostAggregationKernel();
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        SplittableRandom random = new SplittableRandom(42);
+        costos = new long[rows];
+        departamentos = new int[rows];
+        for (int i = 0; i < rows; i++) {
+            costos[i] = 1_000_000L + random.nextLong(9_000_000L);
+            departamentos[i] = random.nextInt(departamentosDistintos);
+        }
+    }
+
+    @Benchmark
+    public long sumScalar() {
+        return scalar.sum(costos, rows);
+    }
+
+    @Benchmark
+    public long sumParallelStream() {
+        return Arrays.stream(costos, 0, rows).parallel().sum();
+    }
+
+    @Benchmark
+    public long sumVector() {
+        return vector.sum(costos, rows);
+    }
+
+    @Benchmark
+    public long maxScalar() {
+        return scalar.max(costos, rows);
+    }
+
+    @Benchmark
+    public long maxParallelStream() {
+        return Arrays.stream(costos, 0, rows).parallel().max().orElse(Long.MIN_VALUE);
+    }
+
+    @Benchmark
+    public long maxVector() {
+        return vector.max(costos, rows);
+    }
+
+    @Benchmark
+    public long sumWhereScalar() {
+        return scalar.sumWhere(costos, departamentos, 3, rows);
+    }
+
+    @Benchmark
+    public long sumWhereParallelStream() {
+        return IntStream.range(0, rows).parallel()
+                .filter(i -> departamentos[i] == 3)
+                .mapToLong(i -> costos[i])
+                .sum();
+    }
+
+    @Benchmark
+    public long sumWhereVector() {
+        return vector.sumWhere(costos, departamentos, 3, rows);
+    }
+
+    @Benchmark
+    public GroupedCostStats byDepartamentoScalar() {
+        return scalar.aggregateByGroup(costos, departamentos, departamentosDistintos, rows);
+    }
+
+    @Benchmark
+    public long[] byDepartamentoParallelStream() {
+        return IntStream.range(0, rows).parallel().collect(
+                () -> new long[departamentosDistintos],
+                (sums, i) -> sums[departamentos[i]] += costos[i],
+                (left, right) -> {
+                    for (int g = 0; g < departamentosDistintos; g++) {
+                        left[g] += right[g];
+                    }
+                });
+    }
+
+    @Benchmark
+    public GroupedCostStats byDepartamentoVector() {
+        return vector.aggregateByGroup(costos, departamentos, departamentosDistintos, rows);
+    }
+}
@@ -0,0 +1,28 @@
+package com.empleados.api.analytics;
+
+import com.empleados.api.exception.BadRequestException;
+
+import java.util.Locale;
+
+/**
+ * Dictionary-encoded columns of the auto column store
+ */
+public enum AutoColumn {
+    MARCA,
+    MODELO,
+    COLOR,
+    DEPARTAMENTO;
+
+    /**
+     * Resolve a column from its case-insensitive name as used in request paths
+     *
+     * @throws BadRequestException when the name does not match any column
+     */
+    public static AutoColumn fromName(String name) {
+        try {
+            return valueOf(name.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new BadRequestException("Columna no soportada: " + name);
+        }
+    }
+}
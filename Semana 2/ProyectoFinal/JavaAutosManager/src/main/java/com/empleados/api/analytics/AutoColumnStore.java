@@ -0,0 +1,449 @@
+package com.empleados.api.analytics;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.empleados.api.dto.AutoDTO;
+import com.empleados.api.event.AutoChangedEvent;
+import com.empleados.api.exception.BadRequestException;
+import com.empleados.api.model.Auto;
+import com.empleados.api.replica.ReadConsistency;
+import com.empleados.api.repository.AutoRepository;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Column-oriented, in-memory copy of the automoviles table used to answer analytical queries.
+ * <p>
+ * String columns are dictionary encoded into {@code int[]} codes, costo is kept as {@code long}
+ * cents and dates as epoch days, so aggregations run over primitive arrays without boxing. Rows
+ * without costo are marked in a bitmap and left out of every costo count, min, max and average.
+ * Costo aggregations go through the {@link CostAggregationKernel}.
+ * The store is loaded once the application is ready and then kept in sync from the
+ * {@link AutoChangedEvent}s published by the service write path after each commit. Changes
+ * applied while the table is being loaded are replayed over the loaded rows, so the load never
+ * overwrites them with what it read.
+ */
+@Component
+public class AutoColumnStore {
+
+    /** Epoch-day value stored for null dates */
+    public static final int NO_DATE = Integer.MIN_VALUE;
+
+    private static final int INITIAL_CAPACITY = 1024;
+    private static final int MAX_HISTOGRAM_BUCKETS = 10_000;
+
+    private final AutoRepository autoRepository;
+    private final CostAggregationKernel kernel;
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private final Map<AutoColumn, StringDictionary> dictionaries = new HashMap<>();
+    private final Map<Long, Integer> rowById = new HashMap<>();
+
+    private long[] ids = new long[INITIAL_CAPACITY];
+    private final int[][] codes = new int[AutoColumn.values().length][INITIAL_CAPACITY];
+    private long[] costoCents = new long[INITIAL_CAPACITY];
+    private final BitSet costoNulls = new BitSet();
+    private int[] fechaCompra = new int[INITIAL_CAPACITY];
+    private int[] fechaContratacion = new int[INITIAL_CAPACITY];
+    private int size;
+    /** Changes applied while {@link #load()} reads the table, replayed over what it read; null otherwise */
+    private List<AutoChangedEvent> changesDuringLoad;
+
+    @Autowired
+    public AutoColumnStore(AutoRepository autoRepository, CostAggregationKernel kernel) {
+        this.autoRepository = autoRepository;
+        this.kernel = kernel;
+        for (AutoColumn column : AutoColumn.values()) {
+            dictionaries.put(column, new StringDictionary());
+        }
+    }
+
+    /**
+     * Load the whole table from the primary once the application (and its data initializers) are
+     * ready; a lagging replica could miss writes whose events were already applied
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        lock.writeLock().lock();
+        try {
+            changesDuringLoad = new ArrayList<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+        List<Auto> automoviles;
+        try (ReadConsistency.Scope primary = ReadConsistency.pin(null)) {
+            automoviles = autoRepository.findAll();
+        } catch (RuntimeException e) {
+            lock.writeLock().lock();
+            try {
+                changesDuringLoad = null;
+            } finally {
+                lock.writeLock().unlock();
+            }
+            throw e;
+        }
+        lock.writeLock().lock();
+        try {
+            List<AutoChangedEvent> replay = changesDuringLoad;
+            changesDuringLoad = null;
+            rebuild(automoviles);
+            // Each event carries the full row, so replaying one the load already saw is harmless
+            replay.forEach(this::apply);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Apply committed changes coming from the service layer
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onAutoChanged(AutoChangedEvent event) {
+        lock.writeLock().lock();
+        try {
+            if (changesDuringLoad != null) {
+                changesDuringLoad.add(event);
+            }
+            apply(event);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void apply(AutoChangedEvent event) {
+        if (event.getType() == AutoChangedEvent.Type.DELETED) {
+            remove(event.getAutoId());
+        } else {
+            upsert(event.getAfter());
+        }
+    }
+
+    /**
+     * Replace the whole content of the store
+     */
+    public void rebuild(List<Auto> automoviles) {
+        lock.writeLock().lock();
+        try {
+            size = 0;
+            rowById.clear();
+            costoNulls.clear();
+            dictionaries.values().forEach(StringDictionary::clear);
+            ensureCapacity(automoviles.size());
+            for (Auto auto : automoviles) {
+                int row = size++;
+                rowById.put(auto.getId(), row);
+                writeRow(row, auto.getId(), auto.getMarca(), auto.getModelo(), auto.getColor(),
+                        auto.getDepartamento(), auto.getCosto(), auto.getFechaCompra(), auto.getFechaContratacion());
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Insert or replace the row of an auto
+     */
+    public void upsert(AutoDTO auto) {
+        lock.writeLock().lock();
+        try {
+            Integer row = rowById.get(auto.getId());
+            if (row == null) {
+                ensureCapacity(size + 1);
+                row = size++;
+                rowById.put(auto.getId(), row);
+            }
+            writeRow(row, auto.getId(), auto.getMarca(), auto.getModelo(), auto.getColor(),
+                    auto.getDepartamento(), auto.getCosto(), auto.getFechaCompra(), auto.getFechaContratacion());
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Remove the row of an auto by moving the last row into its slot
+     */
+    public void remove(Long id) {
+        lock.writeLock().lock();
+        try {
+            Integer row = rowById.remove(id);
+            if (row == null) {
+                return;
+            }
+            int last = --size;
+            if (row != last) {
+                ids[row] = ids[last];
+                for (int[] column : codes) {
+                    column[row] = column[last];
+                }
+                costoCents[row] = costoCents[last];
+                costoNulls.set(row, costoNulls.get(last));
+                fechaCompra[row] = fechaCompra[last];
+                fechaContratacion[row] = fechaContratacion[last];
+                rowById.put(ids[row], row);
+            }
+            costoNulls.clear(last);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return size;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Sum of costo over all rows, in cents
+     */
+    public long sumCostoCents() {
+        lock.readLock().lock();
+        try {
+            return kernel.sum(costoCents, size);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Sum of costo, in cents, of the autos that belong to a departamento
+     */
+    public long sumCostoCents(String departamento) {
+        lock.readLock().lock();
+        try {
+            int code = dictionaries.get(AutoColumn.DEPARTAMENTO).find(departamento);
+            if (code == StringDictionary.NULL_CODE) {
+                return 0;
+            }
+            return kernel.sumWhere(costoCents, codes[AutoColumn.DEPARTAMENTO.ordinal()], code, size);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Number of autos per value of a column. Rows with a null value are not included.
+     */
+    public Map<String, Long> countBy(AutoColumn column) {
+        lock.readLock().lock();
+        try {
+            StringDictionary dictionary = dictionaries.get(column);
+            int[] values = codes[column.ordinal()];
+            long[] counts = new long[dictionary.size()];
+            for (int i = 0; i < size; i++) {
+                int code = values[i];
+                if (code != StringDictionary.NULL_CODE) {
+                    counts[code]++;
+                }
+            }
+            return toMap(dictionary, counts);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Sum of costo, in cents, per value of a column. Rows with a null value are not included.
+     */
+    public Map<String, Long> sumCostoCentsBy(AutoColumn column) {
+        Map<String, Long> result = new LinkedHashMap<>();
+        costSummaryBy(column).forEach((value, summary) -> result.put(value, summary.getSumCents()));
+        return result;
+    }
+
+    /**
+     * Count, sum, min and max of costo over the rows that have one
+     */
+    public CostSummary costSummary() {
+        lock.readLock().lock();
+        try {
+            if (costoNulls.isEmpty()) {
+                return new CostSummary(size, kernel.sum(costoCents, size),
+                        kernel.min(costoCents, size), kernel.max(costoCents, size));
+            }
+            // A single group holding the rows with costo
+            GroupedCostStats stats = kernel.aggregateByGroup(costoCents,
+                    withoutNullCostos(new int[size], costoNulls, size), 1, size);
+            return new CostSummary(stats.count(0), stats.sum(0), stats.min(0), stats.max(0));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Count, sum, min and max of costo per value of a column. Rows with a null value or without
+     * costo are not included.
+     */
+    public Map<String, CostSummary> costSummaryBy(AutoColumn column) {
+        lock.readLock().lock();
+        try {
+            StringDictionary dictionary = dictionaries.get(column);
+            int[] groups = codes[column.ordinal()];
+            if (!costoNulls.isEmpty()) {
+                groups = withoutNullCostos(Arrays.copyOf(groups, size), costoNulls, size);
+            }
+            GroupedCostStats stats = kernel.aggregateByGroup(costoCents, groups, dictionary.size(), size);
+            Map<String, CostSummary> result = new LinkedHashMap<>();
+            for (int code = 0; code < stats.groups(); code++) {
+                if (stats.count(code) > 0) {
+                    result.put(dictionary.decode(code), new CostSummary(stats.count(code), stats.sum(code),
+                            stats.min(code), stats.max(code)));
+                }
+            }
+            return result;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Copy the columns used by reports so they can be processed without holding the lock
+     */
+    public ColumnSnapshot snapshot() {
+        lock.readLock().lock();
+        try {
+            int[][] codesCopy = new int[codes.length][];
+            String[][] dictionaryValues = new String[codes.length][];
+            for (AutoColumn column : AutoColumn.values()) {
+                codesCopy[column.ordinal()] = Arrays.copyOf(codes[column.ordinal()], size);
+                dictionaryValues[column.ordinal()] = dictionaries.get(column).toArray();
+            }
+            return new ColumnSnapshot(size, Arrays.copyOf(costoCents, size), costoNulls.get(0, size),
+                    Arrays.copyOf(fechaCompra, size), codesCopy, dictionaryValues);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Number of autos bought between two dates, both inclusive
+     */
+    public long countFechaCompraBetween(LocalDate desde, LocalDate hasta) {
+        int from = (int) desde.toEpochDay();
+        int to = (int) hasta.toEpochDay();
+        lock.readLock().lock();
+        try {
+            long count = 0;
+            for (int i = 0; i < size; i++) {
+                int day = fechaCompra[i];
+                if (day != NO_DATE && day >= from && day <= to) {
+                    count++;
+                }
+            }
+            return count;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Histogram of purchase dates in fixed-width buckets starting at {@code desde}.
+     * Dates outside the covered range are ignored.
+     *
+     * @param desde first day of the first bucket
+     * @param bucketDays width of each bucket in days
+     * @param buckets number of buckets
+     * @return the number of autos bought in each bucket
+     */
+    public long[] fechaCompraHistogram(LocalDate desde, int bucketDays, int buckets) {
+        checkHistogramArguments(bucketDays, buckets);
+        int from = (int) desde.toEpochDay();
+        long[] histogram = new long[buckets];
+        lock.readLock().lock();
+        try {
+            for (int i = 0; i < size; i++) {
+                int day = fechaCompra[i];
+                if (day == NO_DATE || day < from) {
+                    continue;
+                }
+                int bucket = (day - from) / bucketDays;
+                if (bucket < buckets) {
+                    histogram[bucket]++;
+                }
+            }
+            return histogram;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Replace the group code of every row without costo by {@link StringDictionary#NULL_CODE}, which
+     * the kernels skip
+     */
+    static int[] withoutNullCostos(int[] groups, BitSet costoNulls, int size) {
+        for (int row = costoNulls.nextSetBit(0); row >= 0 && row < size; row = costoNulls.nextSetBit(row + 1)) {
+            groups[row] = StringDictionary.NULL_CODE;
+        }
+        return groups;
+    }
+
+    static void checkHistogramArguments(int bucketDays, int buckets) {
+        if (bucketDays <= 0 || buckets <= 0 || buckets > MAX_HISTOGRAM_BUCKETS) {
+            throw new BadRequestException("El histograma admite entre 1 y " + MAX_HISTOGRAM_BUCKETS
+                    + " intervalos de al menos un día");
+        }
+    }
+
+    private void writeRow(int row, Long id, String marca, String modelo, String color, String departamento,
+                          BigDecimal costo, LocalDate compra, LocalDate contratacion) {
+        ids[row] = id;
+        codes[AutoColumn.MARCA.ordinal()][row] = dictionaries.get(AutoColumn.MARCA).encode(marca);
+        codes[AutoColumn.MODELO.ordinal()][row] = dictionaries.get(AutoColumn.MODELO).encode(modelo);
+        codes[AutoColumn.COLOR.ordinal()][row] = dictionaries.get(AutoColumn.COLOR).encode(color);
+        codes[AutoColumn.DEPARTAMENTO.ordinal()][row] = dictionaries.get(AutoColumn.DEPARTAMENTO).encode(departamento);
+        costoCents[row] = toCents(costo);
+        costoNulls.set(row, costo == null);
+        fechaCompra[row] = toEpochDay(compra);
+        fechaContratacion[row] = toEpochDay(contratacion);
+    }
+
+    private void ensureCapacity(int required) {
+        if (required <= ids.length) {
+            return;
+        }
+        int capacity = Math.max(required, ids.length + (ids.length >> 1));
+        ids = Arrays.copyOf(ids, capacity);
+        for (int c = 0; c < codes.length; c++) {
+            codes[c] = Arrays.copyOf(codes[c], capacity);
+        }
+        costoCents = Arrays.copyOf(costoCents, capacity);
+        fechaCompra = Arrays.copyOf(fechaCompra, capacity);
+        fechaContratacion = Arrays.copyOf(fechaContratacion, capacity);
+    }
+
+    private static Map<String, Long> toMap(StringDictionary dictionary, long[] counts) {
+        Map<String, Long> result = new LinkedHashMap<>();
+        for (int code = 0; code < counts.length; code++) {
+            if (counts[code] > 0) {
+                result.put(dictionary.decode(code), counts[code]);
+            }
+        }
+        return result;
+    }
+
+    public static long toCents(BigDecimal amount) {
+        return amount == null ? 0 : amount.movePointRight(2).setScale(0, RoundingMode.HALF_UP).longValueExact();
+    }
+
+    private static int toEpochDay(LocalDate date) {
+        return date == null ? NO_DATE : (int) date.toEpochDay();
+    }
+}
@@ -0,0 +1,92 @@
+package com.empleados.api.analytics;
+
+import java.util.BitSet;
+
+/**
+ * Immutable copy of the columns of the {@link AutoColumnStore} taken at one point in time.
+ * Long-running reports work on a snapshot so they neither hold the store lock nor see rows
+ * change while partitions are being processed.
+ */
+public final class ColumnSnapshot {
+
+    private final int size;
+    private final long[] costoCents;
+    private final BitSet costoNulls;
+    private final int[] fechaCompra;
+    private final int[][] codes;
+    private final String[][] dictionaries;
+
+    ColumnSnapshot(int size, long[] costoCents, BitSet costoNulls, int[] fechaCompra, int[][] codes,
+                   String[][] dictionaries) {
+        this.size = size;
+        this.costoCents = costoCents;
+        this.costoNulls = costoNulls;
+        this.fechaCompra = fechaCompra;
+        this.codes = codes;
+        this.dictionaries = dictionaries;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Costo column in cents, zero for rows without costo. Callers must not modify the returned array.
+     */
+    public long[] costoCents() {
+        return costoCents;
+    }
+
+    /**
+     * Costos in cents of the rows that have one, in a new array
+     */
+    public long[] presentCostoCents() {
+        if (costoNulls.isEmpty()) {
+            return costoCents.clone();
+        }
+        long[] present = new long[size - costoNulls.cardinality()];
+        int next = 0;
+        for (int row = 0; row < size; row++) {
+            if (!costoNulls.get(row)) {
+                present[next++] = costoCents[row];
+            }
+        }
+        return present;
+    }
+
+    /**
+     * Dictionary codes of a column for costo aggregations: {@link StringDictionary#NULL_CODE} for
+     * rows without costo. Callers must not modify the returned array.
+     */
+    public int[] costoCodes(AutoColumn column) {
+        int[] columnCodes = codes(column);
+        return costoNulls.isEmpty() ? columnCodes
+                : AutoColumnStore.withoutNullCostos(columnCodes.clone(), costoNulls, size);
+    }
+
+    /**
+     * Purchase dates as epoch days, {@link AutoColumnStore#NO_DATE} for nulls.
+     * Callers must not modify the returned array.
+     */
+    public int[] fechaCompra() {
+        return fechaCompra;
+    }
+
+    /**
+     * Dictionary codes of a column. Callers must not modify the returned array.
+     */
+    public int[] codes(AutoColumn column) {
+        return codes[column.ordinal()];
+    }
+
+    /**
+     * Number of distinct values of a column
+     */
+    public int groups(AutoColumn column) {
+        return dictionaries[column.ordinal()].length;
+    }
+
+    public String decode(AutoColumn column, int code) {
+        return dictionaries[column.ordinal()][code];
+    }
+}
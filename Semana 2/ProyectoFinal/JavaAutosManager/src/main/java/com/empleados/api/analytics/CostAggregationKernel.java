@@ -0,0 +1,39 @@
+package com.empleados.api.analytics;
+
+/**
+ * Aggregation primitives over the costo column of the column store.
+ * Every method only looks at the first {@code length} positions of the arrays.
+ */
+public interface CostAggregationKernel {
+
+    /**
+     * Sum of the values
+     */
+    long sum(long[] values, int length);
+
+    /**
+     * Smallest value, or {@link Long#MAX_VALUE} when there are no values
+     */
+    long min(long[] values, int length);
+
+    /**
+     * Largest value, or {@link Long#MIN_VALUE} when there are no values
+     */
+    long max(long[] values, int length);
+
+    /**
+     * Sum of the values whose group code equals {@code code}
+     */
+    long sumWhere(long[] values, int[] codes, int code, int length);
+
+    /**
+     * Count, sum, min and max per group code in {@code [0, groups)}.
+     * Rows whose code is outside that range are ignored.
+     */
+    GroupedCostStats aggregateByGroup(long[] values, int[] codes, int groups, int length);
+
+    /**
+     * Name reported in logs and benchmarks
+     */
+    String name();
+}
@@ -0,0 +1,34 @@
+package com.empleados.api.analytics;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Picks the fastest cost aggregation kernel available in the running JVM
+ */
+public final class CostAggregationKernels {
+
+    private static final Logger log = LoggerFactory.getLogger(CostAggregationKernels.class);
+
+    private static final String VECTOR_KERNEL = "com.empleados.api.analytics.VectorCostAggregationKernel";
+
+    private CostAggregationKernels() {
+    }
+
+    /**
+     * The Vector API kernel when the jdk.incubator.vector module is present and useful,
+     * the scalar kernel otherwise
+     */
+    public static CostAggregationKernel best() {
+        try {
+            Class<?> type = Class.forName(VECTOR_KERNEL);
+            if ((Boolean) type.getMethod("isSupported").invoke(null)) {
+                return (CostAggregationKernel) type.getDeclaredConstructor().newInstance();
+            }
+            log.info("El Vector API no ofrece más de un carril de 64 bits; se usa el kernel escalar");
+        } catch (ReflectiveOperationException | LinkageError e) {
+            log.info("Vector API no disponible (arrancar con --add-modules jdk.incubator.vector); se usa el kernel escalar");
+        }
+        return new ScalarCostAggregationKernel();
+    }
+}
@@ -0,0 +1,19 @@
+package com.empleados.api.analytics;
+
+import lombok.Value;
+
+/**
+ * Count, sum, min and max of costo, in cents
+ */
+@Value
+public class CostSummary {
+
+    long count;
+    long sumCents;
+    long minCents;
+    long maxCents;
+
+    public boolean isEmpty() {
+        return count == 0;
+    }
+}
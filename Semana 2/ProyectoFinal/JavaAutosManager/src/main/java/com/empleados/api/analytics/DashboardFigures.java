@@ -0,0 +1,17 @@
+package com.empleados.api.analytics;
+
+import lombok.Value;
+
+import java.util.Map;
+
+/**
+ * Point-in-time copy of the dashboard figures, with costo in cents
+ */
+@Value
+public class DashboardFigures {
+
+    long total;
+    long costoCents;
+    Map<String, Long> marcas;
+    Map<String, Long> departamentos;
+}
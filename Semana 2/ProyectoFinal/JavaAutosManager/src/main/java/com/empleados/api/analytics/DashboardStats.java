@@ -0,0 +1,142 @@
+package com.empleados.api.analytics;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.empleados.api.dto.AutoDTO;
+import com.empleados.api.event.AutoChangedEvent;
+import com.empleados.api.replica.ReadConsistency;
+import com.empleados.api.repository.AutoRepository;
+import com.empleados.api.repository.ValueCount;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Materialized figures for the dashboard: number of autos, total costo and counts per marca
+ * and departamento.
+ * <p>
+ * Each committed {@link AutoChangedEvent} is applied as a constant-time delta, so serving the
+ * dashboard never touches the database. A full recount with SQL aggregates runs on startup and
+ * every {@code autos.dashboard.reconcile-interval-ms} to repair any drift (for example writes
+ * made directly through the repository). A recount that overlaps with a delta is discarded and
+ * retried on the next run, since the two could disagree about that write.
+ */
+@Component
+public class DashboardStats {
+
+    private static final Logger log = LoggerFactory.getLogger(DashboardStats.class);
+
+    private final AutoRepository autoRepository;
+
+    private long total;
+    private long costoCents;
+    private final Map<String, Long> marcas = new HashMap<>();
+    private final Map<String, Long> departamentos = new HashMap<>();
+    /** Incremented by every delta, used to detect recounts that raced with a write */
+    private long version;
+    private boolean loaded;
+
+    @Autowired
+    public DashboardStats(AutoRepository autoRepository) {
+        this.autoRepository = autoRepository;
+    }
+
+    /**
+     * Apply committed changes coming from the service layer
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public synchronized void onAutoChanged(AutoChangedEvent event) {
+        AutoDTO before = event.getBefore();
+        AutoDTO after = event.getAfter();
+        if (before != null) {
+            apply(before, -1);
+        }
+        if (after != null) {
+            apply(after, 1);
+        }
+        version++;
+    }
+
+    /**
+     * Recount everything from the database and replace the current figures. The recount reads the
+     * primary: a lagging replica would miss writes whose deltas are already applied.
+     *
+     * @return whether the recount was applied; false when a write raced with it
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(initialDelayString = "${autos.dashboard.reconcile-interval-ms:300000}",
+            fixedDelayString = "${autos.dashboard.reconcile-interval-ms:300000}")
+    @Transactional(readOnly = true)
+    public boolean reconcile() {
+        long startVersion;
+        synchronized (this) {
+            startVersion = version;
+        }
+        long countedTotal;
+        long countedCosto;
+        Map<String, Long> countedMarcas;
+        Map<String, Long> countedDepartamentos;
+        try (ReadConsistency.Scope primary = ReadConsistency.pin(null)) {
+            countedTotal = autoRepository.count();
+            countedCosto = AutoColumnStore.toCents(autoRepository.sumCosto());
+            countedMarcas = toMap(autoRepository.countByMarca());
+            countedDepartamentos = toMap(autoRepository.countByDepartamento());
+        }
+
+        synchronized (this) {
+            if (version != startVersion) {
+                log.debug("Recuento del dashboard descartado por escrituras concurrentes");
+                return false;
+            }
+            if (loaded && (countedTotal != total || countedCosto != costoCents
+                    || !countedMarcas.equals(marcas) || !countedDepartamentos.equals(departamentos))) {
+                log.info("Estadísticas del dashboard corregidas por el recuento: total {} -> {}, costo {} -> {}",
+                        total, countedTotal, costoCents, countedCosto);
+            }
+            total = countedTotal;
+            costoCents = countedCosto;
+            marcas.clear();
+            marcas.putAll(countedMarcas);
+            departamentos.clear();
+            departamentos.putAll(countedDepartamentos);
+            loaded = true;
+            return true;
+        }
+    }
+
+    /**
+     * Copy of the current figures, with marcas and departamentos sorted by name
+     */
+    public synchronized DashboardFigures figures() {
+        return new DashboardFigures(total, costoCents, new TreeMap<>(marcas), new TreeMap<>(departamentos));
+    }
+
+    private void apply(AutoDTO auto, int sign) {
+        total += sign;
+        costoCents += sign * AutoColumnStore.toCents(auto.getCosto());
+        adjust(marcas, auto.getMarca(), sign);
+        adjust(departamentos, auto.getDepartamento(), sign);
+    }
+
+    private static void adjust(Map<String, Long> counts, String key, int sign) {
+        if (key != null) {
+            counts.merge(key, (long) sign, (current, delta) -> current + delta == 0 ? null : current + delta);
+        }
+    }
+
+    private static Map<String, Long> toMap(List<ValueCount> rows) {
+        Map<String, Long> result = new HashMap<>();
+        rows.forEach(row -> result.put(row.getValor(), row.getTotal()));
+        return result;
+    }
+}
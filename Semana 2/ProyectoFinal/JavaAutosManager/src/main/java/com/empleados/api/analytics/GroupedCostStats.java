@@ -0,0 +1,66 @@
+package com.empleados.api.analytics;
+
+import java.util.Arrays;
+
+/**
+ * Per-group count, sum, min and max of costo cents, indexed by dictionary code
+ */
+public class GroupedCostStats {
+
+    final long[] counts;
+    final long[] sums;
+    final long[] mins;
+    final long[] maxs;
+
+    public GroupedCostStats(int groups) {
+        counts = new long[groups];
+        sums = new long[groups];
+        mins = new long[groups];
+        maxs = new long[groups];
+        Arrays.fill(mins, Long.MAX_VALUE);
+        Arrays.fill(maxs, Long.MIN_VALUE);
+    }
+
+    /**
+     * Account one value for a group
+     */
+    public void add(int group, long value) {
+        counts[group]++;
+        sums[group] += value;
+        mins[group] = Math.min(mins[group], value);
+        maxs[group] = Math.max(maxs[group], value);
+    }
+
+    /**
+     * Fold the partial stats of another partition into these. Groups missing from the other
+     * stats (it was built with a smaller dictionary) are left untouched.
+     */
+    public void merge(GroupedCostStats other) {
+        for (int group = 0; group < other.groups(); group++) {
+            counts[group] += other.counts[group];
+            sums[group] += other.sums[group];
+            mins[group] = Math.min(mins[group], other.mins[group]);
+            maxs[group] = Math.max(maxs[group], other.maxs[group]);
+        }
+    }
+
+    public int groups() {
+        return counts.length;
+    }
+
+    public long count(int group) {
+        return counts[group];
+    }
+
+    public long sum(int group) {
+        return sums[group];
+    }
+
+    public long min(int group) {
+        return mins[group];
+    }
+
+    public long max(int group) {
+        return maxs[group];
+    }
+}
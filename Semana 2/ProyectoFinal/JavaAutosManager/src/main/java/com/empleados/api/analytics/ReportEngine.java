@@ -0,0 +1,243 @@
+package com.empleados.api.analytics;
+
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.empleados.api.exception.BadRequestException;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Runs full-fleet reports in parallel on a dedicated {@link ForkJoinPool}.
+ * <p>
+ * Every report works on a fresh {@link ColumnSnapshot} of the column store, split into row
+ * ranges of at most {@code autos.reports.partition-size} rows. Each range is aggregated on its
+ * own and the partial results are combined pairwise while the fork/join tree unwinds. Reports
+ * are submitted to the pool and returned as futures, so request threads never run or wait
+ * for the computation. The pool size comes from {@code autos.reports.parallelism}
+ * (0 means one worker per available processor).
+ */
+@Component
+public class ReportEngine {
+
+    private static final Logger log = LoggerFactory.getLogger(ReportEngine.class);
+
+    private final AutoColumnStore columnStore;
+    private final ForkJoinPool pool;
+    private final int partitionSize;
+
+    @Autowired
+    public ReportEngine(AutoColumnStore columnStore,
+                        @Value("${autos.reports.parallelism:0}") int parallelism,
+                        @Value("${autos.reports.partition-size:65536}") int partitionSize) {
+        if (partitionSize <= 0) {
+            throw new IllegalArgumentException("autos.reports.partition-size debe ser mayor que cero");
+        }
+        this.columnStore = columnStore;
+        this.partitionSize = partitionSize;
+        int workers = parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors();
+        this.pool = new ForkJoinPool(workers, ReportEngine::newWorker, null, false);
+        log.info("Motor de reportes con {} hilos y particiones de {} filas", workers, partitionSize);
+    }
+
+    /**
+     * Count, sum, min and max of costo per value of a column. Rows with a null value or without
+     * costo are not included.
+     */
+    public CompletableFuture<Map<String, CostSummary>> costSummaryBy(AutoColumn column) {
+        return CompletableFuture.supplyAsync(() -> {
+            ColumnSnapshot snapshot = columnStore.snapshot();
+            GroupedCostStats stats = new GroupByTask(snapshot.costoCents(), snapshot.costoCodes(column),
+                    snapshot.groups(column), 0, snapshot.size()).invoke();
+            Map<String, CostSummary> result = new LinkedHashMap<>();
+            for (int code = 0; code < stats.groups(); code++) {
+                if (stats.count(code) > 0) {
+                    result.put(snapshot.decode(column, code), new CostSummary(stats.count(code), stats.sum(code),
+                            stats.min(code), stats.max(code)));
+                }
+            }
+            return result;
+        }, pool);
+    }
+
+    /**
+     * Nearest-rank percentiles of costo, in cents, over the autos that have one
+     *
+     * @param percentiles requested percentiles, each in (0, 100]
+     * @return the value of each percentile in request order, or an empty map when no auto has costo
+     */
+    public CompletableFuture<Map<Double, Long>> costoPercentiles(double... percentiles) {
+        for (double percentile : percentiles) {
+            if (!(percentile > 0 && percentile <= 100)) {
+                throw new BadRequestException("Los percentiles deben ser mayores que 0 y como máximo 100");
+            }
+        }
+        return CompletableFuture.supplyAsync(() -> {
+            long[] sorted = columnStore.snapshot().presentCostoCents();
+            int size = sorted.length;
+            Map<Double, Long> result = new LinkedHashMap<>();
+            if (size == 0) {
+                return result;
+            }
+            new SortTask(sorted, new long[size], 0, size).invoke();
+            for (double percentile : percentiles) {
+                int rank = (int) Math.ceil(percentile / 100.0 * size);
+                result.put(percentile, sorted[Math.max(rank, 1) - 1]);
+            }
+            return result;
+        }, pool);
+    }
+
+    /**
+     * Histogram of purchase dates in fixed-width buckets starting at {@code desde}.
+     * Dates outside the covered range are ignored.
+     */
+    public CompletableFuture<long[]> fechaCompraHistogram(LocalDate desde, int bucketDays, int buckets) {
+        AutoColumnStore.checkHistogramArguments(bucketDays, buckets);
+        int from = (int) desde.toEpochDay();
+        return CompletableFuture.supplyAsync(() -> {
+            ColumnSnapshot snapshot = columnStore.snapshot();
+            return new HistogramTask(snapshot.fechaCompra(), from, bucketDays, buckets, 0, snapshot.size()).invoke();
+        }, pool);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        pool.shutdownNow();
+    }
+
+    private static ForkJoinWorkerThread newWorker(ForkJoinPool pool) {
+        ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+        thread.setName("report-" + thread.getPoolIndex());
+        return thread;
+    }
+
+    private final class GroupByTask extends RecursiveTask<GroupedCostStats> {
+
+        private final long[] values;
+        private final int[] codes;
+        private final int groups;
+        private final int from;
+        private final int to;
+
+        GroupByTask(long[] values, int[] codes, int groups, int from, int to) {
+            this.values = values;
+            this.codes = codes;
+            this.groups = groups;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected GroupedCostStats compute() {
+            if (to - from <= partitionSize) {
+                GroupedCostStats stats = new GroupedCostStats(groups);
+                for (int i = from; i < to; i++) {
+                    int code = codes[i];
+                    if (code != StringDictionary.NULL_CODE) {
+                        stats.add(code, values[i]);
+                    }
+                }
+                return stats;
+            }
+            int mid = (from + to) >>> 1;
+            GroupByTask left = new GroupByTask(values, codes, groups, from, mid);
+            left.fork();
+            GroupedCostStats stats = new GroupByTask(values, codes, groups, mid, to).compute();
+            stats.merge(left.join());
+            return stats;
+        }
+    }
+
+    /**
+     * Sorts each partition on its own and merges neighbouring partitions through {@code buffer}
+     */
+    private final class SortTask extends RecursiveAction {
+
+        private final long[] data;
+        private final long[] buffer;
+        private final int from;
+        private final int to;
+
+        SortTask(long[] data, long[] buffer, int from, int to) {
+            this.data = data;
+            this.buffer = buffer;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= partitionSize) {
+                Arrays.sort(data, from, to);
+                return;
+            }
+            int mid = (from + to) >>> 1;
+            invokeAll(new SortTask(data, buffer, from, mid), new SortTask(data, buffer, mid, to));
+            int left = from;
+            int right = mid;
+            for (int i = from; i < to; i++) {
+                buffer[i] = right >= to || (left < mid && data[left] <= data[right]) ? data[left++] : data[right++];
+            }
+            System.arraycopy(buffer, from, data, from, to - from);
+        }
+    }
+
+    private final class HistogramTask extends RecursiveTask<long[]> {
+
+        private final int[] days;
+        private final int start;
+        private final int bucketDays;
+        private final int buckets;
+        private final int from;
+        private final int to;
+
+        HistogramTask(int[] days, int start, int bucketDays, int buckets, int from, int to) {
+            this.days = days;
+            this.start = start;
+            this.bucketDays = bucketDays;
+            this.buckets = buckets;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected long[] compute() {
+            if (to - from <= partitionSize) {
+                long[] histogram = new long[buckets];
+                for (int i = from; i < to; i++) {
+                    int day = days[i];
+                    if (day == AutoColumnStore.NO_DATE || day < start) {
+                        continue;
+                    }
+                    int bucket = (day - start) / bucketDays;
+                    if (bucket < buckets) {
+                        histogram[bucket]++;
+                    }
+                }
+                return histogram;
+            }
+            int mid = (from + to) >>> 1;
+            HistogramTask left = new HistogramTask(days, start, bucketDays, buckets, from, mid);
+            left.fork();
+            long[] histogram = new HistogramTask(days, start, bucketDays, buckets, mid, to).compute();
+            long[] other = left.join();
+            for (int b = 0; b < buckets; b++) {
+                histogram[b] += other[b];
+            }
+            return histogram;
+        }
+    }
+}
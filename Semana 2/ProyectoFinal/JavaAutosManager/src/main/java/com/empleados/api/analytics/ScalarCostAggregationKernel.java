@@ -0,0 +1,63 @@
+package com.empleados.api.analytics;
+
+/**
+ * Plain loop implementation, used when the Vector API is not available
+ */
+public class ScalarCostAggregationKernel implements CostAggregationKernel {
+
+    @Override
+    public long sum(long[] values, int length) {
+        long sum = 0;
+        for (int i = 0; i < length; i++) {
+            sum += values[i];
+        }
+        return sum;
+    }
+
+    @Override
+    public long min(long[] values, int length) {
+        long min = Long.MAX_VALUE;
+        for (int i = 0; i < length; i++) {
+            min = Math.min(min, values[i]);
+        }
+        return min;
+    }
+
+    @Override
+    public long max(long[] values, int length) {
+        long max = Long.MIN_VALUE;
+        for (int i = 0; i < length; i++) {
+            max = Math.max(max, values[i]);
+        }
+        return max;
+    }
+
+    @Override
+    public long sumWhere(long[] values, int[] codes, int code, int length) {
+        long sum = 0;
+        for (int i = 0; i < length; i++) {
+            if (codes[i] == code) {
+                sum += values[i];
+            }
+        }
+        return sum;
+    }
+
+    @Override
+    public GroupedCostStats aggregateByGroup(long[] values, int[] codes, int groups, int length) {
+        GroupedCostStats stats = new GroupedCostStats(groups);
+        for (int i = 0; i < length; i++) {
+            int code = codes[i];
+            if (code < 0 || code >= groups) {
+                continue;
+            }
+            stats.add(code, values[i]);
+        }
+        return stats;
+    }
+
+    @Override
+    public String name() {
+        return "scalar";
+    }
+}
@@ -0,0 +1,65 @@
+package com.empleados.api.analytics;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Append-only dictionary that maps string values to dense int codes.
+ * Codes are never reused, so arrays indexed by code stay valid while the dictionary grows.
+ * Not thread-safe: callers synchronize through the column store lock.
+ */
+class StringDictionary {
+
+    static final int NULL_CODE = -1;
+
+    private final Map<String, Integer> codes = new HashMap<>();
+    private final List<String> values = new ArrayList<>();
+
+    int encode(String value) {
+        if (value == null) {
+            return NULL_CODE;
+        }
+        Integer code = codes.get(value);
+        if (code == null) {
+            code = values.size();
+            codes.put(value, code);
+            values.add(value);
+        }
+        return code;
+    }
+
+    /**
+     * Looks up a value without adding it
+     *
+     * @return the code, or {@link #NULL_CODE} when the value was never seen
+     */
+    int find(String value) {
+        if (value == null) {
+            return NULL_CODE;
+        }
+        Integer code = codes.get(value);
+        return code != null ? code : NULL_CODE;
+    }
+
+    String decode(int code) {
+        return code == NULL_CODE ? null : values.get(code);
+    }
+
+    /**
+     * Copy of the decoded values, indexed by code
+     */
+    String[] toArray() {
+        return values.toArray(new String[0]);
+    }
+
+    int size() {
+        return values.size();
+    }
+
+    void clear() {
+        codes.clear();
+        values.clear();
+    }
+}
@@ -0,0 +1,153 @@
+package com.empleados.api.analytics;
+
+import jdk.incubator.vector.IntVector;
+import jdk.incubator.vector.LongVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorShape;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * SIMD implementation based on the incubating Vector API.
+ * <p>
+ * Needs the JVM to be started with {@code --add-modules jdk.incubator.vector}; without it this
+ * class fails to link and {@link CostAggregationKernels} falls back to the scalar kernel.
+ * Grouped aggregations run one masked pass per group, so they only beat the single scalar pass
+ * for a handful of groups (the crossover measured by {@code CostAggregationBenchmark} is around
+ * four); larger dictionaries use the scalar loop.
+ */
+public class VectorCostAggregationKernel implements CostAggregationKernel {
+
+    static final int MAX_VECTORIZED_GROUPS = 4;
+
+    private static final VectorSpecies<Long> LONGS = LongVector.SPECIES_PREFERRED;
+    /** Int species with the same lane count as LONGS, so codes can be widened lane by lane */
+    private static final VectorSpecies<Integer> INTS =
+            VectorSpecies.of(int.class, VectorShape.forBitSize(LONGS.vectorBitSize() / 2));
+
+    private final ScalarCostAggregationKernel scalar = new ScalarCostAggregationKernel();
+
+    /**
+     * Whether the preferred vector shape has more than one long lane on this CPU
+     */
+    public static boolean isSupported() {
+        return LONGS.length() > 1;
+    }
+
+    @Override
+    public long sum(long[] values, int length) {
+        int upper = LONGS.loopBound(length);
+        LongVector acc = LongVector.zero(LONGS);
+        int i = 0;
+        for (; i < upper; i += LONGS.length()) {
+            acc = acc.add(LongVector.fromArray(LONGS, values, i));
+        }
+        long sum = acc.reduceLanes(VectorOperators.ADD);
+        for (; i < length; i++) {
+            sum += values[i];
+        }
+        return sum;
+    }
+
+    @Override
+    public long min(long[] values, int length) {
+        int upper = LONGS.loopBound(length);
+        LongVector acc = LongVector.broadcast(LONGS, Long.MAX_VALUE);
+        int i = 0;
+        for (; i < upper; i += LONGS.length()) {
+            acc = acc.min(LongVector.fromArray(LONGS, values, i));
+        }
+        long min = acc.reduceLanes(VectorOperators.MIN);
+        for (; i < length; i++) {
+            min = Math.min(min, values[i]);
+        }
+        return min;
+    }
+
+    @Override
+    public long max(long[] values, int length) {
+        int upper = LONGS.loopBound(length);
+        LongVector acc = LongVector.broadcast(LONGS, Long.MIN_VALUE);
+        int i = 0;
+        for (; i < upper; i += LONGS.length()) {
+            acc = acc.max(LongVector.fromArray(LONGS, values, i));
+        }
+        long max = acc.reduceLanes(VectorOperators.MAX);
+        for (; i < length; i++) {
+            max = Math.max(max, values[i]);
+        }
+        return max;
+    }
+
+    @Override
+    public long sumWhere(long[] values, int[] codes, int code, int length) {
+        int upper = LONGS.loopBound(length);
+        LongVector acc = LongVector.zero(LONGS);
+        int i = 0;
+        for (; i < upper; i += LONGS.length()) {
+            VectorMask<Long> match = codesAt(codes, i).eq(code);
+            acc = acc.add(LongVector.fromArray(LONGS, values, i), match);
+        }
+        long sum = acc.reduceLanes(VectorOperators.ADD);
+        for (; i < length; i++) {
+            if (codes[i] == code) {
+                sum += values[i];
+            }
+        }
+        return sum;
+    }
+
+    @Override
+    public GroupedCostStats aggregateByGroup(long[] values, int[] codes, int groups, int length) {
+        if (groups > MAX_VECTORIZED_GROUPS) {
+            return scalar.aggregateByGroup(values, codes, groups, length);
+        }
+        GroupedCostStats stats = new GroupedCostStats(groups);
+        int upper = LONGS.loopBound(length);
+        for (int group = 0; group < groups; group++) {
+            LongVector sums = LongVector.zero(LONGS);
+            LongVector mins = LongVector.broadcast(LONGS, Long.MAX_VALUE);
+            LongVector maxs = LongVector.broadcast(LONGS, Long.MIN_VALUE);
+            long count = 0;
+            int i = 0;
+            for (; i < upper; i += LONGS.length()) {
+                VectorMask<Long> match = codesAt(codes, i).eq(group);
+                LongVector v = LongVector.fromArray(LONGS, values, i);
+                sums = sums.add(v, match);
+                mins = mins.lanewise(VectorOperators.MIN, v, match);
+                maxs = maxs.lanewise(VectorOperators.MAX, v, match);
+                count += match.trueCount();
+            }
+            long sum = sums.reduceLanes(VectorOperators.ADD);
+            long min = mins.reduceLanes(VectorOperators.MIN);
+            long max = maxs.reduceLanes(VectorOperators.MAX);
+            for (; i < length; i++) {
+                if (codes[i] == group) {
+                    long value = values[i];
+                    count++;
+                    sum += value;
+                    min = Math.min(min, value);
+                    max = Math.max(max, value);
+                }
+            }
+            stats.counts[group] = count;
+            stats.sums[group] = sum;
+            stats.mins[group] = min;
+            stats.maxs[group] = max;
+        }
+        return stats;
+    }
+
+    /**
+     * Widens the int codes at {@code offset} to long lanes. Comparing in the long species is
+     * cheaper than casting an int mask, which is not intrinsified on every JDK 17 build.
+     */
+    private static LongVector codesAt(int[] codes, int offset) {
+        return (LongVector) IntVector.fromArray(INTS, codes, offset).convertShape(VectorOperators.I2L, LONGS, 0);
+    }
+
+    @Override
+    public String name() {
+        return "vector-" + LONGS.vectorBitSize();
+    }
+}
@@ -0,0 +1,68 @@
+package com.empleados.api.analytics.sketch;
+
+/**
+ * Count-Min sketch for approximate frequencies.
+ * <p>
+ * With {@code width = ceil(e / epsilon)} and {@code depth = ceil(ln(1 / delta))} the estimate of
+ * an item never underestimates its true count and overestimates it by at most
+ * {@code epsilon * total} with probability {@code 1 - delta}. Negative increments are allowed as
+ * long as no true count goes below zero, so removals can be applied. Not thread-safe.
+ */
+public class CountMinSketch {
+
+    private final long[][] counters;
+    private final int width;
+    private final double epsilon;
+    private final double delta;
+    private long total;
+
+    public CountMinSketch(double epsilon, double delta) {
+        if (!(epsilon > 0 && epsilon < 1) || !(delta > 0 && delta < 1)) {
+            throw new IllegalArgumentException("epsilon y delta deben estar entre 0 y 1");
+        }
+        this.width = (int) Math.ceil(Math.E / epsilon);
+        int depth = (int) Math.ceil(Math.log(1 / delta));
+        this.counters = new long[depth][width];
+        this.epsilon = Math.E / width;
+        this.delta = Math.exp(-depth);
+    }
+
+    public void add(String item, long count) {
+        long hash = Hashing.hash64(item);
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+        for (int row = 0; row < counters.length; row++) {
+            counters[row][Math.floorMod(h1 + row * h2, width)] += count;
+        }
+        total += count;
+    }
+
+    public long estimate(String item) {
+        long hash = Hashing.hash64(item);
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+        long estimate = Long.MAX_VALUE;
+        for (int row = 0; row < counters.length; row++) {
+            estimate = Math.min(estimate, counters[row][Math.floorMod(h1 + row * h2, width)]);
+        }
+        return estimate;
+    }
+
+    /**
+     * Sum of all increments
+     */
+    public long total() {
+        return total;
+    }
+
+    /**
+     * Maximum overestimation of any item, holding with probability {@link #confidence()}
+     */
+    public long errorBound() {
+        return (long) Math.ceil(epsilon * total);
+    }
+
+    public double confidence() {
+        return 1 - delta;
+    }
+}
@@ -0,0 +1,243 @@
+package com.empleados.api.analytics.sketch;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.empleados.api.analytics.AutoColumnStore;
+import com.empleados.api.dto.AutoDTO;
+import com.empleados.api.event.AutoChangedEvent;
+import com.empleados.api.model.Auto;
+import com.empleados.api.replica.ReadConsistency;
+import com.empleados.api.repository.AutoRepository;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.stream.Stream;
+
+/**
+ * Approximate statistics of the fleet kept in fixed-size sketches.
+ * <p>
+ * Distinct owners and emails go through {@link HyperLogLog}, marca frequencies through a
+ * {@link CountMinSketch} with a {@link TopK} heap, and costo percentiles through a
+ * {@link TDigest}. The sketches are updated from committed {@link AutoChangedEvent}s. HyperLogLog
+ * and t-digest cannot forget values, so updates and deletes leave stale entries behind until the
+ * next full rebuild, scheduled every {@code autos.sketches.rebuild-interval-ms}. The rebuild streams
+ * the table from the primary one detached row at a time, and the changes applied while it reads
+ * are replayed over the new sketches before they replace the current ones, so none is lost. A
+ * replayed change the read had already seen counts twice in the marca frequencies, an error
+ * bounded by the number of writes that overlapped the read and gone at the next rebuild.
+ */
+@Component
+public class FleetSketches {
+
+    static final double CMS_EPSILON = 0.001;
+    static final double CMS_DELTA = 0.01;
+
+    private static final Logger log = LoggerFactory.getLogger(FleetSketches.class);
+
+    private final AutoRepository autoRepository;
+    private final int topKCapacity;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private Sketches sketches;
+    /** Changes applied while {@link #rebuild()} reads the table, replayed over its result; null otherwise */
+    private List<AutoChangedEvent> changesDuringRebuild;
+
+    @Autowired
+    public FleetSketches(AutoRepository autoRepository, @Value("${autos.sketches.top-k:20}") int topKCapacity) {
+        this.autoRepository = autoRepository;
+        this.topKCapacity = topKCapacity;
+        this.sketches = new Sketches(topKCapacity);
+    }
+
+    /**
+     * Rebuild every sketch from the table, dropping the drift left by updates and deletes
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(initialDelayString = "${autos.sketches.rebuild-interval-ms:3600000}",
+            fixedDelayString = "${autos.sketches.rebuild-interval-ms:3600000}")
+    @Transactional(readOnly = true)
+    public void rebuild() {
+        synchronized (this) {
+            changesDuringRebuild = new ArrayList<>();
+        }
+        Sketches rebuilt = new Sketches(topKCapacity);
+        try (ReadConsistency.Scope primary = ReadConsistency.pin(null);
+             Stream<Auto> automoviles = autoRepository.streamForExport(null, null, null)) {
+            automoviles.forEach(auto -> {
+                rebuilt.addOwner(auto.getNombre(), auto.getApellido());
+                rebuilt.addEmail(auto.getEmail());
+                rebuilt.addMarca(auto.getMarca(), 1);
+                rebuilt.addCosto(auto.getCosto());
+                entityManager.detach(auto);
+            });
+        } catch (RuntimeException e) {
+            synchronized (this) {
+                changesDuringRebuild = null;
+            }
+            throw e;
+        }
+        synchronized (this) {
+            List<AutoChangedEvent> replay = changesDuringRebuild;
+            changesDuringRebuild = null;
+            replay.forEach(event -> apply(rebuilt, event));
+            sketches = rebuilt;
+            if (!replay.isEmpty()) {
+                log.debug("Sketches reconstruidos con {} cambios concurrentes reaplicados", replay.size());
+            }
+        }
+    }
+
+    /**
+     * Apply committed changes coming from the service layer
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public synchronized void onAutoChanged(AutoChangedEvent event) {
+        if (changesDuringRebuild != null) {
+            changesDuringRebuild.add(event);
+        }
+        apply(sketches, event);
+    }
+
+    private static void apply(Sketches target, AutoChangedEvent event) {
+        AutoDTO before = event.getBefore();
+        AutoDTO after = event.getAfter();
+        switch (event.getType()) {
+            case CREATED -> {
+                target.addOwner(after.getNombre(), after.getApellido());
+                target.addEmail(after.getEmail());
+                target.addMarca(after.getMarca(), 1);
+                target.addCosto(after.getCosto());
+            }
+            case UPDATED -> {
+                target.addOwner(after.getNombre(), after.getApellido());
+                target.addEmail(after.getEmail());
+                if (!Objects.equals(before.getMarca(), after.getMarca())) {
+                    target.addMarca(before.getMarca(), -1);
+                    target.addMarca(after.getMarca(), 1);
+                }
+                if (!Objects.equals(before.getCosto(), after.getCosto())) {
+                    target.addCosto(after.getCosto());
+                }
+            }
+            case DELETED -> target.addMarca(before.getMarca(), -1);
+        }
+    }
+
+    public synchronized DistinctEstimate distinctOwners() {
+        return DistinctEstimate.of(sketches.owners);
+    }
+
+    public synchronized DistinctEstimate distinctEmails() {
+        return DistinctEstimate.of(sketches.emails);
+    }
+
+    /**
+     * Most frequent marcas with their Count-Min estimates
+     *
+     * @param k number of marcas, at most {@link #topKCapacity()}
+     */
+    public synchronized List<Map.Entry<String, Long>> topMarcas(int k) {
+        if (k <= 0 || k > topKCapacity) {
+            throw new IllegalArgumentException("k debe estar entre 1 y " + topKCapacity);
+        }
+        return sketches.topMarcas.top(k);
+    }
+
+    /**
+     * Maximum overestimation of a marca count, holding with probability {@link #marcaConfidence()}
+     */
+    public synchronized long marcaErrorBound() {
+        return sketches.marcas.errorBound();
+    }
+
+    public synchronized double marcaConfidence() {
+        return sketches.marcas.confidence();
+    }
+
+    public int topKCapacity() {
+        return topKCapacity;
+    }
+
+    /**
+     * Estimated costo at a quantile, in cents, or NaN when no costo was recorded
+     */
+    public synchronized double costoQuantileCents(double q) {
+        return sketches.costos.quantile(q);
+    }
+
+    /**
+     * Approximate rank error of {@link #costoQuantileCents(double)}, as a fraction of the autos
+     */
+    public synchronized double costoQuantileRankError(double q) {
+        return sketches.costos.rankError(q);
+    }
+
+    /**
+     * Estimated number of distinct values with its relative standard error
+     */
+    public record DistinctEstimate(long estimate, double standardError) {
+
+        static DistinctEstimate of(HyperLogLog sketch) {
+            return new DistinctEstimate(sketch.estimate(), sketch.standardError());
+        }
+    }
+
+    private static final class Sketches {
+
+        final HyperLogLog owners = new HyperLogLog();
+        final HyperLogLog emails = new HyperLogLog();
+        final CountMinSketch marcas = new CountMinSketch(CMS_EPSILON, CMS_DELTA);
+        final TopK topMarcas;
+        final TDigest costos = new TDigest();
+
+        Sketches(int topKCapacity) {
+            topMarcas = new TopK(topKCapacity);
+        }
+
+        void addOwner(String nombre, String apellido) {
+            if (nombre != null || apellido != null) {
+                owners.add(normalize(nombre) + '\u0000' + normalize(apellido));
+            }
+        }
+
+        void addEmail(String email) {
+            if (email != null) {
+                emails.add(normalize(email));
+            }
+        }
+
+        void addMarca(String marca, long delta) {
+            if (marca != null) {
+                marcas.add(marca, delta);
+                topMarcas.offer(marca, marcas.estimate(marca));
+            }
+        }
+
+        void addCosto(BigDecimal costo) {
+            if (costo != null) {
+                costos.add(AutoColumnStore.toCents(costo));
+            }
+        }
+
+        private static String normalize(String value) {
+            return value == null ? "" : value.trim().toLowerCase(Locale.ROOT);
+        }
+    }
+}
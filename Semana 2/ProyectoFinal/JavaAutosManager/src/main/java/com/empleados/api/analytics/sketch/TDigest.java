@@ -0,0 +1,165 @@
+package com.empleados.api.analytics.sketch;
+
+import java.util.Arrays;
+
+/**
+ * Merging t-digest for streaming quantile estimation.
+ * <p>
+ * Incoming values are buffered and periodically merged into a sorted list of centroids. A
+ * centroid at quantile {@code q} may hold at most {@code 4 * n * q * (1 - q) / compression}
+ * values, so centroids are small near the tails and the extreme percentiles stay accurate
+ * with a few hundred centroids. Values can only be added, never removed. Not thread-safe.
+ */
+public class TDigest {
+
+    public static final double DEFAULT_COMPRESSION = 100;
+
+    private final double compression;
+    private double[] means;
+    private long[] weights;
+    private int centroids;
+
+    private final double[] buffer;
+    private int buffered;
+
+    private long count;
+    private double min = Double.POSITIVE_INFINITY;
+    private double max = Double.NEGATIVE_INFINITY;
+
+    public TDigest() {
+        this(DEFAULT_COMPRESSION);
+    }
+
+    public TDigest(double compression) {
+        if (compression < 10) {
+            throw new IllegalArgumentException("La compresión del t-digest debe ser al menos 10");
+        }
+        this.compression = compression;
+        int capacity = (int) Math.ceil(2 * compression) + 10;
+        this.means = new double[capacity];
+        this.weights = new long[capacity];
+        this.buffer = new double[(int) (5 * compression)];
+    }
+
+    public void add(double value) {
+        buffer[buffered++] = value;
+        count++;
+        min = Math.min(min, value);
+        max = Math.max(max, value);
+        if (buffered == buffer.length) {
+            compress();
+        }
+    }
+
+    public long size() {
+        return count;
+    }
+
+    /**
+     * Estimated value at quantile {@code q}, or NaN when the digest is empty
+     */
+    public double quantile(double q) {
+        if (q < 0 || q > 1) {
+            throw new IllegalArgumentException("El cuantil debe estar entre 0 y 1");
+        }
+        compress();
+        if (centroids == 0) {
+            return Double.NaN;
+        }
+        if (centroids == 1) {
+            return means[0];
+        }
+        double target = q * count;
+        // Each centroid is treated as centered on its mean, spanning half its weight on each side
+        double firstCenter = weights[0] / 2.0;
+        if (target <= firstCenter) {
+            return interpolate(min, means[0], firstCenter == 0 ? 1 : target / firstCenter);
+        }
+        double cumulative = 0;
+        for (int i = 0; i < centroids - 1; i++) {
+            double center = cumulative + weights[i] / 2.0;
+            double nextCenter = cumulative + weights[i] + weights[i + 1] / 2.0;
+            if (target <= nextCenter) {
+                return interpolate(means[i], means[i + 1], (target - center) / (nextCenter - center));
+            }
+            cumulative += weights[i];
+        }
+        double lastCenter = count - weights[centroids - 1] / 2.0;
+        return interpolate(means[centroids - 1], max, (target - lastCenter) / (count - lastCenter));
+    }
+
+    /**
+     * Approximate bound on the rank error of {@link #quantile(double)}, as a fraction of the
+     * values: half the weight of the centroid that covers {@code q}
+     */
+    public double rankError(double q) {
+        compress();
+        if (centroids == 0) {
+            return 0;
+        }
+        double target = q * count;
+        long cumulative = 0;
+        for (int i = 0; i < centroids; i++) {
+            cumulative += weights[i];
+            if (target <= cumulative) {
+                return weights[i] / 2.0 / count;
+            }
+        }
+        return weights[centroids - 1] / 2.0 / count;
+    }
+
+    private void compress() {
+        if (buffered == 0) {
+            return;
+        }
+        Arrays.sort(buffer, 0, buffered);
+        int total = centroids + buffered;
+        double[] mergedMeans = new double[total];
+        long[] mergedWeights = new long[total];
+        int c = 0;
+        int b = 0;
+        for (int i = 0; i < total; i++) {
+            if (b >= buffered || (c < centroids && means[c] <= buffer[b])) {
+                mergedMeans[i] = means[c];
+                mergedWeights[i] = weights[c++];
+            } else {
+                mergedMeans[i] = buffer[b++];
+                mergedWeights[i] = 1;
+            }
+        }
+        buffered = 0;
+
+        int out = 0;
+        double currentMean = mergedMeans[0];
+        long currentWeight = mergedWeights[0];
+        long weightSoFar = 0;
+        for (int i = 1; i < total; i++) {
+            long proposed = currentWeight + mergedWeights[i];
+            double q = (weightSoFar + proposed / 2.0) / count;
+            if (proposed <= Math.max(1, 4 * count * q * (1 - q) / compression)) {
+                currentMean += (mergedMeans[i] - currentMean) * mergedWeights[i] / proposed;
+                currentWeight = proposed;
+            } else {
+                out = append(out, currentMean, currentWeight);
+                weightSoFar += currentWeight;
+                currentMean = mergedMeans[i];
+                currentWeight = mergedWeights[i];
+            }
+        }
+        centroids = append(out, currentMean, currentWeight);
+    }
+
+    private int append(int index, double mean, long weight) {
+        if (index == means.length) {
+            means = Arrays.copyOf(means, index * 2);
+            weights = Arrays.copyOf(weights, index * 2);
+        }
+        means[index] = mean;
+        weights[index] = weight;
+        return index + 1;
+    }
+
+    private static double interpolate(double from, double to, double fraction) {
+        return from + (to - from) * Math.max(0, Math.min(1, fraction));
+    }
+}
@@ -0,0 +1,69 @@
+package com.empleados.api.analytics.sketch;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+
+/**
+ * Heavy hitters on top of a {@link CountMinSketch}: a min-heap keeps the {@code capacity} items
+ * with the highest estimates seen so far, so the smallest candidate can be evicted in
+ * O(log capacity) when a more frequent item shows up. Not thread-safe.
+ */
+public class TopK {
+
+    private final int capacity;
+    private final Map<String, Long> estimates = new HashMap<>();
+    private final PriorityQueue<String> heap;
+
+    public TopK(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("La capacidad del top-K debe ser mayor que cero");
+        }
+        this.capacity = capacity;
+        this.heap = new PriorityQueue<>(capacity, Comparator.comparingLong(estimates::get));
+    }
+
+    /**
+     * Record the latest estimate of an item
+     */
+    public void offer(String item, long estimate) {
+        if (estimates.containsKey(item)) {
+            heap.remove(item);
+            if (estimate <= 0) {
+                estimates.remove(item);
+                return;
+            }
+            estimates.put(item, estimate);
+            heap.add(item);
+            return;
+        }
+        if (estimate <= 0) {
+            return;
+        }
+        if (heap.size() == capacity) {
+            if (estimates.get(heap.peek()) >= estimate) {
+                return;
+            }
+            estimates.remove(heap.poll());
+        }
+        estimates.put(item, estimate);
+        heap.add(item);
+    }
+
+    public int capacity() {
+        return capacity;
+    }
+
+    /**
+     * The tracked items ordered by decreasing estimate
+     */
+    public List<Map.Entry<String, Long>> top(int k) {
+        List<Map.Entry<String, Long>> entries = new ArrayList<>(estimates.size());
+        estimates.forEach((item, estimate) -> entries.add(Map.entry(item, estimate)));
+        entries.sort(Map.Entry.<String, Long>comparingByValue().reversed());
+        return List.copyOf(entries.subList(0, Math.min(k, entries.size())));
+    }
+}
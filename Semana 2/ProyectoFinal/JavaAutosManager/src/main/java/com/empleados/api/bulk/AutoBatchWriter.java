@@ -0,0 +1,163 @@
+package com.empleados.api.bulk;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.BeanUtils;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.empleados.api.dto.AutoDTO;
+import com.empleados.api.event.AutoChangedEvent;
+import com.empleados.api.model.Auto;
+import com.empleados.api.registry.EmailReservationRegistry;
+import com.empleados.api.repository.AutoRepository;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Inserts autos one chunk per transaction, for the CSV import and the ingestion queue.
+ * <p>
+ * Emails already stored, repeated inside the chunk or reserved by another open transaction in
+ * {@link EmailReservationRegistry} are rejected before inserting. If the chunk still fails, for
+ * example because the same email was created through the API in the meantime, it is rolled back
+ * and retried one row per transaction so only the offending rows fail: a row that violates a
+ * constraint is rejected, any other error is reported for that row alone. An
+ * {@link AutoChangedEvent} is published for every inserted auto, exactly as {@code createAuto} does.
+ * <p>
+ * With shards, autos placed on a shard other than the home one commit on their own and survive the
+ * rollback of the chunk. They are looked up by id before the retry, counted as inserted and get
+ * their event in a transaction of their own, instead of being retried and refused as duplicates.
+ */
+@Component
+public class AutoBatchWriter {
+
+    private static final Logger log = LoggerFactory.getLogger(AutoBatchWriter.class);
+
+    private final AutoRepository autoRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final EmailReservationRegistry emailReservations;
+    private final TransactionTemplate transactionTemplate;
+
+    /**
+     * Outcome of writing one chunk. Inserted rows carry the auto with its generated id; rows whose
+     * data was refused are {@code rechazos} and rows that failed for another reason are {@code errores}.
+     */
+    public record BatchResult(List<ImportRow> creadas, List<ImportJob.Reject> rechazos, List<RowError> errores) {
+
+        public BatchResult(List<ImportRow> creadas, List<ImportJob.Reject> rechazos) {
+            this(creadas, rechazos, List.of());
+        }
+
+        public int insertadas() {
+            return creadas.size();
+        }
+    }
+
+    /**
+     * A row that could not be inserted because of an unexpected error
+     */
+    public record RowError(long linea, RuntimeException error) {
+    }
+
+    @Autowired
+    public AutoBatchWriter(AutoRepository autoRepository, ApplicationEventPublisher eventPublisher,
+                           EmailReservationRegistry emailReservations, PlatformTransactionManager transactionManager) {
+        this.autoRepository = autoRepository;
+        this.eventPublisher = eventPublisher;
+        this.emailReservations = emailReservations;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    public BatchResult write(List<ImportRow> rows) {
+        if (rows.isEmpty()) {
+            return new BatchResult(List.of(), List.of());
+        }
+        List<ImportRow> inserted = new ArrayList<>();
+        try {
+            return transactionTemplate.execute(status -> insert(rows, inserted));
+        } catch (RuntimeException e) {
+            log.debug("Lote de {} filas revertido, se reintenta fila a fila: {}", rows.size(), e.getMessage());
+        }
+        List<ImportRow> creadas = committedDespiteRollback(inserted);
+        Set<Long> lineasCreadas = creadas.stream().map(ImportRow::linea).collect(Collectors.toSet());
+        List<ImportJob.Reject> rechazos = new ArrayList<>();
+        List<RowError> errores = new ArrayList<>();
+        for (ImportRow row : rows) {
+            if (lineasCreadas.contains(row.linea())) {
+                continue;
+            }
+            try {
+                BatchResult result = transactionTemplate.execute(status -> insert(List.of(row), new ArrayList<>()));
+                creadas.addAll(result.creadas());
+                rechazos.addAll(result.rechazos());
+            } catch (DataIntegrityViolationException e) {
+                rechazos.add(new ImportJob.Reject(row.linea(), "No se pudo insertar: " + e.getMostSpecificCause().getMessage()));
+            } catch (RuntimeException e) {
+                log.warn("No se pudo insertar la fila {}", row.linea(), e);
+                errores.add(new RowError(row.linea(), e));
+            }
+        }
+        return new BatchResult(creadas, rechazos, errores);
+    }
+
+    /**
+     * Rows of a rolled back chunk that are stored all the same, because their shard committed them
+     * on its own; their events, published in the rolled back transaction, are published again
+     */
+    private List<ImportRow> committedDespiteRollback(List<ImportRow> inserted) {
+        if (inserted.isEmpty()) {
+            return new ArrayList<>();
+        }
+        Set<Long> stored = autoRepository.findAllById(inserted.stream().map(row -> row.auto().getId()).toList())
+                .stream().map(Auto::getId).collect(Collectors.toSet());
+        List<ImportRow> committed = inserted.stream()
+                .filter(row -> stored.contains(row.auto().getId()))
+                .collect(Collectors.toCollection(ArrayList::new));
+        if (!committed.isEmpty()) {
+            transactionTemplate.executeWithoutResult(status -> committed.forEach(
+                    row -> eventPublisher.publishEvent(AutoChangedEvent.created(row.auto()))));
+            log.debug("{} filas del lote revertido ya estaban confirmadas en otra partición", committed.size());
+        }
+        return committed;
+    }
+
+    /**
+     * Insert the rows in the current transaction, adding each inserted one to {@code creadas} as it goes
+     */
+    private BatchResult insert(List<ImportRow> rows, List<ImportRow> creadas) {
+        // Reserve first so no other transaction can slip the same email in after the lookup
+        boolean[] accepted = new boolean[rows.size()];
+        Set<String> emails = new HashSet<>();
+        for (int i = 0; i < rows.size(); i++) {
+            String email = rows.get(i).auto().getEmail();
+            accepted[i] = emails.add(email) && emailReservations.tryReserve(email);
+        }
+        Set<String> existing = new HashSet<>(autoRepository.findExistingEmails(emails));
+        List<ImportJob.Reject> rechazos = new ArrayList<>();
+        for (int i = 0; i < rows.size(); i++) {
+            ImportRow row = rows.get(i);
+            String email = row.auto().getEmail();
+            if (!accepted[i] || existing.contains(email)) {
+                rechazos.add(new ImportJob.Reject(row.linea(), "Ya existe un auto con el email: " + email));
+                continue;
+            }
+            Auto auto = new Auto();
+            BeanUtils.copyProperties(row.auto(), auto, "id");
+            Auto saved = autoRepository.save(auto);
+            AutoDTO created = new AutoDTO();
+            BeanUtils.copyProperties(saved, created);
+            eventPublisher.publishEvent(AutoChangedEvent.created(created));
+            creadas.add(new ImportRow(row.linea(), created));
+        }
+        autoRepository.flush();
+        return new BatchResult(creadas, rechazos);
+    }
+}
@@ -0,0 +1,121 @@
+package com.empleados.api.bulk;
+
+import com.empleados.api.dto.AutoDTO;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Columns of the auto CSV format, named after the {@link AutoDTO} fields.
+ * Dates use ISO format (yyyy-MM-dd) and costo uses a dot as decimal separator.
+ * An {@value #ID_HEADER} column, as written by the exports, is accepted and ignored on import.
+ */
+public enum AutoCsvColumn {
+
+    NOMBRE("nombre", AutoDTO::getNombre, (auto, value) -> auto.setNombre(value)),
+    APELLIDO("apellido", AutoDTO::getApellido, (auto, value) -> auto.setApellido(value)),
+    MARCA("marca", AutoDTO::getMarca, (auto, value) -> auto.setMarca(value)),
+    MODELO("modelo", AutoDTO::getModelo, (auto, value) -> auto.setModelo(value)),
+    COLOR("color", AutoDTO::getColor, (auto, value) -> auto.setColor(value)),
+    FECHA_COMPRA("fechaCompra", AutoDTO::getFechaCompra, (auto, value) -> auto.setFechaCompra(LocalDate.parse(value))),
+    EMAIL("email", AutoDTO::getEmail, (auto, value) -> auto.setEmail(value)),
+    FECHA_CONTRATACION("fechaContratacion", AutoDTO::getFechaContratacion,
+            (auto, value) -> auto.setFechaContratacion(LocalDate.parse(value))),
+    COSTO("costo", AutoDTO::getCosto, (auto, value) -> auto.setCosto(new BigDecimal(value))),
+    DEPARTAMENTO("departamento", AutoDTO::getDepartamento, (auto, value) -> auto.setDepartamento(value)),
+    ANTIGUEDAD("antiguedad", AutoDTO::getAntiguedad, (auto, value) -> auto.setAntiguedad(Integer.valueOf(value)));
+
+    public static final String ID_HEADER = "id";
+
+    private static final Map<String, AutoCsvColumn> BY_HEADER = Arrays.stream(values())
+            .collect(Collectors.toMap(column -> column.header.toLowerCase(Locale.ROOT), Function.identity()));
+
+    private final String header;
+    private final Function<AutoDTO, Object> getter;
+    private final BiConsumer<AutoDTO, String> setter;
+
+    AutoCsvColumn(String header, Function<AutoDTO, Object> getter, BiConsumer<AutoDTO, String> setter) {
+        this.header = header;
+        this.getter = getter;
+        this.setter = setter;
+    }
+
+    public String header() {
+        return header;
+    }
+
+    /**
+     * Value of this column for an auto
+     */
+    public Object value(AutoDTO auto) {
+        return getter.apply(auto);
+    }
+
+    /**
+     * Text of this column for an auto, empty when the value is null
+     */
+    public String format(AutoDTO auto) {
+        Object value = getter.apply(auto);
+        if (value instanceof BigDecimal decimal) {
+            return decimal.toPlainString();
+        }
+        return value == null ? "" : value.toString();
+    }
+
+    /**
+     * Map each header cell to its column, ignoring case and surrounding spaces.
+     * The entry of an {@value #ID_HEADER} column is left null.
+     *
+     * @throws IllegalArgumentException on unknown or repeated columns
+     */
+    public static AutoCsvColumn[] fromHeader(String[] header) {
+        AutoCsvColumn[] columns = new AutoCsvColumn[header.length];
+        for (int i = 0; i < header.length; i++) {
+            String name = header[i].trim().toLowerCase(Locale.ROOT);
+            if (name.equals(ID_HEADER)) {
+                continue;
+            }
+            AutoCsvColumn column = BY_HEADER.get(name);
+            if (column == null) {
+                throw new IllegalArgumentException("Columna desconocida: '" + header[i].trim() + "'. Columnas válidas: "
+                        + Arrays.stream(values()).map(AutoCsvColumn::header).collect(Collectors.joining(", ")));
+            }
+            if (Arrays.asList(columns).contains(column)) {
+                throw new IllegalArgumentException("Columna repetida: " + column.header);
+            }
+            columns[i] = column;
+        }
+        return columns;
+    }
+
+    /**
+     * Build an auto from a record. Blank cells are left null.
+     *
+     * @throws IllegalArgumentException when the record has the wrong number of cells or a value cannot be parsed
+     */
+    public static AutoDTO toAuto(AutoCsvColumn[] columns, String[] record) {
+        if (record.length != columns.length) {
+            throw new IllegalArgumentException("Se esperaban " + columns.length + " columnas y hay " + record.length);
+        }
+        AutoDTO auto = new AutoDTO();
+        for (int i = 0; i < columns.length; i++) {
+            String value = record[i].trim();
+            if (columns[i] == null || value.isEmpty()) {
+                continue;
+            }
+            try {
+                columns[i].setter.accept(auto, value);
+            } catch (NumberFormatException | DateTimeParseException e) {
+                throw new IllegalArgumentException("Valor inválido para " + columns[i].header + ": '" + value + "'");
+            }
+        }
+        return auto;
+    }
+}
@@ -0,0 +1,251 @@
+package com.empleados.api.bulk;
+
+import jakarta.annotation.PreDestroy;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.empleados.api.bulkhead.Workload;
+import com.empleados.api.dto.AutoDTO;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+/**
+ * Imports autos from CSV files without loading them in memory.
+ * <p>
+ * Jobs run one at a time on a dedicated thread. That thread tokenizes the file as a stream and
+ * cuts it into chunks of {@code autos.import.chunk-size} records; each chunk is mapped to
+ * {@link AutoDTO}s and validated on a pool of {@code autos.import.workers} threads (0 means one per
+ * available processor), and the job thread hands the validated chunks to {@link AutoBatchWriter}
+ * in file order. At most two chunks per worker are in flight, so memory stays bounded whatever
+ * the size of the file. Chunks already written stay in the database if the job fails halfway.
+ */
+@Component
+public class AutoCsvImporter {
+
+    private static final Logger log = LoggerFactory.getLogger(AutoCsvImporter.class);
+
+    private final AutoBatchWriter batchWriter;
+    private final Validator validator;
+    private final int chunkSize;
+    private final int maxRejects;
+    private final int maxInFlight;
+    private final ExecutorService jobExecutor;
+    private final ExecutorService parsePool;
+    private final Map<String, ImportJob> jobs;
+
+    @Autowired
+    public AutoCsvImporter(AutoBatchWriter batchWriter, Validator validator,
+                           @Value("${autos.import.workers:0}") int workers,
+                           @Value("${autos.import.chunk-size:1000}") int chunkSize,
+                           @Value("${autos.import.max-rejects:100}") int maxRejects,
+                           @Value("${autos.import.history:50}") int history) {
+        if (chunkSize <= 0) {
+            throw new IllegalArgumentException("autos.import.chunk-size debe ser mayor que cero");
+        }
+        int threads = workers > 0 ? workers : Runtime.getRuntime().availableProcessors();
+        this.batchWriter = batchWriter;
+        this.validator = validator;
+        this.chunkSize = chunkSize;
+        this.maxRejects = maxRejects;
+        this.maxInFlight = threads * 2;
+        this.jobExecutor = Executors.newSingleThreadExecutor(
+                runnable -> new Thread(Workload.BULK.bind(runnable), "csv-import-job"));
+        AtomicInteger counter = new AtomicInteger();
+        this.parsePool = Executors.newFixedThreadPool(threads,
+                runnable -> new Thread(runnable, "csv-import-" + counter.incrementAndGet()));
+        this.jobs = new LinkedHashMap<>() {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, ImportJob> eldest) {
+                return size() > history && eldest.getValue().isFinished();
+            }
+        };
+    }
+
+    /**
+     * Queue the import of a CSV file. The file is deleted once the job ends.
+     *
+     * @param archivo the original file name, for display
+     * @param file the CSV file, with a header row naming the columns
+     * @return the queued job
+     */
+    public ImportJob submit(String archivo, Path file) throws IOException {
+        ImportJob job = new ImportJob(UUID.randomUUID().toString(), archivo, Files.size(file), maxRejects);
+        synchronized (jobs) {
+            jobs.put(job.getId(), job);
+        }
+        jobExecutor.execute(() -> run(job, file));
+        return job;
+    }
+
+    public Optional<ImportJob> find(String id) {
+        synchronized (jobs) {
+            return Optional.ofNullable(jobs.get(id));
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        jobExecutor.shutdownNow();
+        parsePool.shutdownNow();
+    }
+
+    void run(ImportJob job, Path file) {
+        job.start();
+        Deque<Future<ParsedChunk>> inFlight = new ArrayDeque<>();
+        try (CountingInputStream input = new CountingInputStream(Files.newInputStream(file));
+             Reader reader = new InputStreamReader(input, StandardCharsets.UTF_8)) {
+            CsvTokenizer tokenizer = new CsvTokenizer(reader);
+            String[] header = tokenizer.next();
+            if (header == null) {
+                throw new IllegalArgumentException("El archivo está vacío");
+            }
+            AutoCsvColumn[] columns = AutoCsvColumn.fromHeader(header);
+
+            List<RawRecord> chunk = new ArrayList<>(chunkSize);
+            String[] record;
+            while ((record = tokenizer.next()) != null) {
+                chunk.add(new RawRecord(tokenizer.recordLine(), record));
+                if (chunk.size() == chunkSize) {
+                    inFlight.add(parse(columns, chunk));
+                    chunk = new ArrayList<>(chunkSize);
+                    job.bytesRead(input.count());
+                    if (inFlight.size() >= maxInFlight) {
+                        write(job, inFlight.poll().get());
+                    }
+                }
+            }
+            if (!chunk.isEmpty()) {
+                inFlight.add(parse(columns, chunk));
+            }
+            while (!inFlight.isEmpty()) {
+                write(job, inFlight.poll().get());
+            }
+            job.bytesRead(input.count());
+            job.complete();
+            log.info("Importación {} completada: {} filas, {} insertadas, {} rechazadas", job.getId(),
+                    job.getFilasLeidas(), job.getInsertadas(), job.getRechazadas());
+        } catch (ExecutionException e) {
+            fail(job, e.getCause(), inFlight);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            fail(job, e, inFlight);
+        } catch (Exception e) {
+            fail(job, e, inFlight);
+        } finally {
+            try {
+                Files.deleteIfExists(file);
+            } catch (IOException e) {
+                log.warn("No se pudo borrar el archivo temporal {}", file, e);
+            }
+        }
+    }
+
+    private Future<ParsedChunk> parse(AutoCsvColumn[] columns, List<RawRecord> records) {
+        return parsePool.submit(() -> {
+            List<ImportRow> rows = new ArrayList<>(records.size());
+            List<ImportJob.Reject> rejects = new ArrayList<>();
+            for (RawRecord record : records) {
+                try {
+                    AutoDTO auto = AutoCsvColumn.toAuto(columns, record.fields());
+                    Set<ConstraintViolation<AutoDTO>> violations = validator.validate(auto);
+                    if (violations.isEmpty()) {
+                        rows.add(new ImportRow(record.linea(), auto));
+                    } else {
+                        rejects.add(new ImportJob.Reject(record.linea(), violations.stream()
+                                .sorted(Comparator.comparing(violation -> violation.getPropertyPath().toString()))
+                                .map(ConstraintViolation::getMessage)
+                                .collect(Collectors.joining("; "))));
+                    }
+                } catch (IllegalArgumentException e) {
+                    rejects.add(new ImportJob.Reject(record.linea(), e.getMessage()));
+                }
+            }
+            return new ParsedChunk(records.size(), rows, rejects);
+        });
+    }
+
+    private void write(ImportJob job, ParsedChunk chunk) {
+        AutoBatchWriter.BatchResult result = batchWriter.write(chunk.rows());
+        List<ImportJob.Reject> rejects = new ArrayList<>(chunk.rejects());
+        rejects.addAll(result.rechazos());
+        result.errores().forEach(error -> rejects.add(
+                new ImportJob.Reject(error.linea(), "No se pudo insertar: " + error.error().getMessage())));
+        rejects.sort(Comparator.comparingLong(ImportJob.Reject::linea));
+        for (ImportJob.Reject reject : rejects) {
+            job.reject(reject.linea(), reject.motivo());
+        }
+        job.inserted(result.insertadas());
+        job.rowsRead(chunk.records());
+    }
+
+    private static void fail(ImportJob job, Throwable cause, Deque<Future<ParsedChunk>> inFlight) {
+        inFlight.forEach(future -> future.cancel(true));
+        log.warn("Importación {} fallida tras {} filas", job.getId(), job.getFilasLeidas(), cause);
+        job.fail(cause.getMessage() != null ? cause.getMessage() : cause.getClass().getSimpleName());
+    }
+
+    private record RawRecord(long linea, String[] fields) {
+    }
+
+    private record ParsedChunk(int records, List<ImportRow> rows, List<ImportJob.Reject> rejects) {
+    }
+
+    private static final class CountingInputStream extends FilterInputStream {
+
+        private long count;
+
+        CountingInputStream(InputStream in) {
+            super(in);
+        }
+
+        @Override
+        public int read() throws IOException {
+            int b = super.read();
+            if (b >= 0) {
+                count++;
+            }
+            return b;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            int read = super.read(b, off, len);
+            if (read > 0) {
+                count += read;
+            }
+            return read;
+        }
+
+        long count() {
+            return count;
+        }
+    }
+}
@@ -0,0 +1,146 @@
+package com.empleados.api.bulk;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Streaming RFC 4180 tokenizer that returns one record at a time.
+ * <p>
+ * Only a fixed-size character buffer and the current record are kept in memory. Fields may be
+ * quoted, quoted fields may contain delimiters, line breaks and doubled quotes, lines may end in
+ * LF or CRLF, a leading byte order mark is dropped and blank lines are skipped.
+ */
+public class CsvTokenizer {
+
+    private static final char QUOTE = '"';
+    private static final char BOM = '\uFEFF';
+
+    private final Reader reader;
+    private final char delimiter;
+    private final char[] buffer = new char[8192];
+    private final StringBuilder field = new StringBuilder();
+    private final List<String> fields = new ArrayList<>();
+
+    private int position;
+    private int limit;
+    private long line = 1;
+    private long recordLine;
+    private boolean started;
+
+    public CsvTokenizer(Reader reader) {
+        this(reader, ',');
+    }
+
+    public CsvTokenizer(Reader reader, char delimiter) {
+        this.reader = reader;
+        this.delimiter = delimiter;
+    }
+
+    /**
+     * Read the next record
+     *
+     * @return the fields of the record, or null at the end of the input
+     * @throws IllegalArgumentException when a quoted field is not closed
+     */
+    public String[] next() throws IOException {
+        int c;
+        do {
+            c = read();
+            if (c == '\r' && peek() == '\n') {
+                c = read();
+            }
+            if (c == '\n' || c == '\r') {
+                line++;
+            }
+        } while (c == '\n' || c == '\r');
+        if (c == -1) {
+            return null;
+        }
+
+        recordLine = line;
+        fields.clear();
+        field.setLength(0);
+        boolean quoted = false;
+        while (true) {
+            if (quoted) {
+                if (c == -1) {
+                    throw new IllegalArgumentException("Comillas sin cerrar en el registro de la línea " + recordLine);
+                }
+                if (c == QUOTE) {
+                    if (peek() == QUOTE) {
+                        read();
+                        field.append(QUOTE);
+                    } else {
+                        quoted = false;
+                    }
+                } else {
+                    if (c == '\n') {
+                        line++;
+                    }
+                    field.append((char) c);
+                }
+            } else if (c == QUOTE && field.isEmpty()) {
+                quoted = true;
+            } else if (c == delimiter) {
+                endField();
+            } else if (c == '\n' || c == '\r' || c == -1) {
+                if (c == '\r' && peek() == '\n') {
+                    read();
+                }
+                if (c != -1) {
+                    line++;
+                }
+                endField();
+                return fields.toArray(new String[0]);
+            } else {
+                field.append((char) c);
+            }
+            c = read();
+        }
+    }
+
+    /**
+     * Line where the last record returned by {@link #next()} starts, counting from 1
+     */
+    public long recordLine() {
+        return recordLine;
+    }
+
+    private void endField() {
+        fields.add(field.toString());
+        field.setLength(0);
+    }
+
+    private int read() throws IOException {
+        if (position == limit && !fill()) {
+            return -1;
+        }
+        return buffer[position++];
+    }
+
+    private int peek() throws IOException {
+        if (position == limit && !fill()) {
+            return -1;
+        }
+        return buffer[position];
+    }
+
+    private boolean fill() throws IOException {
+        int read = reader.read(buffer, 0, buffer.length);
+        if (read <= 0) {
+            return false;
+        }
+        position = 0;
+        limit = read;
+        if (!started) {
+            started = true;
+            if (buffer[0] == BOM) {
+                position = 1;
+                return limit > 1 || fill();
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,69 @@
+package com.empleados.api.bulk;
+
+import java.io.IOException;
+import java.io.Writer;
+
+/**
+ * Writes RFC 4180 records, the counterpart of {@link CsvTokenizer}.
+ * Fields are quoted only when they contain the delimiter, a quote or a line break.
+ */
+public class CsvWriter {
+
+    private final Writer writer;
+    private final char delimiter;
+
+    public CsvWriter(Writer writer) {
+        this(writer, ',');
+    }
+
+    public CsvWriter(Writer writer, char delimiter) {
+        this.writer = writer;
+        this.delimiter = delimiter;
+    }
+
+    /**
+     * Write one record terminated by CRLF. Null fields are written as empty.
+     */
+    public void writeRecord(String... fields) throws IOException {
+        for (int i = 0; i < fields.length; i++) {
+            if (i > 0) {
+                writer.write(delimiter);
+            }
+            writeField(fields[i]);
+        }
+        writer.write("\r\n");
+    }
+
+    public void flush() throws IOException {
+        writer.flush();
+    }
+
+    private void writeField(String field) throws IOException {
+        if (field == null || field.isEmpty()) {
+            return;
+        }
+        if (!needsQuotes(field)) {
+            writer.write(field);
+            return;
+        }
+        writer.write('"');
+        for (int i = 0; i < field.length(); i++) {
+            char c = field.charAt(i);
+            if (c == '"') {
+                writer.write('"');
+            }
+            writer.write(c);
+        }
+        writer.write('"');
+    }
+
+    private boolean needsQuotes(String field) {
+        for (int i = 0; i < field.length(); i++) {
+            char c = field.charAt(i);
+            if (c == delimiter || c == '"' || c == '\n' || c == '\r') {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,45 @@
+package com.empleados.api.bulk;
+
+import org.springframework.http.MediaType;
+
+import com.empleados.api.exception.BadRequestException;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Locale;
+
+/**
+ * File formats supported by the auto exports
+ */
+public enum ExportFormat {
+    CSV("csv", new MediaType("text", "csv", StandardCharsets.UTF_8)),
+    XLSX("xlsx", MediaType.parseMediaType("application/vnd.openxmlformats-officedocument.spreadsheetml.sheet"));
+
+    private final String extension;
+    private final MediaType mediaType;
+
+    ExportFormat(String extension, MediaType mediaType) {
+        this.extension = extension;
+        this.mediaType = mediaType;
+    }
+
+    public String extension() {
+        return extension;
+    }
+
+    public MediaType mediaType() {
+        return mediaType;
+    }
+
+    /**
+     * Resolve a format from its case-insensitive name as used in request parameters
+     *
+     * @throws BadRequestException when the name does not match any format
+     */
+    public static ExportFormat fromName(String name) {
+        try {
+            return valueOf(name.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new BadRequestException("Formato no soportado: " + name);
+        }
+    }
+}
@@ -0,0 +1,142 @@
+package com.empleados.api.bulk;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Progress of a CSV import, updated by the import pipeline and read by the status endpoint.
+ * Only the first {@code maxRejects} rejected rows are kept with their reason; the rest are only counted.
+ */
+public class ImportJob {
+
+    public enum Status {
+        PENDIENTE, EN_CURSO, COMPLETADO, FALLIDO
+    }
+
+    /**
+     * A rejected row and the reason
+     */
+    public record Reject(long linea, String motivo) {
+    }
+
+    private final String id;
+    private final String archivo;
+    private final long totalBytes;
+    private final int maxRejects;
+    private final Instant creado = Instant.now();
+
+    private final AtomicLong bytesLeidos = new AtomicLong();
+    private final AtomicLong filasLeidas = new AtomicLong();
+    private final AtomicLong insertadas = new AtomicLong();
+    private final AtomicLong rechazadas = new AtomicLong();
+    private final List<Reject> rejects = new ArrayList<>();
+
+    private volatile Status status = Status.PENDIENTE;
+    private volatile String error;
+    private volatile Instant iniciado;
+    private volatile Instant finalizado;
+
+    public ImportJob(String id, String archivo, long totalBytes, int maxRejects) {
+        this.id = id;
+        this.archivo = archivo;
+        this.totalBytes = totalBytes;
+        this.maxRejects = maxRejects;
+    }
+
+    void start() {
+        iniciado = Instant.now();
+        status = Status.EN_CURSO;
+    }
+
+    void complete() {
+        finalizado = Instant.now();
+        status = Status.COMPLETADO;
+    }
+
+    void fail(String message) {
+        error = message;
+        finalizado = Instant.now();
+        status = Status.FALLIDO;
+    }
+
+    void bytesRead(long bytes) {
+        bytesLeidos.set(bytes);
+    }
+
+    void rowsRead(long rows) {
+        filasLeidas.addAndGet(rows);
+    }
+
+    void inserted(long rows) {
+        insertadas.addAndGet(rows);
+    }
+
+    void reject(long linea, String motivo) {
+        rechazadas.incrementAndGet();
+        synchronized (rejects) {
+            if (rejects.size() < maxRejects) {
+                rejects.add(new Reject(linea, motivo));
+            }
+        }
+    }
+
+    public boolean isFinished() {
+        return status == Status.COMPLETADO || status == Status.FALLIDO;
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public String getArchivo() {
+        return archivo;
+    }
+
+    public Status getStatus() {
+        return status;
+    }
+
+    public String getError() {
+        return error;
+    }
+
+    public long getTotalBytes() {
+        return totalBytes;
+    }
+
+    public long getBytesLeidos() {
+        return bytesLeidos.get();
+    }
+
+    public long getFilasLeidas() {
+        return filasLeidas.get();
+    }
+
+    public long getInsertadas() {
+        return insertadas.get();
+    }
+
+    public long getRechazadas() {
+        return rechazadas.get();
+    }
+
+    public List<Reject> getRejects() {
+        synchronized (rejects) {
+            return List.copyOf(rejects);
+        }
+    }
+
+    public Instant getCreado() {
+        return creado;
+    }
+
+    public Instant getIniciado() {
+        return iniciado;
+    }
+
+    public Instant getFinalizado() {
+        return finalizado;
+    }
+}
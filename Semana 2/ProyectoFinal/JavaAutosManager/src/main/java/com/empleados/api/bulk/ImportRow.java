@@ -0,0 +1,10 @@
+package com.empleados.api.bulk;
+
+import com.empleados.api.dto.AutoDTO;
+
+/**
+ * A validated auto waiting to be inserted, keyed by the CSV line where it starts
+ * or by the ingestion ticket that carries it
+ */
+public record ImportRow(long linea, AutoDTO auto) {
+}
@@ -0,0 +1,219 @@
+package com.empleados.api.bulk;
+
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+/**
+ * Minimal streaming XLSX writer for a single sheet.
+ * <p>
+ * The package parts that do not depend on the data are written first and the sheet is then
+ * streamed row by row into the zip, so memory use does not depend on the number of rows and
+ * nothing is buffered on disk. Strings are written inline, numbers as numeric cells and dates
+ * as date-formatted serial numbers. Call {@link #close()} to finish the workbook.
+ */
+public class XlsxStreamWriter implements Closeable {
+
+    private static final LocalDate EXCEL_EPOCH = LocalDate.of(1899, 12, 30);
+
+    private static final String CONTENT_TYPES = """
+            <?xml version="1.0" encoding="UTF-8" standalone="yes"?>
+            <Types xmlns="http://schemas.openxmlformats.org/package/2006/content-types">\
+            <Default Extension="rels" ContentType="application/vnd.openxmlformats-package.relationships+xml"/>\
+            <Default Extension="xml" ContentType="application/xml"/>\
+            <Override PartName="/xl/workbook.xml" ContentType="application/vnd.openxmlformats-officedocument.spreadsheetml.sheet.main+xml"/>\
+            <Override PartName="/xl/styles.xml" ContentType="application/vnd.openxmlformats-officedocument.spreadsheetml.styles+xml"/>\
+            <Override PartName="/xl/worksheets/sheet1.xml" ContentType="application/vnd.openxmlformats-officedocument.spreadsheetml.worksheet+xml"/>\
+            </Types>""";
+
+    private static final String ROOT_RELS = """
+            <?xml version="1.0" encoding="UTF-8" standalone="yes"?>
+            <Relationships xmlns="http://schemas.openxmlformats.org/package/2006/relationships">\
+            <Relationship Id="rId1" Type="http://schemas.openxmlformats.org/officeDocument/2006/relationships/officeDocument" Target="xl/workbook.xml"/>\
+            </Relationships>""";
+
+    private static final String WORKBOOK_RELS = """
+            <?xml version="1.0" encoding="UTF-8" standalone="yes"?>
+            <Relationships xmlns="http://schemas.openxmlformats.org/package/2006/relationships">\
+            <Relationship Id="rId1" Type="http://schemas.openxmlformats.org/officeDocument/2006/relationships/worksheet" Target="worksheets/sheet1.xml"/>\
+            <Relationship Id="rId2" Type="http://schemas.openxmlformats.org/officeDocument/2006/relationships/styles" Target="styles.xml"/>\
+            </Relationships>""";
+
+    /**
+     * Style 0 is the default, 1 is a bold header and 2 is a yyyy-mm-dd date
+     */
+    private static final String STYLES = """
+            <?xml version="1.0" encoding="UTF-8" standalone="yes"?>
+            <styleSheet xmlns="http://schemas.openxmlformats.org/spreadsheetml/2006/main">\
+            <numFmts count="1"><numFmt numFmtId="164" formatCode="yyyy\\-mm\\-dd"/></numFmts>\
+            <fonts count="2"><font><sz val="11"/><name val="Calibri"/></font><font><b/><sz val="11"/><name val="Calibri"/></font></fonts>\
+            <fills count="2"><fill><patternFill patternType="none"/></fill><fill><patternFill patternType="gray125"/></fill></fills>\
+            <borders count="1"><border><left/><right/><top/><bottom/><diagonal/></border></borders>\
+            <cellStyleXfs count="1"><xf numFmtId="0" fontId="0" fillId="0" borderId="0"/></cellStyleXfs>\
+            <cellXfs count="3"><xf numFmtId="0" fontId="0" fillId="0" borderId="0" xfId="0"/>\
+            <xf numFmtId="0" fontId="1" fillId="0" borderId="0" xfId="0" applyFont="1"/>\
+            <xf numFmtId="164" fontId="0" fillId="0" borderId="0" xfId="0" applyNumberFormat="1"/></cellXfs>\
+            </styleSheet>""";
+
+    private static final int HEADER_STYLE = 1;
+    private static final int DATE_STYLE = 2;
+
+    private final ZipOutputStream zip;
+    private final Writer sheet;
+    private long rowNumber;
+
+    public XlsxStreamWriter(OutputStream output, String sheetName) throws IOException {
+        this.zip = new ZipOutputStream(output, StandardCharsets.UTF_8);
+        writeEntry("[Content_Types].xml", CONTENT_TYPES);
+        writeEntry("_rels/.rels", ROOT_RELS);
+        writeEntry("xl/workbook.xml", """
+                <?xml version="1.0" encoding="UTF-8" standalone="yes"?>
+                <workbook xmlns="http://schemas.openxmlformats.org/spreadsheetml/2006/main" \
+                xmlns:r="http://schemas.openxmlformats.org/officeDocument/2006/relationships">\
+                <sheets><sheet name="%s" sheetId="1" r:id="rId1"/></sheets></workbook>""".formatted(escape(sheetName)));
+        writeEntry("xl/_rels/workbook.xml.rels", WORKBOOK_RELS);
+        writeEntry("xl/styles.xml", STYLES);
+
+        zip.putNextEntry(new ZipEntry("xl/worksheets/sheet1.xml"));
+        this.sheet = new BufferedWriter(new OutputStreamWriter(zip, StandardCharsets.UTF_8), 16 * 1024);
+        sheet.write("<?xml version=\"1.0\" encoding=\"UTF-8\" standalone=\"yes\"?>\n"
+                + "<worksheet xmlns=\"http://schemas.openxmlformats.org/spreadsheetml/2006/main\">"
+                + "<sheetViews><sheetView workbookViewId=\"0\"><pane ySplit=\"1\" topLeftCell=\"A2\" state=\"frozen\"/>"
+                + "</sheetView></sheetViews><sheetData>");
+    }
+
+    /**
+     * Write a row of bold text cells, frozen at the top of the sheet
+     */
+    public void writeHeader(String... titles) throws IOException {
+        startRow();
+        for (int column = 0; column < titles.length; column++) {
+            writeString(column, titles[column], HEADER_STYLE);
+        }
+        sheet.write("</row>");
+    }
+
+    /**
+     * Write a row. Supported values are {@link String}, {@link Number} and {@link LocalDate};
+     * null values leave the cell empty and anything else is written as text.
+     */
+    public void writeRow(Object... values) throws IOException {
+        startRow();
+        for (int column = 0; column < values.length; column++) {
+            Object value = values[column];
+            if (value == null) {
+                continue;
+            }
+            if (value instanceof LocalDate date) {
+                writeNumber(column, Long.toString(date.toEpochDay() - EXCEL_EPOCH.toEpochDay()), DATE_STYLE);
+            } else if (value instanceof BigDecimal decimal) {
+                writeNumber(column, decimal.toPlainString(), 0);
+            } else if (value instanceof Number number) {
+                writeNumber(column, number.toString(), 0);
+            } else {
+                writeString(column, value.toString(), 0);
+            }
+        }
+        sheet.write("</row>");
+    }
+
+    /**
+     * Push buffered rows to the underlying stream
+     */
+    public void flush() throws IOException {
+        sheet.flush();
+        zip.flush();
+    }
+
+    @Override
+    public void close() throws IOException {
+        sheet.write("</sheetData></worksheet>");
+        sheet.flush();
+        zip.closeEntry();
+        zip.finish();
+        zip.flush();
+    }
+
+    private void startRow() throws IOException {
+        rowNumber++;
+        sheet.write("<row r=\"");
+        sheet.write(Long.toString(rowNumber));
+        sheet.write("\">");
+    }
+
+    private void writeString(int column, String value, int style) throws IOException {
+        startCell(column, style);
+        sheet.write(" t=\"inlineStr\"><is><t xml:space=\"preserve\">");
+        sheet.write(escape(value));
+        sheet.write("</t></is></c>");
+    }
+
+    private void writeNumber(int column, String value, int style) throws IOException {
+        startCell(column, style);
+        sheet.write("><v>");
+        sheet.write(value);
+        sheet.write("</v></c>");
+    }
+
+    private void startCell(int column, int style) throws IOException {
+        sheet.write("<c r=\"");
+        sheet.write(columnName(column));
+        sheet.write(Long.toString(rowNumber));
+        sheet.write('"');
+        if (style != 0) {
+            sheet.write(" s=\"");
+            sheet.write(Integer.toString(style));
+            sheet.write('"');
+        }
+    }
+
+    private void writeEntry(String name, String content) throws IOException {
+        zip.putNextEntry(new ZipEntry(name));
+        zip.write(content.getBytes(StandardCharsets.UTF_8));
+        zip.closeEntry();
+    }
+
+    static String columnName(int column) {
+        StringBuilder name = new StringBuilder();
+        for (int n = column + 1; n > 0; n = (n - 1) / 26) {
+            name.insert(0, (char) ('A' + (n - 1) % 26));
+        }
+        return name.toString();
+    }
+
+    /**
+     * Escape XML markup and drop characters that XML 1.0 does not allow
+     */
+    static String escape(String value) {
+        StringBuilder escaped = null;
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            String replacement = switch (c) {
+                case '&' -> "&amp;";
+                case '<' -> "&lt;";
+                case '>' -> "&gt;";
+                case '"' -> "&quot;";
+                default -> c < 0x20 && c != '\t' && c != '\n' && c != '\r' ? "" : null;
+            };
+            if (replacement != null && escaped == null) {
+                escaped = new StringBuilder(value.length() + 16).append(value, 0, i);
+            }
+            if (escaped != null) {
+                if (replacement != null) {
+                    escaped.append(replacement);
+                } else {
+                    escaped.append(c);
+                }
+            }
+        }
+        return escaped == null ? value : escaped.toString();
+    }
+}
@@ -0,0 +1,103 @@
+package com.empleados.api.bulkhead;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Bounds how many requests of one {@link Workload} run at the same time.
+ * <p>
+ * Up to {@code maxConcurrent} enter at once; up to {@code maxQueued} more wait in a fair queue for
+ * at most {@code maxWait} and are rejected after that, so each workload has its own queueing
+ * policy: zero wait means failing fast. A request arriving when the queue is full is rejected at
+ * once, so a burst cannot park an unbounded number of request threads behind the bulkhead.
+ */
+public class Bulkhead {
+
+    private final Workload workload;
+    private final int maxConcurrent;
+    private final Duration maxWait;
+    private final int maxQueued;
+    private final Semaphore permits;
+    private final AtomicInteger queued = new AtomicInteger();
+    private final AtomicLong rejected = new AtomicLong();
+    private volatile Timer waits;
+
+    public Bulkhead(Workload workload, int maxConcurrent, Duration maxWait, int maxQueued) {
+        if (maxConcurrent <= 0 || maxQueued < 0) {
+            throw new IllegalArgumentException("Compartimento " + workload.name() + " inválido: " + maxConcurrent
+                    + " concurrentes, " + maxQueued + " en espera");
+        }
+        this.workload = workload;
+        this.maxConcurrent = maxConcurrent;
+        this.maxWait = maxWait;
+        this.maxQueued = maxQueued;
+        this.permits = new Semaphore(maxConcurrent, true);
+    }
+
+    /**
+     * Wait for a free slot for up to the configured time, if there is room in the queue
+     *
+     * @return false when the request must be rejected
+     */
+    public boolean tryEnter() throws InterruptedException {
+        long start = System.nanoTime();
+        boolean entered = permits.tryAcquire() || (!maxWait.isZero() && awaitPermit());
+        if (waits != null) {
+            waits.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+        if (!entered) {
+            rejected.incrementAndGet();
+        }
+        return entered;
+    }
+
+    private boolean awaitPermit() throws InterruptedException {
+        if (queued.incrementAndGet() > maxQueued) {
+            queued.decrementAndGet();
+            return false;
+        }
+        try {
+            return permits.tryAcquire(maxWait.toNanos(), TimeUnit.NANOSECONDS);
+        } finally {
+            queued.decrementAndGet();
+        }
+    }
+
+    public void exit() {
+        permits.release();
+    }
+
+    public int getActive() {
+        return maxConcurrent - permits.availablePermits();
+    }
+
+    public int getQueued() {
+        return queued.get();
+    }
+
+    public long getRejected() {
+        return rejected.get();
+    }
+
+    public Workload getWorkload() {
+        return workload;
+    }
+
+    void bindTo(MeterRegistry registry) {
+        String tag = workload.name().toLowerCase();
+        Gauge.builder("autos.bulkhead.active", this, Bulkhead::getActive).tag("workload", tag).register(registry);
+        Gauge.builder("autos.bulkhead.queued", this, Bulkhead::getQueued).tag("workload", tag).register(registry);
+        Gauge.builder("autos.bulkhead.max", this, bulkhead -> bulkhead.maxConcurrent).tag("workload", tag).register(registry);
+        Gauge.builder("autos.bulkhead.max-queued", this, bulkhead -> bulkhead.maxQueued).tag("workload", tag).register(registry);
+        FunctionCounter.builder("autos.bulkhead.rejected", rejected, AtomicLong::get).tag("workload", tag).register(registry);
+        waits = Timer.builder("autos.bulkhead.wait").tag("workload", tag).register(registry);
+    }
+}
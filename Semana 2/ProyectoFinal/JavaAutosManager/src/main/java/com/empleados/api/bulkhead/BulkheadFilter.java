@@ -0,0 +1,115 @@
+package com.empleados.api.bulkhead;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import com.empleados.api.exception.ErrorResponseWriter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Puts every request in the bulkhead of its {@link Workload}.
+ * <p>
+ * Exports, imports and the streamed full list page are {@link Workload#BULK}, the rest of
+ * {@code /api/} is {@link Workload#API} and the Thymeleaf pages are {@link Workload#UI}. Each workload has its own concurrency bound and
+ * queueing policy, and the request thread is marked with it so its database work goes to that
+ * workload's connection pool. A request that cannot get a slot in time, or finds the queue of
+ * waiting requests full, gets 503 with {@code Retry-After}. Other paths (actuator, H2 console, Swagger, static resources) are left alone.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 20)
+public class BulkheadFilter extends OncePerRequestFilter implements MeterBinder {
+
+    private final Map<Workload, Bulkhead> bulkheads = new EnumMap<>(Workload.class);
+    private final ErrorResponseWriter errorWriter;
+
+    @Autowired
+    public BulkheadFilter(ObjectMapper objectMapper,
+                          @Value("${autos.bulkhead.api.max-concurrent:64}") int apiMaxConcurrent,
+                          @Value("${autos.bulkhead.api.max-wait-ms:50}") long apiMaxWaitMs,
+                          @Value("${autos.bulkhead.api.max-queued:32}") int apiMaxQueued,
+                          @Value("${autos.bulkhead.ui.max-concurrent:16}") int uiMaxConcurrent,
+                          @Value("${autos.bulkhead.ui.max-wait-ms:2000}") long uiMaxWaitMs,
+                          @Value("${autos.bulkhead.ui.max-queued:16}") int uiMaxQueued,
+                          @Value("${autos.bulkhead.bulk.max-concurrent:4}") int bulkMaxConcurrent,
+                          @Value("${autos.bulkhead.bulk.max-wait-ms:0}") long bulkMaxWaitMs,
+                          @Value("${autos.bulkhead.bulk.max-queued:0}") int bulkMaxQueued) {
+        this.errorWriter = new ErrorResponseWriter(objectMapper);
+        bulkheads.put(Workload.API, new Bulkhead(Workload.API, apiMaxConcurrent,
+                Duration.ofMillis(apiMaxWaitMs), apiMaxQueued));
+        bulkheads.put(Workload.UI, new Bulkhead(Workload.UI, uiMaxConcurrent,
+                Duration.ofMillis(uiMaxWaitMs), uiMaxQueued));
+        bulkheads.put(Workload.BULK, new Bulkhead(Workload.BULK, bulkMaxConcurrent,
+                Duration.ofMillis(bulkMaxWaitMs), bulkMaxQueued));
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        bulkheads.values().forEach(bulkhead -> bulkhead.bindTo(registry));
+    }
+
+    /**
+     * Workload of a request, or null when it is not subject to a bulkhead
+     */
+    static Workload classify(HttpServletRequest request) {
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        if (path.startsWith("/api/automoviles/exportar") || path.startsWith("/api/automoviles/importaciones")
+                || path.equals("/automoviles/todos")) {
+            return Workload.BULK;
+        }
+        if (path.startsWith("/api/")) {
+            return Workload.API;
+        }
+        if (path.equals("/") || path.equals("/automoviles") || path.startsWith("/automoviles/")) {
+            return Workload.UI;
+        }
+        return null;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return classify(request) == null;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        Workload workload = classify(request);
+        Bulkhead bulkhead = bulkheads.get(workload);
+        boolean entered;
+        try {
+            entered = bulkhead.tryEnter();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            entered = false;
+        }
+        if (!entered) {
+            errorWriter.writeOverloaded(request, response,
+                    "No hay capacidad disponible para peticiones " + workload.name(), 1);
+            return;
+        }
+        try (Workload.Scope scope = workload.enter()) {
+            chain.doFilter(request, response);
+        } finally {
+            bulkhead.exit();
+        }
+    }
+
+    Bulkhead getBulkhead(Workload workload) {
+        return bulkheads.get(workload);
+    }
+}
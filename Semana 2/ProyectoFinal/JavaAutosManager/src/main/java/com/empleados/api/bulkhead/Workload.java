@@ -0,0 +1,61 @@
+package com.empleados.api.bulkhead;
+
+/**
+ * Kind of work a thread is doing, which decides the bulkhead and connection pool it uses.
+ * <p>
+ * Request threads get theirs from {@link BulkheadFilter}; background threads are marked with
+ * {@link #bind}. Threads that were never marked count as {@link #API}.
+ */
+public enum Workload {
+
+    /** Interactive REST calls */
+    API,
+
+    /** Thymeleaf pages served by the WebController */
+    UI,
+
+    /** Imports, exports and other long-running jobs */
+    BULK;
+
+    private static final ThreadLocal<Workload> CURRENT = new ThreadLocal<>();
+
+    public static Workload current() {
+        Workload workload = CURRENT.get();
+        return workload != null ? workload : API;
+    }
+
+    /**
+     * Mark the current thread until the returned scope is closed
+     */
+    public Scope enter() {
+        Workload previous = CURRENT.get();
+        CURRENT.set(this);
+        return () -> {
+            if (previous == null) {
+                CURRENT.remove();
+            } else {
+                CURRENT.set(previous);
+            }
+        };
+    }
+
+    /**
+     * Wrap a task so it runs marked with this workload on whatever thread executes it
+     */
+    public Runnable bind(Runnable task) {
+        return () -> {
+            try (Scope scope = enter()) {
+                task.run();
+            }
+        };
+    }
+
+    /**
+     * Restores the previous workload of the thread when closed
+     */
+    public interface Scope extends AutoCloseable {
+
+        @Override
+        void close();
+    }
+}
@@ -0,0 +1,50 @@
+package com.empleados.api.bulkhead;
+
+import org.springframework.core.task.AsyncTaskExecutor;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.Future;
+
+/**
+ * Runs the asynchronous part of a request on the executor of its {@link Workload}.
+ * <p>
+ * Streamed responses (exports and the full list page) are {@link Workload#BULK} and go to the
+ * bounded bulk executor; async work started by any other request goes to {@code others}, so it
+ * never takes a bulk thread. The workload is read on the request thread, where
+ * {@link BulkheadFilter} has marked it, when the work is submitted.
+ */
+public class WorkloadTaskExecutor implements AsyncTaskExecutor {
+
+    private final AsyncTaskExecutor bulk;
+    private final AsyncTaskExecutor others;
+
+    public WorkloadTaskExecutor(AsyncTaskExecutor bulk, AsyncTaskExecutor others) {
+        this.bulk = bulk;
+        this.others = others;
+    }
+
+    @Override
+    public void execute(Runnable task) {
+        current().execute(task);
+    }
+
+    @Override
+    @Deprecated
+    public void execute(Runnable task, long startTimeout) {
+        execute(task);
+    }
+
+    @Override
+    public Future<?> submit(Runnable task) {
+        return current().submit(task);
+    }
+
+    @Override
+    public <T> Future<T> submit(Callable<T> task) {
+        return current().submit(task);
+    }
+
+    private AsyncTaskExecutor current() {
+        return Workload.current() == Workload.BULK ? bulk : others;
+    }
+}
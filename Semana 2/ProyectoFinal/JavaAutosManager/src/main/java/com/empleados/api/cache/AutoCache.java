@@ -0,0 +1,121 @@
+package com.empleados.api.cache;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.BeanUtils;
+
+import com.empleados.api.dto.AutoDTO;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * In-process cache of autos by id, kept in line with the other instances by
+ * {@link CacheInvalidationBus}.
+ * <p>
+ * Holds up to {@code maxEntries} autos, dropping the least recently used, and each for at most
+ * {@code ttl} so an invalidation that never arrives only leaves an entry stale for that long. A
+ * value loaded while an invalidation happened is returned but not stored, since it may predate it.
+ * Entries are copies, so callers can modify what they get. Exposes {@code autos.cache.hits},
+ * {@code autos.cache.misses}, {@code autos.cache.evictions} and {@code autos.cache.size}.
+ */
+public class AutoCache implements MeterBinder {
+
+    private final int maxEntries;
+    private final long ttlNanos;
+    private final Map<Long, Entry> entries;
+    private final AtomicLong invalidations = new AtomicLong();
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong evictions = new AtomicLong();
+
+    public AutoCache(int maxEntries, Duration ttl) {
+        if (maxEntries <= 0) {
+            throw new IllegalArgumentException("autos.cache.max-entries debe ser mayor que cero");
+        }
+        this.maxEntries = maxEntries;
+        this.ttlNanos = ttl.toNanos();
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, Entry> eldest) {
+                return size() > AutoCache.this.maxEntries;
+            }
+        };
+    }
+
+    /**
+     * The cached auto with {@code id}, or the one {@code loader} returns, cached for next time
+     */
+    public AutoDTO get(Long id, Function<Long, AutoDTO> loader) {
+        long now = System.nanoTime();
+        synchronized (entries) {
+            Entry entry = entries.get(id);
+            if (entry != null && now - entry.loadedAt() < ttlNanos) {
+                hits.incrementAndGet();
+                return copy(entry.auto());
+            }
+        }
+        misses.incrementAndGet();
+        long generation = invalidations.get();
+        AutoDTO loaded = loader.apply(id);
+        synchronized (entries) {
+            if (invalidations.get() == generation) {
+                entries.put(id, new Entry(copy(loaded), now));
+            }
+        }
+        return loaded;
+    }
+
+    public void evict(Long id) {
+        invalidations.incrementAndGet();
+        synchronized (entries) {
+            if (entries.remove(id) != null) {
+                evictions.incrementAndGet();
+            }
+        }
+    }
+
+    public void clear() {
+        invalidations.incrementAndGet();
+        synchronized (entries) {
+            evictions.addAndGet(entries.size());
+            entries.clear();
+        }
+    }
+
+    public int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    public long getHits() {
+        return hits.get();
+    }
+
+    public long getMisses() {
+        return misses.get();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("autos.cache.hits", hits, AtomicLong::get).register(registry);
+        FunctionCounter.builder("autos.cache.misses", misses, AtomicLong::get).register(registry);
+        FunctionCounter.builder("autos.cache.evictions", evictions, AtomicLong::get).register(registry);
+        Gauge.builder("autos.cache.size", this, AutoCache::size).register(registry);
+    }
+
+    private static AutoDTO copy(AutoDTO auto) {
+        AutoDTO copy = new AutoDTO();
+        BeanUtils.copyProperties(auto, copy);
+        return copy;
+    }
+
+    private record Entry(AutoDTO auto, long loadedAt) {
+    }
+}
@@ -0,0 +1,154 @@
+package com.empleados.api.cache;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.empleados.api.event.AutoChangedEvent;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Keeps the {@link AutoCache} of every instance in line with the changes made on any of them.
+ * <p>
+ * Once an update or delete commits, the auto is evicted locally and its id is broadcast over the
+ * {@link InvalidationTransport}; other instances evict it on receipt. Creations are not broadcast:
+ * an id nobody has read yet cannot be cached. Receivers track the last sequence number of every
+ * sender, and heartbeats repeat it every {@code autos.cache.bus.heartbeat-ms}; when a number is
+ * skipped the message is lost for good, so the whole cache is cleared rather than left stale.
+ * <p>
+ * Metrics: {@code autos.cache.invalidation.sent}, {@code autos.cache.invalidation.received},
+ * {@code autos.cache.invalidation.gaps}, {@code autos.cache.invalidation.failures} and
+ * {@code autos.cache.invalidation.lag} from sending to evicting.
+ */
+public class CacheInvalidationBus implements MeterBinder, AutoCloseable {
+
+    private static final Logger log = LoggerFactory.getLogger(CacheInvalidationBus.class);
+
+    private final AutoCache cache;
+    private final InvalidationTransport transport;
+    private final String node;
+    private final Map<String, Long> lastSequences = new HashMap<>();
+    private final AtomicLong sent = new AtomicLong();
+    private final AtomicLong received = new AtomicLong();
+    private final AtomicLong gaps = new AtomicLong();
+    private final AtomicLong failures = new AtomicLong();
+    private long sequence;
+    private volatile Timer lag;
+
+    public CacheInvalidationBus(AutoCache cache, InvalidationTransport transport, String node) {
+        this.cache = cache;
+        this.transport = transport;
+        this.node = node;
+    }
+
+    @PostConstruct
+    public void start() {
+        transport.start(this::receive);
+        log.info("Invalidación de caché por {} como nodo {}", transport.name(), node);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onAutoChanged(AutoChangedEvent event) {
+        if (event.getType() == AutoChangedEvent.Type.CREATED) {
+            return;
+        }
+        cache.evict(event.getAutoId());
+        publish(List.of(event.getAutoId()));
+    }
+
+    /**
+     * Tell the other instances the last sequence number used, so they notice lost messages
+     */
+    @Scheduled(fixedDelayString = "${autos.cache.bus.heartbeat-ms:1000}")
+    public void heartbeat() {
+        publish(List.of());
+    }
+
+    /**
+     * Apply a message from any instance, ignoring our own
+     */
+    void receive(InvalidationMessage message) {
+        if (node.equals(message.node())) {
+            return;
+        }
+        synchronized (lastSequences) {
+            Long last = lastSequences.get(message.node());
+            long expected = message.isHeartbeat() ? message.sequence() : message.sequence() - 1;
+            if (last != null && (message.sequence() < last || !message.isHeartbeat() && message.sequence() == last)) {
+                // Duplicate or late: anything it could evict was cleared when its number was skipped
+                return;
+            }
+            if (last == null ? expected > 0 : expected > last) {
+                cache.clear();
+                if (last != null) {
+                    gaps.incrementAndGet();
+                    log.warn("Mensajes de invalidación perdidos de {} ({} a {}); caché vaciada",
+                            message.node(), last + 1, expected);
+                }
+            }
+            lastSequences.put(message.node(), message.sequence());
+        }
+        if (!message.isHeartbeat()) {
+            message.autoIds().forEach(cache::evict);
+            received.incrementAndGet();
+            Timer timer = lag;
+            if (timer != null) {
+                timer.record(Duration.ofMillis(Math.max(0, System.currentTimeMillis() - message.sentAt())));
+            }
+        }
+    }
+
+    public String getNode() {
+        return node;
+    }
+
+    public long getGaps() {
+        return gaps.get();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("autos.cache.invalidation.sent", sent, AtomicLong::get).register(registry);
+        FunctionCounter.builder("autos.cache.invalidation.received", received, AtomicLong::get).register(registry);
+        FunctionCounter.builder("autos.cache.invalidation.gaps", gaps, AtomicLong::get).register(registry);
+        FunctionCounter.builder("autos.cache.invalidation.failures", failures, AtomicLong::get).register(registry);
+        lag = Timer.builder("autos.cache.invalidation.lag").register(registry);
+    }
+
+    @Override
+    public void close() {
+        transport.close();
+    }
+
+    /**
+     * Send the next message, or a heartbeat when {@code autoIds} is empty. Sending is serialized so
+     * numbers go out in order.
+     */
+    private synchronized void publish(List<Long> autoIds) {
+        if (!autoIds.isEmpty()) {
+            sequence++;
+        }
+        try {
+            transport.publish(new InvalidationMessage(node, sequence, System.currentTimeMillis(), autoIds));
+            if (!autoIds.isEmpty()) {
+                sent.incrementAndGet();
+            }
+        } catch (RuntimeException e) {
+            // The number is used anyway: receivers see it skipped and clear their caches
+            failures.incrementAndGet();
+            log.warn("No se pudo enviar la invalidación {} por {}: {}", sequence, transport.name(), e.getMessage());
+        }
+    }
+}
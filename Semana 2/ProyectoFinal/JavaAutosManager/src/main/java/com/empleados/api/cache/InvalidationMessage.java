@@ -0,0 +1,25 @@
+package com.empleados.api.cache;
+
+import java.util.List;
+
+/**
+ * Autos one instance evicted, for the others to evict too.
+ * <p>
+ * Each instance numbers its messages 1, 2, 3... A heartbeat carries no ids and repeats the last
+ * number used, so a receiver also notices when the most recent messages were lost.
+ *
+ * @param node instance that sent it
+ * @param sequence number of the message within that instance
+ * @param sentAt epoch milliseconds when it was sent
+ * @param autoIds ids to evict, empty for a heartbeat
+ */
+public record InvalidationMessage(String node, long sequence, long sentAt, List<Long> autoIds) {
+
+    public InvalidationMessage {
+        autoIds = List.copyOf(autoIds);
+    }
+
+    public boolean isHeartbeat() {
+        return autoIds.isEmpty();
+    }
+}
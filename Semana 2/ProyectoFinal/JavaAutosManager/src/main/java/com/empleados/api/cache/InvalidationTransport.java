@@ -0,0 +1,34 @@
+package com.empleados.api.cache;
+
+import java.util.function.Consumer;
+
+/**
+ * Carries {@link InvalidationMessage}s between instances.
+ * <p>
+ * Delivery may be lossy, duplicated or out of order; {@link CacheInvalidationBus} notices from the
+ * sequence numbers and clears the whole cache when something was missed. A transport may hand an
+ * instance its own messages back.
+ */
+public interface InvalidationTransport extends AutoCloseable {
+
+    /**
+     * Send {@code message} to every instance
+     *
+     * @throws RuntimeException when it could not be sent
+     */
+    void publish(InvalidationMessage message);
+
+    /**
+     * Start handing received messages to {@code receiver}
+     */
+    void start(Consumer<InvalidationMessage> receiver);
+
+    /**
+     * Short name used in logs
+     */
+    String name();
+
+    @Override
+    default void close() {
+    }
+}
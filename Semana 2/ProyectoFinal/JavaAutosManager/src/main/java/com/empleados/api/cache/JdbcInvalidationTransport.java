@@ -0,0 +1,113 @@
+package com.empleados.api.cache;
+
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+/**
+ * Invalidation transport over a change log table in the shared database.
+ * <p>
+ * Messages are rows of {@code cache_invalidations}; every instance polls for rows above the last
+ * one it read every {@code autos.cache.bus.poll-interval-ms}, starting from the end of the log when
+ * it starts. Rows older than {@code retention} are purged. Polling adds up to one interval of delay
+ * but needs nothing beyond the database every instance already shares.
+ */
+public class JdbcInvalidationTransport implements InvalidationTransport {
+
+    private static final Logger log = LoggerFactory.getLogger(JdbcInvalidationTransport.class);
+
+    private static final int BATCH_SIZE = 500;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate requiresNew;
+    private final Duration retention;
+    private volatile Consumer<InvalidationMessage> receiver;
+    private long lastId;
+
+    public JdbcInvalidationTransport(DataSource dataSource, PlatformTransactionManager transactionManager,
+                                     Duration retention) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        // Messages are sent after the change committed, possibly while its transaction is still bound
+        this.requiresNew = new TransactionTemplate(transactionManager);
+        this.requiresNew.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.retention = retention;
+    }
+
+    @PostConstruct
+    public void init() {
+        jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS cache_invalidations ("
+                + "id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY, node VARCHAR(64) NOT NULL, "
+                + "sequence BIGINT NOT NULL, sent_at BIGINT NOT NULL, auto_ids VARCHAR(4000) NOT NULL)");
+        Long max = jdbcTemplate.queryForObject("SELECT COALESCE(MAX(id), 0) FROM cache_invalidations", Long.class);
+        lastId = max != null ? max : 0;
+    }
+
+    @Override
+    public void publish(InvalidationMessage message) {
+        String autoIds = message.autoIds().stream().map(String::valueOf).collect(Collectors.joining(","));
+        requiresNew.executeWithoutResult(status -> jdbcTemplate.update(
+                "INSERT INTO cache_invalidations (node, sequence, sent_at, auto_ids) VALUES (?, ?, ?, ?)",
+                message.node(), message.sequence(), message.sentAt(), autoIds));
+    }
+
+    @Override
+    public void start(Consumer<InvalidationMessage> receiver) {
+        this.receiver = receiver;
+    }
+
+    @Override
+    public String name() {
+        return "jdbc";
+    }
+
+    /**
+     * Hand every row written since the last poll to the receiver
+     */
+    @Scheduled(fixedDelayString = "${autos.cache.bus.poll-interval-ms:100}")
+    public synchronized void poll() {
+        Consumer<InvalidationMessage> target = receiver;
+        if (target == null) {
+            return;
+        }
+        List<Row> rows;
+        do {
+            rows = jdbcTemplate.query("SELECT id, node, sequence, sent_at, auto_ids FROM cache_invalidations "
+                            + "WHERE id > ? ORDER BY id FETCH FIRST " + BATCH_SIZE + " ROWS ONLY",
+                    (result, rowNum) -> new Row(result.getLong(1), new InvalidationMessage(result.getString(2),
+                            result.getLong(3), result.getLong(4), parseIds(result.getString(5)))),
+                    lastId);
+            for (Row row : rows) {
+                target.accept(row.message());
+                lastId = row.id();
+            }
+        } while (rows.size() == BATCH_SIZE);
+    }
+
+    @Scheduled(fixedDelayString = "${autos.cache.bus.purge-interval-ms:60000}")
+    public void purge() {
+        int deleted = jdbcTemplate.update("DELETE FROM cache_invalidations WHERE sent_at < ?",
+                System.currentTimeMillis() - retention.toMillis());
+        if (deleted > 0) {
+            log.debug("Eliminadas {} invalidaciones antiguas", deleted);
+        }
+    }
+
+    private static List<Long> parseIds(String autoIds) {
+        return autoIds.isEmpty() ? List.of() : Arrays.stream(autoIds.split(",")).map(Long::valueOf).toList();
+    }
+
+    private record Row(long id, InvalidationMessage message) {
+    }
+}
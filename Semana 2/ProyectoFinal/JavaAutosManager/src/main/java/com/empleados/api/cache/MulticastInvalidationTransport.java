@@ -0,0 +1,143 @@
+package com.empleados.api.cache;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.DatagramPacket;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.MulticastSocket;
+import java.net.NetworkInterface;
+import java.net.SocketException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Invalidation transport over UDP multicast, for instances on the same host or network segment.
+ * <p>
+ * Each message is one datagram sent to {@code group:port} on {@code networkInterface} (the loopback
+ * interface unless configured otherwise) and received by every instance that joined the group, so
+ * eviction takes well under a millisecond. Datagrams can be lost; the sequence numbers take care
+ * of that.
+ */
+public class MulticastInvalidationTransport implements InvalidationTransport {
+
+    private static final Logger log = LoggerFactory.getLogger(MulticastInvalidationTransport.class);
+
+    private static final int MAX_DATAGRAM = 65_000;
+
+    private final InetSocketAddress group;
+    private final NetworkInterface networkInterface;
+    private final MulticastSocket sender;
+    private MulticastSocket listener;
+    private Thread receiverThread;
+
+    public MulticastInvalidationTransport(String group, int port, String interfaceName, int timeToLive) {
+        try {
+            this.group = new InetSocketAddress(InetAddress.getByName(group), port);
+            this.networkInterface = interfaceName == null || interfaceName.isBlank()
+                    ? NetworkInterface.getByInetAddress(InetAddress.getLoopbackAddress())
+                    : NetworkInterface.getByName(interfaceName);
+            if (networkInterface == null) {
+                throw new IllegalArgumentException("No existe la interfaz de red " + interfaceName);
+            }
+            this.sender = new MulticastSocket();
+            this.sender.setNetworkInterface(networkInterface);
+            this.sender.setTimeToLive(timeToLive);
+        } catch (IOException e) {
+            throw new UncheckedIOException("No se pudo preparar el envío multicast a " + group + ":" + port, e);
+        }
+    }
+
+    @Override
+    public void publish(InvalidationMessage message) {
+        byte[] data = encode(message);
+        try {
+            sender.send(new DatagramPacket(data, data.length, group));
+        } catch (IOException e) {
+            throw new UncheckedIOException("No se pudo enviar la invalidación por multicast", e);
+        }
+    }
+
+    @Override
+    public synchronized void start(Consumer<InvalidationMessage> receiver) {
+        try {
+            listener = new MulticastSocket(group.getPort());
+            listener.joinGroup(group, networkInterface);
+        } catch (IOException e) {
+            throw new UncheckedIOException("No se pudo unir al grupo multicast " + group, e);
+        }
+        MulticastSocket socket = listener;
+        receiverThread = new Thread(() -> {
+            byte[] buffer = new byte[MAX_DATAGRAM];
+            while (!socket.isClosed()) {
+                DatagramPacket packet = new DatagramPacket(buffer, buffer.length);
+                try {
+                    socket.receive(packet);
+                    receiver.accept(decode(packet.getData(), packet.getLength()));
+                } catch (SocketException e) {
+                    return;
+                } catch (IOException | RuntimeException e) {
+                    log.warn("Invalidación multicast descartada: {}", e.getMessage());
+                }
+            }
+        }, "cache-invalidation-multicast");
+        receiverThread.setDaemon(true);
+        receiverThread.start();
+    }
+
+    @Override
+    public String name() {
+        return "multicast " + group.getHostString() + ":" + group.getPort();
+    }
+
+    @Override
+    public synchronized void close() {
+        if (listener != null) {
+            listener.close();
+        }
+        sender.close();
+    }
+
+    static byte[] encode(InvalidationMessage message) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(64 + 8 * message.autoIds().size());
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeUTF(message.node());
+            out.writeLong(message.sequence());
+            out.writeLong(message.sentAt());
+            out.writeInt(message.autoIds().size());
+            for (Long autoId : message.autoIds()) {
+                out.writeLong(autoId);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        if (bytes.size() > MAX_DATAGRAM) {
+            throw new IllegalArgumentException("Demasiados ids para un datagrama: " + message.autoIds().size());
+        }
+        return bytes.toByteArray();
+    }
+
+    static InvalidationMessage decode(byte[] data, int length) throws IOException {
+        DataInputStream in = new DataInputStream(new ByteArrayInputStream(data, 0, length));
+        String node = in.readUTF();
+        long sequence = in.readLong();
+        long sentAt = in.readLong();
+        int count = in.readInt();
+        if (count < 0 || count > length / Long.BYTES) {
+            throw new IOException("Datagrama de invalidación inválido");
+        }
+        List<Long> autoIds = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            autoIds.add(in.readLong());
+        }
+        return new InvalidationMessage(node, sequence, sentAt, autoIds);
+    }
+}
@@ -0,0 +1,32 @@
+package com.empleados.api.config;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+import com.empleados.api.analytics.CostAggregationKernel;
+import com.empleados.api.analytics.CostAggregationKernels;
+import com.empleados.api.analytics.ScalarCostAggregationKernel;
+
+/**
+ * Configuration class for the in-memory analytics
+ */
+@Configuration
+@EnableScheduling
+public class AnalyticsConfig {
+
+    private static final Logger log = LoggerFactory.getLogger(AnalyticsConfig.class);
+
+    @Bean
+    public CostAggregationKernel costAggregationKernel(
+            @Value("${autos.analytics.vector.enabled:true}") boolean vectorEnabled) {
+        CostAggregationKernel kernel = vectorEnabled
+                ? CostAggregationKernels.best()
+                : new ScalarCostAggregationKernel();
+        log.info("Kernel de agregación de costos: {}", kernel.name());
+        return kernel;
+    }
+}
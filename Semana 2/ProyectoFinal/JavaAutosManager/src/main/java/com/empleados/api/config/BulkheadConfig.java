@@ -0,0 +1,120 @@
+package com.empleados.api.config;
+
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.web.servlet.config.annotation.AsyncSupportConfigurer;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import com.empleados.api.bulkhead.Workload;
+import com.empleados.api.bulkhead.WorkloadRoutingDataSource;
+import com.empleados.api.bulkhead.WorkloadTaskExecutor;
+import com.empleados.api.replica.ReplicaRoutingDataSource;
+import com.empleados.api.replica.ReplicaSet;
+import com.empleados.api.shard.ShardRoutingDataSource;
+import com.empleados.api.shard.ShardSet;
+
+import javax.sql.DataSource;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Configuration of the bulkheads between the REST API, the UI and bulk jobs.
+ * The single H2 database is reached through one connection pool per {@link Workload}, each one
+ * built from the {@code spring.datasource.hikari.*} settings with its own name and size, and
+ * streamed exports run on their own bounded executor instead of a shared one. When read replicas
+ * are configured the pools are the primary behind a {@link ReplicaRoutingDataSource}, and when
+ * shards are configured all of that is shard zero of a {@link ShardRoutingDataSource}.
+ */
+@Configuration
+public class BulkheadConfig {
+
+    private static final Logger log = LoggerFactory.getLogger(BulkheadConfig.class);
+
+    /**
+     * The {@code spring.datasource.hikari.*} settings shared by the workload pools
+     */
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariConfig workloadPoolSettings() {
+        return new HikariConfig();
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(DataSourceProperties properties, HikariConfig workloadPoolSettings,
+                                 MeterRegistry meterRegistry,
+                                 ObjectProvider<ReplicaSet> replicaSet, ObjectProvider<ShardSet> shardSet,
+                                 @Value("${autos.bulkhead.api.pool-size:6}") int apiPoolSize,
+                                 @Value("${autos.bulkhead.ui.pool-size:2}") int uiPoolSize,
+                                 @Value("${autos.bulkhead.bulk.pool-size:2}") int bulkPoolSize) {
+        Map<Object, Object> pools = new HashMap<>();
+        pools.put(Workload.API, pool(properties, workloadPoolSettings, meterRegistry, Workload.API, apiPoolSize));
+        pools.put(Workload.UI, pool(properties, workloadPoolSettings, meterRegistry, Workload.UI, uiPoolSize));
+        pools.put(Workload.BULK, pool(properties, workloadPoolSettings, meterRegistry, Workload.BULK, bulkPoolSize));
+        WorkloadRoutingDataSource dataSource = new WorkloadRoutingDataSource();
+        dataSource.setTargetDataSources(pools);
+        dataSource.setDefaultTargetDataSource(pools.get(Workload.API));
+        dataSource.afterPropertiesSet();
+        log.info("Pools de conexiones: api={}, ui={}, bulk={}", apiPoolSize, uiPoolSize, bulkPoolSize);
+        ReplicaSet replicas = replicaSet.getIfAvailable();
+        DataSource home = replicas != null ? new ReplicaRoutingDataSource(dataSource, replicas) : dataSource;
+        ShardSet shards = shardSet.getIfAvailable();
+        return shards != null ? new ShardRoutingDataSource(home, shards.getPools()) : home;
+    }
+
+    @Bean
+    public ThreadPoolTaskExecutor bulkTaskExecutor(@Value("${autos.bulkhead.bulk.threads:4}") int threads,
+                                                   @Value("${autos.bulkhead.bulk.queue-capacity:16}") int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(threads);
+        executor.setMaxPoolSize(threads);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("bulk-");
+        executor.setTaskDecorator(Workload.BULK::bind);
+        return executor;
+    }
+
+    /**
+     * Run streamed responses of bulk requests (exports) on the bulk executor, and the async work of
+     * any other request on the executor Spring MVC uses by default
+     */
+    @Bean
+    public WebMvcConfigurer bulkAsyncSupport(ThreadPoolTaskExecutor bulkTaskExecutor) {
+        WorkloadTaskExecutor executor = new WorkloadTaskExecutor(bulkTaskExecutor,
+                new SimpleAsyncTaskExecutor("mvc-async-"));
+        return new WebMvcConfigurer() {
+            @Override
+            public void configureAsyncSupport(AsyncSupportConfigurer configurer) {
+                configurer.setTaskExecutor(executor);
+            }
+        };
+    }
+
+    static HikariDataSource pool(DataSourceProperties properties, HikariConfig settings, MeterRegistry meterRegistry,
+                                 Workload workload, int size) {
+        HikariDataSource pool = new HikariDataSource();
+        settings.copyStateTo(pool);
+        pool.setJdbcUrl(properties.determineUrl());
+        pool.setUsername(properties.determineUsername());
+        pool.setPassword(properties.determinePassword());
+        pool.setDriverClassName(properties.determineDriverClassName());
+        pool.setPoolName(workload.name().toLowerCase() + "-pool");
+        pool.setMaximumPoolSize(size);
+        pool.setMinimumIdle(settings.getMinimumIdle() >= 0 ? Math.min(settings.getMinimumIdle(), size) : 1);
+        pool.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(meterRegistry));
+        return pool;
+    }
+}
@@ -0,0 +1,58 @@
+package com.empleados.api.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import com.empleados.api.cache.AutoCache;
+import com.empleados.api.cache.CacheInvalidationBus;
+import com.empleados.api.cache.InvalidationTransport;
+import com.empleados.api.cache.JdbcInvalidationTransport;
+import com.empleados.api.cache.MulticastInvalidationTransport;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.UUID;
+
+/**
+ * Configuration of the auto cache and of the bus that invalidates it across instances.
+ * Both are off unless {@code autos.cache.enabled=true}; the bus then needs
+ * {@code autos.cache.bus.transport} set to {@code jdbc} or {@code multicast}.
+ */
+@Configuration
+@ConditionalOnProperty(name = "autos.cache.enabled", havingValue = "true")
+public class CacheConfig {
+
+    @Bean
+    public AutoCache autoCache(@Value("${autos.cache.max-entries:10000}") int maxEntries,
+                               @Value("${autos.cache.ttl-ms:30000}") long ttlMs) {
+        return new AutoCache(maxEntries, Duration.ofMillis(ttlMs));
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "autos.cache.bus.transport", havingValue = "jdbc")
+    public JdbcInvalidationTransport jdbcInvalidationTransport(DataSource dataSource,
+                                                               PlatformTransactionManager transactionManager,
+                                                               @Value("${autos.cache.bus.retention-ms:600000}") long retentionMs) {
+        return new JdbcInvalidationTransport(dataSource, transactionManager, Duration.ofMillis(retentionMs));
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "autos.cache.bus.transport", havingValue = "multicast")
+    public MulticastInvalidationTransport multicastInvalidationTransport(
+            @Value("${autos.cache.bus.multicast.group:239.255.42.99}") String group,
+            @Value("${autos.cache.bus.multicast.port:4446}") int port,
+            @Value("${autos.cache.bus.multicast.interface:}") String interfaceName,
+            @Value("${autos.cache.bus.multicast.ttl:1}") int timeToLive) {
+        return new MulticastInvalidationTransport(group, port, interfaceName, timeToLive);
+    }
+
+    @Bean
+    public CacheInvalidationBus cacheInvalidationBus(AutoCache autoCache, InvalidationTransport transport,
+                                                     @Value("${autos.cache.node-id:}") String nodeId) {
+        String node = nodeId.isBlank() ? UUID.randomUUID().toString() : nodeId;
+        return new CacheInvalidationBus(autoCache, transport, node);
+    }
+}
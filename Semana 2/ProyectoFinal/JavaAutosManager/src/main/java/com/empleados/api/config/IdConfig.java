@@ -0,0 +1,92 @@
+package com.empleados.api.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.empleados.api.id.AllocatedIdGenerator;
+import com.empleados.api.id.HiLoIdAllocator;
+import com.empleados.api.id.IdAllocator;
+import com.empleados.api.id.IdStrategy;
+import com.empleados.api.id.SnowflakeIdAllocator;
+import com.empleados.api.shard.ShardSet;
+
+import java.time.Instant;
+
+/**
+ * Configuration of automovil id allocation, chosen with {@code autos.ids.strategy}.
+ * Hi/lo is the default; instances that share a database need distinct
+ * {@code autos.ids.snowflake.node-id} values to use Snowflake ids. Hi/lo reserves its blocks
+ * through a single connection of its own to the primary, outside the workload pools.
+ */
+@Configuration
+public class IdConfig {
+
+    private static final Logger log = LoggerFactory.getLogger(IdConfig.class);
+
+    private IdAllocator installed;
+    private HikariDataSource blockSource;
+
+    @Bean
+    public IdAllocator idAllocator(DataSourceProperties properties, ObjectProvider<ShardSet> shardSet,
+                                   @Value("${autos.ids.strategy:hilo}") IdStrategy strategy,
+                                   @Value("${autos.ids.hilo.block-size:100}") int blockSize,
+                                   @Value("${autos.ids.snowflake.node-id:0}") int nodeId,
+                                   @Value("${autos.ids.snowflake.epoch:2024-01-01T00:00:00Z}") String epoch) {
+        ShardSet shards = shardSet.getIfAvailable();
+        int partitions = shards != null ? shards.size() : 1;
+        IdAllocator allocator = switch (strategy) {
+            case HILO -> {
+                // Called here rather than through @PostConstruct: the bean is declared as an
+                // IdAllocator, which is all AOT processing sees of it
+                blockSource = blockSource(properties);
+                HiLoIdAllocator hilo = new HiLoIdAllocator(blockSource, "automoviles", blockSize, partitions);
+                hilo.init();
+                yield hilo;
+            }
+            case SNOWFLAKE -> new SnowflakeIdAllocator(nodeId, Instant.parse(epoch), partitions);
+        };
+        AllocatedIdGenerator.install(allocator);
+        installed = allocator;
+        log.info("Ids de automoviles: {} ({} particiones)", strategy.name().toLowerCase(), partitions);
+        return allocator;
+    }
+
+    @Bean
+    public MeterBinder idAllocatorMetrics(IdAllocator idAllocator) {
+        return registry -> {
+            if (idAllocator instanceof MeterBinder binder) {
+                binder.bindTo(registry);
+            }
+        };
+    }
+
+    @PreDestroy
+    public void uninstall() {
+        if (installed != null) {
+            AllocatedIdGenerator.uninstall(installed);
+        }
+        if (blockSource != null) {
+            blockSource.close();
+        }
+    }
+
+    private static HikariDataSource blockSource(DataSourceProperties properties) {
+        HikariDataSource pool = new HikariDataSource();
+        pool.setPoolName("ids-pool");
+        pool.setJdbcUrl(properties.determineUrl());
+        pool.setUsername(properties.determineUsername());
+        pool.setPassword(properties.determinePassword());
+        pool.setDriverClassName(properties.determineDriverClassName());
+        pool.setMaximumPoolSize(1);
+        pool.setMinimumIdle(1);
+        return pool;
+    }
+}
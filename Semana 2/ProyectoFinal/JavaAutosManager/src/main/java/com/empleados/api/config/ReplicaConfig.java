@@ -0,0 +1,109 @@
+package com.empleados.api.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.DependsOn;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import com.empleados.api.replica.HedgedReads;
+import com.empleados.api.replica.LocalReplicaServer;
+import com.empleados.api.replica.Replica;
+import com.empleados.api.replica.ReplicaCopyJob;
+import com.empleados.api.replica.ReplicaHeartbeat;
+import com.empleados.api.replica.ReplicaSet;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Configuration of the read replicas, enabled by listing their JDBC URLs in
+ * {@code autos.replicas.urls}. Replicas use the credentials of the primary.
+ * <p>
+ * Setting {@code autos.replicas.local.port} as well starts a {@link LocalReplicaServer} on that
+ * port, whose in-memory databases the URLs can point to, and a {@link ReplicaCopyJob} that fills
+ * every replica from the primary, so replicated reads can be tried without a replicated database.
+ */
+@Configuration
+@ConditionalOnProperty("autos.replicas.urls")
+public class ReplicaConfig {
+
+    private static final Logger log = LoggerFactory.getLogger(ReplicaConfig.class);
+
+    @Bean
+    @ConditionalOnProperty("autos.replicas.local.port")
+    public LocalReplicaServer localReplicaServer(@Value("${autos.replicas.local.port}") int port) throws SQLException {
+        return new LocalReplicaServer(port);
+    }
+
+    @Bean
+    public ReplicaSet replicaSet(DataSourceProperties properties, MeterRegistry meterRegistry,
+                                 ObjectProvider<LocalReplicaServer> localReplicaServer,
+                                 @Value("${autos.replicas.urls}") List<String> urls,
+                                 @Value("${autos.replicas.pool-size:4}") int poolSize,
+                                 @Value("${autos.replicas.selection:round-robin}") ReplicaSet.Selection selection,
+                                 @Value("${autos.replicas.max-lag:5}") long maxLag,
+                                 @Value("${autos.replicas.check-timeout-ms:1000}") int checkTimeoutMs) {
+        // Started before the pools try to connect to it
+        localReplicaServer.getIfAvailable();
+        List<Replica> replicas = new ArrayList<>();
+        for (String url : urls) {
+            String name = "replica-" + (replicas.size() + 1);
+            HikariDataSource pool = new HikariDataSource();
+            pool.setPoolName(name + "-pool");
+            pool.setJdbcUrl(url.trim());
+            pool.setUsername(properties.determineUsername());
+            pool.setPassword(properties.determinePassword());
+            pool.setMaximumPoolSize(poolSize);
+            pool.setMinimumIdle(1);
+            pool.setReadOnly(true);
+            pool.setConnectionTimeout(Math.max(250, checkTimeoutMs));
+            // A replica that is down at startup must not stop the application
+            pool.setInitializationFailTimeout(-1);
+            pool.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(meterRegistry));
+            replicas.add(new Replica(name, pool));
+            log.info("Réplica de lectura {}: {}", name, url.trim());
+        }
+        return new ReplicaSet(replicas, selection, maxLag, Math.max(1, checkTimeoutMs / 1000));
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "autos.replicas.hedging.enabled", havingValue = "true", matchIfMissing = true)
+    public HedgedReads hedgedReads(ReplicaSet replicaSet, PlatformTransactionManager transactionManager,
+                                   @Value("${autos.replicas.hedging.threads:8}") int threads,
+                                   @Value("${autos.replicas.hedging.min-delay-ms:2}") long minDelayMs,
+                                   @Value("${autos.replicas.hedging.initial-delay-ms:20}") long initialDelayMs) {
+        return new HedgedReads(replicaSet, transactionManager, threads,
+                Duration.ofMillis(minDelayMs), Duration.ofMillis(initialDelayMs));
+    }
+
+    @Bean
+    @ConditionalOnProperty("autos.replicas.local.port")
+    @DependsOn("localReplicaServer")
+    public ReplicaCopyJob replicaCopyJob(DataSource dataSource, DataSourceProperties properties,
+                                         @Value("${autos.replicas.urls}") List<String> urls) {
+        List<DataSource> replicas = new ArrayList<>();
+        for (String url : urls) {
+            replicas.add(new DriverManagerDataSource(url.trim(), properties.determineUsername(),
+                    properties.determinePassword()));
+        }
+        return new ReplicaCopyJob(dataSource, replicas);
+    }
+
+    @Bean
+    public ReplicaHeartbeat replicaHeartbeat(DataSource dataSource, ReplicaSet replicaSet) {
+        return new ReplicaHeartbeat(dataSource, replicaSet);
+    }
+}
@@ -0,0 +1,72 @@
+package com.empleados.api.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import com.empleados.api.id.IdAllocator;
+import com.empleados.api.repository.AutoRepository;
+import com.empleados.api.shard.ShardRing;
+import com.empleados.api.shard.ShardSet;
+import com.empleados.api.shard.ShardedAutoRepository;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Configuration of the shards, enabled by listing the JDBC URLs of the extra databases in
+ * {@code autos.shards.urls}. The regular database is shard zero and keeps every other table;
+ * the extra databases use its credentials.
+ */
+@Configuration
+@ConditionalOnProperty("autos.shards.urls")
+public class ShardConfig {
+
+    private static final Logger log = LoggerFactory.getLogger(ShardConfig.class);
+
+    @Bean
+    public ShardSet shardSet(DataSourceProperties properties, MeterRegistry meterRegistry,
+                             @Value("${autos.shards.urls}") List<String> urls,
+                             @Value("${autos.shards.pool-size:6}") int poolSize,
+                             @Value("${autos.shards.virtual-nodes:128}") int virtualNodes) {
+        List<DataSource> pools = new ArrayList<>();
+        for (String url : urls) {
+            String name = "shard-" + (pools.size() + 1);
+            HikariDataSource pool = new HikariDataSource();
+            pool.setPoolName(name + "-pool");
+            pool.setJdbcUrl(url.trim());
+            pool.setUsername(properties.determineUsername());
+            pool.setPassword(properties.determinePassword());
+            pool.setMaximumPoolSize(poolSize);
+            pool.setMinimumIdle(1);
+            pool.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(meterRegistry));
+            pools.add(pool);
+            log.info("Partición {}: {}", name, url.trim());
+        }
+        return new ShardSet(new ShardRing(pools.size() + 1, virtualNodes), pools);
+    }
+
+    @Bean
+    @Primary
+    public ShardedAutoRepository shardedAutoRepository(@Qualifier("autoRepository") AutoRepository autoRepository,
+                                                       ShardSet shardSet, IdAllocator idAllocator,
+                                                       DataSource dataSource,
+                                                       EntityManagerFactory entityManagerFactory,
+                                                       PlatformTransactionManager transactionManager,
+                                                       @Value("${autos.shards.fan-out-threads:8}") int fanOutThreads) {
+        return new ShardedAutoRepository(autoRepository, shardSet, idAllocator, dataSource,
+                entityManagerFactory, transactionManager, fanOutThreads);
+    }
+}
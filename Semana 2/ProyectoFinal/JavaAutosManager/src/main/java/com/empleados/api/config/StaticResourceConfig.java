@@ -0,0 +1,63 @@
+package com.empleados.api.config;
+
+import jakarta.servlet.DispatcherType;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.web.WebProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.CacheControl;
+import org.springframework.web.servlet.config.annotation.ResourceHandlerRegistration;
+import org.springframework.web.servlet.config.annotation.ResourceHandlerRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+import org.springframework.web.servlet.resource.EncodedResourceResolver;
+import org.springframework.web.servlet.resource.ResourceUrlEncodingFilter;
+import org.springframework.web.servlet.resource.VersionResourceResolver;
+
+import java.time.Duration;
+
+/**
+ * Configuration of the static resources: Bootstrap and its icons from WebJars, and the files under
+ * the default static locations.
+ * <p>
+ * Every resource is served through a resource chain that adds a hash of its content to its URL,
+ * so the templates (whose {@code @{...}} links are rewritten by {@link ResourceUrlEncodingFilter})
+ * always point at the current file and browsers may keep it, without asking again, for as long as
+ * {@code autos.assets.max-age-days}. The gzip variants written next to the WebJar files by the build are
+ * sent instead of compressing on every request, as are Brotli ones if present.
+ */
+@Configuration
+public class StaticResourceConfig implements WebMvcConfigurer {
+
+    private final CacheControl cacheControl;
+
+    public StaticResourceConfig(@Value("${autos.assets.max-age-days:365}") long maxAgeDays) {
+        this.cacheControl = CacheControl.maxAge(Duration.ofDays(maxAgeDays)).cachePublic().immutable();
+    }
+
+    @Override
+    public void addResourceHandlers(ResourceHandlerRegistry registry) {
+        fingerprinted(registry.addResourceHandler("/webjars/**")
+                .addResourceLocations("classpath:/META-INF/resources/webjars/"));
+        fingerprinted(registry.addResourceHandler("/**")
+                .addResourceLocations(new WebProperties.Resources().getStaticLocations()));
+    }
+
+    private void fingerprinted(ResourceHandlerRegistration registration) {
+        registration.setCacheControl(cacheControl)
+                .resourceChain(true)
+                .addResolver(new EncodedResourceResolver())
+                .addResolver(new VersionResourceResolver().addContentVersionStrategy("/**"));
+    }
+
+    /**
+     * Rewrite the resource links of the templates to their fingerprinted URLs
+     */
+    @Bean
+    public FilterRegistrationBean<ResourceUrlEncodingFilter> resourceUrlEncodingFilter() {
+        FilterRegistrationBean<ResourceUrlEncodingFilter> registration =
+                new FilterRegistrationBean<>(new ResourceUrlEncodingFilter());
+        registration.setDispatcherTypes(DispatcherType.REQUEST, DispatcherType.ERROR);
+        return registration;
+    }
+}
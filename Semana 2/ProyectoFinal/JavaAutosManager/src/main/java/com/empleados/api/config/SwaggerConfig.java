@@ -4,13 +4,18 @@ import io.swagger.v3.oas.models.OpenAPI;
 import io.swagger.v3.oas.models.info.Contact;
 import io.swagger.v3.oas.models.info.Info;
 import io.swagger.v3.oas.models.info.License;
+import io.swagger.v3.oas.models.servers.Server;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
 /**
- * Configuration class for Swagger/OpenAPI documentation
+ * Configuration class for Swagger/OpenAPI documentation.
+ * Only used while springdoc generates the document; in the {@code prod} profile the document built
+ * at package time is served by {@link com.empleados.api.controller.OpenApiDocumentController}.
  */
 @Configuration
+@ConditionalOnProperty(name = "springdoc.api-docs.enabled", matchIfMissing = true)
 public class SwaggerConfig {
 
     @Bean
@@ -27,6 +32,8 @@ public class SwaggerConfig {
                         .license(new License()
                                 .name("Apache 2.0")
                                 .url("https://www.apache.org/licenses/LICENSE-2.0.html"))
-                );
+                )
+                // Relative, so the document generated at build time is valid wherever it is served
+                .addServersItem(new Server().url("/").description("Servidor actual"));
     }
 }
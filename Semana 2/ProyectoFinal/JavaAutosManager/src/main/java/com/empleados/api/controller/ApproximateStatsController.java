@@ -0,0 +1,67 @@
+package com.empleados.api.controller;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import com.empleados.api.dto.DistinctEstimateDTO;
+import com.empleados.api.dto.FrequencyEstimateDTO;
+import com.empleados.api.dto.QuantileEstimateDTO;
+import com.empleados.api.service.ApproximateStatsService;
+
+import java.util.List;
+
+/**
+ * REST controller for approximate statistics with error bounds
+ */
+@RestController
+@RequestMapping("/api/estadisticas/aproximadas")
+@Tag(name = "Estadisticas aproximadas", description = "API de estadísticas aproximadas (HyperLogLog, Count-Min, t-digest)")
+public class ApproximateStatsController {
+
+    private final ApproximateStatsService approximateStatsService;
+
+    @Autowired
+    public ApproximateStatsController(ApproximateStatsService approximateStatsService) {
+        this.approximateStatsService = approximateStatsService;
+    }
+
+    @GetMapping("/propietarios")
+    @Operation(summary = "Propietarios distintos", description = "Estima el número de propietarios distintos con un intervalo del 95%")
+    @ApiResponse(responseCode = "200", description = "Estimación calculada")
+    public ResponseEntity<DistinctEstimateDTO> getPropietariosDistintos() {
+        return ResponseEntity.ok(approximateStatsService.getDistinctOwners());
+    }
+
+    @GetMapping("/emails")
+    @Operation(summary = "Emails distintos", description = "Estima el número de emails distintos con un intervalo del 95%")
+    @ApiResponse(responseCode = "200", description = "Estimación calculada")
+    public ResponseEntity<DistinctEstimateDTO> getEmailsDistintos() {
+        return ResponseEntity.ok(approximateStatsService.getDistinctEmails());
+    }
+
+    @GetMapping("/marcas/top")
+    @Operation(summary = "Marcas más frecuentes", description = "Estima las k marcas más frecuentes y su cota inferior")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Estimación calculada"),
+        @ApiResponse(responseCode = "400", description = "k fuera de rango")
+    })
+    public ResponseEntity<List<FrequencyEstimateDTO>> getTopMarcas(@RequestParam(defaultValue = "10") int k) {
+        return ResponseEntity.ok(approximateStatsService.getTopMarcas(k));
+    }
+
+    @GetMapping("/costo/percentiles")
+    @Operation(summary = "Percentiles aproximados del costo", description = "Estima los percentiles pedidos del costo (por defecto 50, 90 y 99)")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Estimación calculada"),
+        @ApiResponse(responseCode = "400", description = "Percentil fuera de rango")
+    })
+    public ResponseEntity<List<QuantileEstimateDTO>> getPercentilesCosto(
+            @RequestParam(name = "p", defaultValue = "50,90,99") List<Double> percentiles) {
+        return ResponseEntity.ok(approximateStatsService.getCostoPercentiles(percentiles));
+    }
+}
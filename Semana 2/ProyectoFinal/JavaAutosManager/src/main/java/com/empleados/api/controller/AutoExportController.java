@@ -0,0 +1,61 @@
+package com.empleados.api.controller;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import com.empleados.api.bulk.ExportFormat;
+import com.empleados.api.service.AutoExportService;
+import com.empleados.api.exception.BadRequestException;
+
+import java.time.LocalDate;
+
+/**
+ * REST controller for downloading filtered lists of automoviles.
+ * The file is streamed from a database cursor while it is being downloaded.
+ */
+@RestController
+@RequestMapping("/api/automoviles/exportar")
+@Tag(name = "Exportaciones", description = "API de exportación de automoviles a CSV y Excel")
+public class AutoExportController {
+
+    private final AutoExportService autoExportService;
+
+    @Autowired
+    public AutoExportController(AutoExportService autoExportService) {
+        this.autoExportService = autoExportService;
+    }
+
+    @GetMapping
+    @Operation(summary = "Exportar automoviles", description = "Descarga los automoviles en CSV o XLSX, filtrados opcionalmente "
+            + "por departamento y rango de fechas de compra. El CSV se comprime con gzip si el cliente lo acepta")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Archivo generado"),
+        @ApiResponse(responseCode = "400", description = "Formato o rango de fechas inválido")
+    })
+    public ResponseEntity<StreamingResponseBody> exportar(
+            @Parameter(description = "csv o xlsx") @RequestParam(defaultValue = "csv") String formato,
+            @RequestParam(required = false) String departamento,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate desde,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate hasta) {
+        ExportFormat format = ExportFormat.fromName(formato);
+        if (desde != null && hasta != null && desde.isAfter(hasta)) {
+            throw new BadRequestException("La fecha desde no puede ser posterior a la fecha hasta");
+        }
+        String filename = "automoviles-" + LocalDate.now() + "." + format.extension();
+        StreamingResponseBody body = output -> autoExportService.exportAutomoviles(departamento, desde, hasta, format, output);
+        return ResponseEntity.ok()
+                .contentType(format.mediaType())
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment().filename(filename).build().toString())
+                .body(body);
+    }
+}
@@ -0,0 +1,44 @@
+package com.empleados.api.controller;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.empleados.api.event.AutoChangeFeed;
+
+/**
+ * REST controller for the Server-Sent Events feed of auto changes
+ */
+@RestController
+@RequestMapping("/api/automoviles/cambios")
+@Tag(name = "Cambios", description = "Feed en tiempo real de los cambios confirmados de automoviles")
+public class AutoFeedController {
+
+    private final AutoChangeFeed autoChangeFeed;
+
+    @Autowired
+    public AutoFeedController(AutoChangeFeed autoChangeFeed) {
+        this.autoChangeFeed = autoChangeFeed;
+    }
+
+    @GetMapping(produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @Operation(summary = "Suscribirse a los cambios", description = "Emite eventos created, updated y deleted tras cada commit. "
+            + "Con Last-Event-ID se reanuda desde esa secuencia; si ya no está disponible se emite un evento reset")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Stream de eventos abierto"),
+        @ApiResponse(responseCode = "503", description = "Demasiados suscriptores abiertos")
+    })
+    public SseEmitter subscribe(
+            @Parameter(description = "Última secuencia recibida")
+            @RequestHeader(value = "Last-Event-ID", required = false) Long lastEventId,
+            @Parameter(description = "Secuencia inicial cuando no hay Last-Event-ID (primera conexión)")
+            @RequestParam(required = false) Long desde) {
+        return autoChangeFeed.subscribe(lastEventId != null ? lastEventId : desde);
+    }
+}
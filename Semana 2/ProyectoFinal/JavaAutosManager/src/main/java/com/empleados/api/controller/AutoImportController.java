@@ -0,0 +1,58 @@
+package com.empleados.api.controller;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
+
+import com.empleados.api.dto.ImportJobDTO;
+import com.empleados.api.service.AutoImportService;
+
+import java.io.IOException;
+
+/**
+ * REST controller for bulk CSV imports of automoviles
+ */
+@RestController
+@RequestMapping("/api/automoviles/importaciones")
+@Tag(name = "Importaciones", description = "API de importación masiva de automoviles desde CSV")
+public class AutoImportController {
+
+    private final AutoImportService autoImportService;
+
+    @Autowired
+    public AutoImportController(AutoImportService autoImportService) {
+        this.autoImportService = autoImportService;
+    }
+
+    @PostMapping(consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    @Operation(summary = "Importar automoviles desde CSV", description = "Encola la importación de un CSV con cabecera "
+            + "(nombre, apellido, marca, modelo, color, fechaCompra, email, fechaContratacion, costo, departamento, antiguedad). "
+            + "Las filas inválidas o con email repetido se rechazan sin detener la importación")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "202", description = "Importación encolada"),
+        @ApiResponse(responseCode = "400", description = "Archivo vacío")
+    })
+    public ResponseEntity<ImportJobDTO> importar(@RequestParam("archivo") MultipartFile archivo) throws IOException {
+        ImportJobDTO job = autoImportService.startImport(archivo);
+        return ResponseEntity.accepted()
+                .location(ServletUriComponentsBuilder.fromCurrentRequest().path("/{id}").buildAndExpand(job.getId()).toUri())
+                .body(job);
+    }
+
+    @GetMapping("/{id}")
+    @Operation(summary = "Estado de una importación", description = "Devuelve el progreso, los contadores y las primeras filas rechazadas")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Estado encontrado"),
+        @ApiResponse(responseCode = "404", description = "Importación no encontrada")
+    })
+    public ResponseEntity<ImportJobDTO> getImportacion(@PathVariable String id) {
+        return ResponseEntity.ok(autoImportService.getImport(id));
+    }
+}
@@ -0,0 +1,63 @@
+package com.empleados.api.controller;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
+
+import com.empleados.api.dto.AutoDTO;
+import com.empleados.api.dto.IngestionTicketDTO;
+import com.empleados.api.service.AutoIngestionService;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * REST controller for asynchronous registration of automoviles through the ingestion queue
+ */
+@RestController
+@RequestMapping("/api/automoviles/ingesta")
+@ConditionalOnProperty(name = "autos.ingest.enabled", havingValue = "true", matchIfMissing = true)
+@Tag(name = "Ingesta", description = "API de alta asíncrona de automoviles con escritura agrupada")
+public class AutoIngestionController {
+
+    private final AutoIngestionService autoIngestionService;
+
+    @Autowired
+    public AutoIngestionController(AutoIngestionService autoIngestionService) {
+        this.autoIngestionService = autoIngestionService;
+    }
+
+    @PostMapping
+    @Operation(summary = "Encolar un automovil", description = "Valida el automovil y lo encola para guardarlo en el siguiente lote. "
+            + "Devuelve un ticket; el automovil solo está guardado cuando el ticket pasa a GUARDADO")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "202", description = "Automovil encolado"),
+        @ApiResponse(responseCode = "400", description = "Datos inválidos"),
+        @ApiResponse(responseCode = "503", description = "Cola de ingesta llena")
+    })
+    public ResponseEntity<IngestionTicketDTO> encolar(@Valid @RequestBody AutoDTO autoDTO) {
+        IngestionTicketDTO ticket = autoIngestionService.submit(autoDTO);
+        return ResponseEntity.accepted()
+                .location(ServletUriComponentsBuilder.fromCurrentRequest().path("/{ticket}").buildAndExpand(ticket.getTicket()).toUri())
+                .body(ticket);
+    }
+
+    @GetMapping("/{ticket}")
+    @Operation(summary = "Estado de un ticket", description = "Devuelve PENDIENTE, GUARDADO con el id del automovil o RECHAZADO con el motivo. "
+            + "Con esperarMs espera hasta ese tiempo (máximo 30000) a que el ticket termine")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Estado encontrado"),
+        @ApiResponse(responseCode = "400", description = "Tiempo de espera inválido"),
+        @ApiResponse(responseCode = "404", description = "Ticket no encontrado o caducado")
+    })
+    public CompletableFuture<ResponseEntity<IngestionTicketDTO>> getTicket(@PathVariable long ticket,
+            @RequestParam(defaultValue = "0") long esperarMs) {
+        return autoIngestionService.getStatus(ticket, esperarMs).thenApply(ResponseEntity::ok);
+    }
+}
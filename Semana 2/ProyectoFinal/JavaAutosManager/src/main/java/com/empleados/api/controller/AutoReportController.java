@@ -0,0 +1,72 @@
+package com.empleados.api.controller;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import com.empleados.api.analytics.AutoColumn;
+import com.empleados.api.dto.CostStatsDTO;
+import com.empleados.api.dto.HistogramBucketDTO;
+import com.empleados.api.service.AutoReportService;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * REST controller for full-fleet reports. Responses are completed asynchronously by the
+ * report engine, so the servlet thread is released while the report runs.
+ */
+@RestController
+@RequestMapping("/api/reportes")
+@Tag(name = "Reportes", description = "API de reportes paralelos sobre toda la flota")
+public class AutoReportController {
+
+    private final AutoReportService autoReportService;
+
+    @Autowired
+    public AutoReportController(AutoReportService autoReportService) {
+        this.autoReportService = autoReportService;
+    }
+
+    @GetMapping("/costo/{columna}")
+    @Operation(summary = "Reporte de costo por columna", description = "Total, suma, promedio, mínimo y máximo del costo agrupado por marca, modelo, color o departamento")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Reporte calculado"),
+        @ApiResponse(responseCode = "400", description = "Columna inválida")
+    })
+    public CompletableFuture<ResponseEntity<Map<String, CostStatsDTO>>> getCostoPorColumna(@PathVariable String columna) {
+        return autoReportService.getCostoStatsBy(AutoColumn.fromName(columna)).thenApply(ResponseEntity::ok);
+    }
+
+    @GetMapping("/costo/percentiles")
+    @Operation(summary = "Percentiles del costo", description = "Calcula los percentiles pedidos del costo (por defecto 50, 90 y 99)")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Percentiles calculados"),
+        @ApiResponse(responseCode = "400", description = "Percentil fuera de rango")
+    })
+    public CompletableFuture<ResponseEntity<Map<String, BigDecimal>>> getPercentilesCosto(
+            @RequestParam(name = "p", defaultValue = "50,90,99") List<Double> percentiles) {
+        return autoReportService.getCostoPercentiles(percentiles).thenApply(ResponseEntity::ok);
+    }
+
+    @GetMapping("/compras/histograma")
+    @Operation(summary = "Histograma de compras", description = "Agrupa las fechas de compra en intervalos de tamaño fijo")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Histograma calculado"),
+        @ApiResponse(responseCode = "400", description = "Parámetros inválidos")
+    })
+    public CompletableFuture<ResponseEntity<List<HistogramBucketDTO>>> getHistogramaCompras(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate desde,
+            @RequestParam(defaultValue = "30") int dias,
+            @RequestParam(defaultValue = "12") int buckets) {
+        return autoReportService.getComprasHistogram(desde, dias, buckets).thenApply(ResponseEntity::ok);
+    }
+}
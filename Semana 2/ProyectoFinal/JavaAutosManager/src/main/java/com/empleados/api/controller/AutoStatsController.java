@@ -0,0 +1,109 @@
+package com.empleados.api.controller;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import com.empleados.api.analytics.AutoColumn;
+import com.empleados.api.dto.CostStatsDTO;
+import com.empleados.api.dto.DashboardStatsDTO;
+import com.empleados.api.dto.HistogramBucketDTO;
+import com.empleados.api.service.AutoStatsService;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * REST controller for analytical queries over automoviles
+ */
+@RestController
+@RequestMapping("/api/estadisticas")
+@Tag(name = "Estadisticas", description = "API de estadísticas sobre los automoviles")
+public class AutoStatsController {
+
+    private final AutoStatsService autoStatsService;
+
+    @Autowired
+    public AutoStatsController(AutoStatsService autoStatsService) {
+        this.autoStatsService = autoStatsService;
+    }
+
+    @GetMapping("/dashboard")
+    @Operation(summary = "Estadísticas del dashboard", description = "Total, costo total y promedio, y conteos por marca y departamento, mantenidos en memoria")
+    @ApiResponse(responseCode = "200", description = "Estadísticas obtenidas")
+    public ResponseEntity<DashboardStatsDTO> getDashboard() {
+        return ResponseEntity.ok(autoStatsService.getDashboardStats());
+    }
+
+    @GetMapping("/conteo/{columna}")
+    @Operation(summary = "Contar automoviles por columna", description = "Agrupa por marca, modelo, color o departamento")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Conteo calculado"),
+        @ApiResponse(responseCode = "400", description = "Columna inválida")
+    })
+    public ResponseEntity<Map<String, Long>> getConteo(@PathVariable String columna) {
+        return ResponseEntity.ok(autoStatsService.getCountBy(AutoColumn.fromName(columna)));
+    }
+
+    @GetMapping("/costo/resumen")
+    @Operation(summary = "Resumen del costo", description = "Total, suma, promedio, mínimo y máximo del costo")
+    @ApiResponse(responseCode = "200", description = "Resumen calculado")
+    public ResponseEntity<CostStatsDTO> getResumenCosto() {
+        return ResponseEntity.ok(autoStatsService.getCostoStats());
+    }
+
+    @GetMapping("/costo/resumen/{columna}")
+    @Operation(summary = "Resumen del costo por columna", description = "Resumen del costo agrupado por marca, modelo, color o departamento")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Resumen calculado"),
+        @ApiResponse(responseCode = "400", description = "Columna inválida")
+    })
+    public ResponseEntity<Map<String, CostStatsDTO>> getResumenCostoPorColumna(@PathVariable String columna) {
+        return ResponseEntity.ok(autoStatsService.getCostoStatsBy(AutoColumn.fromName(columna)));
+    }
+
+    @GetMapping("/costo/{columna}")
+    @Operation(summary = "Sumar el costo por columna", description = "Agrupa por marca, modelo, color o departamento")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Costos calculados"),
+        @ApiResponse(responseCode = "400", description = "Columna inválida")
+    })
+    public ResponseEntity<Map<String, BigDecimal>> getCostoPorColumna(@PathVariable String columna) {
+        return ResponseEntity.ok(autoStatsService.getCostoSumBy(AutoColumn.fromName(columna)));
+    }
+
+    @GetMapping("/costo")
+    @Operation(summary = "Costo total", description = "Suma el costo de todos los automoviles o de un departamento")
+    @ApiResponse(responseCode = "200", description = "Costo calculado")
+    public ResponseEntity<BigDecimal> getCostoTotal(@RequestParam(required = false) String departamento) {
+        return ResponseEntity.ok(autoStatsService.getCostoSum(departamento));
+    }
+
+    @GetMapping("/compras")
+    @Operation(summary = "Contar compras en un rango", description = "Cuenta los automoviles comprados entre dos fechas (inclusive)")
+    @ApiResponse(responseCode = "200", description = "Conteo calculado")
+    public ResponseEntity<Long> countCompras(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate desde,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate hasta) {
+        return ResponseEntity.ok(autoStatsService.countComprasBetween(desde, hasta));
+    }
+
+    @GetMapping("/compras/histograma")
+    @Operation(summary = "Histograma de compras", description = "Agrupa las fechas de compra en intervalos de tamaño fijo")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Histograma calculado"),
+        @ApiResponse(responseCode = "400", description = "Parámetros inválidos")
+    })
+    public ResponseEntity<List<HistogramBucketDTO>> getHistogramaCompras(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate desde,
+            @RequestParam(defaultValue = "30") int dias,
+            @RequestParam(defaultValue = "12") int buckets) {
+        return ResponseEntity.ok(autoStatsService.getComprasHistogram(desde, dias, buckets));
+    }
+}
@@ -0,0 +1,65 @@
+package com.empleados.api.controller;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.io.Resource;
+import org.springframework.http.CacheControl;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.util.DigestUtils;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+
+import com.empleados.api.exception.ResourceNotFoundException;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * Serves the pre-generated OpenAPI document when springdoc is switched off
+ * ({@code springdoc.api-docs.enabled=false}, as in the {@code prod} profile), so the controllers
+ * are never scanned at runtime. The document is {@code openapi/openapi.json} on the classpath, kept
+ * in the sources and regenerated with {@code mvn -Popenapi package}, which runs the application
+ * with springdoc enabled.
+ */
+@RestController
+@ConditionalOnProperty(name = "springdoc.api-docs.enabled", havingValue = "false")
+public class OpenApiDocumentController {
+
+    private static final Logger log = LoggerFactory.getLogger(OpenApiDocumentController.class);
+
+    private final byte[] document;
+    private final String etag;
+
+    public OpenApiDocumentController(@Value("classpath:openapi/openapi.json") Resource document) throws IOException {
+        if (document.exists()) {
+            try (InputStream input = document.getInputStream()) {
+                this.document = input.readAllBytes();
+            }
+            this.etag = "\"" + DigestUtils.md5DigestAsHex(this.document) + "\"";
+        } else {
+            log.warn("No se encontró la especificación OpenAPI (openapi/openapi.json); "
+                    + "genérela con 'mvn -Popenapi package' o active springdoc");
+            this.document = null;
+            this.etag = null;
+        }
+    }
+
+    @GetMapping("${springdoc.api-docs.path:/v3/api-docs}")
+    public ResponseEntity<byte[]> getDocument(WebRequest request) {
+        if (document == null) {
+            throw new ResourceNotFoundException("La especificación OpenAPI no está disponible");
+        }
+        if (request.checkNotModified(etag)) {
+            return null;
+        }
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .cacheControl(CacheControl.noCache())
+                .eTag(etag)
+                .body(document);
+    }
+}
@@ -0,0 +1,26 @@
+package com.empleados.api.dto;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * DTO for an entry of the auto change feed. {@code auto} is null for deletions.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class AutoChangeDTO {
+
+    private long secuencia;
+
+    private String tipo;
+
+    @JsonFormat(shape = JsonFormat.Shape.STRING)
+    @Schema(implementation = String.class, format = "int64")
+    private Long id;
+
+    private AutoDTO auto;
+}
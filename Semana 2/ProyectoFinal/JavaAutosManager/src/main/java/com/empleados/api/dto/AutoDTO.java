@@ -1,5 +1,7 @@
 package com.empleados.api.dto;
 
+import com.fasterxml.jackson.annotation.JsonFormat;
+import io.swagger.v3.oas.annotations.media.Schema;
 import jakarta.validation.constraints.Email;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.PastOrPresent;
@@ -18,6 +20,9 @@ import java.time.LocalDate;
 @AllArgsConstructor
 public class AutoDTO {
 
+    // Sent as a string: Snowflake ids go past 2^53 and would lose precision as JavaScript numbers
+    @JsonFormat(shape = JsonFormat.Shape.STRING)
+    @Schema(implementation = String.class, format = "int64")
     private Long id;
 
     @NotBlank(message = "El nombre es obligatorio")
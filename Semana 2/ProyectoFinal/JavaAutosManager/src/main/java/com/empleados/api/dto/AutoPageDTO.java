@@ -0,0 +1,27 @@
+package com.empleados.api.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * DTO with one page of the sorted automoviles list and the cursor of the next one
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class AutoPageDTO {
+
+    private List<AutoDTO> automoviles;
+
+    private String ordenarPor;
+
+    private String direccion;
+
+    /**
+     * Cursor to pass back for the next page, null on the last page
+     */
+    private String siguiente;
+}
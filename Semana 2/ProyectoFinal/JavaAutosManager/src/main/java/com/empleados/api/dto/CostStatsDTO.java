@@ -0,0 +1,27 @@
+package com.empleados.api.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+
+/**
+ * DTO with the summary statistics of the costo of a set of automoviles
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CostStatsDTO {
+
+    /** Automoviles with a costo; those without one are left out of every figure */
+    private long total;
+
+    private BigDecimal suma;
+
+    private BigDecimal promedio;
+
+    private BigDecimal minimo;
+
+    private BigDecimal maximo;
+}
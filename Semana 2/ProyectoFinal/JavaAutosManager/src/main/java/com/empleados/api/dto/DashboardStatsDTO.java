@@ -0,0 +1,27 @@
+package com.empleados.api.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.util.Map;
+
+/**
+ * DTO with the figures shown on the dashboard
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class DashboardStatsDTO {
+
+    private long total;
+
+    private BigDecimal costoTotal;
+
+    private BigDecimal costoPromedio;
+
+    private Map<String, Long> marcas;
+
+    private Map<String, Long> departamentos;
+}
@@ -0,0 +1,24 @@
+package com.empleados.api.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * DTO for an approximate number of distinct values with its error bounds
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class DistinctEstimateDTO {
+
+    private long estimado;
+
+    private double errorRelativo;
+
+    private long minimo;
+
+    private long maximo;
+
+    private double confianza;
+}
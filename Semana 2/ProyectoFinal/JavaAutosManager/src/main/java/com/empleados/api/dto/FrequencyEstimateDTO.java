@@ -0,0 +1,23 @@
+package com.empleados.api.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * DTO for the approximate frequency of a value. The estimate never undercounts;
+ * the true count is at least {@code minimo} with the given confidence.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class FrequencyEstimateDTO {
+
+    private String valor;
+
+    private long estimado;
+
+    private long minimo;
+
+    private double confianza;
+}
@@ -0,0 +1,22 @@
+package com.empleados.api.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+/**
+ * DTO for one bucket of a date histogram
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class HistogramBucketDTO {
+
+    private LocalDate desde;
+
+    private LocalDate hasta;
+
+    private long total;
+}
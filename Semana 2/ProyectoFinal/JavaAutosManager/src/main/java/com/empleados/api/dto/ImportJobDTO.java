@@ -0,0 +1,41 @@
+package com.empleados.api.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * DTO for the status and progress of a CSV import
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ImportJobDTO {
+
+    private String id;
+
+    private String archivo;
+
+    private String estado;
+
+    private double progreso;
+
+    private long filasLeidas;
+
+    private long insertadas;
+
+    private long rechazadas;
+
+    private List<ImportRejectDTO> rechazos;
+
+    private String error;
+
+    private Instant creado;
+
+    private Instant iniciado;
+
+    private Instant finalizado;
+}
@@ -0,0 +1,18 @@
+package com.empleados.api.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * DTO for a CSV row rejected by an import
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ImportRejectDTO {
+
+    private long linea;
+
+    private String motivo;
+}
@@ -0,0 +1,26 @@
+package com.empleados.api.dto;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * DTO for the status of an auto submitted to the ingestion queue
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class IngestionTicketDTO {
+
+    private long ticket;
+
+    private String estado;
+
+    @JsonFormat(shape = JsonFormat.Shape.STRING)
+    @Schema(implementation = String.class, format = "int64")
+    private Long autoId;
+
+    private String motivo;
+}
@@ -0,0 +1,22 @@
+package com.empleados.api.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+
+/**
+ * DTO for an approximate percentile with its estimated rank error, as a fraction of the automoviles
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class QuantileEstimateDTO {
+
+    private double percentil;
+
+    private BigDecimal valor;
+
+    private double errorRango;
+}
@@ -0,0 +1,302 @@
+package com.empleados.api.event;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.empleados.api.dto.AutoChangeDTO;
+import com.empleados.api.exception.ServiceOverloadedException;
+
+import jakarta.annotation.PreDestroy;
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Server-Sent Events feed of committed auto changes.
+ * <p>
+ * Every committed {@link AutoChangedEvent} gets a sequence number, is kept in a history ring of
+ * {@code autos.feed.history-size} entries and is queued to each subscriber. Subscribers have a
+ * bounded queue of {@code autos.feed.buffer-size} entries drained by a sender thread, so a slow
+ * client never blocks the write path: when its queue is full it is disconnected, and its
+ * {@code EventSource} reconnects with {@code Last-Event-ID} to resume from the history. When the
+ * requested id is no longer in the history (or comes from a previous run) the subscriber receives
+ * a {@code reset} event and must reload its state.
+ * <p>
+ * At most {@code autos.feed.max-subscribers} streams are open at once, further subscriptions are
+ * refused with {@link ServiceOverloadedException}, and the queues are drained by a fixed pool of
+ * {@code autos.feed.sender-threads} threads, so a burst of clients cannot create threads without bound.
+ */
+@Component
+public class AutoChangeFeed {
+
+    static final String RESET_EVENT = "reset";
+
+    private static final Logger log = LoggerFactory.getLogger(AutoChangeFeed.class);
+    private static final Object HEARTBEAT = new Object();
+
+    private final int historySize;
+    private final int bufferSize;
+    private final int maxSubscribers;
+    private final long timeoutMs;
+    private final Executor senders;
+
+    private final ArrayDeque<AutoChangeDTO> history = new ArrayDeque<>();
+    private final List<Subscriber> subscribers = new CopyOnWriteArrayList<>();
+    private long lastSequence;
+
+    @Autowired
+    public AutoChangeFeed(@Value("${autos.feed.history-size:1024}") int historySize,
+                          @Value("${autos.feed.buffer-size:256}") int bufferSize,
+                          @Value("${autos.feed.max-subscribers:512}") int maxSubscribers,
+                          @Value("${autos.feed.sender-threads:8}") int senderThreads,
+                          @Value("${autos.feed.timeout-ms:1800000}") long timeoutMs) {
+        this(historySize, bufferSize, maxSubscribers, timeoutMs, senderPool(senderThreads, maxSubscribers));
+    }
+
+    AutoChangeFeed(int historySize, int bufferSize, int maxSubscribers, long timeoutMs, Executor senders) {
+        if (historySize <= 0 || bufferSize <= 0 || maxSubscribers <= 0) {
+            throw new IllegalArgumentException(
+                    "autos.feed.history-size, autos.feed.buffer-size y autos.feed.max-subscribers deben ser mayores que cero");
+        }
+        this.historySize = historySize;
+        this.bufferSize = bufferSize;
+        this.maxSubscribers = maxSubscribers;
+        this.timeoutMs = timeoutMs;
+        this.senders = senders;
+    }
+
+    /**
+     * Publish committed changes coming from the service layer
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onAutoChanged(AutoChangedEvent event) {
+        List<Subscriber> slow = new ArrayList<>();
+        synchronized (this) {
+            AutoChangeDTO change = new AutoChangeDTO(++lastSequence, event.getType().name().toLowerCase(Locale.ROOT),
+                    event.getAutoId(), event.getAfter());
+            history.addLast(change);
+            if (history.size() > historySize) {
+                history.removeFirst();
+            }
+            for (Subscriber subscriber : subscribers) {
+                if (!subscriber.offer(change)) {
+                    slow.add(subscriber);
+                }
+            }
+            subscribers.removeAll(slow);
+        }
+        for (Subscriber subscriber : slow) {
+            log.warn("Suscriptor del feed de cambios desconectado por no consumir a tiempo");
+            subscriber.close();
+        }
+    }
+
+    /**
+     * Open a stream of changes
+     *
+     * @param lastEventId the last sequence the client received, or null to start with new changes
+     * @return the emitter to return from the controller
+     * @throws ServiceOverloadedException when {@code autos.feed.max-subscribers} streams are already open
+     */
+    public SseEmitter subscribe(Long lastEventId) {
+        return subscribe(lastEventId, new SseEmitter(timeoutMs));
+    }
+
+    SseEmitter subscribe(Long lastEventId, SseEmitter emitter) {
+        Subscriber subscriber = new Subscriber(emitter);
+        synchronized (this) {
+            if (subscribers.size() >= maxSubscribers) {
+                throw new ServiceOverloadedException("Demasiados suscriptores en el feed de cambios", 5);
+            }
+            if (lastEventId != null) {
+                replay(subscriber, lastEventId);
+            }
+            subscribers.add(subscriber);
+        }
+        emitter.onCompletion(() -> unsubscribe(subscriber));
+        emitter.onTimeout(() -> unsubscribe(subscriber));
+        emitter.onError(error -> unsubscribe(subscriber));
+        subscriber.schedule();
+        return emitter;
+    }
+
+    /**
+     * Keep idle connections alive and detect clients that went away
+     */
+    @Scheduled(fixedRateString = "${autos.feed.heartbeat-ms:15000}")
+    public synchronized void heartbeat() {
+        for (Subscriber subscriber : subscribers) {
+            subscriber.offerControl(HEARTBEAT);
+        }
+    }
+
+    /**
+     * Sequence of the last published change. Read it before loading a list so that a later
+     * subscription from this value covers every change the list may have missed.
+     */
+    public synchronized long currentSequence() {
+        return lastSequence;
+    }
+
+    public synchronized int subscriberCount() {
+        return subscribers.size();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        List<Subscriber> open;
+        synchronized (this) {
+            open = new ArrayList<>(subscribers);
+            subscribers.clear();
+        }
+        open.forEach(Subscriber::close);
+        if (senders instanceof ExecutorService executorService) {
+            executorService.shutdownNow();
+        }
+    }
+
+    private void replay(Subscriber subscriber, long lastEventId) {
+        long oldestKept = history.isEmpty() ? lastSequence + 1 : history.peekFirst().getSecuencia();
+        long missed = lastSequence - lastEventId;
+        if (lastEventId > lastSequence || lastEventId < oldestKept - 1 || missed > bufferSize) {
+            subscriber.offerControl(new Reset(lastSequence));
+            return;
+        }
+        for (AutoChangeDTO change : history) {
+            if (change.getSecuencia() > lastEventId) {
+                subscriber.offer(change);
+            }
+        }
+    }
+
+    private synchronized void unsubscribe(Subscriber subscriber) {
+        subscribers.remove(subscriber);
+    }
+
+    private final class Subscriber {
+
+        private final SseEmitter emitter;
+        private final BlockingQueue<Object> queue = new ArrayBlockingQueue<>(bufferSize + 1);
+        private final AtomicBoolean draining = new AtomicBoolean();
+
+        Subscriber(SseEmitter emitter) {
+            this.emitter = emitter;
+        }
+
+        /**
+         * Queue a change, keeping one slot free for control messages
+         */
+        boolean offer(AutoChangeDTO change) {
+            if (queue.size() >= bufferSize || !queue.offer(change)) {
+                return false;
+            }
+            schedule();
+            return true;
+        }
+
+        void offerControl(Object control) {
+            if (queue.offer(control)) {
+                schedule();
+            }
+        }
+
+        void schedule() {
+            if (!queue.isEmpty() && draining.compareAndSet(false, true)) {
+                try {
+                    senders.execute(this::drain);
+                } catch (RejectedExecutionException e) {
+                    // Only when shutting down: each subscriber has at most one drain queued
+                    draining.set(false);
+                    unsubscribe(this);
+                    queue.clear();
+                }
+            }
+        }
+
+        private void drain() {
+            try {
+                Object item;
+                while ((item = queue.poll()) != null) {
+                    send(item);
+                }
+            } catch (IOException | IllegalStateException e) {
+                // The client went away or the emitter already completed
+                unsubscribe(this);
+                queue.clear();
+                return;
+            } finally {
+                draining.set(false);
+            }
+            schedule();
+        }
+
+        private void send(Object item) throws IOException {
+            if (item == HEARTBEAT) {
+                emitter.send(SseEmitter.event().comment("ping"));
+            } else if (item instanceof Reset reset) {
+                emitter.send(SseEmitter.event()
+                        .id(Long.toString(reset.sequence()))
+                        .name(RESET_EVENT)
+                        .data(reset.sequence()));
+            } else {
+                AutoChangeDTO change = (AutoChangeDTO) item;
+                emitter.send(SseEmitter.event()
+                        .id(Long.toString(change.getSecuencia()))
+                        .name(change.getTipo())
+                        .data(change));
+            }
+        }
+
+        void close() {
+            queue.clear();
+            emitter.complete();
+        }
+    }
+
+    /**
+     * Tells the client to reload its state; changes after {@code sequence} follow in the stream
+     */
+    private record Reset(long sequence) {
+    }
+
+    /**
+     * Fixed sender threads; the queue holds one drain per subscriber at most, so it never overflows
+     */
+    private static ExecutorService senderPool(int threads, int maxSubscribers) {
+        ThreadPoolExecutor pool = new ThreadPoolExecutor(threads, threads, 60, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(maxSubscribers), new SenderThreadFactory());
+        pool.allowCoreThreadTimeOut(true);
+        return pool;
+    }
+
+    private static final class SenderThreadFactory implements ThreadFactory {
+
+        private final AtomicInteger counter = new AtomicInteger();
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+            Thread thread = new Thread(runnable, "sse-feed-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package com.empleados.api.event;
+
+import com.empleados.api.dto.AutoDTO;
+
+import lombok.Getter;
+
+/**
+ * Event published by the service layer every time an auto is created, updated or deleted.
+ * It carries the state before and after the change so listeners can apply deltas.
+ */
+@Getter
+public class AutoChangedEvent {
+
+    public enum Type {
+        CREATED, UPDATED, DELETED
+    }
+
+    private final Type type;
+    private final Long autoId;
+    private final AutoDTO before;
+    private final AutoDTO after;
+
+    private AutoChangedEvent(Type type, Long autoId, AutoDTO before, AutoDTO after) {
+        this.type = type;
+        this.autoId = autoId;
+        this.before = before;
+        this.after = after;
+    }
+
+    public static AutoChangedEvent created(AutoDTO after) {
+        return new AutoChangedEvent(Type.CREATED, after.getId(), null, after);
+    }
+
+    public static AutoChangedEvent updated(AutoDTO before, AutoDTO after) {
+        return new AutoChangedEvent(Type.UPDATED, after.getId(), before, after);
+    }
+
+    public static AutoChangedEvent deleted(AutoDTO before) {
+        return new AutoChangedEvent(Type.DELETED, before.getId(), before, null);
+    }
+}
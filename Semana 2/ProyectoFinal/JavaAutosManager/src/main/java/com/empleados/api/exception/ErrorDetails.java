@@ -0,0 +1,36 @@
+package com.empleados.api.exception;
+
+import java.time.LocalDateTime;
+
+/**
+ * Body of the error responses of the API
+ */
+public class ErrorDetails {
+    private LocalDateTime timestamp;
+    private String message;
+    private String details;
+    private String path;
+
+    public ErrorDetails(LocalDateTime timestamp, String message, String details, String path) {
+        this.timestamp = timestamp;
+        this.message = message;
+        this.details = details;
+        this.path = path;
+    }
+
+    public LocalDateTime getTimestamp() {
+        return timestamp;
+    }
+
+    public String getMessage() {
+        return message;
+    }
+
+    public String getDetails() {
+        return details;
+    }
+
+    public String getPath() {
+        return path;
+    }
+}
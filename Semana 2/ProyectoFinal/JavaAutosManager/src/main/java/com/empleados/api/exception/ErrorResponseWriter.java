@@ -0,0 +1,47 @@
+package com.empleados.api.exception;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+
+/**
+ * Writes an {@link ErrorDetails} body straight to the response, for servlet filters that reject a
+ * request before it reaches the controllers and so before {@link GlobalExceptionHandler}
+ */
+public class ErrorResponseWriter {
+
+    private final ObjectMapper objectMapper;
+
+    public ErrorResponseWriter(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+    }
+
+    public void write(HttpServletRequest request, HttpServletResponse response, HttpStatus status,
+                      String message, String details) throws IOException {
+        ErrorDetails errorDetails = new ErrorDetails(
+                LocalDateTime.now(),
+                message,
+                details,
+                "uri=" + request.getRequestURI());
+        response.setStatus(status.value());
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        objectMapper.writeValue(response.getOutputStream(), errorDetails);
+    }
+
+    /**
+     * Write a 503 telling the client when to retry
+     */
+    public void writeOverloaded(HttpServletRequest request, HttpServletResponse response, String message,
+                                long retryAfterSeconds) throws IOException {
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds));
+        write(request, response, HttpStatus.SERVICE_UNAVAILABLE, message, "Servicio saturado, reintente más tarde");
+    }
+}
@@ -1,5 +1,6 @@
 package com.empleados.api.exception;
 
+import org.springframework.core.task.TaskRejectedException;
 import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
@@ -22,39 +23,6 @@ import java.util.Map;
 @ControllerAdvice
 public class GlobalExceptionHandler extends ResponseEntityExceptionHandler {
 
-    /**
-     * Structure to hold error details
-     */
-    private static class ErrorDetails {
-        private LocalDateTime timestamp;
-        private String message;
-        private String details;
-        private String path;
-
-        public ErrorDetails(LocalDateTime timestamp, String message, String details, String path) {
-            this.timestamp = timestamp;
-            this.message = message;
-            this.details = details;
-            this.path = path;
-        }
-
-        public LocalDateTime getTimestamp() {
-            return timestamp;
-        }
-
-        public String getMessage() {
-            return message;
-        }
-
-        public String getDetails() {
-            return details;
-        }
-
-        public String getPath() {
-            return path;
-        }
-    }
-
     /**
      * Handle ResourceNotFoundException
      */
@@ -87,6 +55,58 @@ public class GlobalExceptionHandler extends ResponseEntityExceptionHandler {
         return new ResponseEntity<>(errorDetails, HttpStatus.CONFLICT);
     }
 
+    /**
+     * Handle BadRequestException
+     */
+    @ExceptionHandler(BadRequestException.class)
+    public ResponseEntity<ErrorDetails> handleBadRequestException(
+            BadRequestException ex, WebRequest request) {
+        
+        ErrorDetails errorDetails = new ErrorDetails(
+                LocalDateTime.now(),
+                ex.getMessage(),
+                "Parámetros inválidos",
+                request.getDescription(false));
+        
+        return new ResponseEntity<>(errorDetails, HttpStatus.BAD_REQUEST);
+    }
+
+    /**
+     * Handle ServiceOverloadedException
+     */
+    @ExceptionHandler(ServiceOverloadedException.class)
+    public ResponseEntity<ErrorDetails> handleServiceOverloadedException(
+            ServiceOverloadedException ex, WebRequest request) {
+        
+        ErrorDetails errorDetails = new ErrorDetails(
+                LocalDateTime.now(),
+                ex.getMessage(),
+                "Servicio saturado, reintente más tarde",
+                request.getDescription(false));
+        
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(ex.getRetryAfterSeconds()))
+                .body(errorDetails);
+    }
+
+    /**
+     * Handle TaskRejectedException (bulk executor full)
+     */
+    @ExceptionHandler(TaskRejectedException.class)
+    public ResponseEntity<ErrorDetails> handleTaskRejectedException(
+            TaskRejectedException ex, WebRequest request) {
+
+        ErrorDetails errorDetails = new ErrorDetails(
+                LocalDateTime.now(),
+                "No hay capacidad disponible para operaciones masivas",
+                "Servicio saturado, reintente más tarde",
+                request.getDescription(false));
+
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .body(errorDetails);
+    }
+
     /**
      * Handle general exceptions
      */
@@ -0,0 +1,21 @@
+package com.empleados.api.exception;
+
+/**
+ * Exception thrown when a request is shed because the server is at capacity.
+ * Clients may retry after the suggested delay.
+ */
+public class ServiceOverloadedException extends RuntimeException {
+
+    private static final long serialVersionUID = 1L;
+
+    private final long retryAfterSeconds;
+
+    public ServiceOverloadedException(String message, long retryAfterSeconds) {
+        super(message);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    public long getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+}
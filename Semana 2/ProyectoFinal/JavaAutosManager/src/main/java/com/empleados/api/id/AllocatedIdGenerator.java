@@ -0,0 +1,55 @@
+package com.empleados.api.id;
+
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.id.IdentifierGenerator;
+import org.hibernate.id.factory.spi.CustomIdGeneratorCreationContext;
+
+import com.empleados.api.shard.ShardContext;
+
+import java.lang.reflect.Member;
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+/**
+ * Hibernate generator behind {@link AllocatedId}.
+ * <p>
+ * Hibernate creates it itself, so the {@link IdAllocator} configured in Spring is handed over with
+ * {@link #install}. Inserting before one is installed fails rather than making up ids that could
+ * collide with another instance's. Several application contexts (as in tests) may install their
+ * own; the most recent one still installed is used. The id is allocated for the shard the insert
+ * goes to.
+ */
+public class AllocatedIdGenerator implements IdentifierGenerator {
+
+    private static final Deque<IdAllocator> installed = new ArrayDeque<>();
+
+    private static volatile IdAllocator allocator;
+
+    public AllocatedIdGenerator(AllocatedId annotation, Member member, CustomIdGeneratorCreationContext context) {
+    }
+
+    /**
+     * Allocate ids with {@code idAllocator} from now on
+     */
+    public static synchronized void install(IdAllocator idAllocator) {
+        installed.push(idAllocator);
+        allocator = idAllocator;
+    }
+
+    /**
+     * Stop using {@code idAllocator}, going back to the one installed before it, if any
+     */
+    public static synchronized void uninstall(IdAllocator idAllocator) {
+        installed.remove(idAllocator);
+        allocator = installed.peek();
+    }
+
+    @Override
+    public Object generate(SharedSessionContractImplementor session, Object object) {
+        IdAllocator current = allocator;
+        if (current == null) {
+            throw new IllegalStateException("No hay un asignador de ids instalado; se configura en IdConfig");
+        }
+        return current.next(ShardContext.current());
+    }
+}
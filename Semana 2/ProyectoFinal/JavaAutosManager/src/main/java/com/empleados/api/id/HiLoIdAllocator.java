@@ -0,0 +1,196 @@
+package com.empleados.api.id;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Hi/lo allocation: ids are taken from blocks reserved in the {@code id_blocks} table.
+ * <p>
+ * Reserving a block bumps the "hi" counter of the sequence in its own short transaction, which
+ * locks the row so every instance sharing the database gets different blocks. The block's
+ * {@code blockSize} values are then handed out from memory without touching the database. Each
+ * partition draws its own blocks and turns value {@code v} into id {@code v * partitions + p}.
+ * Ids left in a block when the application stops are never used.
+ * <p>
+ * Blocks are reserved through {@code dataSource}, which should be a source of its own on the home
+ * database (a single connection is enough) rather than a pool callers also hold connections of: a
+ * caller inside a transaction must never wait for a second connection from its own pool. The next
+ * block of a partition is reserved once the current one is half used, by the caller that crosses
+ * that mark and outside the partition's lock, so the others keep taking ids meanwhile and only wait
+ * when a block runs out before the next one is in.
+ */
+public class HiLoIdAllocator implements IdAllocator, MeterBinder {
+
+    private static final Logger log = LoggerFactory.getLogger(HiLoIdAllocator.class);
+
+    private final DataSource dataSource;
+    private final String sequence;
+    private final int blockSize;
+    private final int partitions;
+    private final Block[] blocks;
+    private final AtomicLong reserved = new AtomicLong();
+
+    public HiLoIdAllocator(DataSource dataSource, String sequence, int blockSize, int partitions) {
+        if (blockSize <= 0 || partitions <= 0) {
+            throw new IllegalArgumentException("Asignación hi/lo inválida: bloques de " + blockSize + ", "
+                    + partitions + " particiones");
+        }
+        this.dataSource = dataSource;
+        this.sequence = sequence;
+        this.blockSize = blockSize;
+        this.partitions = partitions;
+        this.blocks = new Block[partitions];
+        for (int partition = 0; partition < partitions; partition++) {
+            blocks[partition] = new Block();
+        }
+    }
+
+    /**
+     * Create the {@code id_blocks} table and the sequence's row if missing. Called by whoever
+     * creates the allocator, before the first id is taken.
+     */
+    public void init() {
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS id_blocks (name VARCHAR(64) PRIMARY KEY, next_hi BIGINT NOT NULL)");
+        jdbcTemplate.update("INSERT INTO id_blocks (name, next_hi) SELECT ?, 1 "
+                + "WHERE NOT EXISTS (SELECT 1 FROM id_blocks WHERE name = ?)", sequence, sequence);
+    }
+
+    @Override
+    public long next(int partition) {
+        if (partition < 0 || partition >= partitions) {
+            throw new IllegalArgumentException("Partición fuera de rango: " + partition);
+        }
+        return blocks[partition].next() * partitions + partition;
+    }
+
+    @Override
+    public int partitionOf(long id) {
+        return (int) Math.floorMod(id, (long) partitions);
+    }
+
+    public long getReservedBlocks() {
+        return reserved.get();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("autos.ids.blocks", reserved, AtomicLong::get).register(registry);
+    }
+
+    /**
+     * Reserve the next block and return its hi value.
+     * <p>
+     * Uses a connection of its own rather than the caller's transaction, which may be on another
+     * shard and must not hold the row lock until it commits.
+     */
+    private long reserveBlock() {
+        try (Connection connection = dataSource.getConnection()) {
+            connection.setAutoCommit(false);
+            try (PreparedStatement update = connection.prepareStatement(
+                    "UPDATE id_blocks SET next_hi = next_hi + 1 WHERE name = ?");
+                 PreparedStatement select = connection.prepareStatement(
+                         "SELECT next_hi FROM id_blocks WHERE name = ?")) {
+                update.setString(1, sequence);
+                if (update.executeUpdate() != 1) {
+                    throw new IllegalStateException("No existe la secuencia de ids " + sequence);
+                }
+                select.setString(1, sequence);
+                long hi;
+                try (ResultSet result = select.executeQuery()) {
+                    result.next();
+                    hi = result.getLong(1) - 1;
+                }
+                connection.commit();
+                reserved.incrementAndGet();
+                return hi;
+            } catch (SQLException | RuntimeException e) {
+                connection.rollback();
+                throw e;
+            }
+        } catch (SQLException e) {
+            throw new DataAccessResourceFailureException("No se pudo reservar un bloque de ids de " + sequence, e);
+        }
+    }
+
+    /**
+     * The block a partition is handing out ids from, and the one reserved after it
+     */
+    private final class Block {
+
+        private long next;
+        private long limit;
+        private long reservedHi = -1;
+        private boolean reserving;
+
+        long next() {
+            long value = -1;
+            while (value < 0) {
+                synchronized (this) {
+                    if (next == limit && reservedHi >= 0) {
+                        next = reservedHi * blockSize;
+                        limit = next + blockSize;
+                        reservedHi = -1;
+                    }
+                    if (next < limit) {
+                        value = next++;
+                        if (reserving || reservedHi >= 0 || limit - next > blockSize / 2) {
+                            return value;
+                        }
+                    } else if (reserving) {
+                        waitForBlock();
+                        continue;
+                    }
+                    reserving = true;
+                }
+                try {
+                    reserveNext();
+                } catch (RuntimeException e) {
+                    if (value < 0) {
+                        throw e;
+                    }
+                    // The current block still has ids; a later caller tries again
+                    log.warn("No se pudo reservar por adelantado un bloque de ids de {}: {}", sequence, e.getMessage());
+                }
+            }
+            return value;
+        }
+
+        /**
+         * Reserve the block after the current one, without holding the lock
+         */
+        private void reserveNext() {
+            long hi = -1;
+            try {
+                hi = reserveBlock();
+            } finally {
+                synchronized (this) {
+                    reservedHi = hi;
+                    reserving = false;
+                    notifyAll();
+                }
+            }
+        }
+
+        private void waitForBlock() {
+            try {
+                wait();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Interrumpido esperando un bloque de ids de " + sequence, e);
+            }
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package com.empleados.api.id;
+
+/**
+ * Hands out automovil ids before the row is inserted, so inserts can be batched and several
+ * instances can write without contending on an identity column.
+ * <p>
+ * Ids are split into partitions, one per shard: an id allocated for a partition can be traced
+ * back to it with {@link #partitionOf}. Without shards there is a single partition, zero.
+ */
+public interface IdAllocator {
+
+    /**
+     * Next id belonging to {@code partition}
+     */
+    long next(int partition);
+
+    /**
+     * Partition {@code id} was allocated for
+     */
+    int partitionOf(long id);
+}
@@ -0,0 +1,13 @@
+package com.empleados.api.id;
+
+/**
+ * How automovil ids are allocated, chosen with {@code autos.ids.strategy}
+ */
+public enum IdStrategy {
+
+    /** Blocks of ids reserved from a table shared by every instance, see {@link HiLoIdAllocator} */
+    HILO,
+
+    /** Time-ordered ids built from the clock and a node id, see {@link SnowflakeIdAllocator} */
+    SNOWFLAKE
+}
@@ -0,0 +1,81 @@
+package com.empleados.api.id;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.util.Arrays;
+
+/**
+ * Time-ordered 64-bit ids that need no coordination between instances.
+ * <p>
+ * An id packs 41 bits of milliseconds since {@code epoch}, 10 bits of node id and a 12-bit sequence
+ * within the millisecond. Every instance must run with its own node id. Partition {@code p} uses the
+ * sequence values {@code p, p + partitions...}, so the partition is the sequence modulo the number
+ * of partitions. When the clock goes back, or a millisecond runs out of sequence values, ids keep
+ * coming from the last millisecond used (and then the next one) instead of waiting, so they never
+ * repeat or go down.
+ */
+public class SnowflakeIdAllocator implements IdAllocator {
+
+    static final int NODE_BITS = 10;
+    static final int SEQUENCE_BITS = 12;
+    static final int MAX_NODE = (1 << NODE_BITS) - 1;
+    private static final int SEQUENCES = 1 << SEQUENCE_BITS;
+
+    private final long nodeBits;
+    private final long epochMillis;
+    private final int partitions;
+    private final Clock clock;
+    private final int[] sequences;
+    private long lastMillis = -1;
+
+    public SnowflakeIdAllocator(int nodeId, Instant epoch, int partitions, Clock clock) {
+        if (nodeId < 0 || nodeId > MAX_NODE) {
+            throw new IllegalArgumentException("El nodo de ids debe estar entre 0 y " + MAX_NODE + ": " + nodeId);
+        }
+        if (partitions <= 0 || partitions > SEQUENCES) {
+            throw new IllegalArgumentException("Número de particiones inválido: " + partitions);
+        }
+        this.nodeBits = (long) nodeId << SEQUENCE_BITS;
+        this.epochMillis = epoch.toEpochMilli();
+        this.partitions = partitions;
+        this.clock = clock;
+        this.sequences = new int[partitions];
+    }
+
+    public SnowflakeIdAllocator(int nodeId, Instant epoch, int partitions) {
+        this(nodeId, epoch, partitions, Clock.systemUTC());
+    }
+
+    @Override
+    public synchronized long next(int partition) {
+        if (partition < 0 || partition >= partitions) {
+            throw new IllegalArgumentException("Partición fuera de rango: " + partition);
+        }
+        long now = clock.millis() - epochMillis;
+        if (now > lastMillis) {
+            lastMillis = now;
+            Arrays.fill(sequences, 0);
+        }
+        int sequence = sequences[partition] * partitions + partition;
+        if (sequence >= SEQUENCES) {
+            // This millisecond is used up for the partition: borrow the next one
+            lastMillis++;
+            Arrays.fill(sequences, 0);
+            sequence = partition;
+        }
+        sequences[partition]++;
+        return lastMillis << (NODE_BITS + SEQUENCE_BITS) | nodeBits | sequence;
+    }
+
+    @Override
+    public int partitionOf(long id) {
+        return (int) ((id & (SEQUENCES - 1)) % partitions);
+    }
+
+    /**
+     * When {@code id} was allocated
+     */
+    public Instant timestampOf(long id) {
+        return Instant.ofEpochMilli((id >>> (NODE_BITS + SEQUENCE_BITS)) + epochMillis);
+    }
+}
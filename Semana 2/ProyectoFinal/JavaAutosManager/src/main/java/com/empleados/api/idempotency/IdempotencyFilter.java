@@ -0,0 +1,282 @@
+package com.empleados.api.idempotency;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StreamUtils;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import com.empleados.api.exception.ErrorResponseWriter;
+import com.empleados.api.exception.ServiceOverloadedException;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Clock;
+import java.util.HexFormat;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Honors the {@value #HEADER} header on POST and PUT requests to the API.
+ * <p>
+ * The first request with a key runs normally and its response (status, Location and body) is kept
+ * in an {@link IdempotencyStore}. A retry with the same key and the same method, path and body gets
+ * that response replayed, marked with {@value #REPLAYED_HEADER}, without reaching the controller.
+ * A retry arriving while the first one is still running waits at most {@code autos.idempotency.wait-ms}
+ * (a few hundred milliseconds, since it holds its limiter and bulkhead permits meanwhile) and is
+ * then answered 409 with {@code Retry-After}. Reusing a key for a different request is refused
+ * with 422. Server errors are not kept, so they can be retried. Multipart uploads are left alone
+ * since their bodies are not buffered.
+ * <p>
+ * Keys are scoped per client, so one client cannot replay the response given to another: the
+ * authenticated user when there is one, otherwise a digest of the {@code Authorization} header,
+ * otherwise the remote address.
+ * <p>
+ * Runs after the concurrency limit, the bulkheads and the consistency token, so a shed request
+ * never claims a key and a replayed write still gets a fresh token.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 40)
+public class IdempotencyFilter extends OncePerRequestFilter {
+
+    public static final String HEADER = "Idempotency-Key";
+    public static final String REPLAYED_HEADER = "Idempotent-Replayed";
+
+    private static final Logger log = LoggerFactory.getLogger(IdempotencyFilter.class);
+
+    private static final int MAX_KEY_LENGTH = 255;
+    private static final long MAX_WAIT_MILLIS = 1000;
+    private static final long RETRY_AFTER_SECONDS = 1;
+
+    private final IdempotencyStore store;
+    private final ErrorResponseWriter errorWriter;
+    private final long waitMillis;
+
+    @Autowired
+    public IdempotencyFilter(ObjectMapper objectMapper,
+                             @Value("${autos.idempotency.max-entries:10000}") int maxEntries,
+                             @Value("${autos.idempotency.ttl-ms:86400000}") long ttlMillis,
+                             @Value("${autos.idempotency.wait-ms:200}") long waitMillis) {
+        if (waitMillis < 0 || waitMillis > MAX_WAIT_MILLIS) {
+            throw new IllegalArgumentException("autos.idempotency.wait-ms debe estar entre 0 y " + MAX_WAIT_MILLIS);
+        }
+        this.store = new IdempotencyStore(maxEntries, ttlMillis, Clock.systemUTC());
+        this.errorWriter = new ErrorResponseWriter(objectMapper);
+        this.waitMillis = waitMillis;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        String method = request.getMethod();
+        return request.getHeader(HEADER) == null
+                || !("POST".equals(method) || "PUT".equals(method))
+                || !request.getRequestURI().startsWith(request.getContextPath() + "/api/")
+                || (request.getContentType() != null && request.getContentType().startsWith(MediaType.MULTIPART_FORM_DATA_VALUE));
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        String header = request.getHeader(HEADER).trim();
+        if (header.isEmpty() || header.length() > MAX_KEY_LENGTH) {
+            writeError(request, response, HttpStatus.BAD_REQUEST,
+                    "La cabecera " + HEADER + " debe tener entre 1 y " + MAX_KEY_LENGTH + " caracteres");
+            return;
+        }
+        String key = client(request) + ' ' + header;
+        byte[] body = StreamUtils.copyToByteArray(request.getInputStream());
+        String fingerprint = fingerprint(request, body);
+
+        IdempotencyStore.Claim claim;
+        try {
+            claim = store.claim(key, fingerprint);
+        } catch (ServiceOverloadedException e) {
+            errorWriter.writeOverloaded(request, response, e.getMessage(), e.getRetryAfterSeconds());
+            return;
+        }
+        if (!claim.owner()) {
+            replay(request, response, claim.entry(), fingerprint);
+            return;
+        }
+
+        ContentCachingResponseWrapper captured = new ContentCachingResponseWrapper(response);
+        try {
+            chain.doFilter(new CachedBodyRequest(request, body), captured);
+        } catch (IOException | ServletException | RuntimeException e) {
+            store.abandon(key, claim.entry(), e);
+            throw e;
+        }
+        if (request.isAsyncStarted() || captured.getStatus() >= 500) {
+            store.abandon(key, claim.entry(), new IllegalStateException("Respuesta no almacenable: " + captured.getStatus()));
+        } else {
+            store.complete(claim.entry(), new IdempotencyStore.StoredResponse(captured.getStatus(), captured.getContentType(),
+                    captured.getHeader(HttpHeaders.LOCATION), captured.getContentAsByteArray()));
+        }
+        captured.copyBodyToResponse();
+    }
+
+    private void replay(HttpServletRequest request, HttpServletResponse response, IdempotencyStore.Entry entry,
+                        String fingerprint) throws IOException {
+        if (!entry.getFingerprint().equals(fingerprint)) {
+            writeError(request, response, HttpStatus.UNPROCESSABLE_ENTITY,
+                    "La cabecera " + HEADER + " ya se usó con una petición distinta");
+            return;
+        }
+        IdempotencyStore.StoredResponse stored;
+        try {
+            stored = entry.getResponse().get(waitMillis, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            writeInFlight(request, response);
+            return;
+        } catch (TimeoutException e) {
+            writeInFlight(request, response);
+            return;
+        } catch (ExecutionException e) {
+            writeError(request, response, HttpStatus.CONFLICT, "La petición original falló, reintente la operación");
+            return;
+        }
+        log.debug("Respuesta repetida para {} {} con {}={}", request.getMethod(), request.getRequestURI(),
+                HEADER, request.getHeader(HEADER));
+        response.setStatus(stored.status());
+        response.setHeader(REPLAYED_HEADER, "true");
+        if (stored.contentType() != null) {
+            response.setContentType(stored.contentType());
+        }
+        if (stored.location() != null) {
+            response.setHeader(HttpHeaders.LOCATION, stored.location());
+        }
+        response.setContentLength(stored.body().length);
+        response.getOutputStream().write(stored.body());
+    }
+
+    private void writeInFlight(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(RETRY_AFTER_SECONDS));
+        writeError(request, response, HttpStatus.CONFLICT, "La petición original sigue en curso, reintente más tarde");
+    }
+
+    private void writeError(HttpServletRequest request, HttpServletResponse response, HttpStatus status,
+                            String message) throws IOException {
+        errorWriter.write(request, response, status, message, "Petición idempotente rechazada");
+    }
+
+    /**
+     * Who sent the request: the authenticated user, else a digest of its credentials, else its address
+     */
+    private static String client(HttpServletRequest request) {
+        if (request.getUserPrincipal() != null) {
+            return "usuario:" + request.getUserPrincipal().getName();
+        }
+        String authorization = request.getHeader(HttpHeaders.AUTHORIZATION);
+        if (authorization != null) {
+            return "credencial:" + sha256(authorization.getBytes(StandardCharsets.UTF_8));
+        }
+        return "ip:" + request.getRemoteAddr();
+    }
+
+    private static String fingerprint(HttpServletRequest request, byte[] body) {
+        return sha256((request.getMethod() + ' ' + request.getRequestURI() + '?' + request.getQueryString() + '\n')
+                .getBytes(StandardCharsets.UTF_8), body);
+    }
+
+    private static String sha256(byte[]... parts) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            for (byte[] part : parts) {
+                digest.update(part);
+            }
+            return HexFormat.of().formatHex(digest.digest());
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Serves a body that was already read so the controller can read it again
+     */
+    private static final class CachedBodyRequest extends HttpServletRequestWrapper {
+
+        private final byte[] body;
+
+        CachedBodyRequest(HttpServletRequest request, byte[] body) {
+            super(request);
+            this.body = body;
+        }
+
+        @Override
+        public ServletInputStream getInputStream() {
+            ByteArrayInputStream input = new ByteArrayInputStream(body);
+            return new ServletInputStream() {
+                @Override
+                public boolean isFinished() {
+                    return input.available() == 0;
+                }
+
+                @Override
+                public boolean isReady() {
+                    return true;
+                }
+
+                @Override
+                public void setReadListener(ReadListener listener) {
+                    // The whole body is already in memory: it is ready now and ends with it
+                    try {
+                        listener.onDataAvailable();
+                        listener.onAllDataRead();
+                    } catch (IOException e) {
+                        listener.onError(e);
+                    }
+                }
+
+                @Override
+                public int read() {
+                    return input.read();
+                }
+
+                @Override
+                public int read(byte[] buffer, int offset, int length) {
+                    return input.read(buffer, offset, length);
+                }
+            };
+        }
+
+        @Override
+        public BufferedReader getReader() {
+            String encoding = getCharacterEncoding() != null ? getCharacterEncoding() : StandardCharsets.UTF_8.name();
+            return new BufferedReader(new InputStreamReader(getInputStream(), Charset.forName(encoding)));
+        }
+
+        @Override
+        public int getContentLength() {
+            return body.length;
+        }
+
+        @Override
+        public long getContentLengthLong() {
+            return body.length;
+        }
+    }
+}
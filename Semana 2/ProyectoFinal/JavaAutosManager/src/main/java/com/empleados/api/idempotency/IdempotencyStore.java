@@ -0,0 +1,134 @@
+package com.empleados.api.idempotency;
+
+import com.empleados.api.exception.ServiceOverloadedException;
+
+import java.time.Clock;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Bounded store of the first response given to each idempotency key.
+ * <p>
+ * A key is claimed by the first request that uses it; later requests with the same key get that
+ * entry back and wait on its response. Entries live for a fixed time to live and the oldest
+ * finished ones are evicted first once the store is full, so memory stays bounded however many
+ * keys clients send. An entry still in flight is never evicted, since a retry would then run the
+ * request a second time: when every entry is in flight, new keys are refused until one finishes.
+ * An execution that fails is abandoned so a retry runs it again.
+ */
+public class IdempotencyStore {
+
+    /**
+     * A response as sent to the client, replayable byte for byte
+     */
+    public record StoredResponse(int status, String contentType, String location, byte[] body) {
+    }
+
+    /**
+     * The request that claimed a key and, once finished, its response
+     */
+    public static final class Entry {
+
+        private final String fingerprint;
+        private final long createdAt;
+        private final CompletableFuture<StoredResponse> response = new CompletableFuture<>();
+
+        Entry(String fingerprint, long createdAt) {
+            this.fingerprint = fingerprint;
+            this.createdAt = createdAt;
+        }
+
+        public String getFingerprint() {
+            return fingerprint;
+        }
+
+        public CompletableFuture<StoredResponse> getResponse() {
+            return response;
+        }
+    }
+
+    /**
+     * Outcome of {@link #claim}: either this request owns the key or it must replay {@code entry}
+     */
+    public record Claim(Entry entry, boolean owner) {
+    }
+
+    private static final long RETRY_AFTER_SECONDS = 1;
+
+    private final int maxEntries;
+    private final long ttlMillis;
+    private final Clock clock;
+    private final LinkedHashMap<String, Entry> entries = new LinkedHashMap<>();
+
+    public IdempotencyStore(int maxEntries, long ttlMillis, Clock clock) {
+        this.maxEntries = maxEntries;
+        this.ttlMillis = ttlMillis;
+        this.clock = clock;
+    }
+
+    /**
+     * Claim a key for a request, or find the request that already claimed it
+     *
+     * @throws ServiceOverloadedException when the store is full of requests still in flight
+     */
+    public synchronized Claim claim(String key, String fingerprint) {
+        long now = clock.millis();
+        evictExpired(now);
+        Entry existing = entries.get(key);
+        if (existing != null) {
+            return new Claim(existing, false);
+        }
+        if (entries.size() >= maxEntries && !evictEldestFinished()) {
+            throw new ServiceOverloadedException(
+                    "Demasiadas peticiones idempotentes en curso (" + entries.size() + ")", RETRY_AFTER_SECONDS);
+        }
+        Entry entry = new Entry(fingerprint, now);
+        entries.put(key, entry);
+        return new Claim(entry, true);
+    }
+
+    /**
+     * Record the response of the request that owns {@code entry} and release its waiters
+     */
+    public void complete(Entry entry, StoredResponse response) {
+        entry.response.complete(response);
+    }
+
+    /**
+     * Forget a claim whose execution failed; waiters are told to retry
+     */
+    public synchronized void abandon(String key, Entry entry, Throwable cause) {
+        entries.remove(key, entry);
+        entry.response.completeExceptionally(cause);
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    private boolean evictEldestFinished() {
+        Iterator<Entry> iterator = entries.values().iterator();
+        while (iterator.hasNext()) {
+            if (iterator.next().response.isDone()) {
+                iterator.remove();
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void evictExpired(long now) {
+        Iterator<Map.Entry<String, Entry>> iterator = entries.entrySet().iterator();
+        while (iterator.hasNext()) {
+            Entry entry = iterator.next().getValue();
+            if (now - entry.createdAt < ttlMillis) {
+                break;
+            }
+            if (entry.response.isDone()) {
+                iterator.remove();
+            }
+        }
+    }
+}
@@ -0,0 +1,201 @@
+package com.empleados.api.ingest;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+
+import com.empleados.api.bulk.AutoBatchWriter;
+import com.empleados.api.bulk.ImportJob;
+import com.empleados.api.bulk.ImportRow;
+import com.empleados.api.dto.AutoDTO;
+import com.empleados.api.exception.ServiceOverloadedException;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Merges concurrent synchronous {@code createAuto} calls into batched inserts.
+ * <p>
+ * Each call is queued and its thread waits for the result. A collector thread takes the first
+ * queued call, keeps collecting for {@code autos.create.batching.window-us} or until
+ * {@code autos.create.batching.max-batch} calls, and inserts them all through
+ * {@link AutoBatchWriter} in one transaction, which with shards only spans the home one: autos on
+ * the others commit on their own and still count as created if the batch is rolled back. Every
+ * caller gets back its own auto or the same exception {@code createAuto} would have thrown, so the
+ * API contract does not change. When the queue is full a call waits up to
+ * {@code autos.create.batching.queue-wait-ms} for room, the way it would wait for a connection
+ * without batching, and is only refused after that.
+ */
+@Component
+@ConditionalOnProperty(name = "autos.create.batching.enabled", havingValue = "true", matchIfMissing = true)
+public class AutoCreateBatcher {
+
+    private static final Logger log = LoggerFactory.getLogger(AutoCreateBatcher.class);
+
+    private static final long IDLE_POLL_MS = 100;
+
+    private final AutoBatchWriter batchWriter;
+    private final BlockingQueue<PendingCreate> queue;
+    private final long windowNanos;
+    private final int maxBatch;
+    private final long queueWaitMillis;
+    private final Thread collector;
+    private final DistributionSummary batchSizes;
+
+    private volatile boolean running = true;
+
+    @Autowired
+    public AutoCreateBatcher(AutoBatchWriter batchWriter, MeterRegistry meterRegistry,
+                             @Value("${autos.create.batching.window-us:1000}") long windowMicros,
+                             @Value("${autos.create.batching.max-batch:64}") int maxBatch,
+                             @Value("${autos.create.batching.queue-capacity:4096}") int queueCapacity,
+                             @Value("${autos.create.batching.queue-wait-ms:30000}") long queueWaitMillis) {
+        if (maxBatch <= 0) {
+            throw new IllegalArgumentException("autos.create.batching.max-batch debe ser mayor que cero");
+        }
+        this.batchWriter = batchWriter;
+        this.queue = new LinkedBlockingQueue<>(queueCapacity);
+        this.windowNanos = TimeUnit.MICROSECONDS.toNanos(windowMicros);
+        this.maxBatch = maxBatch;
+        this.queueWaitMillis = queueWaitMillis;
+        this.collector = new Thread(this::collectLoop, "auto-create-batcher");
+        this.batchSizes = meterRegistry.summary("autos.create.batch.size");
+    }
+
+    @PostConstruct
+    public void start() {
+        collector.start();
+        log.info("Altas agrupadas en lotes de hasta {} autos con ventana de {} µs",
+                maxBatch, TimeUnit.NANOSECONDS.toMicros(windowNanos));
+    }
+
+    /**
+     * Stop accepting calls and insert the ones already queued
+     */
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        running = false;
+        collector.join(TimeUnit.SECONDS.toMillis(30));
+        failQueued();
+    }
+
+    /**
+     * Insert an auto as part of the next batch, blocking until that batch is committed
+     *
+     * @return the created auto with its id
+     * @throws DataIntegrityViolationException when the email already exists
+     * @throws ServiceOverloadedException when the queue stays full for the whole wait
+     */
+    public AutoDTO create(AutoDTO autoDTO) {
+        PendingCreate pending = new PendingCreate(autoDTO);
+        if (!running || !enqueue(pending)) {
+            throw new ServiceOverloadedException("Demasiadas altas en espera", 1);
+        }
+        try {
+            return pending.result.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private boolean enqueue(PendingCreate pending) {
+        try {
+            return queue.offer(pending, queueWaitMillis, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private void collectLoop() {
+        List<PendingCreate> batch = new ArrayList<>(maxBatch);
+        while ((running || !queue.isEmpty()) && !Thread.currentThread().isInterrupted()) {
+            try {
+                PendingCreate first = queue.poll(IDLE_POLL_MS, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                long deadline = System.nanoTime() + windowNanos;
+                while (batch.size() < maxBatch) {
+                    if (queue.drainTo(batch, maxBatch - batch.size()) > 0) {
+                        continue;
+                    }
+                    long remaining = deadline - System.nanoTime();
+                    PendingCreate next = remaining > 0 ? queue.poll(remaining, TimeUnit.NANOSECONDS) : null;
+                    if (next == null) {
+                        break;
+                    }
+                    batch.add(next);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                running = false;
+            }
+            if (!batch.isEmpty()) {
+                write(batch);
+                batch.clear();
+            }
+        }
+        failQueued();
+    }
+
+    private void failQueued() {
+        PendingCreate pending;
+        while ((pending = queue.poll()) != null) {
+            pending.result.completeExceptionally(new ServiceOverloadedException("El servicio se está deteniendo", 1));
+        }
+    }
+
+    private void write(List<PendingCreate> batch) {
+        List<ImportRow> rows = new ArrayList<>(batch.size());
+        for (PendingCreate pending : batch) {
+            rows.add(new ImportRow(rows.size(), pending.auto));
+        }
+        batchSizes.record(batch.size());
+        try {
+            AutoBatchWriter.BatchResult result = batchWriter.write(rows);
+            for (ImportRow creada : result.creadas()) {
+                batch.get((int) creada.linea()).result.complete(creada.auto());
+            }
+            for (ImportJob.Reject rechazo : result.rechazos()) {
+                batch.get((int) rechazo.linea()).result.completeExceptionally(
+                        new DataIntegrityViolationException("Error al crear el auto: " + rechazo.motivo()));
+            }
+            for (AutoBatchWriter.RowError error : result.errores()) {
+                batch.get((int) error.linea()).result.completeExceptionally(error.error());
+            }
+        } catch (RuntimeException e) {
+            log.error("No se pudo guardar un lote de {} altas", batch.size(), e);
+            for (PendingCreate pending : batch) {
+                pending.result.completeExceptionally(e);
+            }
+        }
+    }
+
+    private static final class PendingCreate {
+
+        final AutoDTO auto;
+        final CompletableFuture<AutoDTO> result = new CompletableFuture<>();
+
+        PendingCreate(AutoDTO auto) {
+            this.auto = auto;
+        }
+    }
+}
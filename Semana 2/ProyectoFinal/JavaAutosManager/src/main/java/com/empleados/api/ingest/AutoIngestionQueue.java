@@ -0,0 +1,237 @@
+package com.empleados.api.ingest;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.empleados.api.bulk.AutoBatchWriter;
+import com.empleados.api.bulk.ImportJob;
+import com.empleados.api.bulk.ImportRow;
+import com.empleados.api.dto.AutoDTO;
+import com.empleados.api.exception.ServiceOverloadedException;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Write-behind queue for auto registrations.
+ * <p>
+ * Submitted autos go into a {@link MpscRingBuffer} of {@code autos.ingest.capacity} slots and the
+ * caller gets a ticket right away. A single writer thread drains whatever has accumulated, up to
+ * {@code autos.ingest.batch-size} autos, and stores it through {@link AutoBatchWriter} in one
+ * transaction, so under load many registrations share a single commit. The writer parks while the
+ * buffer is empty and producers wake it up. When the buffer is full submissions are refused with
+ * {@link ServiceOverloadedException} instead of blocking. Finished tickets are kept for
+ * {@code autos.ingest.ticket-ttl-ms}; an auto is only durable once its ticket reads
+ * {@link Status#GUARDADO}.
+ */
+@Component
+@ConditionalOnProperty(name = "autos.ingest.enabled", havingValue = "true", matchIfMissing = true)
+public class AutoIngestionQueue {
+
+    private static final Logger log = LoggerFactory.getLogger(AutoIngestionQueue.class);
+
+    private static final long IDLE_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(100);
+
+    public enum Status {
+        PENDIENTE, GUARDADO, RECHAZADO
+    }
+
+    /**
+     * State of a ticket; {@code autoId} is set once saved and {@code motivo} once rejected
+     */
+    public record TicketStatus(long ticket, Status status, Long autoId, String motivo) {
+    }
+
+    private final AutoBatchWriter batchWriter;
+    private final MpscRingBuffer<Ticket> buffer;
+    private final int batchSize;
+    private final Duration ticketTtl;
+    private final AtomicLong sequence = new AtomicLong();
+    private final Map<Long, Ticket> tickets = new ConcurrentHashMap<>();
+    private final Thread writer;
+
+    private final Counter guardados;
+    private final Counter rechazados;
+    private final Counter refused;
+    private final DistributionSummary batchSizes;
+
+    private volatile boolean running = true;
+    private volatile boolean writerParked;
+
+    @Autowired
+    public AutoIngestionQueue(AutoBatchWriter batchWriter, MeterRegistry meterRegistry,
+                              @Value("${autos.ingest.capacity:65536}") int capacity,
+                              @Value("${autos.ingest.batch-size:1000}") int batchSize,
+                              @Value("${autos.ingest.ticket-ttl-ms:600000}") long ticketTtlMs) {
+        if (batchSize <= 0) {
+            throw new IllegalArgumentException("autos.ingest.batch-size debe ser mayor que cero");
+        }
+        this.batchWriter = batchWriter;
+        this.buffer = new MpscRingBuffer<>(capacity);
+        this.batchSize = batchSize;
+        this.ticketTtl = Duration.ofMillis(ticketTtlMs);
+        this.writer = new Thread(this::drainLoop, "auto-ingest-writer");
+
+        this.guardados = meterRegistry.counter("autos.ingest.autos", "resultado", "guardado");
+        this.rechazados = meterRegistry.counter("autos.ingest.autos", "resultado", "rechazado");
+        this.refused = meterRegistry.counter("autos.ingest.refused");
+        this.batchSizes = meterRegistry.summary("autos.ingest.batch.size");
+        Gauge.builder("autos.ingest.pending", buffer, MpscRingBuffer::size).register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void start() {
+        writer.start();
+        log.info("Cola de ingesta con {} posiciones y lotes de hasta {} autos", buffer.capacity(), batchSize);
+    }
+
+    /**
+     * Stop accepting autos, store the ones already queued and stop the writer
+     */
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        running = false;
+        LockSupport.unpark(writer);
+        writer.join(TimeUnit.SECONDS.toMillis(30));
+    }
+
+    /**
+     * Queue an auto for insertion
+     *
+     * @return the new ticket, pending
+     * @throws ServiceOverloadedException when the buffer is full or the queue is stopping
+     */
+    public TicketStatus submit(AutoDTO auto) {
+        if (!running) {
+            throw new ServiceOverloadedException("La cola de ingesta se está deteniendo", 1);
+        }
+        Ticket ticket = new Ticket(sequence.incrementAndGet(), auto);
+        TicketStatus pending = ticket.status;
+        tickets.put(ticket.id, ticket);
+        if (!buffer.offer(ticket)) {
+            tickets.remove(ticket.id);
+            refused.increment();
+            throw new ServiceOverloadedException("La cola de ingesta está llena", 1);
+        }
+        if (writerParked) {
+            LockSupport.unpark(writer);
+        }
+        return pending;
+    }
+
+    public Optional<TicketStatus> status(long ticket) {
+        return Optional.ofNullable(tickets.get(ticket)).map(t -> t.status);
+    }
+
+    /**
+     * Wait until a ticket is saved or rejected
+     *
+     * @return a future completed with the final status, or with the pending status after {@code timeout};
+     * empty when the ticket does not exist or has expired
+     */
+    public Optional<CompletableFuture<TicketStatus>> await(long ticket, Duration timeout) {
+        return Optional.ofNullable(tickets.get(ticket))
+                .map(t -> t.done.copy().completeOnTimeout(t.status, timeout.toMillis(), TimeUnit.MILLISECONDS));
+    }
+
+    public int pending() {
+        return buffer.size();
+    }
+
+    /**
+     * Forget finished tickets older than the configured time to live
+     */
+    @Scheduled(fixedDelayString = "${autos.ingest.purge-interval-ms:60000}")
+    public void purgeExpired() {
+        long limit = System.nanoTime() - ticketTtl.toNanos();
+        tickets.values().removeIf(ticket -> ticket.finishedAt != 0 && ticket.finishedAt - limit < 0);
+    }
+
+    private void drainLoop() {
+        List<Ticket> batch = new ArrayList<>(batchSize);
+        while (running || !buffer.isEmpty()) {
+            if (buffer.drainTo(batch, batchSize) == 0) {
+                writerParked = true;
+                if (running && buffer.isEmpty()) {
+                    LockSupport.parkNanos(this, IDLE_PARK_NANOS);
+                }
+                writerParked = false;
+                continue;
+            }
+            write(batch);
+            batch.clear();
+        }
+    }
+
+    private void write(List<Ticket> batch) {
+        Map<Long, Ticket> byId = new HashMap<>(batch.size() * 2);
+        List<ImportRow> rows = new ArrayList<>(batch.size());
+        for (Ticket ticket : batch) {
+            byId.put(ticket.id, ticket);
+            rows.add(new ImportRow(ticket.id, ticket.auto));
+        }
+        batchSizes.record(batch.size());
+        try {
+            AutoBatchWriter.BatchResult result = batchWriter.write(rows);
+            for (ImportRow creada : result.creadas()) {
+                byId.get(creada.linea()).finish(Status.GUARDADO, creada.auto().getId(), null);
+            }
+            for (ImportJob.Reject rechazo : result.rechazos()) {
+                byId.get(rechazo.linea()).finish(Status.RECHAZADO, null, rechazo.motivo());
+            }
+            for (AutoBatchWriter.RowError error : result.errores()) {
+                byId.get(error.linea()).finish(Status.RECHAZADO, null, "Error al guardar: " + error.error().getMessage());
+            }
+            guardados.increment(result.insertadas());
+            rechazados.increment(result.rechazos().size() + result.errores().size());
+        } catch (RuntimeException e) {
+            log.error("No se pudo guardar un lote de {} autos", batch.size(), e);
+            for (Ticket ticket : batch) {
+                ticket.finish(Status.RECHAZADO, null, "Error al guardar: " + e.getMessage());
+            }
+            rechazados.increment(batch.size());
+        }
+    }
+
+    private static final class Ticket {
+
+        final long id;
+        final CompletableFuture<TicketStatus> done = new CompletableFuture<>();
+        AutoDTO auto;
+        volatile TicketStatus status;
+        volatile long finishedAt;
+
+        Ticket(long id, AutoDTO auto) {
+            this.id = id;
+            this.auto = auto;
+            this.status = new TicketStatus(id, Status.PENDIENTE, null, null);
+        }
+
+        void finish(Status result, Long autoId, String motivo) {
+            auto = null;
+            status = new TicketStatus(id, result, autoId, motivo);
+            finishedAt = System.nanoTime() | 1;
+            done.complete(status);
+        }
+    }
+}
@@ -0,0 +1,108 @@
+package com.empleados.api.ingest;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Bounded lock-free queue for many producers and a single consumer.
+ * <p>
+ * Every slot has a sequence number telling whose turn it is. A producer claims a position by
+ * moving the shared tail with a CAS, stores its element and then publishes the slot by advancing
+ * its sequence; the consumer takes a slot once it sees it published and hands it back to
+ * producers one lap later. Offering never blocks: it fails when the buffer is full.
+ */
+public class MpscRingBuffer<E> {
+
+    private final int capacity;
+    private final int mask;
+    private final AtomicReferenceArray<E> elements;
+    private final AtomicLongArray sequences;
+    private final AtomicLong tail = new AtomicLong();
+    private volatile long head;
+
+    /**
+     * @param capacity number of slots, a power of two
+     */
+    public MpscRingBuffer(int capacity) {
+        if (capacity <= 0 || Integer.bitCount(capacity) != 1) {
+            throw new IllegalArgumentException("La capacidad debe ser una potencia de dos");
+        }
+        this.capacity = capacity;
+        this.mask = capacity - 1;
+        this.elements = new AtomicReferenceArray<>(capacity);
+        this.sequences = new AtomicLongArray(capacity);
+        for (int i = 0; i < capacity; i++) {
+            sequences.set(i, i);
+        }
+    }
+
+    /**
+     * Add an element; safe to call from any thread
+     *
+     * @return false when the buffer is full
+     */
+    public boolean offer(E element) {
+        if (element == null) {
+            throw new NullPointerException();
+        }
+        long position = tail.get();
+        while (true) {
+            int slot = (int) (position & mask);
+            long difference = sequences.get(slot) - position;
+            if (difference == 0) {
+                if (tail.compareAndSet(position, position + 1)) {
+                    elements.lazySet(slot, element);
+                    sequences.set(slot, position + 1);
+                    return true;
+                }
+                position = tail.get();
+            } else if (difference < 0) {
+                return false;
+            } else {
+                position = tail.get();
+            }
+        }
+    }
+
+    /**
+     * Move up to {@code max} published elements into {@code target}, in offer order.
+     * Must only be called from the consumer thread.
+     *
+     * @return the number of elements moved
+     */
+    public int drainTo(List<? super E> target, int max) {
+        long position = head;
+        int moved = 0;
+        while (moved < max) {
+            int slot = (int) (position & mask);
+            if (sequences.get(slot) != position + 1) {
+                break;
+            }
+            target.add(elements.get(slot));
+            elements.lazySet(slot, null);
+            sequences.set(slot, position + capacity);
+            position++;
+            moved++;
+        }
+        head = position;
+        return moved;
+    }
+
+    /**
+     * Approximate number of elements, including claimed slots not yet published
+     */
+    public int size() {
+        long size = tail.get() - head;
+        return (int) Math.max(0, Math.min(size, capacity));
+    }
+
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    public int capacity() {
+        return capacity;
+    }
+}
@@ -0,0 +1,117 @@
+package com.empleados.api.limiter;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Concurrency limit that follows the latency of the requests it admits.
+ * <p>
+ * Gradient style: a long-term average of the round trip time is the baseline and the average of
+ * the last {@code window} samples is the current latency. Their ratio, with some tolerance, tells
+ * whether requests are queuing somewhere downstream (the connection pool, H2); the limit is scaled
+ * by that gradient plus a small queue allowance of {@code sqrt(limit)}, smoothed, and kept between
+ * the configured bounds. The limit only grows while requests actually use it, so an idle service
+ * does not drift to the maximum.
+ */
+public class AdaptiveConcurrencyLimit {
+
+    private static final double LONG_RTT_SMOOTHING = 1.0 / 600;
+    private static final double LIMIT_SMOOTHING = 0.2;
+    private static final double MIN_GRADIENT = 0.5;
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final double tolerance;
+    private final int window;
+    private final AtomicInteger inFlight = new AtomicInteger();
+
+    private volatile double limit;
+    private double longRtt;
+    private long windowSum;
+    private int windowCount;
+    private int windowMaxInFlight;
+
+    public AdaptiveConcurrencyLimit(int initialLimit, int minLimit, int maxLimit, double tolerance, int window) {
+        if (minLimit <= 0 || minLimit > maxLimit) {
+            throw new IllegalArgumentException("Límites de concurrencia inválidos: " + minLimit + ".." + maxLimit);
+        }
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.tolerance = tolerance;
+        this.window = window;
+        this.limit = Math.max(minLimit, Math.min(maxLimit, initialLimit));
+    }
+
+    /**
+     * Admit a request if the number in flight is below the limit
+     *
+     * @return the number in flight including this one, or -1 when rejected
+     */
+    public int tryAcquire() {
+        while (true) {
+            int current = inFlight.get();
+            if (current >= (int) limit) {
+                return -1;
+            }
+            if (inFlight.compareAndSet(current, current + 1)) {
+                return current + 1;
+            }
+        }
+    }
+
+    /**
+     * Release a request without taking its latency into account
+     */
+    public void release() {
+        inFlight.decrementAndGet();
+    }
+
+    /**
+     * Release a request and feed its latency to the limit
+     *
+     * @param inFlightAtStart value returned by {@link #tryAcquire}
+     */
+    public void release(long rttNanos, int inFlightAtStart) {
+        inFlight.decrementAndGet();
+        sample(rttNanos, inFlightAtStart);
+    }
+
+    private synchronized void sample(long rttNanos, int inFlightAtStart) {
+        windowSum += rttNanos;
+        windowCount++;
+        windowMaxInFlight = Math.max(windowMaxInFlight, inFlightAtStart);
+        if (windowCount < window) {
+            return;
+        }
+        double shortRtt = (double) windowSum / windowCount;
+        int maxInFlight = windowMaxInFlight;
+        windowSum = 0;
+        windowCount = 0;
+        windowMaxInFlight = 0;
+
+        if (longRtt == 0) {
+            longRtt = shortRtt;
+        } else {
+            longRtt = longRtt * (1 - LONG_RTT_SMOOTHING) + shortRtt * LONG_RTT_SMOOTHING;
+        }
+        // Latency recovered well below the baseline: let the baseline follow it down faster
+        if (longRtt / shortRtt > 2) {
+            longRtt *= 0.95;
+        }
+        // Not enough load to tell whether a higher limit would hurt
+        if (maxInFlight < limit / 2) {
+            return;
+        }
+        double gradient = Math.max(MIN_GRADIENT, Math.min(1.0, tolerance * longRtt / shortRtt));
+        double target = limit * gradient + Math.sqrt(limit);
+        double next = limit * (1 - LIMIT_SMOOTHING) + target * LIMIT_SMOOTHING;
+        limit = Math.max(minLimit, Math.min(maxLimit, next));
+    }
+
+    public int getLimit() {
+        return (int) limit;
+    }
+
+    public int getInFlight() {
+        return inFlight.get();
+    }
+}
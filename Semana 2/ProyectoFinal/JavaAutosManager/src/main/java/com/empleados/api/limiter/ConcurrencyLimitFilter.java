@@ -0,0 +1,97 @@
+package com.empleados.api.limiter;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import com.empleados.api.exception.ErrorResponseWriter;
+
+import java.io.IOException;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Sheds API requests above an {@link AdaptiveConcurrencyLimit}.
+ * <p>
+ * Every request under {@code /api/} takes a slot before reaching the controllers; when none is
+ * free it is answered at once with 503 and {@code Retry-After} instead of queuing behind a slow
+ * database. The latency of each admitted request adjusts the limit. Requests that go asynchronous
+ * (exports, the change feed) only hold their slot during the initial dispatch and are not sampled.
+ * Exposes {@code autos.concurrency.limit}, {@code autos.concurrency.inflight} and
+ * {@code autos.concurrency.rejected}.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 10)
+@ConditionalOnProperty(name = "autos.concurrency.enabled", havingValue = "true", matchIfMissing = true)
+public class ConcurrencyLimitFilter extends OncePerRequestFilter implements MeterBinder {
+
+    private final AdaptiveConcurrencyLimit limit;
+    private final ErrorResponseWriter errorWriter;
+    private final long retryAfterSeconds;
+    private final AtomicLong rejected = new AtomicLong();
+
+    @Autowired
+    public ConcurrencyLimitFilter(ObjectMapper objectMapper,
+                                  @Value("${autos.concurrency.initial-limit:20}") int initialLimit,
+                                  @Value("${autos.concurrency.min-limit:4}") int minLimit,
+                                  @Value("${autos.concurrency.max-limit:200}") int maxLimit,
+                                  @Value("${autos.concurrency.tolerance:1.5}") double tolerance,
+                                  @Value("${autos.concurrency.window:20}") int window,
+                                  @Value("${autos.concurrency.retry-after-seconds:1}") long retryAfterSeconds) {
+        this.limit = new AdaptiveConcurrencyLimit(initialLimit, minLimit, maxLimit, tolerance, window);
+        this.errorWriter = new ErrorResponseWriter(objectMapper);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("autos.concurrency.limit", limit, AdaptiveConcurrencyLimit::getLimit).register(registry);
+        Gauge.builder("autos.concurrency.inflight", limit, AdaptiveConcurrencyLimit::getInFlight).register(registry);
+        FunctionCounter.builder("autos.concurrency.rejected", rejected, AtomicLong::get).register(registry);
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !request.getRequestURI().startsWith(request.getContextPath() + "/api/");
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        int inFlight = limit.tryAcquire();
+        if (inFlight < 0) {
+            rejected.incrementAndGet();
+            errorWriter.writeOverloaded(request, response,
+                    "Límite de peticiones concurrentes alcanzado (" + limit.getLimit() + ")", retryAfterSeconds);
+            return;
+        }
+        long start = System.nanoTime();
+        boolean sampled = false;
+        try {
+            chain.doFilter(request, response);
+            sampled = !request.isAsyncStarted();
+        } finally {
+            if (sampled) {
+                limit.release(System.nanoTime() - start, inFlight);
+            } else {
+                limit.release();
+            }
+        }
+    }
+
+    AdaptiveConcurrencyLimit getLimit() {
+        return limit;
+    }
+}
@@ -1,5 +1,7 @@
 package com.empleados.api.model;
 
+import com.empleados.api.id.AllocatedId;
+
 import jakarta.persistence.*;
 import jakarta.validation.constraints.Email;
 import jakarta.validation.constraints.NotBlank;
@@ -18,11 +20,24 @@ import java.time.LocalDate;
 @NoArgsConstructor
 @AllArgsConstructor
 @Entity
-@Table(name = "automoviles")
+@Table(name = "automoviles", indexes = {
+    // Both directions of each sortable column of the list, with the id that breaks ties (see AutoSortField)
+    @Index(name = "idx_automoviles_id_desc", columnList = "id desc"),
+    @Index(name = "idx_automoviles_apellido_id", columnList = "apellido, id"),
+    @Index(name = "idx_automoviles_apellido_id_desc", columnList = "apellido desc, id desc"),
+    @Index(name = "idx_automoviles_marca_id", columnList = "marca, id"),
+    @Index(name = "idx_automoviles_marca_id_desc", columnList = "marca desc, id desc"),
+    @Index(name = "idx_automoviles_fecha_compra_id", columnList = "fechaCompra, id"),
+    @Index(name = "idx_automoviles_fecha_compra_id_desc", columnList = "fechaCompra desc, id desc"),
+    @Index(name = "idx_automoviles_costo_id", columnList = "costo, id"),
+    @Index(name = "idx_automoviles_costo_id_desc", columnList = "costo desc, id desc"),
+    @Index(name = "idx_automoviles_departamento_id", columnList = "departamento, id"),
+    @Index(name = "idx_automoviles_departamento_id_desc", columnList = "departamento desc, id desc")
+})
 public class Auto {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @AllocatedId
     private Long id;
 
     @NotBlank(message = "El nombre es obligatorio")
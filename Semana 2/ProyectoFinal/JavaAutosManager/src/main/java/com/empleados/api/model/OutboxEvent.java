@@ -0,0 +1,43 @@
+package com.empleados.api.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+/**
+ * Entity class representing an auto change waiting to be delivered to other systems.
+ * Rows are inserted in the same transaction as the change itself.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Entity
+@Table(name = "outbox_events", indexes = @Index(name = "idx_outbox_pending", columnList = "dispatched_at, id"))
+public class OutboxEvent {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "auto_id", nullable = false)
+    private Long autoId;
+
+    @Column(nullable = false, length = 16)
+    private String tipo;
+
+    @Lob
+    @Column(nullable = false)
+    private String payload;
+
+    @Column(name = "created_at", nullable = false)
+    private Instant createdAt;
+
+    @Column(name = "dispatched_at")
+    private Instant dispatchedAt;
+
+    @Column(nullable = false)
+    private int attempts;
+}
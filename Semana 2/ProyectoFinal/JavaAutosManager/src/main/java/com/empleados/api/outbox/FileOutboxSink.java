@@ -0,0 +1,69 @@
+package com.empleados.api.outbox;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+/**
+ * Appends every message as one JSON line to a local file.
+ * <p>
+ * Each batch is written with a single append and forced to disk before the dispatcher marks it
+ * as delivered. A crash in between repeats the batch, so the file may contain duplicate ids.
+ * Selected with {@code autos.outbox.sink=file}; the path comes from {@code autos.outbox.file.path}.
+ */
+@Component
+@ConditionalOnProperty(name = "autos.outbox.sink", havingValue = "file")
+public class FileOutboxSink implements OutboxSink {
+
+    private final Path path;
+    private final ObjectMapper objectMapper;
+
+    @Autowired
+    public FileOutboxSink(@Value("${autos.outbox.file.path:outbox/autos-events.jsonl}") Path path,
+                          ObjectMapper objectMapper) {
+        this.path = path;
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    public synchronized void publish(List<OutboxMessage> messages) {
+        try {
+            ByteArrayOutputStream lines = new ByteArrayOutputStream();
+            for (OutboxMessage message : messages) {
+                lines.write(objectMapper.writeValueAsBytes(message));
+                lines.write('\n');
+            }
+            Path parent = path.toAbsolutePath().getParent();
+            if (parent != null) {
+                Files.createDirectories(parent);
+            }
+            try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE,
+                    StandardOpenOption.WRITE, StandardOpenOption.APPEND)) {
+                ByteBuffer buffer = ByteBuffer.wrap(lines.toByteArray());
+                while (buffer.hasRemaining()) {
+                    channel.write(buffer);
+                }
+                channel.force(false);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("No se pudo escribir en " + path, e);
+        }
+    }
+
+    @Override
+    public String name() {
+        return "file";
+    }
+}
@@ -0,0 +1,156 @@
+package com.empleados.api.outbox;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.empleados.api.model.OutboxEvent;
+import com.empleados.api.repository.OutboxEventRepository;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Drains the outbox table in batches and hands them to every {@link OutboxSink}.
+ * <p>
+ * Each poll, every {@code autos.outbox.poll-interval-ms}, keeps reading batches of
+ * {@code autos.outbox.batch-size} pending events in insertion order until the table is empty or
+ * a sink fails. A batch is marked as delivered only after all sinks accepted it, so a failure or
+ * a crash makes it go out again later: delivery is at-least-once. Delivered rows are kept for
+ * {@code autos.outbox.retention-ms} and then purged.
+ * <p>
+ * Metrics: {@code autos.outbox.dispatched}, {@code autos.outbox.failures},
+ * {@code autos.outbox.batch.size}, {@code autos.outbox.publish} per sink, {@code autos.outbox.delay}
+ * from commit to delivery, {@code autos.outbox.pending} and {@code autos.outbox.lag} (age in seconds
+ * of the oldest event not delivered yet).
+ */
+@Component
+public class OutboxDispatcher {
+
+    private static final Logger log = LoggerFactory.getLogger(OutboxDispatcher.class);
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final List<OutboxSink> sinks;
+    private final int batchSize;
+    private final Duration retention;
+
+    private final Counter dispatched;
+    private final Counter failures;
+    private final DistributionSummary batchSizes;
+    private final Timer delay;
+    private final Map<String, Timer> publishTimers;
+
+    private volatile Instant oldestPending;
+
+    @Autowired
+    public OutboxDispatcher(OutboxEventRepository outboxEventRepository, List<OutboxSink> sinks,
+                            MeterRegistry meterRegistry,
+                            @Value("${autos.outbox.batch-size:200}") int batchSize,
+                            @Value("${autos.outbox.retention-ms:86400000}") long retentionMs) {
+        if (batchSize <= 0) {
+            throw new IllegalArgumentException("autos.outbox.batch-size debe ser mayor que cero");
+        }
+        if (sinks.isEmpty()) {
+            throw new IllegalArgumentException("Se requiere al menos un destino para el outbox");
+        }
+        this.outboxEventRepository = outboxEventRepository;
+        this.sinks = List.copyOf(sinks);
+        this.batchSize = batchSize;
+        this.retention = Duration.ofMillis(retentionMs);
+
+        this.dispatched = meterRegistry.counter("autos.outbox.dispatched");
+        this.failures = meterRegistry.counter("autos.outbox.failures");
+        this.batchSizes = meterRegistry.summary("autos.outbox.batch.size");
+        this.delay = meterRegistry.timer("autos.outbox.delay");
+        this.publishTimers = this.sinks.stream().collect(Collectors.toMap(OutboxSink::name,
+                sink -> meterRegistry.timer("autos.outbox.publish", "sink", sink.name())));
+        Gauge.builder("autos.outbox.pending", outboxEventRepository, OutboxEventRepository::countByDispatchedAtIsNull)
+                .register(meterRegistry);
+        Gauge.builder("autos.outbox.lag", this, OutboxDispatcher::lagSeconds)
+                .baseUnit("seconds")
+                .register(meterRegistry);
+        log.info("Outbox con destinos {} y lotes de {} eventos",
+                this.sinks.stream().map(OutboxSink::name).toList(), batchSize);
+    }
+
+    /**
+     * Deliver every pending event
+     *
+     * @return the number of events delivered
+     */
+    @Scheduled(fixedDelayString = "${autos.outbox.poll-interval-ms:500}")
+    public synchronized int dispatch() {
+        int total = 0;
+        while (true) {
+            List<OutboxEvent> batch = outboxEventRepository.findPending(PageRequest.of(0, batchSize));
+            if (batch.isEmpty()) {
+                oldestPending = null;
+                return total;
+            }
+            oldestPending = batch.get(0).getCreatedAt();
+            List<Long> ids = batch.stream().map(OutboxEvent::getId).toList();
+            if (!publish(batch.stream().map(OutboxMessage::of).toList())) {
+                outboxEventRepository.incrementAttempts(ids);
+                return total;
+            }
+            Instant now = Instant.now();
+            outboxEventRepository.markDispatched(ids, now);
+            for (OutboxEvent event : batch) {
+                delay.record(Duration.between(event.getCreatedAt(), now));
+            }
+            dispatched.increment(batch.size());
+            batchSizes.record(batch.size());
+            total += batch.size();
+            if (batch.size() < batchSize) {
+                oldestPending = null;
+                return total;
+            }
+        }
+    }
+
+    /**
+     * Delete delivered events older than the retention period
+     */
+    @Scheduled(initialDelayString = "${autos.outbox.purge-interval-ms:3600000}",
+            fixedDelayString = "${autos.outbox.purge-interval-ms:3600000}")
+    public void purge() {
+        int deleted = outboxEventRepository.deleteDispatchedBefore(Instant.now().minus(retention));
+        if (deleted > 0) {
+            log.debug("Eliminados {} eventos entregados del outbox", deleted);
+        }
+    }
+
+    /**
+     * Age in seconds of the oldest event seen pending in the last poll, zero when none is pending
+     */
+    public double lagSeconds() {
+        Instant oldest = oldestPending;
+        return oldest == null ? 0 : Duration.between(oldest, Instant.now()).toMillis() / 1000.0;
+    }
+
+    private boolean publish(List<OutboxMessage> messages) {
+        for (OutboxSink sink : sinks) {
+            try {
+                publishTimers.get(sink.name()).record(() -> sink.publish(messages));
+            } catch (RuntimeException e) {
+                failures.increment();
+                log.warn("No se pudo entregar un lote de {} eventos a {}; se reintentará: {}",
+                        messages.size(), sink.name(), e.getMessage());
+                return false;
+            }
+        }
+        return true;
+    }
+}
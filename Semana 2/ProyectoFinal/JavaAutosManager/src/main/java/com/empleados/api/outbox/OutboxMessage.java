@@ -0,0 +1,21 @@
+package com.empleados.api.outbox;
+
+import com.fasterxml.jackson.annotation.JsonRawValue;
+
+import com.empleados.api.model.OutboxEvent;
+
+import java.time.Instant;
+
+/**
+ * Auto change as handed to an {@link OutboxSink}.
+ * <p>
+ * Delivery is at-least-once, so consumers should use {@code id} to discard duplicates.
+ * The payload is the JSON of the auto after the change, or before it for deletions.
+ */
+public record OutboxMessage(long id, String tipo, long autoId, @JsonRawValue String payload, Instant createdAt) {
+
+    static OutboxMessage of(OutboxEvent event) {
+        return new OutboxMessage(event.getId(), event.getTipo(), event.getAutoId(), event.getPayload(),
+                event.getCreatedAt());
+    }
+}
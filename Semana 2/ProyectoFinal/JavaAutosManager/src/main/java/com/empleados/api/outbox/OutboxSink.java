@@ -0,0 +1,25 @@
+package com.empleados.api.outbox;
+
+import java.util.List;
+
+/**
+ * Destination of the events drained from the outbox table.
+ * <p>
+ * A batch counts as delivered only when {@link #publish(List)} returns normally; any exception
+ * leaves the whole batch pending and it is sent again on the next poll, so implementations
+ * must tolerate receiving the same message more than once.
+ */
+public interface OutboxSink {
+
+    /**
+     * Deliver a batch of messages, in order
+     *
+     * @throws RuntimeException when the batch could not be delivered
+     */
+    void publish(List<OutboxMessage> messages);
+
+    /**
+     * Short name used in logs and metric tags
+     */
+    String name();
+}
@@ -0,0 +1,53 @@
+package com.empleados.api.outbox;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.empleados.api.dto.AutoDTO;
+import com.empleados.api.event.AutoChangedEvent;
+import com.empleados.api.model.OutboxEvent;
+import com.empleados.api.repository.OutboxEventRepository;
+
+import java.time.Instant;
+
+/**
+ * Records every auto change in the outbox table.
+ * <p>
+ * The row is inserted right before the service transaction commits, so it is stored if and only
+ * if the change itself is. Changes made outside a transaction are not recorded.
+ */
+@Component
+public class OutboxWriter {
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final ObjectMapper objectMapper;
+
+    @Autowired
+    public OutboxWriter(OutboxEventRepository outboxEventRepository, ObjectMapper objectMapper) {
+        this.outboxEventRepository = outboxEventRepository;
+        this.objectMapper = objectMapper;
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+    public void onAutoChanged(AutoChangedEvent event) {
+        AutoDTO auto = event.getAfter() != null ? event.getAfter() : event.getBefore();
+        OutboxEvent outboxEvent = new OutboxEvent();
+        outboxEvent.setAutoId(event.getAutoId());
+        outboxEvent.setTipo(event.getType().name());
+        outboxEvent.setPayload(toJson(auto));
+        outboxEvent.setCreatedAt(Instant.now());
+        outboxEventRepository.save(outboxEvent);
+    }
+
+    private String toJson(AutoDTO auto) {
+        try {
+            return objectMapper.writeValueAsString(auto);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("No se pudo serializar el auto " + auto.getId(), e);
+        }
+    }
+}
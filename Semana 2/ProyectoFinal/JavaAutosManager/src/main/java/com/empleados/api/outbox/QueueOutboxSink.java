@@ -0,0 +1,68 @@
+package com.empleados.api.outbox;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * In-process bounded queue standing in for a message broker.
+ * <p>
+ * A batch is accepted only when it fits entirely, so a full queue makes the dispatcher retry
+ * later instead of losing part of the batch. Selected with {@code autos.outbox.sink=queue},
+ * the default.
+ */
+@Component
+@ConditionalOnProperty(name = "autos.outbox.sink", havingValue = "queue", matchIfMissing = true)
+public class QueueOutboxSink implements OutboxSink {
+
+    private final BlockingQueue<OutboxMessage> queue;
+
+    @Autowired
+    public QueueOutboxSink(@Value("${autos.outbox.queue.capacity:10000}") int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("autos.outbox.queue.capacity debe ser mayor que cero");
+        }
+        this.queue = new LinkedBlockingQueue<>(capacity);
+    }
+
+    @Override
+    public synchronized void publish(List<OutboxMessage> messages) {
+        if (queue.remainingCapacity() < messages.size()) {
+            throw new IllegalStateException("La cola de eventos está llena");
+        }
+        queue.addAll(messages);
+    }
+
+    @Override
+    public String name() {
+        return "queue";
+    }
+
+    /**
+     * Take the next message, waiting up to the given time
+     *
+     * @return the message, or null when none arrived in time
+     */
+    public OutboxMessage poll(long timeout, TimeUnit unit) throws InterruptedException {
+        return queue.poll(timeout, unit);
+    }
+
+    /**
+     * Move up to {@code max} queued messages into {@code target}
+     *
+     * @return the number of messages moved
+     */
+    public int drainTo(List<OutboxMessage> target, int max) {
+        return queue.drainTo(target, max);
+    }
+
+    public int size() {
+        return queue.size();
+    }
+}
@@ -0,0 +1,70 @@
+package com.empleados.api.registry;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Emails being written by transactions that have not finished yet.
+ * <p>
+ * Creating an auto, or changing its email, first reserves the email here with a lock-free
+ * {@code putIfAbsent}. A second transaction trying the same email while the first is still open
+ * fails immediately instead of passing the {@code findByEmail} check and hitting the unique
+ * constraint after a full insert. Reservations are released when the transaction commits or rolls
+ * back; from then on the database itself answers for the email. Outside a transaction nothing can
+ * be held, so {@link #tryReserve} only checks.
+ */
+@Component
+public class EmailReservationRegistry {
+
+    private final Set<String> reserved = ConcurrentHashMap.newKeySet();
+
+    /**
+     * Reserve an email until the current transaction completes
+     *
+     * @return false when another transaction, or this one, already holds the email
+     */
+    public boolean tryReserve(String email) {
+        if (email == null) {
+            return true;
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return !reserved.contains(email);
+        }
+        if (!reserved.add(email)) {
+            return false;
+        }
+        heldByCurrentTransaction().add(email);
+        return true;
+    }
+
+    public boolean isReserved(String email) {
+        return reserved.contains(email);
+    }
+
+    public int size() {
+        return reserved.size();
+    }
+
+    @SuppressWarnings("unchecked")
+    private Set<String> heldByCurrentTransaction() {
+        Set<String> held = (Set<String>) TransactionSynchronizationManager.getResource(this);
+        if (held == null) {
+            Set<String> emails = new HashSet<>();
+            TransactionSynchronizationManager.bindResource(this, emails);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    TransactionSynchronizationManager.unbindResourceIfPossible(EmailReservationRegistry.this);
+                    emails.forEach(reserved::remove);
+                }
+            });
+            held = emails;
+        }
+        return held;
+    }
+}
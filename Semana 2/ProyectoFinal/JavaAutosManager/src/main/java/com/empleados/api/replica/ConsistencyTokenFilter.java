@@ -0,0 +1,146 @@
+package com.empleados.api.replica;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+
+/**
+ * Read-your-writes for clients of a replicated database.
+ * <p>
+ * Responses to writes (anything but GET, HEAD and OPTIONS) carry a {@value #HEADER} header and a
+ * cookie with the position the replicas must reach to include the write. A later request that
+ * sends the token back, in the header or through the cookie, only reads from replicas at or past
+ * it. Without configured replicas this filter does nothing.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 30)
+public class ConsistencyTokenFilter extends OncePerRequestFilter {
+
+    public static final String HEADER = "Consistency-Token";
+    static final String COOKIE = "consistency-token";
+
+    private static final int COOKIE_MAX_AGE_SECONDS = 300;
+
+    private final ObjectProvider<ReplicaSet> replicaSet;
+
+    @Autowired
+    public ConsistencyTokenFilter(ObjectProvider<ReplicaSet> replicaSet) {
+        this.replicaSet = replicaSet;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return replicaSet.getIfAvailable() == null;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        ReplicaSet replicas = replicaSet.getObject();
+        String method = request.getMethod();
+        boolean write = !("GET".equals(method) || "HEAD".equals(method) || "OPTIONS".equals(method));
+        TokenResponse tokenResponse = write ? new TokenResponse(response, replicas) : null;
+        try (ReadConsistency.Scope scope = ReadConsistency.require(requiredPosition(request))) {
+            chain.doFilter(request, write ? tokenResponse : response);
+        }
+        if (write && !response.isCommitted()) {
+            tokenResponse.addToken();
+        }
+    }
+
+    private static long requiredPosition(HttpServletRequest request) {
+        String token = request.getHeader(HEADER);
+        if (token == null && request.getCookies() != null) {
+            for (Cookie cookie : request.getCookies()) {
+                if (COOKIE.equals(cookie.getName())) {
+                    token = cookie.getValue();
+                }
+            }
+        }
+        if (token == null) {
+            return 0;
+        }
+        try {
+            return Long.parseLong(token.trim());
+        } catch (NumberFormatException e) {
+            return 0;
+        }
+    }
+
+    /**
+     * Adds the token once the write is done, right before the response is committed
+     */
+    private static final class TokenResponse extends HttpServletResponseWrapper {
+
+        private final ReplicaSet replicas;
+        private boolean added;
+
+        TokenResponse(HttpServletResponse response, ReplicaSet replicas) {
+            super(response);
+            this.replicas = replicas;
+        }
+
+        void addToken() {
+            if (added) {
+                return;
+            }
+            added = true;
+            String token = String.valueOf(replicas.currentToken());
+            setHeader(HEADER, token);
+            Cookie cookie = new Cookie(COOKIE, token);
+            cookie.setPath("/");
+            cookie.setHttpOnly(true);
+            cookie.setMaxAge(COOKIE_MAX_AGE_SECONDS);
+            addCookie(cookie);
+        }
+
+        @Override
+        public ServletOutputStream getOutputStream() throws IOException {
+            addToken();
+            return super.getOutputStream();
+        }
+
+        @Override
+        public PrintWriter getWriter() throws IOException {
+            addToken();
+            return super.getWriter();
+        }
+
+        @Override
+        public void flushBuffer() throws IOException {
+            addToken();
+            super.flushBuffer();
+        }
+
+        @Override
+        public void sendRedirect(String location) throws IOException {
+            addToken();
+            super.sendRedirect(location);
+        }
+
+        @Override
+        public void sendError(int status, String message) throws IOException {
+            addToken();
+            super.sendError(status, message);
+        }
+
+        @Override
+        public void sendError(int status) throws IOException {
+            addToken();
+            super.sendError(status);
+        }
+    }
+}
@@ -0,0 +1,226 @@
+package com.empleados.api.replica;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.empleados.api.bulkhead.Workload;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Hedged reads against the replicas, to cut the tail latency a single slow instance causes.
+ * <p>
+ * A read first goes to the best replica for the caller. If it has not answered within the 95th
+ * percentile of recent read latencies, the same read is sent to the next replica (or to the
+ * primary when there is no other) and whichever answers first wins; the other attempt is cancelled.
+ * Since the delay is the p95, only about one read in twenty is hedged. Each attempt runs in its own
+ * read-only transaction on a small dedicated pool; when that pool is busy the read runs on the
+ * caller's thread and is not hedged. Exposes {@code autos.hedge.reads}, {@code autos.hedge.hedged},
+ * {@code autos.hedge.wins} and {@code autos.hedge.delay}.
+ */
+public class HedgedReads implements MeterBinder, AutoCloseable {
+
+    private static final int WINDOW = 256;
+    private static final int MIN_SAMPLES = 20;
+
+    private final ReplicaSet replicas;
+    private final TransactionTemplate readOnly;
+    private final ThreadPoolExecutor executor;
+    private final long minDelayNanos;
+    private final long initialDelayNanos;
+    private final LatencyWindow latencies = new LatencyWindow();
+    private final AtomicLong reads = new AtomicLong();
+    private final AtomicLong hedged = new AtomicLong();
+    private final AtomicLong wins = new AtomicLong();
+
+    public HedgedReads(ReplicaSet replicas, PlatformTransactionManager transactionManager, int threads,
+                       Duration minDelay, Duration initialDelay) {
+        this.replicas = replicas;
+        this.readOnly = new TransactionTemplate(transactionManager);
+        this.readOnly.setReadOnly(true);
+        AtomicInteger count = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(threads, threads, 60, TimeUnit.SECONDS, new SynchronousQueue<>(),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "hedged-read-" + count.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+        this.executor.allowCoreThreadTimeOut(true);
+        this.minDelayNanos = minDelay.toNanos();
+        this.initialDelayNanos = initialDelay.toNanos();
+    }
+
+    /**
+     * Run {@code read} in a read-only transaction, hedging it when the first replica is slow
+     */
+    public <T> T read(Supplier<T> read) {
+        List<Replica> candidates = replicas.candidates(ReadConsistency.required());
+        if (candidates.isEmpty()) {
+            return attempt(null, read).call();
+        }
+        reads.incrementAndGet();
+        Replica first = candidates.get(0);
+        Replica second = candidates.size() > 1 ? candidates.get(1) : null;
+
+        ExecutorCompletionService<T> race = new ExecutorCompletionService<>(executor);
+        long start = System.nanoTime();
+        Future<T> original;
+        try {
+            original = race.submit(attempt(first, read));
+        } catch (RejectedExecutionException e) {
+            return attempt(first, read).call();
+        }
+        Future<T> hedge = null;
+        try {
+            Future<T> done = race.poll(getDelayNanos(), TimeUnit.NANOSECONDS);
+            if (done == null) {
+                hedge = submitQuietly(race, attempt(second, read));
+                done = race.take();
+            }
+            T result;
+            try {
+                result = done.get();
+            } catch (ExecutionException e) {
+                // One attempt failed: the other one, if any, may still answer
+                if (hedge == null) {
+                    throw e;
+                }
+                done = race.take();
+                result = done.get();
+            }
+            if (done == hedge) {
+                wins.incrementAndGet();
+            }
+            latencies.record(System.nanoTime() - start);
+            return result;
+        } catch (ExecutionException e) {
+            throw unwrap(e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Lectura interrumpida", e);
+        } finally {
+            original.cancel(true);
+            if (hedge != null) {
+                hedge.cancel(true);
+            }
+        }
+    }
+
+    /**
+     * Current hedging delay: the p95 of recent reads, or the initial delay until there are enough
+     */
+    public long getDelayNanos() {
+        long p95 = latencies.percentile95();
+        return p95 < 0 ? initialDelayNanos : Math.max(minDelayNanos, p95);
+    }
+
+    public long getReads() {
+        return reads.get();
+    }
+
+    public long getHedged() {
+        return hedged.get();
+    }
+
+    public long getWins() {
+        return wins.get();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("autos.hedge.reads", reads, AtomicLong::get).register(registry);
+        FunctionCounter.builder("autos.hedge.hedged", hedged, AtomicLong::get).register(registry);
+        FunctionCounter.builder("autos.hedge.wins", wins, AtomicLong::get).register(registry);
+        Gauge.builder("autos.hedge.delay", this, h -> h.getDelayNanos() / 1_000_000.0)
+                .baseUnit("milliseconds").register(registry);
+    }
+
+    @Override
+    public void close() {
+        executor.shutdownNow();
+    }
+
+    private <T> Future<T> submitQuietly(ExecutorCompletionService<T> race, Attempt<T> attempt) {
+        try {
+            Future<T> future = race.submit(attempt);
+            hedged.incrementAndGet();
+            return future;
+        } catch (RejectedExecutionException e) {
+            return null;
+        }
+    }
+
+    /**
+     * A read pinned to {@code target}, carrying the caller's workload to the thread that runs it
+     */
+    private <T> Attempt<T> attempt(Replica target, Supplier<T> read) {
+        Workload workload = Workload.current();
+        return () -> {
+            try (Workload.Scope scope = workload.enter(); ReadConsistency.Scope pin = ReadConsistency.pin(target)) {
+                replicas.recordRead(target);
+                return readOnly.execute(status -> read.get());
+            }
+        };
+    }
+
+    private static RuntimeException unwrap(ExecutionException e) {
+        Throwable cause = e.getCause();
+        if (cause instanceof RuntimeException runtime) {
+            return runtime;
+        }
+        if (cause instanceof Error error) {
+            throw error;
+        }
+        return new IllegalStateException(cause);
+    }
+
+    @FunctionalInterface
+    private interface Attempt<T> extends Callable<T> {
+
+        @Override
+        T call();
+    }
+
+    /**
+     * The latencies of the last {@value #WINDOW} reads and their 95th percentile
+     */
+    private static final class LatencyWindow {
+
+        private final long[] samples = new long[WINDOW];
+        private int count;
+        private int next;
+        private volatile long percentile95 = -1;
+
+        synchronized void record(long nanos) {
+            samples[next] = nanos;
+            next = (next + 1) % WINDOW;
+            count = Math.min(WINDOW, count + 1);
+            if (count >= MIN_SAMPLES && (count < WINDOW || next % 16 == 0)) {
+                long[] sorted = Arrays.copyOf(samples, count);
+                Arrays.sort(sorted);
+                percentile95 = sorted[(int) Math.ceil(count * 0.95) - 1];
+            }
+        }
+
+        long percentile95() {
+            return percentile95;
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package com.empleados.api.replica;
+
+import org.h2.tools.Server;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.sql.SQLException;
+
+/**
+ * H2 TCP server holding stand-in read replicas for development and tests.
+ * <p>
+ * Each replica URL names an in-memory database on this server, for example
+ * {@code jdbc:h2:tcp://localhost:9101/mem:replica1;DB_CLOSE_DELAY=-1}, which is created on the
+ * first connection. The server only accepts local connections. {@link ReplicaCopyJob} keeps the
+ * databases filled from the primary.
+ */
+public class LocalReplicaServer implements AutoCloseable {
+
+    private static final Logger log = LoggerFactory.getLogger(LocalReplicaServer.class);
+
+    private final Server server;
+
+    public LocalReplicaServer(int port) throws SQLException {
+        this.server = Server.createTcpServer("-tcpPort", String.valueOf(port), "-ifNotExists").start();
+        log.info("Servidor H2 de réplicas locales en el puerto {}", server.getPort());
+    }
+
+    public int getPort() {
+        return server.getPort();
+    }
+
+    @Override
+    public void close() {
+        server.stop();
+    }
+}
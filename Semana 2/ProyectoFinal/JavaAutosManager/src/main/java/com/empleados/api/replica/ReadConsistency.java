@@ -0,0 +1,76 @@
+package com.empleados.api.replica;
+
+/**
+ * Replica position the reads of the current thread must see.
+ * <p>
+ * Set from the client's consistency token by {@link ConsistencyTokenFilter}; zero means any
+ * replica within the lag bound will do. A thread can also be pinned to one target, which is how
+ * {@link HedgedReads} sends each attempt of a read to a different replica.
+ */
+public final class ReadConsistency {
+
+    private static final Object PRIMARY = new Object();
+
+    private static final ThreadLocal<Long> REQUIRED = new ThreadLocal<>();
+    private static final ThreadLocal<Object> PINNED = new ThreadLocal<>();
+
+    private ReadConsistency() {
+    }
+
+    public static long required() {
+        Long position = REQUIRED.get();
+        return position != null ? position : 0;
+    }
+
+    /**
+     * Require {@code position} on the current thread until the returned scope is closed
+     */
+    public static Scope require(long position) {
+        Long previous = REQUIRED.get();
+        REQUIRED.set(position);
+        return () -> {
+            if (previous == null) {
+                REQUIRED.remove();
+            } else {
+                REQUIRED.set(previous);
+            }
+        };
+    }
+
+    /**
+     * Send the reads of the current thread to {@code replica}, or to the primary when it is null,
+     * until the returned scope is closed
+     */
+    public static Scope pin(Replica replica) {
+        Object previous = PINNED.get();
+        PINNED.set(replica != null ? replica : PRIMARY);
+        return () -> {
+            if (previous == null) {
+                PINNED.remove();
+            } else {
+                PINNED.set(previous);
+            }
+        };
+    }
+
+    static boolean isPinned() {
+        return PINNED.get() != null;
+    }
+
+    /**
+     * Replica the thread is pinned to, or null when pinned to the primary
+     */
+    static Replica pinned() {
+        Object pinned = PINNED.get();
+        return pinned instanceof Replica replica ? replica : null;
+    }
+
+    /**
+     * Restores the previous requirement or pin of the thread when closed
+     */
+    public interface Scope extends AutoCloseable {
+
+        @Override
+        void close();
+    }
+}
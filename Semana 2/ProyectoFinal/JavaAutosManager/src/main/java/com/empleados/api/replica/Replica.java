@@ -0,0 +1,97 @@
+package com.empleados.api.replica;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A read replica of the primary database and what its last health check found.
+ * <p>
+ * A check reads the heartbeat position the replica has applied, which tells how far behind the
+ * primary it is, and times the round trip for least-latency selection. A replica that cannot be
+ * reached is marked unhealthy until a later check succeeds.
+ */
+public class Replica {
+
+    private static final Logger log = LoggerFactory.getLogger(Replica.class);
+
+    private static final double LATENCY_SMOOTHING = 0.3;
+
+    private final String name;
+    private final DataSource dataSource;
+    private final AtomicLong reads = new AtomicLong();
+
+    private volatile boolean healthy;
+    private volatile long position = -1;
+    private volatile double latencyMillis;
+
+    public Replica(String name, DataSource dataSource) {
+        this.name = name;
+        this.dataSource = dataSource;
+    }
+
+    /**
+     * Read the applied heartbeat position and update health and latency
+     */
+    void check(int timeoutSeconds) {
+        long start = System.nanoTime();
+        try (Connection connection = dataSource.getConnection();
+             PreparedStatement statement = connection.prepareStatement(ReplicaHeartbeat.SELECT_POSITION)) {
+            statement.setQueryTimeout(timeoutSeconds);
+            try (ResultSet resultSet = statement.executeQuery()) {
+                if (!resultSet.next()) {
+                    throw new SQLException("La réplica no tiene latido");
+                }
+                position = resultSet.getLong(1);
+            }
+            double elapsed = (System.nanoTime() - start) / 1_000_000.0;
+            latencyMillis = latencyMillis == 0 ? elapsed : latencyMillis * (1 - LATENCY_SMOOTHING) + elapsed * LATENCY_SMOOTHING;
+            if (!healthy) {
+                log.info("Réplica {} disponible en la posición {}", name, position);
+            }
+            healthy = true;
+        } catch (SQLException e) {
+            if (healthy) {
+                log.warn("Réplica {} no disponible: {}", name, e.getMessage());
+            }
+            healthy = false;
+        }
+    }
+
+    void recordRead() {
+        reads.incrementAndGet();
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public DataSource getDataSource() {
+        return dataSource;
+    }
+
+    public boolean isHealthy() {
+        return healthy;
+    }
+
+    /**
+     * Last heartbeat position seen on the replica, or -1 before the first successful check
+     */
+    public long getPosition() {
+        return position;
+    }
+
+    public double getLatencyMillis() {
+        return latencyMillis;
+    }
+
+    public long getReads() {
+        return reads.get();
+    }
+}
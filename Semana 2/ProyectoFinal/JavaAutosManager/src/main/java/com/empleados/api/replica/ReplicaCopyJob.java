@@ -0,0 +1,171 @@
+package com.empleados.api.replica;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import com.empleados.api.bulkhead.Workload;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.StringJoiner;
+
+/**
+ * Copies the primary into the stand-in replicas of {@link LocalReplicaServer}, in place of the
+ * replication a real database would do.
+ * <p>
+ * Every run replaces the content of each replica, table by table, in a single transaction on the
+ * replica, so readers always see a whole snapshot. The heartbeat position is read from the primary
+ * before any table and written to the replica last: every write committed before that beat is
+ * in the copy, which is what {@link ReplicaHeartbeat} expects from a replica at that position.
+ * Tables missing on a replica are first created from the primary's definition with H2's
+ * {@code SCRIPT}.
+ */
+public class ReplicaCopyJob {
+
+    private static final Logger log = LoggerFactory.getLogger(ReplicaCopyJob.class);
+
+    private static final String HEARTBEAT_TABLE = "REPLICA_HEARTBEAT";
+    private static final int BATCH_SIZE = 500;
+
+    private final DataSource primary;
+    private final List<DataSource> replicas;
+
+    public ReplicaCopyJob(DataSource primary, List<DataSource> replicas) {
+        this.primary = primary;
+        this.replicas = List.copyOf(replicas);
+    }
+
+    @Scheduled(fixedDelayString = "${autos.replicas.local.copy-interval-ms:500}")
+    public void copy() {
+        try (Workload.Scope scope = Workload.BULK.enter()) {
+            for (int i = 0; i < replicas.size(); i++) {
+                try {
+                    copyTo(replicas.get(i));
+                } catch (SQLException e) {
+                    log.warn("No se pudo copiar el primario a la réplica {}: {}", i + 1, e.getMessage());
+                }
+            }
+        }
+    }
+
+    void copyTo(DataSource replica) throws SQLException {
+        try (Connection source = primary.getConnection(); Connection target = replica.getConnection()) {
+            long position = heartbeatPosition(source);
+            List<String> tables = tables(source);
+            List<String> existing = tables(target);
+            // DDL commits on H2, so every table must exist before the copy transaction starts
+            for (String table : tables) {
+                if (!existing.contains(table)) {
+                    createTable(source, target, table);
+                }
+            }
+            target.setAutoCommit(false);
+            try {
+                for (String table : tables) {
+                    if (!table.equals(HEARTBEAT_TABLE)) {
+                        copyTable(source, target, table);
+                    }
+                }
+                try (PreparedStatement beat = target.prepareStatement(
+                        "MERGE INTO replica_heartbeat (id, position) KEY (id) VALUES (1, ?)")) {
+                    beat.setLong(1, position);
+                    beat.executeUpdate();
+                }
+                target.commit();
+            } catch (SQLException | RuntimeException e) {
+                target.rollback();
+                throw e;
+            } finally {
+                target.setAutoCommit(true);
+            }
+        }
+    }
+
+    private static long heartbeatPosition(Connection source) throws SQLException {
+        try (Statement statement = source.createStatement();
+             ResultSet resultSet = statement.executeQuery(ReplicaHeartbeat.SELECT_POSITION)) {
+            if (!resultSet.next()) {
+                throw new SQLException("El primario no tiene latido");
+            }
+            return resultSet.getLong(1);
+        }
+    }
+
+    private static List<String> tables(Connection connection) throws SQLException {
+        List<String> tables = new ArrayList<>();
+        try (Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery("SELECT TABLE_NAME FROM INFORMATION_SCHEMA.TABLES "
+                     + "WHERE TABLE_SCHEMA = 'PUBLIC' AND TABLE_TYPE = 'BASE TABLE'")) {
+            while (resultSet.next()) {
+                tables.add(resultSet.getString(1));
+            }
+        }
+        return tables;
+    }
+
+    private static void createTable(Connection source, Connection target, String table) throws SQLException {
+        List<String> ddl = new ArrayList<>();
+        try (Statement statement = source.createStatement();
+             ResultSet resultSet = statement.executeQuery(
+                     "SCRIPT NODATA NOPASSWORDS NOSETTINGS TABLE " + quote(table))) {
+            while (resultSet.next()) {
+                String sql = resultSet.getString(1);
+                if (!sql.startsWith("--") && !sql.startsWith("CREATE USER")) {
+                    ddl.add(sql);
+                }
+            }
+        }
+        try (Statement statement = target.createStatement()) {
+            for (String sql : ddl) {
+                statement.execute(sql);
+            }
+        }
+        log.info("Tabla {} creada en la réplica", table);
+    }
+
+    private static void copyTable(Connection source, Connection target, String table) throws SQLException {
+        try (Statement clear = target.createStatement()) {
+            clear.executeUpdate("DELETE FROM " + quote(table));
+        }
+        try (Statement select = source.createStatement();
+             ResultSet rows = select.executeQuery("SELECT * FROM " + quote(table))) {
+            ResultSetMetaData metaData = rows.getMetaData();
+            int columns = metaData.getColumnCount();
+            StringJoiner names = new StringJoiner(", ", "(", ")");
+            StringJoiner values = new StringJoiner(", ", "(", ")");
+            for (int column = 1; column <= columns; column++) {
+                names.add(quote(metaData.getColumnName(column)));
+                values.add("?");
+            }
+            try (PreparedStatement insert = target.prepareStatement(
+                    "INSERT INTO " + quote(table) + " " + names + " VALUES " + values)) {
+                int pending = 0;
+                while (rows.next()) {
+                    for (int column = 1; column <= columns; column++) {
+                        insert.setObject(column, rows.getObject(column));
+                    }
+                    insert.addBatch();
+                    if (++pending == BATCH_SIZE) {
+                        insert.executeBatch();
+                        pending = 0;
+                    }
+                }
+                if (pending > 0) {
+                    insert.executeBatch();
+                }
+            }
+        }
+    }
+
+    private static String quote(String identifier) {
+        return '"' + identifier.replace("\"", "\"\"") + '"';
+    }
+}
@@ -0,0 +1,58 @@
+package com.empleados.api.replica;
+
+import jakarta.annotation.PostConstruct;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import javax.sql.DataSource;
+
+/**
+ * Writes the heartbeat the replicas are measured against and checks them.
+ * <p>
+ * A single row on the primary holds a position that goes up by one on every beat; replication
+ * carries it to the replicas like any other row, so the value a replica returns is the last beat
+ * it applied. A write that committed while the primary was at position {@code p} is therefore on
+ * every replica that reports {@code p + 1} or more.
+ */
+public class ReplicaHeartbeat {
+
+    static final String SELECT_POSITION = "SELECT position FROM replica_heartbeat WHERE id = 1";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ReplicaSet replicas;
+
+    public ReplicaHeartbeat(DataSource dataSource, ReplicaSet replicas) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.replicas = replicas;
+    }
+
+    @PostConstruct
+    public void init() {
+        jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS replica_heartbeat (id INT PRIMARY KEY, position BIGINT NOT NULL)");
+        jdbcTemplate.update("INSERT INTO replica_heartbeat (id, position) SELECT 1, 0 "
+                + "WHERE NOT EXISTS (SELECT 1 FROM replica_heartbeat WHERE id = 1)");
+        Long position = jdbcTemplate.queryForObject(SELECT_POSITION, Long.class);
+        replicas.advancePrimary(position != null ? position : 0);
+        replicas.checkHealth();
+    }
+
+    /**
+     * Advance the primary position, then see how far each replica got.
+     * <p>
+     * The position kept in memory moves first: a write committing during the beat then gets a
+     * token for the beat after this one, which is only written once the write is done. Moving it
+     * after the update would hand such a write the token of a beat that may have replicated
+     * without it. The row is incremented in the database, not set from the local counter, so it
+     * never goes back, and the value read back becomes the primary position.
+     */
+    @Scheduled(fixedDelayString = "${autos.replicas.check-interval-ms:1000}")
+    public void beat() {
+        replicas.advancePrimary(replicas.getPrimaryPosition() + 1);
+        jdbcTemplate.update("UPDATE replica_heartbeat SET position = position + 1 WHERE id = 1");
+        Long position = jdbcTemplate.queryForObject(SELECT_POSITION, Long.class);
+        if (position != null && position > replicas.getPrimaryPosition()) {
+            replicas.advancePrimary(position);
+        }
+        replicas.checkHealth();
+    }
+}
@@ -0,0 +1,71 @@
+package com.empleados.api.replica;
+
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+
+/**
+ * Sends read-only transactions to a read replica and everything else to the primary.
+ * <p>
+ * The transaction manager asks for its connection before the transaction is flagged read-only,
+ * so the physical connection is only fetched, and the target chosen, when the first statement
+ * runs. A read-only transaction uses a replica from the {@link ReplicaSet} that satisfies the
+ * {@link ReadConsistency} of the thread, or the primary when none does. A thread pinned to a target
+ * always uses it.
+ */
+public class ReplicaRoutingDataSource extends LazyConnectionDataSourceProxy implements AutoCloseable {
+
+    private final DataSource primary;
+
+    public ReplicaRoutingDataSource(DataSource primary, ReplicaSet replicas) {
+        super(new Router(primary, replicas));
+        this.primary = primary;
+    }
+
+    /**
+     * Close the primary pools; the replicas are closed with their {@link ReplicaSet}
+     */
+    @Override
+    public void close() throws Exception {
+        if (primary instanceof AutoCloseable closeable) {
+            closeable.close();
+        }
+    }
+
+    private static final class Router extends AbstractDataSource {
+
+        private final DataSource primary;
+        private final ReplicaSet replicas;
+
+        Router(DataSource primary, ReplicaSet replicas) {
+            this.primary = primary;
+            this.replicas = replicas;
+        }
+
+        @Override
+        public Connection getConnection() throws SQLException {
+            return target().getConnection();
+        }
+
+        @Override
+        public Connection getConnection(String username, String password) throws SQLException {
+            return target().getConnection(username, password);
+        }
+
+        private DataSource target() {
+            if (ReadConsistency.isPinned()) {
+                Replica pinned = ReadConsistency.pinned();
+                return pinned != null ? pinned.getDataSource() : primary;
+            }
+            if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+                return primary;
+            }
+            Replica replica = replicas.select(ReadConsistency.required());
+            return replica != null ? replica.getDataSource() : primary;
+        }
+    }
+}
@@ -0,0 +1,148 @@
+package com.empleados.api.replica;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * The read replicas available to read-only transactions and the position of the primary.
+ * <p>
+ * Positions come from {@link ReplicaHeartbeat}: the primary bumps a heartbeat row at a fixed rate
+ * and each replica reports the last value it applied. A replica may serve a read when it is
+ * healthy, at most {@code maxLag} heartbeats behind, and at or past the consistency token of the
+ * client, which is the primary position right after the client's last write. Among those,
+ * {@link Selection#ROUND_ROBIN} spreads reads evenly and {@link Selection#LEAST_LATENCY} takes the
+ * one that answered its checks fastest. When none qualifies the read goes to the primary.
+ */
+public class ReplicaSet implements MeterBinder, AutoCloseable {
+
+    /**
+     * How a replica is picked among the eligible ones
+     */
+    public enum Selection {
+        ROUND_ROBIN,
+        LEAST_LATENCY
+    }
+
+    private final List<Replica> replicas;
+    private final Selection selection;
+    private final long maxLag;
+    private final int checkTimeoutSeconds;
+    private final AtomicInteger next = new AtomicInteger();
+    private final AtomicLong primaryReads = new AtomicLong();
+
+    private volatile long primaryPosition;
+
+    public ReplicaSet(List<Replica> replicas, Selection selection, long maxLag, int checkTimeoutSeconds) {
+        this.replicas = List.copyOf(replicas);
+        this.selection = selection;
+        this.maxLag = maxLag;
+        this.checkTimeoutSeconds = checkTimeoutSeconds;
+    }
+
+    /**
+     * Pick a replica that has applied at least {@code requiredPosition}
+     *
+     * @return the replica, or null when the read must go to the primary
+     */
+    public Replica select(long requiredPosition) {
+        List<Replica> candidates = candidates(requiredPosition);
+        Replica chosen = candidates.isEmpty() ? null : candidates.get(0);
+        recordRead(chosen);
+        return chosen;
+    }
+
+    /**
+     * Every replica that may serve a read requiring {@code requiredPosition}, best first
+     */
+    public List<Replica> candidates(long requiredPosition) {
+        long minimum = Math.max(requiredPosition, primaryPosition - maxLag);
+        List<Replica> candidates = new ArrayList<>(replicas.size());
+        int start = selection == Selection.ROUND_ROBIN
+                ? Math.floorMod(next.getAndIncrement(), Math.max(1, replicas.size())) : 0;
+        for (int i = 0; i < replicas.size(); i++) {
+            Replica replica = replicas.get((start + i) % replicas.size());
+            if (replica.isHealthy() && replica.getPosition() >= minimum) {
+                candidates.add(replica);
+            }
+        }
+        if (selection == Selection.LEAST_LATENCY) {
+            candidates.sort(Comparator.comparingDouble(Replica::getLatencyMillis));
+        }
+        return candidates;
+    }
+
+    /**
+     * Count a read served by {@code replica}, or by the primary when it is null
+     */
+    void recordRead(Replica replica) {
+        if (replica == null) {
+            primaryReads.incrementAndGet();
+        } else {
+            replica.recordRead();
+        }
+    }
+
+    /**
+     * Token for a client that just wrote: replicas at or past it have applied the write
+     */
+    public long currentToken() {
+        return primaryPosition + 1;
+    }
+
+    public long getPrimaryPosition() {
+        return primaryPosition;
+    }
+
+    void advancePrimary(long position) {
+        primaryPosition = position;
+    }
+
+    /**
+     * Check every replica once
+     */
+    public void checkHealth() {
+        replicas.forEach(replica -> replica.check(checkTimeoutSeconds));
+    }
+
+    public List<Replica> getReplicas() {
+        return replicas;
+    }
+
+    public long getPrimaryReads() {
+        return primaryReads.get();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        for (Replica replica : replicas) {
+            Gauge.builder("autos.replica.healthy", replica, r -> r.isHealthy() ? 1 : 0)
+                    .tag("replica", replica.getName()).register(registry);
+            Gauge.builder("autos.replica.lag", replica,
+                            r -> r.getPosition() < 0 ? Double.NaN : Math.max(0, primaryPosition - r.getPosition()))
+                    .tag("replica", replica.getName()).register(registry);
+            Gauge.builder("autos.replica.latency", replica, Replica::getLatencyMillis)
+                    .tag("replica", replica.getName()).baseUnit("milliseconds").register(registry);
+            FunctionCounter.builder("autos.replica.reads", replica, Replica::getReads)
+                    .tag("target", replica.getName()).register(registry);
+        }
+        FunctionCounter.builder("autos.replica.reads", primaryReads, AtomicLong::get)
+                .tag("target", "primary").register(registry);
+    }
+
+    @Override
+    public void close() throws Exception {
+        for (Replica replica : replicas) {
+            if (replica.getDataSource() instanceof AutoCloseable closeable) {
+                closeable.close();
+            }
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package com.empleados.api.repository;
+
+import com.empleados.api.exception.BadRequestException;
+import com.empleados.api.model.Auto;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * Position of a row in a sorted automoviles list: the value of the sort column and the id that
+ * breaks ties. The next page starts right after it.
+ *
+ * @param value the sort column value, possibly null
+ * @param id the id of the row
+ */
+public record AutoKeyset(Object value, long id) {
+
+    /**
+     * Position of the given auto in a list sorted by {@code field}
+     */
+    public static AutoKeyset of(AutoSortField field, Auto auto) {
+        return new AutoKeyset(field.valueOf(auto), auto.getId());
+    }
+
+    /**
+     * Opaque cursor for this position, safe to put in a URL
+     */
+    public String encode() {
+        String text = id + ":" + (value == null ? "" : "v" + value);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(text.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Read a cursor produced by {@link #encode()} for a list sorted by {@code field}
+     *
+     * @throws BadRequestException if the cursor is malformed or its value does not fit the field
+     */
+    public static AutoKeyset decode(String cursor, AutoSortField field) {
+        try {
+            String text = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = text.indexOf(':');
+            long id = Long.parseLong(text.substring(0, separator));
+            String value = text.substring(separator + 1);
+            return new AutoKeyset(value.isEmpty() ? null : field.parse(value.substring(1)), id);
+        } catch (RuntimeException e) {
+            throw new BadRequestException("Cursor de página no válido: " + cursor, e);
+        }
+    }
+}
@@ -0,0 +1,23 @@
+package com.empleados.api.repository;
+
+import com.empleados.api.model.Auto;
+
+import java.util.List;
+
+/**
+ * Keyset pagination of automoviles, mixed into {@link AutoRepository}
+ */
+public interface AutoKeysetRepository {
+
+    /**
+     * Find the automoviles that follow a position in the list sorted by {@code field} and then by id.
+     * Nulls come first in ascending order and last in descending order, as H2 sorts them.
+     *
+     * @param field the column to sort by
+     * @param descending whether the list is sorted in descending order
+     * @param after the last row of the previous page, or null for the first page
+     * @param limit the maximum number of rows
+     * @return at most {@code limit} automoviles, in list order
+     */
+    List<Auto> findPage(AutoSortField field, boolean descending, AutoKeyset after, int limit);
+}
@@ -0,0 +1,77 @@
+package com.empleados.api.repository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.TypedQuery;
+
+import com.empleados.api.model.Auto;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * JPQL implementation of {@link AutoKeysetRepository}.
+ * <p>
+ * Pages are read with a range on the sort column and the id rather than an {@code OFFSET}, so the
+ * index of the sort direction is entered at the last row already shown and only {@code limit} rows
+ * are read whatever page is asked for. H2 cannot seek past nulls with an {@code OR}, so the null
+ * and non-null rows of a column are read as two ranges, one after the other.
+ */
+public class AutoKeysetRepositoryImpl implements AutoKeysetRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<Auto> findPage(AutoSortField field, boolean descending, AutoKeyset after, int limit) {
+        String beyond = descending ? " < " : " > ";
+        if (after == null) {
+            return query(field, descending, null, Map.of(), limit);
+        }
+        if (field == AutoSortField.ID) {
+            return query(field, descending, "a.id" + beyond + ":id", Map.of("id", after.id()), limit);
+        }
+
+        String column = "a." + field.getProperty();
+        List<Auto> page = new ArrayList<>();
+        if (after.value() == null) {
+            // Nulls come first in ascending order, so the values follow them
+            page.addAll(query(field, descending, column + " is null and a.id" + beyond + ":id",
+                    Map.of("id", after.id()), limit));
+            if (!descending && page.size() < limit) {
+                page.addAll(query(field, false, column + " is not null", Map.of(), limit - page.size()));
+            }
+            return page;
+        }
+        String from = descending ? " <= " : " >= ";
+        page.addAll(query(field, descending,
+                column + from + ":value and (" + column + beyond + ":value or a.id" + beyond + ":id)",
+                Map.of("value", after.value(), "id", after.id()), limit));
+        // Nulls come last in descending order, after every value
+        if (descending && page.size() < limit) {
+            page.addAll(query(field, true, column + " is null", Map.of(), limit - page.size()));
+        }
+        return page;
+    }
+
+    private List<Auto> query(AutoSortField field, boolean descending, String condition,
+                             Map<String, Object> parameters, int limit) {
+        String direction = descending ? " desc" : " asc";
+        StringBuilder jpql = new StringBuilder("select a from Auto a");
+        if (condition != null) {
+            jpql.append(" where ").append(condition);
+        }
+        jpql.append(" order by ");
+        if (field != AutoSortField.ID) {
+            jpql.append("a.").append(field.getProperty()).append(direction).append(", ");
+        }
+        jpql.append("a.id").append(direction);
+
+        TypedQuery<Auto> query = entityManager.createQuery(jpql.toString(), Auto.class)
+                .setMaxResults(limit)
+                .setHint("org.hibernate.readOnly", true);
+        parameters.forEach(query::setParameter);
+        return query.getResultList();
+    }
+}
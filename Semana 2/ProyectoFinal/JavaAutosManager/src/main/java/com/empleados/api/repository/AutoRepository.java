@@ -1,18 +1,30 @@
 package com.empleados.api.repository;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import com.empleados.api.model.Auto;
 
+import jakarta.persistence.QueryHint;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
+
+import static org.hibernate.jpa.HibernateHints.HINT_FETCH_SIZE;
+import static org.hibernate.jpa.HibernateHints.HINT_READ_ONLY;
 
 /**
  * Repository interface for Auto entity to handle database operations
  */
 @Repository
-public interface AutoRepository extends JpaRepository<Auto, Long> {
+public interface AutoRepository extends JpaRepository<Auto, Long>, AutoKeysetRepository {
     
     /**
      * Find an auto by email
@@ -21,6 +33,15 @@ public interface AutoRepository extends JpaRepository<Auto, Long> {
      * @return an Optional containing the auto if found
      */
     Optional<Auto> findByEmail(String email);
+
+    /**
+     * Find which of the given emails are already in use
+     * 
+     * @param emails the emails to check
+     * @return the emails that belong to an existing auto
+     */
+    @Query("select a.email from Auto a where a.email in :emails")
+    List<String> findExistingEmails(@Param("emails") Collection<String> emails);
     
     
     /**
@@ -30,4 +51,47 @@ public interface AutoRepository extends JpaRepository<Auto, Long> {
      * @return a list of automoviles in the specified department
      */
     List<Auto> findByDepartamento(String departamento);
+
+    /**
+     * Stream automoviles ordered by id, optionally filtered by department and purchase date.
+     * Must be consumed inside a transaction and closed afterwards.
+     * 
+     * @param departamento the department, or null for all
+     * @param desde first purchase date included, or null
+     * @param hasta last purchase date included, or null
+     * @return a cursor over the matching automoviles
+     */
+    @QueryHints({
+        @QueryHint(name = HINT_FETCH_SIZE, value = "500"),
+        @QueryHint(name = HINT_READ_ONLY, value = "true")
+    })
+    @Query("select a from Auto a where (:departamento is null or a.departamento = :departamento)"
+            + " and (:desde is null or a.fechaCompra >= :desde) and (:hasta is null or a.fechaCompra <= :hasta)"
+            + " order by a.id")
+    Stream<Auto> streamForExport(@Param("departamento") String departamento, @Param("desde") LocalDate desde,
+                                 @Param("hasta") LocalDate hasta);
+
+    /**
+     * Sum the costo of all automoviles
+     * 
+     * @return the total costo, zero when the table is empty
+     */
+    @Query("select coalesce(sum(a.costo), 0) from Auto a")
+    BigDecimal sumCosto();
+
+    /**
+     * Count automoviles per marca, skipping null marcas
+     * 
+     * @return one row per marca
+     */
+    @Query("select a.marca as valor, count(a) as total from Auto a where a.marca is not null group by a.marca")
+    List<ValueCount> countByMarca();
+
+    /**
+     * Count automoviles per department, skipping null departments
+     * 
+     * @return one row per department
+     */
+    @Query("select a.departamento as valor, count(a) as total from Auto a where a.departamento is not null group by a.departamento")
+    List<ValueCount> countByDepartamento();
 }
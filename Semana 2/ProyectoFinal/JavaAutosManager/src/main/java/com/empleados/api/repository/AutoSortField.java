@@ -0,0 +1,66 @@
+package com.empleados.api.repository;
+
+import com.empleados.api.exception.BadRequestException;
+import com.empleados.api.model.Auto;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.function.Function;
+
+/**
+ * Columns the automoviles list can be sorted by. Each one is backed by an index on
+ * {@code (column, id)} for each direction, since H2 does not scan an index backwards, so that a
+ * page is an index range scan whatever its position in the list.
+ */
+public enum AutoSortField {
+
+    ID("id", Auto::getId, Long::valueOf),
+    APELLIDO("apellido", Auto::getApellido, Function.identity()),
+    MARCA("marca", Auto::getMarca, Function.identity()),
+    FECHA_COMPRA("fechaCompra", Auto::getFechaCompra, LocalDate::parse),
+    COSTO("costo", Auto::getCosto, BigDecimal::new),
+    DEPARTAMENTO("departamento", Auto::getDepartamento, Function.identity());
+
+    private final String property;
+    private final Function<Auto, ?> getter;
+    private final Function<String, ?> parser;
+
+    AutoSortField(String property, Function<Auto, ?> getter, Function<String, ?> parser) {
+        this.property = property;
+        this.getter = getter;
+        this.parser = parser;
+    }
+
+    /**
+     * Find the field sorting by the given entity property
+     *
+     * @param property the property name, as used in the UI
+     * @return the field
+     * @throws BadRequestException if the list cannot be sorted by that property
+     */
+    public static AutoSortField fromProperty(String property) {
+        return Arrays.stream(values())
+                .filter(field -> field.property.equals(property))
+                .findFirst()
+                .orElseThrow(() -> new BadRequestException("No se puede ordenar por: " + property));
+    }
+
+    public String getProperty() {
+        return property;
+    }
+
+    /**
+     * Value of this field in the given auto
+     */
+    public Object valueOf(Auto auto) {
+        return getter.apply(auto);
+    }
+
+    /**
+     * Value of this field from its {@code toString} form
+     */
+    Object parse(String text) {
+        return parser.apply(text);
+    }
+}
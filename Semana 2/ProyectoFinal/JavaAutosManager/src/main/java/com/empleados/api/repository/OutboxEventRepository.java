@@ -0,0 +1,72 @@
+package com.empleados.api.repository;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.empleados.api.model.OutboxEvent;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Repository interface for the outbox table
+ */
+@Repository
+public interface OutboxEventRepository extends JpaRepository<OutboxEvent, Long> {
+
+    /**
+     * Find the oldest events not delivered yet
+     *
+     * @param pageable the maximum number of events to return
+     * @return pending events in insertion order
+     */
+    @Query("select e from OutboxEvent e where e.dispatchedAt is null order by e.id")
+    List<OutboxEvent> findPending(Pageable pageable);
+
+    /**
+     * Count the events not delivered yet
+     *
+     * @return the number of pending events
+     */
+    long countByDispatchedAtIsNull();
+
+    /**
+     * Mark events as delivered
+     *
+     * @param ids the delivered events
+     * @param dispatchedAt the delivery time
+     * @return the number of updated rows
+     */
+    @Transactional
+    @Modifying
+    @Query("update OutboxEvent e set e.dispatchedAt = :dispatchedAt where e.id in :ids")
+    int markDispatched(@Param("ids") Collection<Long> ids, @Param("dispatchedAt") Instant dispatchedAt);
+
+    /**
+     * Record a failed delivery attempt
+     *
+     * @param ids the events that could not be delivered
+     * @return the number of updated rows
+     */
+    @Transactional
+    @Modifying
+    @Query("update OutboxEvent e set e.attempts = e.attempts + 1 where e.id in :ids")
+    int incrementAttempts(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Delete delivered events older than a given time
+     *
+     * @param before the retention limit
+     * @return the number of deleted rows
+     */
+    @Transactional
+    @Modifying
+    @Query("delete from OutboxEvent e where e.dispatchedAt < :before")
+    int deleteDispatchedBefore(@Param("before") Instant before);
+}
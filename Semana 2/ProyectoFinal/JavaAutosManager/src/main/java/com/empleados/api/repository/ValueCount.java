@@ -0,0 +1,11 @@
+package com.empleados.api.repository;
+
+/**
+ * Projection for {@code GROUP BY} count queries
+ */
+public interface ValueCount {
+
+    String getValor();
+
+    long getTotal();
+}
@@ -0,0 +1,43 @@
+package com.empleados.api.service;
+
+import java.util.List;
+
+import com.empleados.api.dto.DistinctEstimateDTO;
+import com.empleados.api.dto.FrequencyEstimateDTO;
+import com.empleados.api.dto.QuantileEstimateDTO;
+
+/**
+ * Service interface for approximate statistics computed from sketches
+ */
+public interface ApproximateStatsService {
+
+    /**
+     * Estimate the number of distinct owners (nombre and apellido)
+     * 
+     * @return the estimate with its error bounds
+     */
+    DistinctEstimateDTO getDistinctOwners();
+
+    /**
+     * Estimate the number of distinct emails
+     * 
+     * @return the estimate with its error bounds
+     */
+    DistinctEstimateDTO getDistinctEmails();
+
+    /**
+     * Estimate the most frequent marcas
+     * 
+     * @param k the number of marcas to return
+     * @return the marcas ordered by decreasing estimated count
+     */
+    List<FrequencyEstimateDTO> getTopMarcas(int k);
+
+    /**
+     * Estimate costo percentiles
+     * 
+     * @param percentiles the percentiles to estimate, each in [0, 100]
+     * @return the estimates in request order
+     */
+    List<QuantileEstimateDTO> getCostoPercentiles(List<Double> percentiles);
+}
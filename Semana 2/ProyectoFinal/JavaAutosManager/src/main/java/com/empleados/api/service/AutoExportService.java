@@ -0,0 +1,26 @@
+package com.empleados.api.service;
+
+import com.empleados.api.bulk.ExportFormat;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.LocalDate;
+
+/**
+ * Service interface for exporting filtered lists of automoviles
+ */
+public interface AutoExportService {
+
+    /**
+     * Write the matching automoviles to a stream, ordered by id
+     * 
+     * @param departamento the department, or null or blank for all
+     * @param desde first purchase date included, or null
+     * @param hasta last purchase date included, or null
+     * @param formato the file format
+     * @param output the stream to write to; it is flushed but not closed
+     * @return the number of automoviles written
+     */
+    long exportAutomoviles(String departamento, LocalDate desde, LocalDate hasta, ExportFormat formato,
+                           OutputStream output) throws IOException;
+}
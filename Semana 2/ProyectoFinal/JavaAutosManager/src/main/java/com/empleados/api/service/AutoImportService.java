@@ -0,0 +1,29 @@
+package com.empleados.api.service;
+
+import org.springframework.web.multipart.MultipartFile;
+
+import com.empleados.api.dto.ImportJobDTO;
+
+import java.io.IOException;
+
+/**
+ * Service interface for bulk imports of automoviles from CSV files
+ */
+public interface AutoImportService {
+
+    /**
+     * Start importing a CSV file in the background
+     * 
+     * @param archivo the uploaded CSV file
+     * @return the status of the new import
+     */
+    ImportJobDTO startImport(MultipartFile archivo) throws IOException;
+
+    /**
+     * Get the status of an import
+     * 
+     * @param id the import ID
+     * @return the current status and progress
+     */
+    ImportJobDTO getImport(String id);
+}
@@ -0,0 +1,29 @@
+package com.empleados.api.service;
+
+import com.empleados.api.dto.AutoDTO;
+import com.empleados.api.dto.IngestionTicketDTO;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Service interface for asynchronous registration of automoviles through the ingestion queue
+ */
+public interface AutoIngestionService {
+
+    /**
+     * Queue an auto to be saved in the next group commit
+     * 
+     * @param autoDTO the auto to save
+     * @return the pending ticket
+     */
+    IngestionTicketDTO submit(AutoDTO autoDTO);
+
+    /**
+     * Get the status of a ticket, optionally waiting until it is saved or rejected
+     * 
+     * @param ticket the ticket number
+     * @param esperarMs how long to wait for a final status, 0 to answer immediately
+     * @return the final status, or the pending one if the wait ran out
+     */
+    CompletableFuture<IngestionTicketDTO> getStatus(long ticket, long esperarMs);
+}
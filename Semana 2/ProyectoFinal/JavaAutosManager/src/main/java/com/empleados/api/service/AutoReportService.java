@@ -0,0 +1,43 @@
+package com.empleados.api.service;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+import com.empleados.api.analytics.AutoColumn;
+import com.empleados.api.dto.CostStatsDTO;
+import com.empleados.api.dto.HistogramBucketDTO;
+
+/**
+ * Service interface for full-fleet reports computed in parallel off the request threads
+ */
+public interface AutoReportService {
+
+    /**
+     * Summarize the costo of automoviles grouped by a column
+     * 
+     * @param column the column to group by
+     * @return the costo summary per value
+     */
+    CompletableFuture<Map<String, CostStatsDTO>> getCostoStatsBy(AutoColumn column);
+
+    /**
+     * Compute costo percentiles
+     * 
+     * @param percentiles the percentiles to compute, each in (0, 100]
+     * @return the costo of each percentile keyed as {@code p50}, {@code p99.9}, ...
+     */
+    CompletableFuture<Map<String, BigDecimal>> getCostoPercentiles(List<Double> percentiles);
+
+    /**
+     * Build a histogram of purchase dates
+     * 
+     * @param desde first day of the first bucket
+     * @param bucketDays width of each bucket in days
+     * @param buckets number of buckets
+     * @return the buckets in chronological order
+     */
+    CompletableFuture<List<HistogramBucketDTO>> getComprasHistogram(LocalDate desde, int bucketDays, int buckets);
+}
@@ -3,6 +3,8 @@ package com.empleados.api.service;
 import java.util.List;
 
 import com.empleados.api.dto.AutoDTO;
+import com.empleados.api.dto.AutoPageDTO;
+import com.empleados.api.exception.BadRequestException;
 
 /**
  * Service interface for auto management operations
@@ -16,6 +18,18 @@ public interface AutoService {
      */
     List<AutoDTO> getAllAutomoviles();
 
+    /**
+     * Get one page of the automoviles sorted by a column, using keyset pagination
+     * 
+     * @param ordenarPor the property to sort by
+     * @param direccion "asc" or "desc"
+     * @param cursor the cursor returned with the previous page, or null for the first page
+     * @param tamanio the page size
+     * @return the page and the cursor of the next one
+     * @throws BadRequestException if the sort, direction or cursor are not valid
+     */
+    AutoPageDTO getAutomovilesPage(String ordenarPor, String direccion, String cursor, int tamanio);
+
     /**
      * Get an auto by ID
      * 
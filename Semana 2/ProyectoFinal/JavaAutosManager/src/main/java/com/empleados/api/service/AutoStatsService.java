@@ -0,0 +1,82 @@
+package com.empleados.api.service;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+import com.empleados.api.analytics.AutoColumn;
+import com.empleados.api.dto.CostStatsDTO;
+import com.empleados.api.dto.DashboardStatsDTO;
+import com.empleados.api.dto.HistogramBucketDTO;
+
+/**
+ * Service interface for analytical queries over automoviles
+ */
+public interface AutoStatsService {
+
+    /**
+     * Count automoviles grouped by a column
+     * 
+     * @param column the column to group by
+     * @return the number of automoviles per value
+     */
+    Map<String, Long> getCountBy(AutoColumn column);
+
+    /**
+     * Sum the costo of automoviles grouped by a column
+     * 
+     * @param column the column to group by
+     * @return the total costo per value
+     */
+    Map<String, BigDecimal> getCostoSumBy(AutoColumn column);
+
+    /**
+     * Sum the costo of all automoviles, or of one department
+     * 
+     * @param departamento the department, or null for all automoviles
+     * @return the total costo
+     */
+    BigDecimal getCostoSum(String departamento);
+
+    /**
+     * Summary statistics (count, sum, average, min, max) of the costo of all automoviles
+     * 
+     * @return the costo statistics
+     */
+    CostStatsDTO getCostoStats();
+
+    /**
+     * Summary statistics of the costo grouped by a column
+     * 
+     * @param column the column to group by
+     * @return the costo statistics per value
+     */
+    Map<String, CostStatsDTO> getCostoStatsBy(AutoColumn column);
+
+    /**
+     * Count the automoviles bought in a date range
+     * 
+     * @param desde first day, inclusive
+     * @param hasta last day, inclusive
+     * @return the number of automoviles bought in the range
+     */
+    long countComprasBetween(LocalDate desde, LocalDate hasta);
+
+    /**
+     * Build a histogram of purchase dates
+     * 
+     * @param desde first day of the first bucket
+     * @param bucketDays width of each bucket in days
+     * @param buckets number of buckets
+     * @return the buckets in chronological order
+     */
+    List<HistogramBucketDTO> getComprasHistogram(LocalDate desde, int bucketDays, int buckets);
+
+    /**
+     * Get the dashboard figures, maintained in memory without querying the database
+     * 
+     * @return total, costo sum and average, and counts per marca and department
+     */
+    DashboardStatsDTO getDashboardStats();
+}
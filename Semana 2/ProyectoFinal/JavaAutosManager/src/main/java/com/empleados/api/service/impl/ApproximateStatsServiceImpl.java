@@ -0,0 +1,84 @@
+package com.empleados.api.service.impl;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import com.empleados.api.analytics.sketch.FleetSketches;
+import com.empleados.api.dto.DistinctEstimateDTO;
+import com.empleados.api.dto.FrequencyEstimateDTO;
+import com.empleados.api.dto.QuantileEstimateDTO;
+import com.empleados.api.exception.BadRequestException;
+import com.empleados.api.service.ApproximateStatsService;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Implementation of the ApproximateStatsService interface backed by the fleet sketches
+ */
+@Service
+public class ApproximateStatsServiceImpl implements ApproximateStatsService {
+
+    /** Two standard errors cover about 95% of HyperLogLog estimates */
+    private static final double DISTINCT_CONFIDENCE = 0.95;
+    private static final double DISTINCT_STANDARD_ERRORS = 2;
+
+    private final FleetSketches fleetSketches;
+
+    @Autowired
+    public ApproximateStatsServiceImpl(FleetSketches fleetSketches) {
+        this.fleetSketches = fleetSketches;
+    }
+
+    @Override
+    public DistinctEstimateDTO getDistinctOwners() {
+        return toDTO(fleetSketches.distinctOwners());
+    }
+
+    @Override
+    public DistinctEstimateDTO getDistinctEmails() {
+        return toDTO(fleetSketches.distinctEmails());
+    }
+
+    @Override
+    public List<FrequencyEstimateDTO> getTopMarcas(int k) {
+        if (k <= 0 || k > fleetSketches.topKCapacity()) {
+            throw new BadRequestException("k debe estar entre 1 y " + fleetSketches.topKCapacity());
+        }
+        long errorBound = fleetSketches.marcaErrorBound();
+        double confidence = fleetSketches.marcaConfidence();
+        List<FrequencyEstimateDTO> result = new ArrayList<>();
+        fleetSketches.topMarcas(k).forEach(entry -> result.add(new FrequencyEstimateDTO(
+                entry.getKey(), entry.getValue(), Math.max(0, entry.getValue() - errorBound), confidence)));
+        return result;
+    }
+
+    @Override
+    public List<QuantileEstimateDTO> getCostoPercentiles(List<Double> percentiles) {
+        List<QuantileEstimateDTO> result = new ArrayList<>(percentiles.size());
+        for (double percentile : percentiles) {
+            if (!(percentile >= 0 && percentile <= 100)) {
+                throw new BadRequestException("Los percentiles deben estar entre 0 y 100");
+            }
+            double q = percentile / 100;
+            double cents = fleetSketches.costoQuantileCents(q);
+            BigDecimal valor = Double.isNaN(cents)
+                    ? null
+                    : BigDecimal.valueOf(Math.round(cents), 2);
+            result.add(new QuantileEstimateDTO(percentile, valor, fleetSketches.costoQuantileRankError(q)));
+        }
+        return result;
+    }
+
+    private static DistinctEstimateDTO toDTO(FleetSketches.DistinctEstimate estimate) {
+        double margin = DISTINCT_STANDARD_ERRORS * estimate.standardError();
+        return new DistinctEstimateDTO(
+                estimate.estimate(),
+                BigDecimal.valueOf(estimate.standardError()).setScale(4, RoundingMode.HALF_UP).doubleValue(),
+                (long) Math.floor(estimate.estimate() * (1 - margin)),
+                (long) Math.ceil(estimate.estimate() * (1 + margin)),
+                DISTINCT_CONFIDENCE);
+    }
+}
@@ -0,0 +1,123 @@
+package com.empleados.api.service.impl;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.springframework.beans.BeanUtils;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.empleados.api.bulk.AutoCsvColumn;
+import com.empleados.api.bulk.CsvWriter;
+import com.empleados.api.bulk.ExportFormat;
+import com.empleados.api.bulk.XlsxStreamWriter;
+import com.empleados.api.dto.AutoDTO;
+import com.empleados.api.model.Auto;
+import com.empleados.api.repository.AutoRepository;
+import com.empleados.api.service.AutoExportService;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+/**
+ * Implementation of the AutoExportService interface.
+ * <p>
+ * Rows are read through a database cursor and every entity is detached once written, so memory
+ * use stays constant whatever the number of automoviles. Output is flushed every
+ * {@value #FLUSH_EVERY} rows to keep the download moving. The columns match the CSV import
+ * format, preceded by the id.
+ */
+@Service
+public class AutoExportServiceImpl implements AutoExportService {
+
+    static final int FLUSH_EVERY = 1000;
+
+    private static final AutoCsvColumn[] COLUMNS = AutoCsvColumn.values();
+
+    private final AutoRepository autoRepository;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Autowired
+    public AutoExportServiceImpl(AutoRepository autoRepository) {
+        this.autoRepository = autoRepository;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public long exportAutomoviles(String departamento, LocalDate desde, LocalDate hasta, ExportFormat formato,
+                                  OutputStream output) throws IOException {
+        String filtroDepartamento = departamento == null || departamento.isBlank() ? null : departamento.trim();
+        try (Stream<Auto> automoviles = autoRepository.streamForExport(filtroDepartamento, desde, hasta)) {
+            return switch (formato) {
+                case CSV -> writeCsv(automoviles.iterator(), output);
+                case XLSX -> writeXlsx(automoviles.iterator(), output);
+            };
+        }
+    }
+
+    private long writeCsv(Iterator<Auto> automoviles, OutputStream output) throws IOException {
+        BufferedWriter buffered = new BufferedWriter(new OutputStreamWriter(output, StandardCharsets.UTF_8), 16 * 1024);
+        CsvWriter csv = new CsvWriter(buffered);
+        String[] fields = new String[COLUMNS.length + 1];
+        fields[0] = AutoCsvColumn.ID_HEADER;
+        for (int i = 0; i < COLUMNS.length; i++) {
+            fields[i + 1] = COLUMNS[i].header();
+        }
+        csv.writeRecord(fields);
+        long rows = 0;
+        while (automoviles.hasNext()) {
+            AutoDTO auto = next(automoviles);
+            fields[0] = String.valueOf(auto.getId());
+            for (int i = 0; i < COLUMNS.length; i++) {
+                fields[i + 1] = COLUMNS[i].format(auto);
+            }
+            csv.writeRecord(fields);
+            if (++rows % FLUSH_EVERY == 0) {
+                csv.flush();
+            }
+        }
+        csv.flush();
+        return rows;
+    }
+
+    private long writeXlsx(Iterator<Auto> automoviles, OutputStream output) throws IOException {
+        XlsxStreamWriter xlsx = new XlsxStreamWriter(output, "Automoviles");
+        String[] titles = new String[COLUMNS.length + 1];
+        titles[0] = AutoCsvColumn.ID_HEADER;
+        for (int i = 0; i < COLUMNS.length; i++) {
+            titles[i + 1] = COLUMNS[i].header();
+        }
+        xlsx.writeHeader(titles);
+        Object[] values = new Object[COLUMNS.length + 1];
+        long rows = 0;
+        while (automoviles.hasNext()) {
+            AutoDTO auto = next(automoviles);
+            values[0] = auto.getId();
+            for (int i = 0; i < COLUMNS.length; i++) {
+                values[i + 1] = COLUMNS[i].value(auto);
+            }
+            xlsx.writeRow(values);
+            if (++rows % FLUSH_EVERY == 0) {
+                xlsx.flush();
+            }
+        }
+        xlsx.close();
+        return rows;
+    }
+
+    private AutoDTO next(Iterator<Auto> automoviles) {
+        Auto auto = automoviles.next();
+        AutoDTO dto = new AutoDTO();
+        BeanUtils.copyProperties(auto, dto);
+        entityManager.detach(auto);
+        return dto;
+    }
+}
@@ -0,0 +1,67 @@
+package com.empleados.api.service.impl;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.web.multipart.MultipartFile;
+
+import com.empleados.api.bulk.AutoCsvImporter;
+import com.empleados.api.bulk.ImportJob;
+import com.empleados.api.dto.ImportJobDTO;
+import com.empleados.api.dto.ImportRejectDTO;
+import com.empleados.api.exception.BadRequestException;
+import com.empleados.api.exception.ResourceNotFoundException;
+import com.empleados.api.service.AutoImportService;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Implementation of the AutoImportService interface.
+ * Uploads are copied to a temporary file so the import can outlive the request.
+ */
+@Service
+public class AutoImportServiceImpl implements AutoImportService {
+
+    private final AutoCsvImporter importer;
+
+    @Autowired
+    public AutoImportServiceImpl(AutoCsvImporter importer) {
+        this.importer = importer;
+    }
+
+    @Override
+    public ImportJobDTO startImport(MultipartFile archivo) throws IOException {
+        if (archivo.isEmpty()) {
+            throw new BadRequestException("El archivo está vacío");
+        }
+        Path file = Files.createTempFile("autos-import-", ".csv");
+        try {
+            archivo.transferTo(file);
+            return toDTO(importer.submit(archivo.getOriginalFilename(), file));
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(file);
+            throw e;
+        }
+    }
+
+    @Override
+    public ImportJobDTO getImport(String id) {
+        return importer.find(id)
+                .map(AutoImportServiceImpl::toDTO)
+                .orElseThrow(() -> new ResourceNotFoundException("Importación no encontrada con id: " + id));
+    }
+
+    private static ImportJobDTO toDTO(ImportJob job) {
+        double progreso = 0.0;
+        if (job.getStatus() == ImportJob.Status.COMPLETADO) {
+            progreso = 100.0;
+        } else if (job.getTotalBytes() > 0) {
+            progreso = Math.min(100.0, Math.round(job.getBytesLeidos() * 1000.0 / job.getTotalBytes()) / 10.0);
+        }
+        return new ImportJobDTO(job.getId(), job.getArchivo(), job.getStatus().name(), progreso,
+                job.getFilasLeidas(), job.getInsertadas(), job.getRechazadas(),
+                job.getRejects().stream().map(reject -> new ImportRejectDTO(reject.linea(), reject.motivo())).toList(),
+                job.getError(), job.getCreado(), job.getIniciado(), job.getFinalizado());
+    }
+}
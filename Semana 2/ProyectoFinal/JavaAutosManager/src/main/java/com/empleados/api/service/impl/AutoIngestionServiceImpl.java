@@ -0,0 +1,61 @@
+package com.empleados.api.service.impl;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+
+import com.empleados.api.dto.AutoDTO;
+import com.empleados.api.dto.IngestionTicketDTO;
+import com.empleados.api.exception.BadRequestException;
+import com.empleados.api.exception.ResourceNotFoundException;
+import com.empleados.api.ingest.AutoIngestionQueue;
+import com.empleados.api.service.AutoIngestionService;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Implementation of the AutoIngestionService interface on top of {@link AutoIngestionQueue}
+ */
+@Service
+@ConditionalOnProperty(name = "autos.ingest.enabled", havingValue = "true", matchIfMissing = true)
+public class AutoIngestionServiceImpl implements AutoIngestionService {
+
+    static final long MAX_ESPERA_MS = 30_000;
+
+    private final AutoIngestionQueue queue;
+
+    @Autowired
+    public AutoIngestionServiceImpl(AutoIngestionQueue queue) {
+        this.queue = queue;
+    }
+
+    @Override
+    public IngestionTicketDTO submit(AutoDTO autoDTO) {
+        autoDTO.setId(null);
+        return toDTO(queue.submit(autoDTO));
+    }
+
+    @Override
+    public CompletableFuture<IngestionTicketDTO> getStatus(long ticket, long esperarMs) {
+        if (esperarMs < 0 || esperarMs > MAX_ESPERA_MS) {
+            throw new BadRequestException("esperarMs debe estar entre 0 y " + MAX_ESPERA_MS);
+        }
+        if (esperarMs == 0) {
+            return CompletableFuture.completedFuture(queue.status(ticket)
+                    .map(AutoIngestionServiceImpl::toDTO)
+                    .orElseThrow(() -> notFound(ticket)));
+        }
+        return queue.await(ticket, Duration.ofMillis(esperarMs))
+                .map(status -> status.thenApply(AutoIngestionServiceImpl::toDTO))
+                .orElseThrow(() -> notFound(ticket));
+    }
+
+    private static ResourceNotFoundException notFound(long ticket) {
+        return new ResourceNotFoundException("Ticket de ingesta no encontrado: " + ticket);
+    }
+
+    private static IngestionTicketDTO toDTO(AutoIngestionQueue.TicketStatus status) {
+        return new IngestionTicketDTO(status.ticket(), status.status().name(), status.autoId(), status.motivo());
+    }
+}
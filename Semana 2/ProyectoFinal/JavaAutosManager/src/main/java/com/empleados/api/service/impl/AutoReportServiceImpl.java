@@ -0,0 +1,61 @@
+package com.empleados.api.service.impl;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import com.empleados.api.analytics.AutoColumn;
+import com.empleados.api.analytics.ReportEngine;
+import com.empleados.api.dto.CostStatsDTO;
+import com.empleados.api.dto.HistogramBucketDTO;
+import com.empleados.api.service.AutoReportService;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+import static com.empleados.api.service.impl.StatsMapper.fromCents;
+import static com.empleados.api.service.impl.StatsMapper.toBuckets;
+import static com.empleados.api.service.impl.StatsMapper.toDTO;
+
+/**
+ * Implementation of the AutoReportService interface backed by the fork/join report engine
+ */
+@Service
+public class AutoReportServiceImpl implements AutoReportService {
+
+    private final ReportEngine reportEngine;
+
+    @Autowired
+    public AutoReportServiceImpl(ReportEngine reportEngine) {
+        this.reportEngine = reportEngine;
+    }
+
+    @Override
+    public CompletableFuture<Map<String, CostStatsDTO>> getCostoStatsBy(AutoColumn column) {
+        return reportEngine.costSummaryBy(column).thenApply(summaries -> {
+            Map<String, CostStatsDTO> result = new LinkedHashMap<>();
+            summaries.forEach((value, summary) -> result.put(value, toDTO(summary)));
+            return result;
+        });
+    }
+
+    @Override
+    public CompletableFuture<Map<String, BigDecimal>> getCostoPercentiles(List<Double> percentiles) {
+        double[] requested = percentiles.stream().mapToDouble(Double::doubleValue).toArray();
+        return reportEngine.costoPercentiles(requested).thenApply(values -> {
+            Map<String, BigDecimal> result = new LinkedHashMap<>();
+            values.forEach((percentile, cents) -> result.put(
+                    "p" + BigDecimal.valueOf(percentile).stripTrailingZeros().toPlainString(), fromCents(cents)));
+            return result;
+        });
+    }
+
+    @Override
+    public CompletableFuture<List<HistogramBucketDTO>> getComprasHistogram(LocalDate desde, int bucketDays, int buckets) {
+        return reportEngine.fechaCompraHistogram(desde, bucketDays, buckets)
+                .thenApply(histogram -> toBuckets(desde, bucketDays, histogram));
+    }
+}
@@ -1,41 +1,147 @@
 package com.empleados.api.service.impl;
 
 import org.springframework.beans.BeanUtils;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import com.empleados.api.cache.AutoCache;
 import com.empleados.api.dto.AutoDTO;
+import com.empleados.api.dto.AutoPageDTO;
+import com.empleados.api.event.AutoChangedEvent;
+import com.empleados.api.exception.BadRequestException;
 import com.empleados.api.exception.ResourceNotFoundException;
+import com.empleados.api.ingest.AutoCreateBatcher;
 import com.empleados.api.model.Auto;
+import com.empleados.api.registry.EmailReservationRegistry;
+import com.empleados.api.replica.HedgedReads;
+import com.empleados.api.replica.ReadConsistency;
+import com.empleados.api.replica.ReplicaSet;
+import com.empleados.api.repository.AutoKeyset;
 import com.empleados.api.repository.AutoRepository;
+import com.empleados.api.repository.AutoSortField;
 import com.empleados.api.service.AutoService;
 
 import java.util.List;
 import java.util.stream.Collectors;
 
 /**
- * Implementation of the AutoService interface
+ * Implementation of the AutoService interface.
+ * Creations outside a caller's transaction are merged with concurrent ones by {@link AutoCreateBatcher}
+ * when it is enabled, and lookups by id are hedged across read replicas by {@link HedgedReads}
+ * when replicas are configured. Lookups by id outside a transaction go through the {@link AutoCache},
+ * except for clients holding a consistency token, and only values read from the primary or from a
+ * replica that has applied every committed write are cached.
  */
 @Service
 public class AutoServiceImpl implements AutoService {
 
+    private static final int MAX_PAGE_SIZE = 500;
+
     private final AutoRepository autoRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final EmailReservationRegistry emailReservations;
+    private final TransactionTemplate transactionTemplate;
+    private final AutoCreateBatcher createBatcher;
+    private final TransactionTemplate readOnlyTemplate;
+    private final HedgedReads hedgedReads;
+    private final AutoCache autoCache;
+    private final ReplicaSet replicaSet;
 
     @Autowired
-    public AutoServiceImpl(AutoRepository autoRepository) {
+    public AutoServiceImpl(AutoRepository autoRepository, ApplicationEventPublisher eventPublisher,
+                           EmailReservationRegistry emailReservations,
+                           PlatformTransactionManager transactionManager,
+                           ObjectProvider<AutoCreateBatcher> createBatcher,
+                           ObjectProvider<HedgedReads> hedgedReads,
+                           ObjectProvider<AutoCache> autoCache,
+                           ObjectProvider<ReplicaSet> replicaSet) {
         this.autoRepository = autoRepository;
+        this.eventPublisher = eventPublisher;
+        this.emailReservations = emailReservations;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.createBatcher = createBatcher.getIfAvailable();
+        this.readOnlyTemplate = new TransactionTemplate(transactionManager);
+        this.readOnlyTemplate.setReadOnly(true);
+        this.hedgedReads = hedgedReads.getIfAvailable();
+        this.autoCache = autoCache.getIfAvailable();
+        this.replicaSet = replicaSet.getIfAvailable();
     }
 
     @Override
+    @Transactional(readOnly = true)
     public List<AutoDTO> getAllAutomoviles() {
         return autoRepository.findAll().stream()
                 .map(this::convertToDTO)
                 .collect(Collectors.toList());
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public AutoPageDTO getAutomovilesPage(String ordenarPor, String direccion, String cursor, int tamanio) {
+        AutoSortField field = AutoSortField.fromProperty(ordenarPor);
+        boolean descending = parseDireccion(direccion);
+        AutoKeyset after = cursor == null || cursor.isBlank() ? null : AutoKeyset.decode(cursor, field);
+        int size = Math.max(1, Math.min(tamanio, MAX_PAGE_SIZE));
+
+        // One extra row tells whether there is a next page without counting the table
+        List<Auto> rows = autoRepository.findPage(field, descending, after, size + 1);
+        List<Auto> page = rows.subList(0, Math.min(size, rows.size()));
+        String siguiente = rows.size() > size ? AutoKeyset.of(field, page.get(size - 1)).encode() : null;
+        return new AutoPageDTO(page.stream().map(this::convertToDTO).collect(Collectors.toList()),
+                field.getProperty(), descending ? "desc" : "asc", siguiente);
+    }
+
+    private static boolean parseDireccion(String direccion) {
+        if ("asc".equalsIgnoreCase(direccion)) {
+            return false;
+        }
+        if ("desc".equalsIgnoreCase(direccion)) {
+            return true;
+        }
+        throw new BadRequestException("Dirección de ordenación no válida: " + direccion);
+    }
+
     @Override
     public AutoDTO getAutoById(Long id) {
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            // The caller may see uncommitted changes, which must not end up in the cache
+            return readOnlyTemplate.execute(status -> findAutoById(id));
+        }
+        if (autoCache == null || ReadConsistency.required() > 0) {
+            // A client holding a token must see its own writes, which a cached entry may predate
+            return loadAutoById(id);
+        }
+        return autoCache.get(id, this::loadCaughtUpAutoById);
+    }
+
+    /**
+     * Load the auto for the cache: a lagging replica, hedged or not, would keep an old version
+     * cached for the whole TTL, so the read must see every write committed so far
+     */
+    private AutoDTO loadCaughtUpAutoById(Long id) {
+        if (replicaSet == null) {
+            return loadAutoById(id);
+        }
+        try (ReadConsistency.Scope scope = ReadConsistency.require(replicaSet.currentToken())) {
+            return loadAutoById(id);
+        }
+    }
+
+    private AutoDTO loadAutoById(Long id) {
+        if (hedgedReads != null) {
+            return hedgedReads.read(() -> findAutoById(id));
+        }
+        return readOnlyTemplate.execute(status -> findAutoById(id));
+    }
+
+    private AutoDTO findAutoById(Long id) {
         Auto auto = autoRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Auto no encontrado con id: " + id));
         return convertToDTO(auto);
@@ -43,28 +149,42 @@ public class AutoServiceImpl implements AutoService {
 
     @Override
     public AutoDTO createAuto(AutoDTO autoDTO) {
+        if (createBatcher != null && !TransactionSynchronizationManager.isActualTransactionActive()) {
+            return createBatcher.create(autoDTO);
+        }
+        return transactionTemplate.execute(status -> insertAuto(autoDTO));
+    }
+
+    private AutoDTO insertAuto(AutoDTO autoDTO) {
         try {
-            // Check if email already exists
-            if (autoDTO.getEmail() != null && 
-                autoRepository.findByEmail(autoDTO.getEmail()).isPresent()) {
+            // Check if email is being written by another transaction or already exists
+            if (!emailReservations.tryReserve(autoDTO.getEmail()) || (autoDTO.getEmail() != null &&
+                autoRepository.findByEmail(autoDTO.getEmail()).isPresent())) {
                 throw new DataIntegrityViolationException("Ya existe un auto con el email: " + autoDTO.getEmail());
             }
             
             Auto auto = convertToEntity(autoDTO);
             Auto savedAuto = autoRepository.save(auto);
-            return convertToDTO(savedAuto);
+            AutoDTO created = convertToDTO(savedAuto);
+            eventPublisher.publishEvent(AutoChangedEvent.created(created));
+            return created;
         } catch (DataIntegrityViolationException e) {
             throw new DataIntegrityViolationException("Error al crear el auto: " + e.getMessage());
         }
     }
 
     @Override
+    @Transactional
     public AutoDTO updateAuto(Long id, AutoDTO autoDTO) {
         Auto existingAuto = autoRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Auto no encontrado con id: " + id));
+        AutoDTO before = convertToDTO(existingAuto);
 
         // Check if the new email already exists and belongs to a different auto
         if (autoDTO.getEmail() != null && !autoDTO.getEmail().equals(existingAuto.getEmail())) {
+            if (!emailReservations.tryReserve(autoDTO.getEmail())) {
+                throw new DataIntegrityViolationException("Ya existe un auto con el email: " + autoDTO.getEmail());
+            }
             autoRepository.findByEmail(autoDTO.getEmail()).ifPresent(e -> {
                 if (!e.getId().equals(id)) {
                     throw new DataIntegrityViolationException("Ya existe un auto con el email: " + autoDTO.getEmail());
@@ -109,18 +229,22 @@ public class AutoServiceImpl implements AutoService {
     
 
         Auto updatedAuto = autoRepository.save(existingAuto);
-        return convertToDTO(updatedAuto);
+        AutoDTO updated = convertToDTO(updatedAuto);
+        eventPublisher.publishEvent(AutoChangedEvent.updated(before, updated));
+        return updated;
     }
 
     @Override
+    @Transactional
     public void deleteAuto(Long id) {
-        if (!autoRepository.existsById(id)) {
-            throw new ResourceNotFoundException("Auto no encontrado con id: " + id);
-        }
-        autoRepository.deleteById(id);
+        Auto auto = autoRepository.findById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Auto no encontrado con id: " + id));
+        autoRepository.delete(auto);
+        eventPublisher.publishEvent(AutoChangedEvent.deleted(convertToDTO(auto)));
     }
 
     @Override
+    @Transactional(readOnly = true)
     public List<AutoDTO> getAutomovilesByDepartamento(String departamento) {
         return autoRepository.findByDepartamento(departamento).stream()
                 .map(this::convertToDTO)
@@ -0,0 +1,92 @@
+package com.empleados.api.service.impl;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import com.empleados.api.analytics.AutoColumn;
+import com.empleados.api.analytics.AutoColumnStore;
+import com.empleados.api.analytics.DashboardFigures;
+import com.empleados.api.analytics.DashboardStats;
+import com.empleados.api.dto.CostStatsDTO;
+import com.empleados.api.dto.DashboardStatsDTO;
+import com.empleados.api.dto.HistogramBucketDTO;
+import com.empleados.api.service.AutoStatsService;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static com.empleados.api.service.impl.StatsMapper.fromCents;
+import static com.empleados.api.service.impl.StatsMapper.toBuckets;
+import static com.empleados.api.service.impl.StatsMapper.toDTO;
+
+/**
+ * Implementation of the AutoStatsService interface backed by the in-memory column store
+ */
+@Service
+public class AutoStatsServiceImpl implements AutoStatsService {
+
+    private final AutoColumnStore columnStore;
+    private final DashboardStats dashboardStats;
+
+    @Autowired
+    public AutoStatsServiceImpl(AutoColumnStore columnStore, DashboardStats dashboardStats) {
+        this.columnStore = columnStore;
+        this.dashboardStats = dashboardStats;
+    }
+
+    @Override
+    public Map<String, Long> getCountBy(AutoColumn column) {
+        return columnStore.countBy(column);
+    }
+
+    @Override
+    public Map<String, BigDecimal> getCostoSumBy(AutoColumn column) {
+        Map<String, BigDecimal> result = new LinkedHashMap<>();
+        columnStore.sumCostoCentsBy(column).forEach((value, cents) -> result.put(value, fromCents(cents)));
+        return result;
+    }
+
+    @Override
+    public BigDecimal getCostoSum(String departamento) {
+        long cents = departamento == null
+                ? columnStore.sumCostoCents()
+                : columnStore.sumCostoCents(departamento);
+        return fromCents(cents);
+    }
+
+    @Override
+    public CostStatsDTO getCostoStats() {
+        return toDTO(columnStore.costSummary());
+    }
+
+    @Override
+    public Map<String, CostStatsDTO> getCostoStatsBy(AutoColumn column) {
+        Map<String, CostStatsDTO> result = new LinkedHashMap<>();
+        columnStore.costSummaryBy(column).forEach((value, summary) -> result.put(value, toDTO(summary)));
+        return result;
+    }
+
+    @Override
+    public long countComprasBetween(LocalDate desde, LocalDate hasta) {
+        return columnStore.countFechaCompraBetween(desde, hasta);
+    }
+
+    @Override
+    public List<HistogramBucketDTO> getComprasHistogram(LocalDate desde, int bucketDays, int buckets) {
+        return toBuckets(desde, bucketDays, columnStore.fechaCompraHistogram(desde, bucketDays, buckets));
+    }
+
+    @Override
+    public DashboardStatsDTO getDashboardStats() {
+        DashboardFigures figures = dashboardStats.figures();
+        BigDecimal costoTotal = fromCents(figures.getCostoCents());
+        BigDecimal costoPromedio = costoTotal.divide(BigDecimal.valueOf(Math.max(1, figures.getTotal())),
+                2, RoundingMode.HALF_UP);
+        return new DashboardStatsDTO(figures.getTotal(), costoTotal, costoPromedio,
+                figures.getMarcas(), figures.getDepartamentos());
+    }
+}
@@ -0,0 +1,46 @@
+package com.empleados.api.service.impl;
+
+import com.empleados.api.analytics.CostSummary;
+import com.empleados.api.dto.CostStatsDTO;
+import com.empleados.api.dto.HistogramBucketDTO;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Conversions from the cent-based analytics results to the API DTOs
+ */
+final class StatsMapper {
+
+    private StatsMapper() {
+    }
+
+    static CostStatsDTO toDTO(CostSummary summary) {
+        if (summary.isEmpty()) {
+            return new CostStatsDTO(0, BigDecimal.ZERO.setScale(2), null, null, null);
+        }
+        BigDecimal suma = fromCents(summary.getSumCents());
+        return new CostStatsDTO(
+                summary.getCount(),
+                suma,
+                suma.divide(BigDecimal.valueOf(summary.getCount()), 2, RoundingMode.HALF_UP),
+                fromCents(summary.getMinCents()),
+                fromCents(summary.getMaxCents()));
+    }
+
+    static List<HistogramBucketDTO> toBuckets(LocalDate desde, int bucketDays, long[] histogram) {
+        List<HistogramBucketDTO> result = new ArrayList<>(histogram.length);
+        for (int i = 0; i < histogram.length; i++) {
+            LocalDate start = desde.plusDays((long) i * bucketDays);
+            result.add(new HistogramBucketDTO(start, start.plusDays(bucketDays - 1L), histogram[i]));
+        }
+        return result;
+    }
+
+    static BigDecimal fromCents(long cents) {
+        return BigDecimal.valueOf(cents, 2);
+    }
+}
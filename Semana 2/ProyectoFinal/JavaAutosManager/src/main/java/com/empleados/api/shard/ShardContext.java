@@ -0,0 +1,44 @@
+package com.empleados.api.shard;
+
+/**
+ * Shard the current thread's database work goes to.
+ * <p>
+ * Set by {@link ShardedAutoRepository} around each operation; threads that never set it use shard
+ * zero, the home shard that also holds every table other than the automoviles.
+ */
+public final class ShardContext {
+
+    private static final ThreadLocal<Integer> CURRENT = new ThreadLocal<>();
+
+    private ShardContext() {
+    }
+
+    public static int current() {
+        Integer shard = CURRENT.get();
+        return shard != null ? shard : 0;
+    }
+
+    /**
+     * Send the current thread's connections to {@code shard} until the returned scope is closed
+     */
+    public static Scope on(int shard) {
+        Integer previous = CURRENT.get();
+        CURRENT.set(shard);
+        return () -> {
+            if (previous == null) {
+                CURRENT.remove();
+            } else {
+                CURRENT.set(previous);
+            }
+        };
+    }
+
+    /**
+     * Restores the previous shard of the thread when closed
+     */
+    public interface Scope extends AutoCloseable {
+
+        @Override
+        void close();
+    }
+}
@@ -0,0 +1,64 @@
+package com.empleados.api.shard;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Consistent hash ring that places departamentos on shards.
+ * <p>
+ * Every shard owns {@code virtualNodes} points on a 64-bit ring and a key belongs to the first
+ * point at or after its hash, so keys spread evenly. A null key hashes like the empty string.
+ * <p>
+ * Adding a shard gives about {@code 1/n} of the departamentos a new owner, but nothing moves the
+ * autos already stored, and ids name their shard modulo the shard count (see
+ * {@link com.empleados.api.id.IdAllocator#partitionOf}), so every existing id would point to the
+ * wrong shard. Changing the number of shards therefore needs the data migrated with new ids;
+ * {@link ShardSchema} refuses to start on shards laid out for a different count.
+ */
+public class ShardRing {
+
+    private final int shards;
+    private final TreeMap<Long, Integer> ring = new TreeMap<>();
+
+    public ShardRing(int shards, int virtualNodes) {
+        if (shards <= 0 || virtualNodes <= 0) {
+            throw new IllegalArgumentException("Anillo de particiones inválido: " + shards + " particiones, "
+                    + virtualNodes + " nodos virtuales");
+        }
+        this.shards = shards;
+        for (int shard = 0; shard < shards; shard++) {
+            for (int node = 0; node < virtualNodes; node++) {
+                ring.put(hash("shard-" + shard + "#" + node), shard);
+            }
+        }
+    }
+
+    /**
+     * Shard that owns {@code key}
+     */
+    public int shardFor(String key) {
+        Map.Entry<Long, Integer> owner = ring.ceilingEntry(hash(key != null ? key : ""));
+        return owner != null ? owner.getValue() : ring.firstEntry().getValue();
+    }
+
+    public int size() {
+        return shards;
+    }
+
+    /**
+     * FNV-1a over the UTF-8 bytes, finished with the SplitMix64 mixer so close keys land far apart
+     */
+    static long hash(String key) {
+        long hash = 0xcbf29ce484222325L;
+        for (byte b : key.getBytes(StandardCharsets.UTF_8)) {
+            hash ^= b & 0xff;
+            hash *= 0x100000001b3L;
+        }
+        hash ^= hash >>> 30;
+        hash *= 0xbf58476d1ce4e5b9L;
+        hash ^= hash >>> 27;
+        hash *= 0x94d049bb133111ebL;
+        return hash ^ (hash >>> 31);
+    }
+}
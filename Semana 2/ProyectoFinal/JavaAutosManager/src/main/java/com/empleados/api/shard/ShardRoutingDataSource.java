@@ -0,0 +1,43 @@
+package com.empleados.api.shard;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+
+import javax.sql.DataSource;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Sends each connection request to the shard in the {@link ShardContext} of the calling thread.
+ * Shard zero is the regular database, with its own pools and replicas.
+ */
+public class ShardRoutingDataSource extends AbstractRoutingDataSource implements AutoCloseable {
+
+    public ShardRoutingDataSource(DataSource home, List<DataSource> others) {
+        Map<Object, Object> shards = new HashMap<>();
+        shards.put(0, home);
+        for (int i = 0; i < others.size(); i++) {
+            shards.put(i + 1, others.get(i));
+        }
+        setTargetDataSources(shards);
+        setDefaultTargetDataSource(home);
+        afterPropertiesSet();
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        return ShardContext.current();
+    }
+
+    /**
+     * Close every shard, the home one included
+     */
+    @Override
+    public void close() throws Exception {
+        for (DataSource dataSource : getResolvedDataSources().values()) {
+            if (dataSource instanceof AutoCloseable closeable) {
+                closeable.close();
+            }
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package com.empleados.api.shard;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.sql.DataSource;
+import java.util.List;
+
+/**
+ * Prepares the automoviles table on every shard.
+ * <p>
+ * Hibernate only manages the schema of the home shard, so its definition of the table is copied to
+ * the other shards with H2's {@code SCRIPT}. Ids need nothing per shard: they are allocated by the
+ * application for the shard the auto is inserted on.
+ * <p>
+ * The shard count is recorded on the home shard the first time and checked on every start after
+ * that: autos placed and numbered for one count cannot be found with another (see {@link ShardRing}).
+ */
+final class ShardSchema {
+
+    private static final Logger log = LoggerFactory.getLogger(ShardSchema.class);
+
+    private ShardSchema() {
+    }
+
+    static void prepare(DataSource dataSource, int shards) {
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        List<String> ddl;
+        try (ShardContext.Scope scope = ShardContext.on(0)) {
+            checkLayout(jdbcTemplate, shards);
+            ddl = jdbcTemplate.queryForList("SCRIPT NODATA NOPASSWORDS NOSETTINGS TABLE AUTOMOVILES", String.class)
+                    .stream()
+                    .filter(statement -> !statement.startsWith("--") && !statement.startsWith("CREATE USER"))
+                    .toList();
+        }
+        for (int shard = 1; shard < shards; shard++) {
+            try (ShardContext.Scope scope = ShardContext.on(shard)) {
+                Integer tables = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM INFORMATION_SCHEMA.TABLES "
+                        + "WHERE TABLE_SCHEMA = 'PUBLIC' AND TABLE_NAME = 'AUTOMOVILES'", Integer.class);
+                if (tables == null || tables == 0) {
+                    ddl.forEach(jdbcTemplate::execute);
+                    log.info("Tabla automoviles creada en la partición {}", shard);
+                }
+            }
+        }
+    }
+
+    /**
+     * Record the shard count on the home shard, or fail when it was recorded with another value
+     */
+    private static void checkLayout(JdbcTemplate jdbcTemplate, int shards) {
+        jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS shard_layout (id INT PRIMARY KEY, shards INT NOT NULL)");
+        jdbcTemplate.update("INSERT INTO shard_layout (id, shards) SELECT 1, ? "
+                + "WHERE NOT EXISTS (SELECT 1 FROM shard_layout WHERE id = 1)", shards);
+        Integer recorded = jdbcTemplate.queryForObject("SELECT shards FROM shard_layout WHERE id = 1", Integer.class);
+        if (recorded == null || recorded != shards) {
+            throw new IllegalStateException("Los automoviles están repartidos en " + recorded
+                    + " particiones y se configuraron " + shards + "; cambiar el número de particiones "
+                    + "requiere migrar los datos");
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package com.empleados.api.shard;
+
+import javax.sql.DataSource;
+import java.util.List;
+
+/**
+ * The extra databases automoviles are spread over and the ring that places them.
+ * <p>
+ * Shard zero is the regular database; {@code pools} are shards one to n - 1, in order.
+ */
+public class ShardSet {
+
+    private final ShardRing ring;
+    private final List<DataSource> pools;
+
+    public ShardSet(ShardRing ring, List<DataSource> pools) {
+        if (ring.size() != pools.size() + 1) {
+            throw new IllegalArgumentException("El anillo tiene " + ring.size() + " particiones y hay "
+                    + (pools.size() + 1) + " bases de datos");
+        }
+        this.ring = ring;
+        this.pools = List.copyOf(pools);
+    }
+
+    public ShardRing getRing() {
+        return ring;
+    }
+
+    public List<DataSource> getPools() {
+        return pools;
+    }
+
+    public int size() {
+        return ring.size();
+    }
+}
@@ -0,0 +1,875 @@
+package com.empleados.api.shard;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.EntityNotFoundException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.BeanWrapperImpl;
+import org.springframework.dao.IncorrectResultSizeDataAccessException;
+import org.springframework.data.domain.Example;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.repository.query.FluentQuery;
+import org.springframework.orm.jpa.SharedEntityManagerCreator;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.empleados.api.bulkhead.Workload;
+import com.empleados.api.id.IdAllocator;
+import com.empleados.api.model.Auto;
+import com.empleados.api.repository.AutoKeyset;
+import com.empleados.api.repository.AutoRepository;
+import com.empleados.api.repository.AutoSortField;
+import com.empleados.api.repository.ValueCount;
+
+import javax.sql.DataSource;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.PriorityQueue;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * {@link AutoRepository} spread over several databases.
+ * <p>
+ * Each auto lives on the shard its departamento hashes to on the {@link ShardRing}. Queries that
+ * name a departamento or an id go straight to one shard: the {@link IdAllocator} allocates each id
+ * for the shard the auto is created on, and only autos that later moved are looked
+ * for on the others. Every other query fans out to all shards in parallel and the results are
+ * merged: lists concatenated and re-sorted, counts and sums added, exports merged by id.
+ * Keyset pages fan out too, but each shard only reads one page of its index.
+ * <p>
+ * Each shard operation runs in a transaction of its own on that shard. Work on the home shard
+ * joins the caller's transaction, while work on the others commits on its own, so a write spanning
+ * shards is not atomic. Moving an auto to a new departamento copies it, with its id, to the new
+ * shard and deletes it from the old one only once the caller's transaction has committed, so a
+ * rollback never loses it: the copy is deleted instead. Until then the auto is on both shards.
+ */
+public class ShardedAutoRepository implements AutoRepository, MeterBinder, AutoCloseable {
+
+    private static final Logger log = LoggerFactory.getLogger(ShardedAutoRepository.class);
+
+    private static final String EXPORT_QUERY = "select a from Auto a"
+            + " where (:departamento is null or a.departamento = :departamento)"
+            + " and (:desde is null or a.fechaCompra >= :desde) and (:hasta is null or a.fechaCompra <= :hasta)"
+            + " order by a.id";
+
+    private static final String INSERT_WITH_ID = "INSERT INTO automoviles (id, nombre, apellido, marca, modelo,"
+            + " color, fecha_compra, email, fecha_contratacion, costo, departamento, antiguedad)"
+            + " VALUES (?1, ?2, ?3, ?4, ?5, ?6, ?7, ?8, ?9, ?10, ?11, ?12)";
+
+    private final AutoRepository delegate;
+    private final ShardSet shards;
+    private final IdAllocator idAllocator;
+    private final DataSource dataSource;
+    private final EntityManagerFactory entityManagerFactory;
+    private final EntityManager entityManager;
+    private final TransactionTemplate joinRead;
+    private final TransactionTemplate joinWrite;
+    private final TransactionTemplate newRead;
+    private final TransactionTemplate newWrite;
+    private final ExecutorService fanOutExecutor;
+    private final AtomicLong singleShardQueries = new AtomicLong();
+    private final AtomicLong fanOutQueries = new AtomicLong();
+    private final AtomicLong moves = new AtomicLong();
+
+    public ShardedAutoRepository(AutoRepository delegate, ShardSet shards, IdAllocator idAllocator,
+                                 DataSource dataSource, EntityManagerFactory entityManagerFactory,
+                                 PlatformTransactionManager transactionManager, int fanOutThreads) {
+        this.delegate = delegate;
+        this.shards = shards;
+        this.idAllocator = idAllocator;
+        this.dataSource = dataSource;
+        this.entityManagerFactory = entityManagerFactory;
+        this.entityManager = SharedEntityManagerCreator.createSharedEntityManager(entityManagerFactory);
+        this.joinRead = template(transactionManager, TransactionDefinition.PROPAGATION_REQUIRED, true);
+        this.joinWrite = template(transactionManager, TransactionDefinition.PROPAGATION_REQUIRED, false);
+        this.newRead = template(transactionManager, TransactionDefinition.PROPAGATION_REQUIRES_NEW, true);
+        this.newWrite = template(transactionManager, TransactionDefinition.PROPAGATION_REQUIRES_NEW, false);
+        AtomicInteger count = new AtomicInteger();
+        this.fanOutExecutor = new ThreadPoolExecutor(fanOutThreads, fanOutThreads, 60, TimeUnit.SECONDS,
+                new LinkedBlockingQueue<>(), runnable -> {
+                    Thread thread = new Thread(runnable, "shard-fanout-" + count.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+        ((ThreadPoolExecutor) this.fanOutExecutor).allowCoreThreadTimeOut(true);
+    }
+
+    @PostConstruct
+    public void init() {
+        ShardSchema.prepare(dataSource, shards.size());
+        log.info("Automoviles repartidos en {} particiones por departamento", shards.size());
+    }
+
+    // Single-shard operations
+
+    @Override
+    public <S extends Auto> S save(S auto) {
+        int target = shardOf(auto);
+        if (auto.getId() == null) {
+            return single(target, false, () -> delegate.save(auto));
+        }
+        int current = locate(auto.getId());
+        if (current < 0 || current == target) {
+            return single(target, false, () -> delegate.save(auto));
+        }
+        insertWithId(target, auto);
+        Runnable deleteSource = () -> moveOut(auto.getId(), current, target);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    deleteSource.run();
+                }
+
+                @Override
+                public void afterCompletion(int status) {
+                    // A copy on the home shard was rolled back with the caller, one elsewhere was not
+                    if (status == STATUS_ROLLED_BACK && target != 0) {
+                        compensate(auto.getId(), target);
+                    }
+                }
+            });
+        } else {
+            deleteSource.run();
+        }
+        return auto;
+    }
+
+    private void insertWithId(int target, Auto auto) {
+        single(target, false, () -> entityManager.createNativeQuery(INSERT_WITH_ID)
+                .setParameter(1, auto.getId())
+                .setParameter(2, auto.getNombre())
+                .setParameter(3, auto.getApellido())
+                .setParameter(4, auto.getMarca())
+                .setParameter(5, auto.getModelo())
+                .setParameter(6, auto.getColor())
+                .setParameter(7, auto.getFechaCompra())
+                .setParameter(8, auto.getEmail())
+                .setParameter(9, auto.getFechaContratacion())
+                .setParameter(10, auto.getCosto())
+                .setParameter(11, auto.getDepartamento())
+                .setParameter(12, auto.getAntiguedad())
+                .executeUpdate());
+    }
+
+    /**
+     * Delete a moved auto from the shard it left, or its copy from {@code target} when that fails
+     */
+    private void moveOut(Long id, int source, int target) {
+        try {
+            onOwnTransaction(source, () -> delegate.deleteById(id));
+        } catch (RuntimeException e) {
+            try {
+                compensate(id, target);
+            } catch (RuntimeException compensation) {
+                e.addSuppressed(compensation);
+            }
+            throw e;
+        }
+        moves.incrementAndGet();
+        log.debug("Auto {} trasladado de la partición {} a la {}", id, source, target);
+    }
+
+    private void compensate(Long id, int target) {
+        onOwnTransaction(target, () -> delegate.deleteById(id));
+        log.warn("Traslado del auto {} a la partición {} deshecho", id, target);
+    }
+
+    /**
+     * Run {@code work} on {@code shard} in a transaction of its own, even on the home shard: after
+     * the caller's transaction has completed there is nothing left to join
+     */
+    private void onOwnTransaction(int shard, Runnable work) {
+        singleShardQueries.incrementAndGet();
+        try (ShardContext.Scope scope = ShardContext.on(shard)) {
+            newWrite.executeWithoutResult(status -> work.run());
+        }
+    }
+
+    @Override
+    public <S extends Auto> S saveAndFlush(S auto) {
+        S saved = save(auto);
+        single(shardOf(saved), false, () -> {
+            delegate.flush();
+            return null;
+        });
+        return saved;
+    }
+
+    @Override
+    public <S extends Auto> List<S> saveAll(Iterable<S> autos) {
+        List<S> saved = new ArrayList<>();
+        autos.forEach(auto -> saved.add(save(auto)));
+        return saved;
+    }
+
+    @Override
+    public <S extends Auto> List<S> saveAllAndFlush(Iterable<S> autos) {
+        List<S> saved = new ArrayList<>();
+        autos.forEach(auto -> saved.add(saveAndFlush(auto)));
+        return saved;
+    }
+
+    @Override
+    public Optional<Auto> findById(Long id) {
+        int home = homeShard(id);
+        Optional<Auto> found = single(home, true, () -> delegate.findById(id));
+        if (found.isPresent()) {
+            return found;
+        }
+        // Only autos moved to another departamento live away from the shard in their id
+        return fanOut(true, shard -> shard == home ? Optional.<Auto>empty() : delegate.findById(id)).stream()
+                .flatMap(Optional::stream)
+                .findFirst();
+    }
+
+    @Override
+    public boolean existsById(Long id) {
+        return locate(id) >= 0;
+    }
+
+    @Override
+    public List<Auto> findByDepartamento(String departamento) {
+        return single(shards.getRing().shardFor(departamento), true, () -> delegate.findByDepartamento(departamento));
+    }
+
+    @Override
+    public void deleteById(Long id) {
+        int shard = locate(id);
+        if (shard >= 0) {
+            single(shard, false, () -> {
+                delegate.deleteById(id);
+                return null;
+            });
+        }
+    }
+
+    @Override
+    public void delete(Auto auto) {
+        if (auto.getId() != null) {
+            deleteById(auto.getId());
+        }
+    }
+
+    @Override
+    public void deleteAllById(Iterable<? extends Long> ids) {
+        ids.forEach(this::deleteById);
+    }
+
+    @Override
+    public void deleteAll(Iterable<? extends Auto> autos) {
+        autos.forEach(this::delete);
+    }
+
+    @Override
+    public void deleteAllByIdInBatch(Iterable<Long> ids) {
+        deleteAllById(ids);
+    }
+
+    @Override
+    public void deleteAllInBatch(Iterable<Auto> autos) {
+        deleteAll(autos);
+    }
+
+    /**
+     * Flush the home shard, the only one whose work joins the caller's transaction
+     */
+    @Override
+    public void flush() {
+        delegate.flush();
+    }
+
+    /**
+     * A loaded auto rather than a lazy reference, since a reference cannot outlive its shard transaction
+     */
+    @Override
+    public Auto getReferenceById(Long id) {
+        return findById(id).orElseThrow(() -> new EntityNotFoundException("Auto no encontrado con id: " + id));
+    }
+
+    @Override
+    @Deprecated
+    public Auto getById(Long id) {
+        return getReferenceById(id);
+    }
+
+    @Override
+    @Deprecated
+    public Auto getOne(Long id) {
+        return getReferenceById(id);
+    }
+
+    // Fan-out operations
+
+    @Override
+    public List<Auto> findAll() {
+        return sorted(fanOut(true, shard -> delegate.findAll()), Sort.by("id"));
+    }
+
+    @Override
+    public List<Auto> findAll(Sort sort) {
+        return sorted(fanOut(true, shard -> delegate.findAll(sort)), sort);
+    }
+
+    @Override
+    public Page<Auto> findAll(Pageable pageable) {
+        if (pageable.isUnpaged()) {
+            return new PageImpl<>(findAll(pageable.getSort()));
+        }
+        // Every shard returns its first offset + size rows; the page is cut from their merge
+        Pageable head = PageRequest.of(0, (int) (pageable.getOffset() + pageable.getPageSize()), pageable.getSort());
+        return page(fanOut(true, shard -> delegate.findAll(head)), pageable);
+    }
+
+    @Override
+    public List<Auto> findAllById(Iterable<Long> ids) {
+        List<Long> wanted = new ArrayList<>();
+        ids.forEach(wanted::add);
+        return sorted(fanOut(true, shard -> delegate.findAllById(wanted)), Sort.by("id"));
+    }
+
+    @Override
+    public long count() {
+        return fanOut(true, shard -> delegate.count()).stream().mapToLong(Long::longValue).sum();
+    }
+
+    @Override
+    public void deleteAll() {
+        fanOut(false, shard -> {
+            delegate.deleteAll();
+            return null;
+        });
+    }
+
+    @Override
+    public void deleteAllInBatch() {
+        fanOut(false, shard -> {
+            delegate.deleteAllInBatch();
+            return null;
+        });
+    }
+
+    @Override
+    public Optional<Auto> findByEmail(String email) {
+        return fanOut(true, shard -> delegate.findByEmail(email)).stream()
+                .flatMap(Optional::stream)
+                .findFirst();
+    }
+
+    @Override
+    public List<String> findExistingEmails(Collection<String> emails) {
+        return fanOut(true, shard -> delegate.findExistingEmails(emails)).stream()
+                .flatMap(List::stream)
+                .toList();
+    }
+
+    /**
+     * One shard when a departamento is given, otherwise every shard merged by id.
+     * Must be closed like the stream of the JPA repository.
+     */
+    @Override
+    public Stream<Auto> streamForExport(String departamento, LocalDate desde, LocalDate hasta) {
+        if (departamento != null) {
+            singleShardQueries.incrementAndGet();
+            return streamShard(shards.getRing().shardFor(departamento), departamento, desde, hasta);
+        }
+        fanOutQueries.incrementAndGet();
+        List<Stream<Auto>> streams = new ArrayList<>();
+        try {
+            for (int shard = 0; shard < shards.size(); shard++) {
+                streams.add(streamShard(shard, null, desde, hasta));
+            }
+        } catch (RuntimeException e) {
+            closeAll(streams);
+            throw e;
+        }
+        return mergeById(streams);
+    }
+
+    /**
+     * Every shard returns its own next {@code limit} rows; the page is the first {@code limit} of their merge
+     */
+    @Override
+    public List<Auto> findPage(AutoSortField field, boolean descending, AutoKeyset after, int limit) {
+        Sort.Direction direction = descending ? Sort.Direction.DESC : Sort.Direction.ASC;
+        Sort sort = Sort.by(direction, field.getProperty()).and(Sort.by(direction, "id"));
+        return fanOut(true, shard -> delegate.findPage(field, descending, after, limit)).stream()
+                .flatMap(List::stream)
+                .sorted(comparator(sort))
+                .limit(limit)
+                .toList();
+    }
+
+    @Override
+    public BigDecimal sumCosto() {
+        return fanOut(true, shard -> delegate.sumCosto()).stream()
+                .filter(Objects::nonNull)
+                .reduce(BigDecimal.ZERO, BigDecimal::add);
+    }
+
+    @Override
+    public List<ValueCount> countByMarca() {
+        return mergeCounts(fanOut(true, shard -> delegate.countByMarca()));
+    }
+
+    @Override
+    public List<ValueCount> countByDepartamento() {
+        return mergeCounts(fanOut(true, shard -> delegate.countByDepartamento()));
+    }
+
+    @Override
+    public <S extends Auto> Optional<S> findOne(Example<S> example) {
+        return fanOut(true, shard -> delegate.findOne(example)).stream()
+                .flatMap(Optional::stream)
+                .findFirst();
+    }
+
+    @Override
+    public <S extends Auto> List<S> findAll(Example<S> example) {
+        return sorted(fanOut(true, shard -> delegate.findAll(example)), Sort.by("id"));
+    }
+
+    @Override
+    public <S extends Auto> List<S> findAll(Example<S> example, Sort sort) {
+        return sorted(fanOut(true, shard -> delegate.findAll(example, sort)), sort);
+    }
+
+    @Override
+    public <S extends Auto> Page<S> findAll(Example<S> example, Pageable pageable) {
+        if (pageable.isUnpaged()) {
+            return new PageImpl<>(findAll(example, pageable.getSort()));
+        }
+        Pageable head = PageRequest.of(0, (int) (pageable.getOffset() + pageable.getPageSize()), pageable.getSort());
+        return page(fanOut(true, shard -> delegate.findAll(example, head)), pageable);
+    }
+
+    @Override
+    public <S extends Auto> long count(Example<S> example) {
+        return fanOut(true, shard -> delegate.count(example)).stream().mapToLong(Long::longValue).sum();
+    }
+
+    @Override
+    public <S extends Auto> boolean exists(Example<S> example) {
+        return fanOut(true, shard -> delegate.exists(example)).contains(true);
+    }
+
+    /**
+     * The fluent query runs on every shard and the results are merged like those of
+     * {@link #findAll(Example, Sort)}; the sort properties must be part of any projection
+     */
+    @Override
+    public <S extends Auto, R> R findBy(Example<S> example, Function<FluentQuery.FetchableFluentQuery<S>, R> queryFunction) {
+        return queryFunction.apply(new ShardedFluentQuery<>(example, null, Sort.unsorted(), 0, List.of()));
+    }
+
+    // Metrics and lifecycle
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("autos.shard.queries", singleShardQueries, AtomicLong::get)
+                .tag("mode", "single").register(registry);
+        FunctionCounter.builder("autos.shard.queries", fanOutQueries, AtomicLong::get)
+                .tag("mode", "fanout").register(registry);
+        FunctionCounter.builder("autos.shard.moves", moves, AtomicLong::get).register(registry);
+    }
+
+    @Override
+    public void close() {
+        fanOutExecutor.shutdownNow();
+    }
+
+    public long getSingleShardQueries() {
+        return singleShardQueries.get();
+    }
+
+    public long getFanOutQueries() {
+        return fanOutQueries.get();
+    }
+
+    // Routing
+
+    private int shardOf(Auto auto) {
+        return shards.getRing().shardFor(auto.getDepartamento());
+    }
+
+    private int homeShard(Long id) {
+        return idAllocator.partitionOf(id);
+    }
+
+    /**
+     * Shard an auto is stored on, or -1 when it does not exist
+     */
+    private int locate(Long id) {
+        int home = homeShard(id);
+        if (single(home, true, () -> delegate.existsById(id))) {
+            return home;
+        }
+        List<Boolean> found = fanOut(true, shard -> shard != home && delegate.existsById(id));
+        return found.indexOf(true);
+    }
+
+    private <T> T single(int shard, boolean readOnly, Supplier<T> work) {
+        singleShardQueries.incrementAndGet();
+        return onShard(shard, readOnly, work);
+    }
+
+    private <T> T onShard(int shard, boolean readOnly, Supplier<T> work) {
+        TransactionTemplate template = shard == 0
+                ? (readOnly ? joinRead : joinWrite)
+                : (readOnly ? newRead : newWrite);
+        try (ShardContext.Scope scope = ShardContext.on(shard)) {
+            return template.execute(status -> work.get());
+        }
+    }
+
+    /**
+     * Run {@code work} on every shard in parallel; the home shard runs on the calling thread so it
+     * sees the caller's transaction
+     *
+     * @return the results in shard order
+     */
+    private <T> List<T> fanOut(boolean readOnly, Function<Integer, T> work) {
+        fanOutQueries.incrementAndGet();
+        Workload workload = Workload.current();
+        List<Future<T>> others = new ArrayList<>();
+        for (int shard = 1; shard < shards.size(); shard++) {
+            int target = shard;
+            others.add(fanOutExecutor.submit(() -> {
+                try (Workload.Scope scope = workload.enter()) {
+                    return onShard(target, readOnly, () -> work.apply(target));
+                }
+            }));
+        }
+        List<T> results = new ArrayList<>(shards.size());
+        try {
+            results.add(onShard(0, readOnly, () -> work.apply(0)));
+            for (Future<T> other : others) {
+                results.add(other.get());
+            }
+            return results;
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            throw new IllegalStateException(e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Consulta a las particiones interrumpida", e);
+        } finally {
+            others.forEach(other -> other.cancel(true));
+        }
+    }
+
+    /**
+     * Stream the export query of one shard. The home shard streams inside the caller's
+     * transaction; the others get an entity manager and transaction of their own, ended when the
+     * stream is closed.
+     */
+    private Stream<Auto> streamShard(int shard, String departamento, LocalDate desde, LocalDate hasta) {
+        if (shard == 0) {
+            return delegate.streamForExport(departamento, desde, hasta);
+        }
+        EntityManager shardEntityManager;
+        try (ShardContext.Scope scope = ShardContext.on(shard)) {
+            shardEntityManager = entityManagerFactory.createEntityManager();
+            // Beginning takes the connection, so it must happen while the shard is set
+            shardEntityManager.getTransaction().begin();
+        }
+        try {
+            return shardEntityManager.createQuery(EXPORT_QUERY, Auto.class)
+                    .setParameter("departamento", departamento)
+                    .setParameter("desde", desde)
+                    .setParameter("hasta", hasta)
+                    .setHint("org.hibernate.fetchSize", 500)
+                    .setHint("org.hibernate.readOnly", true)
+                    .getResultStream()
+                    .onClose(() -> {
+                        shardEntityManager.getTransaction().rollback();
+                        shardEntityManager.close();
+                    });
+        } catch (RuntimeException e) {
+            shardEntityManager.getTransaction().rollback();
+            shardEntityManager.close();
+            throw e;
+        }
+    }
+
+    private static Stream<Auto> mergeById(List<Stream<Auto>> streams) {
+        List<Iterator<Auto>> iterators = streams.stream().map(Stream::iterator).toList();
+        PriorityQueue<Map.Entry<Auto, Iterator<Auto>>> heads =
+                new PriorityQueue<>(Comparator.comparing((Map.Entry<Auto, Iterator<Auto>> head) -> head.getKey().getId()));
+        for (Iterator<Auto> iterator : iterators) {
+            if (iterator.hasNext()) {
+                heads.add(Map.entry(iterator.next(), iterator));
+            }
+        }
+        Iterator<Auto> merged = new Iterator<>() {
+            @Override
+            public boolean hasNext() {
+                return !heads.isEmpty();
+            }
+
+            @Override
+            public Auto next() {
+                Map.Entry<Auto, Iterator<Auto>> head = heads.poll();
+                if (head == null) {
+                    throw new NoSuchElementException();
+                }
+                if (head.getValue().hasNext()) {
+                    heads.add(Map.entry(head.getValue().next(), head.getValue()));
+                }
+                return head.getKey();
+            }
+        };
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(merged, Spliterator.ORDERED | Spliterator.NONNULL), false)
+                .onClose(() -> closeAll(streams));
+    }
+
+    private static void closeAll(List<Stream<Auto>> streams) {
+        RuntimeException failure = null;
+        for (Stream<Auto> stream : streams) {
+            try {
+                stream.close();
+            } catch (RuntimeException e) {
+                if (failure == null) {
+                    failure = e;
+                } else {
+                    failure.addSuppressed(e);
+                }
+            }
+        }
+        if (failure != null) {
+            throw failure;
+        }
+    }
+
+    private static <S> List<S> sorted(List<? extends Collection<S>> perShard, Sort sort) {
+        return perShard.stream()
+                .flatMap(Collection::stream)
+                .sorted(comparator(sort))
+                .toList();
+    }
+
+    private static <S> Page<S> page(List<Page<S>> perShard, Pageable pageable) {
+        List<S> content = perShard.stream()
+                .flatMap(page -> page.getContent().stream())
+                .sorted(comparator(pageable.getSort()))
+                .skip(pageable.getOffset())
+                .limit(pageable.getPageSize())
+                .toList();
+        long total = perShard.stream().mapToLong(Page::getTotalElements).sum();
+        return new PageImpl<>(content, pageable, total);
+    }
+
+    /**
+     * The order of {@code sort} in memory, with nulls placed as H2 does by default and id as tie-breaker
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static Comparator<Object> comparator(Sort sort) {
+        Comparator<Object> result = (a, b) -> 0;
+        for (Sort.Order order : sort) {
+            Comparator<Comparable> natural = order.isIgnoreCase()
+                    ? (a, b) -> a.toString().compareToIgnoreCase(b.toString())
+                    : Comparator.naturalOrder();
+            Comparator<Comparable> directed = order.isAscending() ? natural : natural.reversed();
+            Comparator<Comparable> withNulls = switch (order.getNullHandling()) {
+                case NULLS_FIRST -> Comparator.nullsFirst(directed);
+                case NULLS_LAST -> Comparator.nullsLast(directed);
+                default -> order.isAscending() ? Comparator.nullsFirst(directed) : Comparator.nullsLast(directed);
+            };
+            result = result.thenComparing(
+                    item -> (Comparable) new BeanWrapperImpl(item).getPropertyValue(order.getProperty()), withNulls);
+        }
+        return result.thenComparing(ShardedAutoRepository::idOf, Comparator.nullsLast(Comparator.naturalOrder()));
+    }
+
+    /**
+     * Id of an auto or of a projection that includes it, null otherwise
+     */
+    private static Long idOf(Object item) {
+        if (item instanceof Auto auto) {
+            return auto.getId();
+        }
+        BeanWrapperImpl bean = new BeanWrapperImpl(item);
+        return bean.isReadableProperty("id") && bean.getPropertyValue("id") instanceof Long id ? id : null;
+    }
+
+    private static List<ValueCount> mergeCounts(List<List<ValueCount>> perShard) {
+        Map<String, Long> totals = new LinkedHashMap<>();
+        perShard.forEach(counts -> counts.forEach(count -> totals.merge(count.getValor(), count.getTotal(), Long::sum)));
+        List<ValueCount> merged = new ArrayList<>(totals.size());
+        totals.forEach((valor, total) -> merged.add(new MergedCount(valor, total)));
+        return merged;
+    }
+
+    private static TransactionTemplate template(PlatformTransactionManager transactionManager, int propagation,
+                                                boolean readOnly) {
+        TransactionTemplate template = new TransactionTemplate(transactionManager);
+        template.setPropagationBehavior(propagation);
+        template.setReadOnly(readOnly);
+        return template;
+    }
+
+    /**
+     * Fluent query by example over every shard. Each terminal operation runs the same fluent query
+     * on every shard and merges the results in memory.
+     *
+     * @param <S> type of the example
+     * @param <T> type of the results, {@code S} unless projected
+     */
+    private final class ShardedFluentQuery<S extends Auto, T> implements FluentQuery.FetchableFluentQuery<T> {
+
+        private final Example<S> example;
+        private final Class<T> resultType;
+        private final Sort sort;
+        private final int limit;
+        private final List<String> properties;
+
+        ShardedFluentQuery(Example<S> example, Class<T> resultType, Sort sort, int limit, List<String> properties) {
+            this.example = example;
+            this.resultType = resultType;
+            this.sort = sort;
+            this.limit = limit;
+            this.properties = properties;
+        }
+
+        @Override
+        public FluentQuery.FetchableFluentQuery<T> sortBy(Sort sort) {
+            return new ShardedFluentQuery<>(example, resultType, this.sort.and(sort), limit, properties);
+        }
+
+        @Override
+        public FluentQuery.FetchableFluentQuery<T> limit(int limit) {
+            if (limit < 0) {
+                throw new IllegalArgumentException("El límite no puede ser negativo");
+            }
+            return new ShardedFluentQuery<>(example, resultType, sort, limit, properties);
+        }
+
+        @Override
+        public <R> FluentQuery.FetchableFluentQuery<R> as(Class<R> resultType) {
+            return new ShardedFluentQuery<>(example, resultType, sort, limit, properties);
+        }
+
+        @Override
+        public FluentQuery.FetchableFluentQuery<T> project(Collection<String> properties) {
+            return new ShardedFluentQuery<>(example, resultType, sort, limit, List.copyOf(properties));
+        }
+
+        @Override
+        public T oneValue() {
+            List<T> found = fanOut(true, shard -> delegate.findBy(example, query -> on(query, sort).oneValue())).stream()
+                    .filter(Objects::nonNull)
+                    .toList();
+            if (found.size() > 1) {
+                throw new IncorrectResultSizeDataAccessException(1, found.size());
+            }
+            return found.isEmpty() ? null : found.get(0);
+        }
+
+        @Override
+        public T firstValue() {
+            return fanOut(true, shard -> delegate.findBy(example, query -> on(query, sort).firstValue())).stream()
+                    .filter(Objects::nonNull)
+                    .min(comparator(sort))
+                    .orElse(null);
+        }
+
+        @Override
+        public List<T> all() {
+            List<T> merged = sorted(fanOut(true, shard -> delegate.findBy(example, query -> on(query, sort).all())), sort);
+            return limit > 0 && merged.size() > limit ? merged.subList(0, limit) : merged;
+        }
+
+        @Override
+        public Page<T> page(Pageable pageable) {
+            if (pageable.isUnpaged()) {
+                return new PageImpl<>(all());
+            }
+            Sort order = pageable.getSort().isSorted() ? pageable.getSort() : sort;
+            Pageable head = PageRequest.of(0, (int) (pageable.getOffset() + pageable.getPageSize()));
+            List<Page<T>> perShard = fanOut(true, shard -> delegate.findBy(example, query -> on(query, order).page(head)));
+            return ShardedAutoRepository.page(perShard, PageRequest.of(pageable.getPageNumber(), pageable.getPageSize(), order));
+        }
+
+        @Override
+        public Stream<T> stream() {
+            return all().stream();
+        }
+
+        @Override
+        public long count() {
+            return fanOut(true, shard -> delegate.findBy(example, FluentQuery.FetchableFluentQuery::count)).stream()
+                    .mapToLong(Long::longValue)
+                    .sum();
+        }
+
+        @Override
+        public boolean exists() {
+            return fanOut(true, shard -> delegate.findBy(example, FluentQuery.FetchableFluentQuery::exists)).contains(true);
+        }
+
+        /**
+         * The same query on one shard's repository
+         */
+        @SuppressWarnings("unchecked")
+        private FluentQuery.FetchableFluentQuery<T> on(FluentQuery.FetchableFluentQuery<S> query, Sort order) {
+            FluentQuery.FetchableFluentQuery<?> configured = query.sortBy(order);
+            if (limit > 0) {
+                configured = configured.limit(limit);
+            }
+            if (!properties.isEmpty()) {
+                configured = configured.project(properties);
+            }
+            return (FluentQuery.FetchableFluentQuery<T>) (resultType != null ? configured.as(resultType) : configured);
+        }
+    }
+
+    private record MergedCount(String valor, long total) implements ValueCount {
+
+        @Override
+        public String getValor() {
+            return valor;
+        }
+
+        @Override
+        public long getTotal() {
+            return total;
+        }
+    }
+}
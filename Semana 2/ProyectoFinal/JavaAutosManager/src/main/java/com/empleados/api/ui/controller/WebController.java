@@ -1,66 +1,179 @@
 package com.empleados.api.ui.controller;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.validation.BindingResult;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 import org.springframework.web.servlet.mvc.support.RedirectAttributes;
 
 import com.empleados.api.dto.AutoDTO;
+import com.empleados.api.dto.AutoPageDTO;
+import com.empleados.api.dto.DashboardStatsDTO;
+import com.empleados.api.event.AutoChangeFeed;
 import com.empleados.api.service.AutoService;
+import com.empleados.api.service.AutoStatsService;
+import com.empleados.api.ui.view.AutoListStreamer;
 
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
-import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDate;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.stream.Collectors;
 
 /**
- * Controlador para las vistas web
+ * Controlador para las vistas web.
+ * La lista de automoviles se pagina por cursor; las rutas {@code /automoviles/fragmentos/**}
+ * devuelven solo las filas o el formulario para que la página se actualice sin recargarse.
+ * {@code /automoviles/todos} envía la lista completa por partes mientras se lee.
  */
 @Controller
 @RequiredArgsConstructor
 public class WebController {
     
+    private static final int TAMANIO_PAGINA = 50;
+    
     private final AutoService autoService;
+    private final AutoStatsService autoStatsService;
+    private final AutoChangeFeed autoChangeFeed;
+    private final AutoListStreamer autoListStreamer;
     
     /**
      * Página de inicio (Dashboard)
      */
     @GetMapping("/")
     public String dashboard(Model model) {
-        List<AutoDTO> automoviles = autoService.getAllAutomoviles();
-        
-        // Calcular estadísticas
-        int totalAutomoviles = automoviles.size();
-        
-        BigDecimal costoPromedio = automoviles.stream()
-                .map(AutoDTO::getCosto)
-                .reduce(BigDecimal.ZERO, BigDecimal::add)
-                .divide(BigDecimal.valueOf(Math.max(1, totalAutomoviles)), BigDecimal.ROUND_HALF_UP);
+        // Estadísticas mantenidas en memoria, sin consultar la base de datos
+        DashboardStatsDTO stats = autoStatsService.getDashboardStats();
         
-        // Distribución por departamento
-        Map<String, Long> marcas = automoviles.stream()
-                .collect(Collectors.groupingBy(AutoDTO::getMarca, Collectors.counting()));
-        
-        model.addAttribute("totalAutomoviles", totalAutomoviles);
-        model.addAttribute("costoPromedio", costoPromedio.toString());
-        model.addAttribute("marcas", marcas);
+        model.addAttribute("totalAutomoviles", stats.getTotal());
+        model.addAttribute("costoPromedio", stats.getCostoPromedio().toString());
+        model.addAttribute("marcas", stats.getMarcas());
+        model.addAttribute("departamentos", stats.getDepartamentos());
         
         return "index";
     }
     
     /**
-     * Lista de automoviles
+     * Lista de automoviles, con la primera página en el orden pedido
      */
     @GetMapping("/automoviles")
-    public String listarAutomoviles(Model model) {
-        model.addAttribute("automoviles", autoService.getAllAutomoviles());
+    public String listarAutomoviles(@RequestParam(defaultValue = "id") String ordenarPor,
+                                    @RequestParam(defaultValue = "asc") String direccion,
+                                    @RequestParam(defaultValue = "" + TAMANIO_PAGINA) int tamanio,
+                                    Model model) {
+        // La secuencia se lee antes de la página para que el feed reenvíe cualquier cambio posterior
+        model.addAttribute("feedSequence", autoChangeFeed.currentSequence());
+        model.addAttribute("pagina", autoService.getAutomovilesPage(ordenarPor, direccion, null, tamanio));
+        model.addAttribute("tamanio", tamanio);
         return "automoviles";
     }
     
+    /**
+     * Lista completa de automoviles, enviada al navegador mientras se leen de la base de datos
+     */
+    @GetMapping("/automoviles/todos")
+    public ResponseEntity<StreamingResponseBody> listarTodos(HttpServletRequest request, HttpServletResponse response) {
+        Map<String, Object> variables = new HashMap<>();
+        // La secuencia se lee antes que las filas para que el feed reenvíe cualquier cambio posterior
+        variables.put("feedSequence", autoChangeFeed.currentSequence());
+        variables.put("pagina", new AutoPageDTO(List.of(), "id", "asc", null));
+        variables.put("tamanio", TAMANIO_PAGINA);
+        variables.put("completa", true);
+        StreamingResponseBody body = output -> autoListStreamer.stream("automoviles", variables, request, response, output);
+        return ResponseEntity.ok()
+                .contentType(new MediaType(MediaType.TEXT_HTML, StandardCharsets.UTF_8))
+                .body(body);
+    }
+    
+    /**
+     * Filas de la página que sigue al cursor, o de la primera página si no hay cursor
+     */
+    @GetMapping("/automoviles/fragmentos/filas")
+    public String filasAutomoviles(@RequestParam(defaultValue = "id") String ordenarPor,
+                                   @RequestParam(defaultValue = "asc") String direccion,
+                                   @RequestParam(required = false) String cursor,
+                                   @RequestParam(defaultValue = "" + TAMANIO_PAGINA) int tamanio,
+                                   Model model) {
+        AutoPageDTO pagina = autoService.getAutomovilesPage(ordenarPor, direccion, cursor, tamanio);
+        model.addAttribute("pagina", pagina);
+        return "automoviles :: filas";
+    }
+    
+    /**
+     * Fila de un auto, para reemplazarla tras un cambio
+     */
+    @GetMapping("/automoviles/fragmentos/fila/{id}")
+    public String filaAuto(@PathVariable Long id, Model model) {
+        model.addAttribute("auto", autoService.getAutoById(id));
+        return "automoviles :: fila";
+    }
+    
+    /**
+     * Formulario de alta, o de edición si se indica el id, para mostrarlo dentro de la lista
+     */
+    @GetMapping({"/automoviles/fragmentos/formulario", "/automoviles/fragmentos/formulario/{id}"})
+    public String formularioAuto(@PathVariable(required = false) Long id, Model model) {
+        if (id != null) {
+            editarAutoForm(id, model);
+        } else {
+            nuevoAutoForm(model);
+        }
+        return "form :: formulario";
+    }
+    
+    /**
+     * Guardar nuevo auto y devolver su fila, o el formulario con los errores
+     */
+    @PostMapping("/automoviles/fragmentos/guardar")
+    public String guardarAutoFragmento(@Valid @ModelAttribute("auto") AutoDTO auto,
+                                       BindingResult result,
+                                       Model model,
+                                       HttpServletResponse response) {
+        if (result.hasErrors()) {
+            response.setStatus(HttpStatus.UNPROCESSABLE_ENTITY.value());
+            return "form :: formulario";
+        }
+        
+        model.addAttribute("auto", autoService.createAuto(auto));
+        response.setStatus(HttpStatus.CREATED.value());
+        return "automoviles :: fila";
+    }
+    
+    /**
+     * Actualizar auto existente y devolver su fila, o el formulario con los errores
+     */
+    @PostMapping("/automoviles/fragmentos/actualizar/{id}")
+    public String actualizarAutoFragmento(@PathVariable Long id,
+                                          @Valid @ModelAttribute("auto") AutoDTO auto,
+                                          BindingResult result,
+                                          Model model,
+                                          HttpServletResponse response) {
+        if (result.hasErrors()) {
+            response.setStatus(HttpStatus.UNPROCESSABLE_ENTITY.value());
+            return "form :: formulario";
+        }
+        
+        model.addAttribute("auto", autoService.updateAuto(id, auto));
+        return "automoviles :: fila";
+    }
+    
+    /**
+     * Eliminar auto; la página quita su fila
+     */
+    @PostMapping("/automoviles/fragmentos/eliminar/{id}")
+    public ResponseEntity<Void> eliminarAutoFragmento(@PathVariable Long id) {
+        autoService.deleteAuto(id);
+        return ResponseEntity.noContent().build();
+    }
+    
     /**
      * Formulario para nuevo auto
      */
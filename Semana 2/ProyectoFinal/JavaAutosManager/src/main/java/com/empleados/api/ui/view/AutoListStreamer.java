@@ -0,0 +1,105 @@
+package com.empleados.api.ui.view;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.BeanUtils;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.thymeleaf.IThrottledTemplateProcessor;
+import org.thymeleaf.context.WebContext;
+import org.thymeleaf.spring6.ISpringTemplateEngine;
+import org.thymeleaf.web.servlet.JakartaServletWebApplication;
+
+import com.empleados.api.dto.AutoDTO;
+import com.empleados.api.model.Auto;
+import com.empleados.api.repository.AutoRepository;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.stream.Stream;
+
+/**
+ * Renders a template listing every auto while the rows are read from the database.
+ * <p>
+ * The template is processed with Thymeleaf's throttled processor, which stops after each
+ * {@value #CHUNK_BYTES} bytes of output so the chunk can be flushed to the client, and its
+ * {@code automoviles} variable iterates a database cursor. Each entity is copied and detached as
+ * soon as it is read, so neither the rendered page nor the rows are ever held in memory whole.
+ */
+@Component
+public class AutoListStreamer {
+
+    static final int CHUNK_BYTES = 16 * 1024;
+
+    private final AutoRepository autoRepository;
+    private final ISpringTemplateEngine templateEngine;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Autowired
+    public AutoListStreamer(AutoRepository autoRepository, ISpringTemplateEngine templateEngine) {
+        this.autoRepository = autoRepository;
+        this.templateEngine = templateEngine;
+    }
+
+    /**
+     * Render {@code template} to {@code output}, with every auto, ordered by id, in the
+     * {@code automoviles} variable
+     *
+     * @param template the template name
+     * @param variables the other variables of the template
+     * @param output the stream to write to; it is flushed after every chunk but not closed
+     * @return the number of automoviles rendered
+     */
+    @Transactional(readOnly = true)
+    public long stream(String template, Map<String, Object> variables, HttpServletRequest request,
+                       HttpServletResponse response, OutputStream output) throws IOException {
+        WebContext context = new WebContext(JakartaServletWebApplication.buildApplication(request.getServletContext())
+                .buildExchange(request, response), request.getLocale(), variables);
+        try (Stream<Auto> automoviles = autoRepository.streamForExport(null, null, null)) {
+            DetachingIterator rows = new DetachingIterator(automoviles.iterator());
+            context.setVariable("automoviles", rows);
+            IThrottledTemplateProcessor processor = templateEngine.processThrottled(template, context);
+            while (!processor.isFinished()) {
+                processor.process(CHUNK_BYTES, output, StandardCharsets.UTF_8);
+                output.flush();
+            }
+            return rows.count;
+        }
+    }
+
+    /**
+     * Copies each entity of the cursor to a DTO and detaches it
+     */
+    private final class DetachingIterator implements Iterator<AutoDTO> {
+
+        private final Iterator<Auto> automoviles;
+        private long count;
+
+        private DetachingIterator(Iterator<Auto> automoviles) {
+            this.automoviles = automoviles;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return automoviles.hasNext();
+        }
+
+        @Override
+        public AutoDTO next() {
+            Auto auto = automoviles.next();
+            AutoDTO dto = new AutoDTO();
+            BeanUtils.copyProperties(auto, dto);
+            entityManager.detach(auto);
+            count++;
+            return dto;
+        }
+    }
+}
@@ -0,0 +1,253 @@
+package com.empleados.api.analytics;
+
+import com.empleados.api.dto.AutoDTO;
+import com.empleados.api.event.AutoChangedEvent;
+import com.empleados.api.exception.BadRequestException;
+import com.empleados.api.repository.AutoRepository;
+import com.empleados.api.util.TestDataBuilder;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.when;
+
+/**
+ * Pruebas unitarias para AutoColumnStore
+ */
+@ExtendWith(MockitoExtension.class)
+class AutoColumnStoreTest {
+
+    @Mock
+    private AutoRepository autoRepository;
+
+    private AutoColumnStore columnStore;
+
+    @BeforeEach
+    void setUp() {
+        columnStore = new AutoColumnStore(autoRepository, new ScalarCostAggregationKernel());
+    }
+
+    @Test
+    @DisplayName("Debe cargar la tabla completa al iniciar")
+    void load_ShouldRebuildFromRepository() {
+        // Arrange
+        when(autoRepository.findAll()).thenReturn(TestDataBuilder.createAutoList());
+
+        // Act
+        columnStore.load();
+
+        // Assert
+        assertEquals(2, columnStore.size());
+        assertEquals(9_800_000L, columnStore.sumCostoCents());
+        assertEquals(Map.of("Nissan", 1L, "Ford", 1L), columnStore.countBy(AutoColumn.MARCA));
+        assertEquals(Map.of("Negro", 2L), columnStore.countBy(AutoColumn.COLOR));
+    }
+
+    @Test
+    @DisplayName("Debe aplicar altas, modificaciones y bajas desde los eventos")
+    void onAutoChanged_ShouldApplyChanges() {
+        // Arrange
+        AutoDTO juan = TestDataBuilder.createAutoDTO();
+        AutoDTO ana = TestDataBuilder.createAutoDTO2();
+        columnStore.onAutoChanged(AutoChangedEvent.created(juan));
+        columnStore.onAutoChanged(AutoChangedEvent.created(ana));
+
+        // Act
+        AutoDTO juanActualizado = TestDataBuilder.createAutoDTO();
+        juanActualizado.setCosto(new BigDecimal("55000.50"));
+        juanActualizado.setDepartamento("Recursos Humanos");
+        columnStore.onAutoChanged(AutoChangedEvent.updated(juan, juanActualizado));
+        columnStore.onAutoChanged(AutoChangedEvent.deleted(ana));
+
+        // Assert
+        assertEquals(1, columnStore.size());
+        assertEquals(5_500_050L, columnStore.sumCostoCents());
+        assertEquals(5_500_050L, columnStore.sumCostoCents("Recursos Humanos"));
+        assertEquals(0L, columnStore.sumCostoCents("Tecnología"));
+        assertEquals(Map.of("Recursos Humanos", 1L), columnStore.countBy(AutoColumn.DEPARTAMENTO));
+    }
+
+    @Test
+    @DisplayName("Debe sumar el costo agrupado por marca")
+    void sumCostoCentsBy_ShouldGroupByColumn() {
+        // Arrange
+        AutoDTO juan = TestDataBuilder.createAutoDTO();
+        AutoDTO ana = TestDataBuilder.createAutoDTO2();
+        AutoDTO carlos = TestDataBuilder.createNewAutoDTO();
+        carlos.setId(3L);
+        carlos.setMarca("Nissan");
+        columnStore.upsert(juan);
+        columnStore.upsert(ana);
+        columnStore.upsert(carlos);
+
+        // Act
+        Map<String, Long> costoPorMarca = columnStore.sumCostoCentsBy(AutoColumn.MARCA);
+
+        // Assert
+        assertEquals(10_200_000L, costoPorMarca.get("Nissan"));
+        assertEquals(4_800_000L, costoPorMarca.get("Ford"));
+    }
+
+    @Test
+    @DisplayName("Debe resumir el costo total y por departamento")
+    void costSummary_ShouldReturnCountSumMinMax() {
+        // Arrange
+        columnStore.upsert(TestDataBuilder.createAutoDTO());
+        columnStore.upsert(TestDataBuilder.createAutoDTO2());
+        AutoDTO carlos = TestDataBuilder.createNewAutoDTO();
+        carlos.setId(3L);
+        columnStore.upsert(carlos);
+
+        // Act
+        CostSummary total = columnStore.costSummary();
+        Map<String, CostSummary> porDepartamento = columnStore.costSummaryBy(AutoColumn.DEPARTAMENTO);
+
+        // Assert
+        assertEquals(new CostSummary(3, 15_000_000L, 4_800_000L, 5_200_000L), total);
+        assertEquals(new CostSummary(2, 10_200_000L, 5_000_000L, 5_200_000L), porDepartamento.get("Tecnología"));
+        assertEquals(new CostSummary(1, 4_800_000L, 4_800_000L, 4_800_000L), porDepartamento.get("Recursos Humanos"));
+    }
+
+    @Test
+    @DisplayName("Debe ignorar departamentos nulos al agrupar")
+    void countBy_ShouldSkipNullValues() {
+        // Arrange
+        AutoDTO sinDepartamento = TestDataBuilder.createAutoDTO();
+        sinDepartamento.setDepartamento(null);
+        sinDepartamento.setCosto(null);
+        columnStore.upsert(sinDepartamento);
+
+        // Act & Assert
+        assertTrue(columnStore.countBy(AutoColumn.DEPARTAMENTO).isEmpty());
+        assertEquals(0L, columnStore.sumCostoCents());
+        assertEquals(0L, columnStore.sumCostoCents(null));
+    }
+
+    @Test
+    @DisplayName("Debe dejar fuera del conteo, mínimo y máximo a los autos sin costo")
+    void costSummary_ShouldSkipNullCostos() {
+        // Arrange
+        AutoDTO sinCosto = TestDataBuilder.createAutoDTO();
+        sinCosto.setCosto(null);
+        columnStore.upsert(sinCosto);
+        columnStore.upsert(TestDataBuilder.createAutoDTO2());
+        AutoDTO carlos = TestDataBuilder.createNewAutoDTO();
+        carlos.setId(3L);
+        columnStore.upsert(carlos);
+
+        // Act
+        CostSummary total = columnStore.costSummary();
+        Map<String, CostSummary> porDepartamento = columnStore.costSummaryBy(AutoColumn.DEPARTAMENTO);
+
+        // Assert
+        assertEquals(3, columnStore.size());
+        assertEquals(new CostSummary(2, 10_000_000L, 4_800_000L, 5_200_000L), total);
+        assertEquals(new CostSummary(1, 5_200_000L, 5_200_000L, 5_200_000L), porDepartamento.get("Tecnología"));
+        assertEquals(Map.of("Tecnología", 2L, "Recursos Humanos", 1L), columnStore.countBy(AutoColumn.DEPARTAMENTO));
+    }
+
+    @Test
+    @DisplayName("Debe mantener las marcas de costo nulo al modificar y eliminar filas")
+    void nullCostos_ShouldFollowUpdatesAndRemovals() {
+        // Arrange
+        AutoDTO juan = TestDataBuilder.createAutoDTO();
+        AutoDTO ana = TestDataBuilder.createAutoDTO2();
+        ana.setCosto(null);
+        columnStore.upsert(juan);
+        columnStore.upsert(ana);
+
+        // Act: the row without costo moves into the slot of the removed one
+        columnStore.remove(juan.getId());
+        CostSummary soloSinCosto = columnStore.costSummary();
+        ana.setCosto(new BigDecimal("100.00"));
+        columnStore.upsert(ana);
+
+        // Assert
+        assertEquals(0, soloSinCosto.getCount());
+        assertEquals(new CostSummary(1, 10_000L, 10_000L, 10_000L), columnStore.costSummary());
+    }
+
+    @Test
+    @DisplayName("Debe reaplicar sobre la carga los cambios confirmados mientras se leía la tabla")
+    void load_WithChangesDuringRead_ShouldReplayThem() {
+        // Arrange
+        AutoDTO ana = TestDataBuilder.createAutoDTO2();
+        AutoDTO juan = TestDataBuilder.createAutoDTO();
+        when(autoRepository.findAll()).thenAnswer(invocation -> {
+            // Read before these commits: Ana is missing and Juan is still there
+            columnStore.onAutoChanged(AutoChangedEvent.created(ana));
+            columnStore.onAutoChanged(AutoChangedEvent.deleted(juan));
+            return List.of(TestDataBuilder.createAuto());
+        });
+
+        // Act
+        columnStore.load();
+
+        // Assert
+        assertEquals(1, columnStore.size());
+        assertEquals(Map.of("Ford", 1L), columnStore.countBy(AutoColumn.MARCA));
+
+        // Later changes are applied once, without replay
+        columnStore.onAutoChanged(AutoChangedEvent.deleted(ana));
+        assertEquals(0, columnStore.size());
+    }
+
+    @Test
+    @DisplayName("Debe filtrar y construir el histograma por fecha de compra")
+    void fechaCompra_ShouldFilterAndBucket() {
+        // Arrange
+        AutoDTO juan = TestDataBuilder.createAutoDTO();
+        AutoDTO ana = TestDataBuilder.createAutoDTO2();
+        ana.setFechaCompra(LocalDate.of(2020, 3, 1));
+        AutoDTO sinFecha = TestDataBuilder.createNewAutoDTO();
+        sinFecha.setId(3L);
+        sinFecha.setFechaCompra(null);
+        columnStore.upsert(juan);
+        columnStore.upsert(ana);
+        columnStore.upsert(sinFecha);
+
+        // Act
+        long enero = columnStore.countFechaCompraBetween(LocalDate.of(2020, 1, 1), LocalDate.of(2020, 1, 31));
+        long[] histograma = columnStore.fechaCompraHistogram(LocalDate.of(2020, 1, 1), 30, 3);
+
+        // Assert
+        assertEquals(1L, enero);
+        assertArrayEquals(new long[]{1, 0, 1}, histograma);
+    }
+
+    @Test
+    @DisplayName("Debe rechazar histogramas con parámetros inválidos")
+    void fechaCompraHistogram_WithInvalidArguments_ShouldThrowException() {
+        LocalDate desde = LocalDate.of(2020, 1, 1);
+        assertThrows(BadRequestException.class, () -> columnStore.fechaCompraHistogram(desde, 0, 10));
+        assertThrows(BadRequestException.class, () -> columnStore.fechaCompraHistogram(desde, 30, 0));
+    }
+
+    @Test
+    @DisplayName("Debe crecer por encima de la capacidad inicial")
+    void upsert_ShouldGrowBeyondInitialCapacity() {
+        // Arrange & Act
+        for (long id = 1; id <= 3000; id++) {
+            AutoDTO auto = TestDataBuilder.createAutoDTO();
+            auto.setId(id);
+            auto.setCosto(BigDecimal.ONE);
+            columnStore.upsert(auto);
+        }
+        for (long id = 1; id <= 3000; id += 2) {
+            columnStore.remove(id);
+        }
+
+        // Assert
+        assertEquals(1500, columnStore.size());
+        assertEquals(150_000L, columnStore.sumCostoCents());
+    }
+}
@@ -0,0 +1,118 @@
+package com.empleados.api.analytics;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.util.Random;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Pruebas de los kernels de agregación de costos contra un cálculo de referencia
+ */
+class CostAggregationKernelTest {
+
+    static Stream<Arguments> kernels() {
+        return Stream.of(
+                Arguments.of(new ScalarCostAggregationKernel()),
+                Arguments.of(new VectorCostAggregationKernel()));
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("kernels")
+    @DisplayName("Debe calcular suma, mínimo y máximo incluyendo la cola no vectorizada")
+    void sumMinMax_ShouldMatchReference(CostAggregationKernel kernel) {
+        // Arrange
+        long[] values = randomValues(1_003, 7);
+        int length = 1_001;
+
+        // Act & Assert
+        long sum = 0;
+        long min = Long.MAX_VALUE;
+        long max = Long.MIN_VALUE;
+        for (int i = 0; i < length; i++) {
+            sum += values[i];
+            min = Math.min(min, values[i]);
+            max = Math.max(max, values[i]);
+        }
+        assertEquals(sum, kernel.sum(values, length));
+        assertEquals(min, kernel.min(values, length));
+        assertEquals(max, kernel.max(values, length));
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("kernels")
+    @DisplayName("Debe devolver los neutros cuando no hay filas")
+    void emptyInput_ShouldReturnNeutralValues(CostAggregationKernel kernel) {
+        long[] values = new long[8];
+        assertEquals(0L, kernel.sum(values, 0));
+        assertEquals(Long.MAX_VALUE, kernel.min(values, 0));
+        assertEquals(Long.MIN_VALUE, kernel.max(values, 0));
+        assertEquals(0L, kernel.aggregateByGroup(values, new int[8], 2, 0).count(0));
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("kernels")
+    @DisplayName("Debe agregar por grupo e ignorar códigos nulos")
+    void aggregateByGroup_ShouldMatchReference(CostAggregationKernel kernel) {
+        // Arrange
+        int length = 517;
+        int groups = VectorCostAggregationKernel.MAX_VECTORIZED_GROUPS - 1;
+        long[] values = randomValues(length, 11);
+        int[] codes = randomCodes(length, groups, 13);
+
+        // Act
+        GroupedCostStats stats = kernel.aggregateByGroup(values, codes, groups, length);
+
+        // Assert
+        for (int group = 0; group < groups; group++) {
+            long count = 0;
+            long sum = 0;
+            long min = Long.MAX_VALUE;
+            long max = Long.MIN_VALUE;
+            for (int i = 0; i < length; i++) {
+                if (codes[i] == group) {
+                    count++;
+                    sum += values[i];
+                    min = Math.min(min, values[i]);
+                    max = Math.max(max, values[i]);
+                }
+            }
+            assertEquals(count, stats.count(group));
+            assertEquals(sum, stats.sum(group));
+            assertEquals(min, stats.min(group));
+            assertEquals(max, stats.max(group));
+            assertEquals(sum, kernel.sumWhere(values, codes, group, length));
+        }
+    }
+
+    @Test
+    @DisplayName("Debe usar el kernel vectorial cuando el módulo está disponible")
+    void best_ShouldPickVectorKernelWhenAvailable() {
+        CostAggregationKernel kernel = CostAggregationKernels.best();
+        assertEquals(VectorCostAggregationKernel.isSupported(), kernel instanceof VectorCostAggregationKernel);
+    }
+
+    private static long[] randomValues(int length, long seed) {
+        Random random = new Random(seed);
+        long[] values = new long[length];
+        for (int i = 0; i < length; i++) {
+            values[i] = random.nextInt(10_000_000) - 1_000;
+        }
+        return values;
+    }
+
+    private static int[] randomCodes(int length, int groups, long seed) {
+        Random random = new Random(seed);
+        int[] codes = new int[length];
+        for (int i = 0; i < length; i++) {
+            // Incluye códigos nulos (-1) para comprobar que se ignoran
+            codes[i] = random.nextInt(groups + 1) - 1;
+        }
+        return codes;
+    }
+}
@@ -0,0 +1,117 @@
+package com.empleados.api.analytics;
+
+import com.empleados.api.dto.AutoDTO;
+import com.empleados.api.event.AutoChangedEvent;
+import com.empleados.api.repository.AutoRepository;
+import com.empleados.api.repository.ValueCount;
+import com.empleados.api.util.TestDataBuilder;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Pruebas unitarias para DashboardStats
+ */
+@ExtendWith(MockitoExtension.class)
+class DashboardStatsTest {
+
+    @Mock
+    private AutoRepository autoRepository;
+
+    private DashboardStats dashboardStats;
+
+    @BeforeEach
+    void setUp() {
+        dashboardStats = new DashboardStats(autoRepository);
+    }
+
+    @Test
+    @DisplayName("Debe aplicar altas, modificaciones y bajas como deltas sin consultar la base de datos")
+    void onAutoChanged_ShouldApplyDeltas() {
+        // Arrange
+        AutoDTO juan = TestDataBuilder.createAutoDTO();
+        AutoDTO ana = TestDataBuilder.createAutoDTO2();
+        dashboardStats.onAutoChanged(AutoChangedEvent.created(juan));
+        dashboardStats.onAutoChanged(AutoChangedEvent.created(ana));
+
+        // Act
+        AutoDTO juanActualizado = TestDataBuilder.createAutoDTO();
+        juanActualizado.setMarca("Ford");
+        juanActualizado.setCosto(new BigDecimal("51000.00"));
+        dashboardStats.onAutoChanged(AutoChangedEvent.updated(juan, juanActualizado));
+        dashboardStats.onAutoChanged(AutoChangedEvent.deleted(ana));
+
+        // Assert
+        DashboardFigures figures = dashboardStats.figures();
+        assertEquals(1, figures.getTotal());
+        assertEquals(5_100_000L, figures.getCostoCents());
+        assertEquals(Map.of("Ford", 1L), figures.getMarcas());
+        assertEquals(Map.of("Tecnología", 1L), figures.getDepartamentos());
+        verifyNoInteractions(autoRepository);
+    }
+
+    @Test
+    @DisplayName("Debe corregir las cifras con el recuento completo")
+    void reconcile_ShouldReplaceFiguresWithRecount() {
+        // Arrange
+        dashboardStats.onAutoChanged(AutoChangedEvent.created(TestDataBuilder.createAutoDTO()));
+        when(autoRepository.count()).thenReturn(3L);
+        when(autoRepository.sumCosto()).thenReturn(new BigDecimal("150000.00"));
+        when(autoRepository.countByMarca()).thenReturn(List.of(valueCount("Nissan", 2), valueCount("Ford", 1)));
+        when(autoRepository.countByDepartamento()).thenReturn(List.of(valueCount("Tecnología", 3)));
+
+        // Act
+        boolean applied = dashboardStats.reconcile();
+
+        // Assert
+        assertTrue(applied);
+        DashboardFigures figures = dashboardStats.figures();
+        assertEquals(3, figures.getTotal());
+        assertEquals(15_000_000L, figures.getCostoCents());
+        assertEquals(Map.of("Ford", 1L, "Nissan", 2L), figures.getMarcas());
+        assertEquals(Map.of("Tecnología", 3L), figures.getDepartamentos());
+    }
+
+    @Test
+    @DisplayName("Debe descartar el recuento si una escritura ocurre mientras se ejecuta")
+    void reconcile_WhenWriteRaces_ShouldKeepDeltas() {
+        // Arrange
+        AutoDTO juan = TestDataBuilder.createAutoDTO();
+        when(autoRepository.count()).thenAnswer(invocation -> {
+            dashboardStats.onAutoChanged(AutoChangedEvent.created(juan));
+            return 0L;
+        });
+        when(autoRepository.sumCosto()).thenReturn(BigDecimal.ZERO);
+
+        // Act
+        boolean applied = dashboardStats.reconcile();
+
+        // Assert
+        assertFalse(applied);
+        assertEquals(1, dashboardStats.figures().getTotal());
+    }
+
+    private static ValueCount valueCount(String valor, long total) {
+        return new ValueCount() {
+            @Override
+            public String getValor() {
+                return valor;
+            }
+
+            @Override
+            public long getTotal() {
+                return total;
+            }
+        };
+    }
+}
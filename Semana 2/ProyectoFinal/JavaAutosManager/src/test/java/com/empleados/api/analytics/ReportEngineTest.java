@@ -0,0 +1,133 @@
+package com.empleados.api.analytics;
+
+import com.empleados.api.dto.AutoDTO;
+import com.empleados.api.exception.BadRequestException;
+import com.empleados.api.repository.AutoRepository;
+import com.empleados.api.util.TestDataBuilder;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Pruebas unitarias para ReportEngine. Usa particiones muy pequeñas para forzar la división
+ * en varias tareas y comprobar los combinadores.
+ */
+@ExtendWith(MockitoExtension.class)
+class ReportEngineTest {
+
+    private static final String[] DEPARTAMENTOS = {"Tecnología", "Ventas", "Recursos Humanos"};
+
+    @Mock
+    private AutoRepository autoRepository;
+
+    private AutoColumnStore columnStore;
+    private ReportEngine reportEngine;
+
+    @BeforeEach
+    void setUp() {
+        columnStore = new AutoColumnStore(autoRepository, new ScalarCostAggregationKernel());
+        reportEngine = new ReportEngine(columnStore, 4, 8);
+        for (long id = 1; id <= 100; id++) {
+            AutoDTO auto = TestDataBuilder.createAutoDTO();
+            auto.setId(id);
+            auto.setCosto(BigDecimal.valueOf(id * 100));
+            auto.setDepartamento(id % 10 == 0 ? null : DEPARTAMENTOS[(int) (id % DEPARTAMENTOS.length)]);
+            auto.setFechaCompra(LocalDate.of(2020, 1, 1).plusDays(id - 1));
+            columnStore.upsert(auto);
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        reportEngine.shutdown();
+    }
+
+    @Test
+    @DisplayName("Debe agrupar el costo igual que el almacén columnar")
+    void costSummaryBy_ShouldMatchColumnStore() {
+        // Act
+        Map<String, CostSummary> resumen = reportEngine.costSummaryBy(AutoColumn.DEPARTAMENTO).join();
+
+        // Assert
+        assertEquals(columnStore.costSummaryBy(AutoColumn.DEPARTAMENTO), resumen);
+        assertEquals(90L, resumen.values().stream().mapToLong(CostSummary::getCount).sum());
+    }
+
+    @Test
+    @DisplayName("Debe dejar fuera de los reportes de costo a los autos sin costo")
+    void costReports_ShouldSkipNullCostos() {
+        // Arrange
+        AutoDTO sinCosto = TestDataBuilder.createAutoDTO();
+        sinCosto.setId(101L);
+        sinCosto.setCosto(null);
+        sinCosto.setDepartamento(DEPARTAMENTOS[0]);
+        columnStore.upsert(sinCosto);
+
+        // Act
+        Map<String, CostSummary> resumen = reportEngine.costSummaryBy(AutoColumn.DEPARTAMENTO).join();
+        Map<Double, Long> percentiles = reportEngine.costoPercentiles(1).join();
+
+        // Assert
+        assertEquals(columnStore.costSummaryBy(AutoColumn.DEPARTAMENTO), resumen);
+        assertEquals(90L, resumen.values().stream().mapToLong(CostSummary::getCount).sum());
+        assertEquals(10_000L, percentiles.get(1.0));
+    }
+
+    @Test
+    @DisplayName("Debe calcular percentiles por rango más cercano")
+    void costoPercentiles_ShouldUseNearestRank() {
+        // Act
+        Map<Double, Long> percentiles = reportEngine.costoPercentiles(1, 50, 99.5, 100).join();
+
+        // Assert
+        assertEquals(List.of(1.0, 50.0, 99.5, 100.0), List.copyOf(percentiles.keySet()));
+        assertEquals(10_000L, percentiles.get(1.0));
+        assertEquals(500_000L, percentiles.get(50.0));
+        assertEquals(1_000_000L, percentiles.get(99.5));
+        assertEquals(1_000_000L, percentiles.get(100.0));
+    }
+
+    @Test
+    @DisplayName("Debe rechazar percentiles fuera de rango sin encolar trabajo")
+    void costoPercentiles_WithInvalidPercentile_ShouldThrowException() {
+        assertThrows(BadRequestException.class, () -> reportEngine.costoPercentiles(0));
+        assertThrows(BadRequestException.class, () -> reportEngine.costoPercentiles(100.5));
+    }
+
+    @Test
+    @DisplayName("Debe construir el histograma igual que el almacén columnar")
+    void fechaCompraHistogram_ShouldMatchColumnStore() {
+        // Arrange
+        LocalDate desde = LocalDate.of(2020, 1, 15);
+
+        // Act
+        long[] histograma = reportEngine.fechaCompraHistogram(desde, 7, 20).join();
+
+        // Assert
+        assertArrayEquals(columnStore.fechaCompraHistogram(desde, 7, 20), histograma);
+        assertEquals(86L, Arrays.stream(histograma).sum());
+    }
+
+    @Test
+    @DisplayName("Debe devolver resultados vacíos cuando no hay automoviles")
+    void reports_WithEmptyStore_ShouldReturnEmptyResults() {
+        // Arrange
+        columnStore.rebuild(List.of());
+
+        // Act & Assert
+        assertTrue(reportEngine.costSummaryBy(AutoColumn.MARCA).join().isEmpty());
+        assertTrue(reportEngine.costoPercentiles(50).join().isEmpty());
+    }
+}
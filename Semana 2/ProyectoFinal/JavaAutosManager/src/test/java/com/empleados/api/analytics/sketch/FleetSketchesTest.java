@@ -0,0 +1,110 @@
+package com.empleados.api.analytics.sketch;
+
+import com.empleados.api.dto.AutoDTO;
+import com.empleados.api.event.AutoChangedEvent;
+import com.empleados.api.model.Auto;
+import com.empleados.api.repository.AutoRepository;
+import com.empleados.api.util.TestDataBuilder;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Pruebas unitarias para FleetSketches
+ */
+@ExtendWith(MockitoExtension.class)
+class FleetSketchesTest {
+
+    @Mock
+    private AutoRepository autoRepository;
+
+    @Mock
+    private EntityManager entityManager;
+
+    private FleetSketches fleetSketches;
+
+    @BeforeEach
+    void setUp() {
+        fleetSketches = new FleetSketches(autoRepository, 5);
+        ReflectionTestUtils.setField(fleetSketches, "entityManager", entityManager);
+    }
+
+    @Test
+    @DisplayName("Debe reconstruir los sketches desde la tabla")
+    void rebuild_ShouldLoadFromRepository() {
+        // Arrange
+        List<Auto> automoviles = TestDataBuilder.createAutoList();
+        when(autoRepository.streamForExport(null, null, null)).thenReturn(automoviles.stream());
+
+        // Act
+        fleetSketches.rebuild();
+
+        // Assert
+        assertEquals(2, fleetSketches.distinctEmails().estimate());
+        assertEquals(2, fleetSketches.distinctOwners().estimate());
+        assertEquals(List.of(Map.entry("Ford", 1L), Map.entry("Nissan", 1L)),
+                fleetSketches.topMarcas(5).stream().sorted(Map.Entry.comparingByKey()).toList());
+        automoviles.forEach(auto -> verify(entityManager).detach(auto));
+    }
+
+    @Test
+    @DisplayName("Debe reaplicar los cambios confirmados mientras se reconstruye")
+    void rebuild_WithChangesDuringRead_ShouldReplayThem() {
+        // Arrange
+        AutoDTO nuevo = TestDataBuilder.createAutoDTO();
+        nuevo.setEmail("nuevo@example.com");
+        nuevo.setMarca("Toyota");
+        Stream<Auto> automoviles = TestDataBuilder.createAutoList().stream()
+                .peek(auto -> fleetSketches.onAutoChanged(AutoChangedEvent.created(nuevo)));
+        when(autoRepository.streamForExport(null, null, null)).thenReturn(automoviles.limit(1));
+
+        // Act
+        fleetSketches.rebuild();
+
+        // Assert
+        assertEquals(List.of(Map.entry("Nissan", 1L), Map.entry("Toyota", 1L)),
+                fleetSketches.topMarcas(5).stream().sorted(Map.Entry.comparingByKey()).toList());
+        assertEquals(2, fleetSketches.distinctEmails().estimate());
+    }
+
+    @Test
+    @DisplayName("Debe mover el conteo de marca al actualizar y descontarlo al eliminar")
+    void onAutoChanged_ShouldMaintainMarcaCounts() {
+        // Arrange
+        AutoDTO juan = TestDataBuilder.createAutoDTO();
+        AutoDTO ana = TestDataBuilder.createAutoDTO2();
+        fleetSketches.onAutoChanged(AutoChangedEvent.created(juan));
+        fleetSketches.onAutoChanged(AutoChangedEvent.created(ana));
+
+        // Act
+        AutoDTO juanActualizado = TestDataBuilder.createAutoDTO();
+        juanActualizado.setMarca("Ford");
+        fleetSketches.onAutoChanged(AutoChangedEvent.updated(juan, juanActualizado));
+
+        // Assert
+        assertEquals(List.of(Map.entry("Ford", 2L)), fleetSketches.topMarcas(5));
+        fleetSketches.onAutoChanged(AutoChangedEvent.deleted(ana));
+        assertEquals(List.of(Map.entry("Ford", 1L)), fleetSketches.topMarcas(5));
+        assertEquals(0, fleetSketches.marcaErrorBound(), 1);
+    }
+
+    @Test
+    @DisplayName("Debe rechazar k fuera de la capacidad del top-K")
+    void topMarcas_WithInvalidK_ShouldThrowException() {
+        assertThrows(IllegalArgumentException.class, () -> fleetSketches.topMarcas(0));
+        assertThrows(IllegalArgumentException.class, () -> fleetSketches.topMarcas(6));
+    }
+}
@@ -0,0 +1,134 @@
+package com.empleados.api.analytics.sketch;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Pruebas de precisión de los sketches frente a los valores exactos
+ */
+class SketchesTest {
+
+    @Test
+    @DisplayName("HyperLogLog debe estimar cardinalidades dentro de tres errores estándar")
+    void hyperLogLog_ShouldEstimateWithinErrorBounds() {
+        for (int distinct : new int[]{10, 1_000, 200_000}) {
+            // Arrange
+            HyperLogLog sketch = new HyperLogLog();
+
+            // Act
+            for (int i = 0; i < distinct; i++) {
+                sketch.add("usuario" + i + "@empresa.com");
+                sketch.add("usuario" + i + "@empresa.com");
+            }
+
+            // Assert
+            double error = Math.abs(sketch.estimate() - distinct) / (double) distinct;
+            assertTrue(error <= 3 * sketch.standardError(), "error " + error + " para " + distinct);
+        }
+    }
+
+    @Test
+    @DisplayName("HyperLogLog debe combinar sketches como una unión")
+    void hyperLogLog_Merge_ShouldEstimateUnion() {
+        HyperLogLog left = new HyperLogLog(12);
+        HyperLogLog right = new HyperLogLog(12);
+        for (int i = 0; i < 30_000; i++) {
+            left.add("a" + i);
+            right.add("a" + (i + 15_000));
+        }
+
+        left.merge(right);
+
+        assertEquals(45_000, left.estimate(), 45_000 * 3 * left.standardError());
+        assertThrows(IllegalArgumentException.class, () -> left.merge(new HyperLogLog(10)));
+    }
+
+    @Test
+    @DisplayName("Count-Min no debe subestimar y debe respetar la cota de error con bajas")
+    void countMinSketch_ShouldNeverUnderestimate() {
+        // Arrange
+        CountMinSketch sketch = new CountMinSketch(0.001, 0.01);
+        SplittableRandom random = new SplittableRandom(7);
+        long[] exact = new long[5_000];
+
+        // Act
+        for (int i = 0; i < 200_000; i++) {
+            int item = (int) Math.min(exact.length - 1, Math.abs(random.nextGaussian()) * 300);
+            sketch.add("marca" + item, 1);
+            exact[item]++;
+        }
+        for (int item = 0; item < 100; item++) {
+            sketch.add("marca" + item, -exact[item] / 2);
+            exact[item] -= exact[item] / 2;
+        }
+
+        // Assert
+        long exceeding = 0;
+        for (int item = 0; item < exact.length; item++) {
+            long estimate = sketch.estimate("marca" + item);
+            assertTrue(estimate >= exact[item]);
+            if (estimate - exact[item] > sketch.errorBound()) {
+                exceeding++;
+            }
+        }
+        assertTrue(exceeding <= exact.length * (1 - sketch.confidence()));
+        assertEquals(Arrays.stream(exact).sum(), sketch.total());
+    }
+
+    @Test
+    @DisplayName("Top-K debe conservar los elementos con mayor estimación")
+    void topK_ShouldKeepHeaviestItems() {
+        // Arrange
+        TopK topK = new TopK(2);
+
+        // Act
+        topK.offer("Ford", 5);
+        topK.offer("Nissan", 3);
+        topK.offer("Kia", 1);
+        topK.offer("Toyota", 4);
+        topK.offer("Ford", 0);
+
+        // Assert
+        assertEquals(List.of(Map.entry("Toyota", 4L)), topK.top(5));
+        topK.offer("Kia", 2);
+        assertEquals(List.of(Map.entry("Toyota", 4L), Map.entry("Kia", 2L)), topK.top(2));
+    }
+
+    @Test
+    @DisplayName("t-digest debe estimar percentiles con error de rango acotado")
+    void tDigest_ShouldEstimateQuantiles() {
+        // Arrange
+        TDigest digest = new TDigest();
+        SplittableRandom random = new SplittableRandom(11);
+        double[] values = new double[100_000];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = Math.exp(random.nextGaussian()) * 1_000_000;
+            digest.add(values[i]);
+        }
+        Arrays.sort(values);
+
+        // Act & Assert
+        for (double q : new double[]{0.01, 0.5, 0.9, 0.99, 0.999}) {
+            double estimate = digest.quantile(q);
+            int rank = Arrays.binarySearch(values, estimate);
+            double estimatedQ = (rank >= 0 ? rank : -rank - 1) / (double) values.length;
+            assertEquals(q, estimatedQ, Math.max(0.005, 2 * digest.rankError(q)), "q=" + q);
+        }
+        assertEquals(values[0], digest.quantile(0));
+        assertEquals(values[values.length - 1], digest.quantile(1));
+        assertEquals(values.length, digest.size());
+    }
+
+    @Test
+    @DisplayName("t-digest vacío debe devolver NaN")
+    void tDigest_WhenEmpty_ShouldReturnNaN() {
+        assertTrue(Double.isNaN(new TDigest().quantile(0.5)));
+    }
+}
@@ -0,0 +1,198 @@
+package com.empleados.api.bulk;
+
+import com.empleados.api.dto.AutoDTO;
+import com.empleados.api.event.AutoChangedEvent;
+import com.empleados.api.model.Auto;
+import com.empleados.api.registry.EmailReservationRegistry;
+import com.empleados.api.repository.AutoRepository;
+import com.empleados.api.util.TestDataBuilder;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.*;
+
+/**
+ * Pruebas unitarias para AutoBatchWriter
+ */
+@ExtendWith(MockitoExtension.class)
+class AutoBatchWriterTest {
+
+    @Mock
+    private AutoRepository autoRepository;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private EmailReservationRegistry emailReservations;
+    private AutoBatchWriter writer;
+
+    @BeforeEach
+    void setUp() {
+        when(transactionManager.getTransaction(any())).thenAnswer(invocation -> new SimpleTransactionStatus());
+        emailReservations = new EmailReservationRegistry();
+        writer = new AutoBatchWriter(autoRepository, eventPublisher, emailReservations, transactionManager);
+    }
+
+    @Test
+    @DisplayName("Debe insertar el lote y rechazar emails existentes o repetidos")
+    void write_ShouldRejectDuplicateEmails() {
+        // Arrange
+        AutoDTO juan = TestDataBuilder.createAutoDTO();
+        AutoDTO ana = TestDataBuilder.createAutoDTO2();
+        AutoDTO juanRepetido = TestDataBuilder.createAutoDTO();
+        when(autoRepository.findExistingEmails(anyCollection())).thenReturn(List.of("ana.garcia@example.com"));
+        assignIds();
+
+        // Act
+        AutoBatchWriter.BatchResult result = writer.write(List.of(
+                new ImportRow(2, juan), new ImportRow(3, ana), new ImportRow(4, juanRepetido)));
+
+        // Assert
+        assertEquals(1, result.insertadas());
+        assertEquals(List.of(3L, 4L), result.rechazos().stream().map(ImportJob.Reject::linea).toList());
+        verify(autoRepository, times(1)).save(any(Auto.class));
+        verify(eventPublisher).publishEvent(any(AutoChangedEvent.class));
+        verify(transactionManager).commit(any());
+    }
+
+    @Test
+    @DisplayName("Debe reintentar fila a fila cuando el lote viola una restricción")
+    void write_WhenChunkFails_ShouldRetryRowByRow() {
+        // Arrange
+        AutoDTO juan = TestDataBuilder.createAutoDTO();
+        AutoDTO ana = TestDataBuilder.createAutoDTO2();
+        when(autoRepository.findExistingEmails(anyCollection())).thenReturn(List.of());
+        AtomicLong ids = new AtomicLong();
+        when(autoRepository.save(any(Auto.class))).thenAnswer(invocation -> {
+            Auto auto = invocation.getArgument(0);
+            if (auto.getEmail().equals("ana.garcia@example.com")) {
+                throw new DataIntegrityViolationException("email duplicado");
+            }
+            auto.setId(ids.incrementAndGet());
+            return auto;
+        });
+
+        // Act
+        AutoBatchWriter.BatchResult result = writer.write(List.of(new ImportRow(2, juan), new ImportRow(3, ana)));
+
+        // Assert
+        assertEquals(1, result.insertadas());
+        assertEquals(1, result.rechazos().size());
+        assertEquals(3L, result.rechazos().get(0).linea());
+        verify(transactionManager, times(2)).rollback(any());
+    }
+
+    @Test
+    @DisplayName("Debe contar como creadas las filas que otra partición confirmó antes de revertirse el lote")
+    void write_WhenChunkFailsAfterOtherShardCommitted_ShouldKeepCommittedRows() {
+        // Arrange
+        when(autoRepository.findExistingEmails(anyCollection())).thenReturn(List.of());
+        AtomicLong ids = new AtomicLong();
+        when(autoRepository.save(any(Auto.class))).thenAnswer(invocation -> {
+            Auto auto = invocation.getArgument(0);
+            if (auto.getEmail().equals("ana.garcia@example.com")) {
+                throw new DataIntegrityViolationException("email duplicado");
+            }
+            auto.setId(ids.incrementAndGet());
+            return auto;
+        });
+        Auto confirmado = TestDataBuilder.createAuto();
+        confirmado.setId(1L);
+        when(autoRepository.findAllById(List.of(1L))).thenReturn(List.of(confirmado));
+
+        // Act
+        AutoBatchWriter.BatchResult result = writer.write(List.of(
+                new ImportRow(2, TestDataBuilder.createAutoDTO()), new ImportRow(3, TestDataBuilder.createAutoDTO2())));
+
+        // Assert
+        assertEquals(1, result.insertadas());
+        assertEquals(2L, result.creadas().get(0).linea());
+        assertEquals(1L, result.creadas().get(0).auto().getId());
+        assertEquals(List.of(3L), result.rechazos().stream().map(ImportJob.Reject::linea).toList());
+        assertTrue(result.rechazos().get(0).motivo().startsWith("No se pudo insertar"));
+        verify(autoRepository, times(3)).save(any(Auto.class));
+        // The event published in the rolled back chunk is published again once the row is known to be stored
+        verify(eventPublisher, times(2)).publishEvent(any(AutoChangedEvent.class));
+        verify(transactionManager).commit(any());
+    }
+
+    @Test
+    @DisplayName("Debe aislar en su fila un error que no es de integridad")
+    void write_WhenRowFailsUnexpectedly_ShouldReportErrorForThatRowOnly() {
+        // Arrange
+        IllegalStateException fallo = new IllegalStateException("valor fuera de rango");
+        when(autoRepository.findExistingEmails(anyCollection())).thenReturn(List.of());
+        AtomicLong ids = new AtomicLong();
+        when(autoRepository.save(any(Auto.class))).thenAnswer(invocation -> {
+            Auto auto = invocation.getArgument(0);
+            if (auto.getEmail().equals("ana.garcia@example.com")) {
+                throw fallo;
+            }
+            auto.setId(ids.incrementAndGet());
+            return auto;
+        });
+
+        // Act
+        AutoBatchWriter.BatchResult result = writer.write(List.of(
+                new ImportRow(2, TestDataBuilder.createAutoDTO()), new ImportRow(3, TestDataBuilder.createAutoDTO2())));
+
+        // Assert
+        assertEquals(1, result.insertadas());
+        assertEquals(2L, result.creadas().get(0).linea());
+        assertTrue(result.rechazos().isEmpty());
+        assertEquals(1, result.errores().size());
+        assertEquals(3L, result.errores().get(0).linea());
+        assertSame(fallo, result.errores().get(0).error());
+    }
+
+    @Test
+    @DisplayName("Debe rechazar sin insertar los emails reservados por otra transacción en curso")
+    void write_WithEmailReservedElsewhere_ShouldRejectRow() throws InterruptedException {
+        // Arrange
+        Thread otraTransaccion = new Thread(() -> {
+            TransactionSynchronizationManager.initSynchronization();
+            emailReservations.tryReserve("ana.garcia@example.com");
+        });
+        otraTransaccion.start();
+        otraTransaccion.join();
+        when(autoRepository.findExistingEmails(anyCollection())).thenReturn(List.of());
+        assignIds();
+
+        // Act
+        AutoBatchWriter.BatchResult result = writer.write(List.of(
+                new ImportRow(2, TestDataBuilder.createAutoDTO()), new ImportRow(3, TestDataBuilder.createAutoDTO2())));
+
+        // Assert
+        assertEquals(1, result.insertadas());
+        assertEquals(3L, result.rechazos().get(0).linea());
+        assertEquals("Ya existe un auto con el email: ana.garcia@example.com", result.rechazos().get(0).motivo());
+        verify(autoRepository, times(1)).save(any(Auto.class));
+    }
+
+    private void assignIds() {
+        AtomicLong ids = new AtomicLong();
+        when(autoRepository.save(any(Auto.class))).thenAnswer(invocation -> {
+            Auto auto = invocation.getArgument(0);
+            auto.setId(ids.incrementAndGet());
+            return auto;
+        });
+    }
+}
@@ -0,0 +1,148 @@
+package com.empleados.api.bulk;
+
+import jakarta.validation.Validation;
+import jakarta.validation.ValidatorFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+/**
+ * Pruebas unitarias para AutoCsvImporter
+ */
+@ExtendWith(MockitoExtension.class)
+class AutoCsvImporterTest {
+
+    private static final String CABECERA = "nombre,apellido,marca,modelo,color,fechaCompra,email,costo,departamento\n";
+
+    @Mock
+    private AutoBatchWriter batchWriter;
+
+    @TempDir
+    private Path dir;
+
+    private ValidatorFactory validatorFactory;
+    private AutoCsvImporter importer;
+    private final List<List<ImportRow>> lotes = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        validatorFactory = Validation.buildDefaultValidatorFactory();
+        importer = new AutoCsvImporter(batchWriter, validatorFactory.getValidator(), 2, 2, 10, 5);
+    }
+
+    @AfterEach
+    void tearDown() {
+        importer.shutdown();
+        validatorFactory.close();
+    }
+
+    @Test
+    @DisplayName("Debe importar por lotes en orden y rechazar las filas inválidas")
+    void run_ShouldWriteChunksInOrderAndRejectInvalidRows() throws IOException {
+        // Arrange
+        acceptAll();
+        Path archivo = csv(CABECERA
+                + "Juan,Pérez,Nissan,Sentra,Negro,2020-01-15,juan.perez@example.com,50000.00,Tecnología\n"
+                + "Ana,García,Ford,Mustang,Rojo,2020-02-01,ana.garcia@example.com,48000,Recursos Humanos\n"
+                + "Sin,Email,Kia,Rio,Azul,2020-03-01,,30000,Ventas\n"
+                + "Luis,Gómez,Kia,Rio,Azul,2020-03-01,luis@example.com,caro,Ventas\n"
+                + "Eva,Ruiz,\"Mercedes, Benz\",C200,Gris,,eva.ruiz@example.com,,\n");
+        ImportJob job = new ImportJob("1", "autos.csv", Files.size(archivo), 10);
+
+        // Act
+        importer.run(job, archivo);
+
+        // Assert
+        assertEquals(ImportJob.Status.COMPLETADO, job.getStatus());
+        assertEquals(5, job.getFilasLeidas());
+        assertEquals(3, job.getInsertadas());
+        assertEquals(2, job.getRechazadas());
+        assertEquals(List.of(4L, 5L), job.getRejects().stream().map(ImportJob.Reject::linea).toList());
+        assertEquals("El email es obligatorio", job.getRejects().get(0).motivo());
+        assertEquals("Valor inválido para costo: 'caro'", job.getRejects().get(1).motivo());
+        assertEquals(List.of("juan.perez@example.com", "ana.garcia@example.com", "eva.ruiz@example.com"),
+                lotes.stream().flatMap(List::stream).map(row -> row.auto().getEmail()).toList());
+        assertEquals("Mercedes, Benz", lotes.get(lotes.size() - 1).get(0).auto().getMarca());
+        assertEquals(job.getTotalBytes(), job.getBytesLeidos());
+        assertFalse(Files.exists(archivo));
+    }
+
+    @Test
+    @DisplayName("Debe fallar la importación si la cabecera tiene columnas desconocidas")
+    void run_WithUnknownColumn_ShouldFailJob() throws IOException {
+        // Arrange
+        Path archivo = csv("nombre,matricula\nJuan,ABC123\n");
+        ImportJob job = new ImportJob("2", "autos.csv", Files.size(archivo), 10);
+
+        // Act
+        importer.run(job, archivo);
+
+        // Assert
+        assertEquals(ImportJob.Status.FALLIDO, job.getStatus());
+        assertTrue(job.getError().startsWith("Columna desconocida: 'matricula'"));
+        verify(batchWriter, never()).write(anyList());
+        assertFalse(Files.exists(archivo));
+    }
+
+    @Test
+    @DisplayName("Debe rechazar las filas con un número de columnas distinto a la cabecera")
+    void run_WithWrongColumnCount_ShouldRejectRow() throws IOException {
+        // Arrange
+        acceptAll();
+        Path archivo = csv(CABECERA + "Juan,Pérez,Nissan\n");
+        ImportJob job = new ImportJob("3", "autos.csv", Files.size(archivo), 10);
+
+        // Act
+        importer.run(job, archivo);
+
+        // Assert
+        assertEquals(ImportJob.Status.COMPLETADO, job.getStatus());
+        assertEquals(1, job.getRechazadas());
+        assertEquals("Se esperaban 9 columnas y hay 3", job.getRejects().get(0).motivo());
+    }
+
+    @Test
+    @DisplayName("Debe ignorar la columna id de un archivo exportado")
+    void run_WithIdColumn_ShouldIgnoreIt() throws IOException {
+        // Arrange
+        acceptAll();
+        Path archivo = csv("id,nombre,apellido,marca,modelo,color,email\n"
+                + "99,Juan,Pérez,Nissan,Sentra,Negro,juan.perez@example.com\n");
+        ImportJob job = new ImportJob("4", "autos.csv", Files.size(archivo), 10);
+
+        // Act
+        importer.run(job, archivo);
+
+        // Assert
+        assertEquals(1, job.getInsertadas());
+        assertNull(lotes.get(0).get(0).auto().getId());
+    }
+
+    private void acceptAll() {
+        when(batchWriter.write(anyList())).thenAnswer(invocation -> {
+            List<ImportRow> rows = invocation.getArgument(0);
+            lotes.add(rows);
+            return new AutoBatchWriter.BatchResult(rows, List.of());
+        });
+    }
+
+    private Path csv(String contenido) throws IOException {
+        return Files.writeString(dir.resolve("autos.csv"), contenido, StandardCharsets.UTF_8);
+    }
+}
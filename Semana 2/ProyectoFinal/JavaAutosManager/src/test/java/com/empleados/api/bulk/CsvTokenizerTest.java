@@ -0,0 +1,66 @@
+package com.empleados.api.bulk;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Pruebas unitarias para CsvTokenizer
+ */
+class CsvTokenizerTest {
+
+    @Test
+    @DisplayName("Debe separar campos simples y saltar líneas en blanco")
+    void next_ShouldSplitSimpleRecords() throws IOException {
+        // Arrange
+        CsvTokenizer tokenizer = new CsvTokenizer(new StringReader("\uFEFFa,b,c\r\n\r\n1,,3\n"));
+
+        // Act & Assert
+        assertArrayEquals(new String[]{"a", "b", "c"}, tokenizer.next());
+        assertEquals(1, tokenizer.recordLine());
+        assertArrayEquals(new String[]{"1", "", "3"}, tokenizer.next());
+        assertEquals(3, tokenizer.recordLine());
+        assertNull(tokenizer.next());
+    }
+
+    @Test
+    @DisplayName("Debe respetar comillas, comillas dobles y saltos de línea dentro de un campo")
+    void next_ShouldHandleQuotedFields() throws IOException {
+        // Arrange
+        CsvTokenizer tokenizer = new CsvTokenizer(new StringReader(
+                "\"Pérez, Juan\",\"dice \"\"hola\"\"\",\"dos\nlíneas\"\nfin,\"\",x"));
+
+        // Act & Assert
+        assertArrayEquals(new String[]{"Pérez, Juan", "dice \"hola\"", "dos\nlíneas"}, tokenizer.next());
+        assertArrayEquals(new String[]{"fin", "", "x"}, tokenizer.next());
+        assertEquals(3, tokenizer.recordLine());
+        assertNull(tokenizer.next());
+    }
+
+    @Test
+    @DisplayName("Debe leer registros que cruzan el límite del buffer")
+    void next_ShouldReadRecordsLargerThanBuffer() throws IOException {
+        // Arrange
+        String largo = "x".repeat(20_000);
+        CsvTokenizer tokenizer = new CsvTokenizer(new StringReader(largo + ",\"" + largo + "\"\n"));
+
+        // Act
+        String[] registro = tokenizer.next();
+
+        // Assert
+        assertEquals(2, registro.length);
+        assertEquals(largo, registro[0]);
+        assertEquals(largo, registro[1]);
+    }
+
+    @Test
+    @DisplayName("Debe fallar si un campo entrecomillado no se cierra")
+    void next_WithUnclosedQuote_ShouldThrowException() {
+        CsvTokenizer tokenizer = new CsvTokenizer(new StringReader("a,\"sin cerrar\n"));
+        assertThrows(IllegalArgumentException.class, tokenizer::next);
+    }
+}
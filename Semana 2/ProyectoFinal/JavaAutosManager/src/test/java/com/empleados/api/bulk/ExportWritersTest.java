@@ -0,0 +1,108 @@
+package com.empleados.api.bulk;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.w3c.dom.Document;
+import org.w3c.dom.Element;
+import org.w3c.dom.NodeList;
+
+import javax.xml.parsers.DocumentBuilderFactory;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Pruebas unitarias para CsvWriter y XlsxStreamWriter
+ */
+class ExportWritersTest {
+
+    @Test
+    @DisplayName("Debe escribir CSV que el tokenizador vuelve a leer igual")
+    void csvWriter_ShouldRoundTripThroughTokenizer() throws IOException {
+        // Arrange
+        StringWriter out = new StringWriter();
+        CsvWriter csv = new CsvWriter(out);
+        String[] registro = {"Pérez, Juan", "dice \"hola\"", "dos\nlíneas", "", "simple"};
+
+        // Act
+        csv.writeRecord(registro);
+        csv.writeRecord("a", null, "c");
+        csv.flush();
+
+        // Assert
+        assertTrue(out.toString().startsWith("\"Pérez, Juan\",\"dice \"\"hola\"\"\",\"dos\nlíneas\",,simple\r\n"));
+        CsvTokenizer tokenizer = new CsvTokenizer(new StringReader(out.toString()));
+        assertArrayEquals(registro, tokenizer.next());
+        assertArrayEquals(new String[]{"a", "", "c"}, tokenizer.next());
+        assertNull(tokenizer.next());
+    }
+
+    @Test
+    @DisplayName("Debe generar un XLSX con las partes requeridas y celdas tipadas")
+    void xlsxWriter_ShouldWriteTypedCells() throws Exception {
+        // Arrange
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // Act
+        try (XlsxStreamWriter xlsx = new XlsxStreamWriter(out, "Automoviles")) {
+            xlsx.writeHeader("id", "marca", "fechaCompra", "costo");
+            xlsx.writeRow(1L, "Ford & <Co>", LocalDate.of(2020, 1, 15), new BigDecimal("50000.50"));
+            xlsx.writeRow(2L, null, null, null);
+        }
+
+        // Assert
+        Map<String, byte[]> partes = unzip(out.toByteArray());
+        assertTrue(partes.keySet().containsAll(List.of("[Content_Types].xml", "_rels/.rels",
+                "xl/workbook.xml", "xl/_rels/workbook.xml.rels", "xl/styles.xml", "xl/worksheets/sheet1.xml")));
+        for (byte[] parte : partes.values()) {
+            parse(parte);
+        }
+        Document hoja = parse(partes.get("xl/worksheets/sheet1.xml"));
+        NodeList filas = hoja.getElementsByTagName("row");
+        assertEquals(3, filas.getLength());
+        NodeList celdas = hoja.getElementsByTagName("c");
+        assertEquals("B2", celdas.item(5).getAttributes().getNamedItem("r").getNodeValue());
+        assertEquals("Ford & <Co>", celdas.item(5).getTextContent());
+        assertEquals("43845", celdas.item(6).getTextContent());
+        assertEquals("2", celdas.item(6).getAttributes().getNamedItem("s").getNodeValue());
+        assertEquals("50000.50", celdas.item(7).getTextContent());
+        assertEquals(1, ((Element) filas.item(2)).getElementsByTagName("c").getLength());
+    }
+
+    @Test
+    @DisplayName("Debe nombrar las columnas como Excel")
+    void columnName_ShouldFollowExcelNaming() {
+        assertEquals("A", XlsxStreamWriter.columnName(0));
+        assertEquals("Z", XlsxStreamWriter.columnName(25));
+        assertEquals("AA", XlsxStreamWriter.columnName(26));
+        assertEquals("AZ", XlsxStreamWriter.columnName(51));
+        assertEquals("BA", XlsxStreamWriter.columnName(52));
+    }
+
+    private static Map<String, byte[]> unzip(byte[] zip) throws IOException {
+        Map<String, byte[]> entries = new HashMap<>();
+        try (ZipInputStream in = new ZipInputStream(new ByteArrayInputStream(zip), StandardCharsets.UTF_8)) {
+            ZipEntry entry;
+            while ((entry = in.getNextEntry()) != null) {
+                entries.put(entry.getName(), in.readAllBytes());
+            }
+        }
+        return entries;
+    }
+
+    private static Document parse(byte[] xml) throws Exception {
+        return DocumentBuilderFactory.newInstance().newDocumentBuilder().parse(new ByteArrayInputStream(xml));
+    }
+}
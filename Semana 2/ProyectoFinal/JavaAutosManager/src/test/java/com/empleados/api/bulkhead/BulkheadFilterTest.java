@@ -0,0 +1,105 @@
+package com.empleados.api.bulkhead;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.http.HttpServlet;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Pruebas unitarias para BulkheadFilter
+ */
+class BulkheadFilterTest {
+
+    private BulkheadFilter filter;
+    private SimpleMeterRegistry registry;
+
+    @BeforeEach
+    void setUp() {
+        ObjectMapper objectMapper = new ObjectMapper();
+        objectMapper.registerModule(new JavaTimeModule());
+        filter = new BulkheadFilter(objectMapper, 2, 0, 0, 2, 0, 0, 1, 0, 0);
+        registry = new SimpleMeterRegistry();
+        filter.bindTo(registry);
+    }
+
+    @Test
+    @DisplayName("Debe clasificar cada ruta en su carga de trabajo")
+    void classify_ShouldMapPathsToWorkloads() {
+        assertEquals(Workload.BULK, BulkheadFilter.classify(new MockHttpServletRequest("GET", "/api/automoviles/exportar")));
+        assertEquals(Workload.BULK, BulkheadFilter.classify(new MockHttpServletRequest("POST", "/api/automoviles/importaciones")));
+        assertEquals(Workload.BULK, BulkheadFilter.classify(new MockHttpServletRequest("GET", "/automoviles/todos")));
+        assertEquals(Workload.API, BulkheadFilter.classify(new MockHttpServletRequest("GET", "/api/automoviles/1")));
+        assertEquals(Workload.UI, BulkheadFilter.classify(new MockHttpServletRequest("GET", "/")));
+        assertEquals(Workload.UI, BulkheadFilter.classify(new MockHttpServletRequest("GET", "/automoviles/nuevo")));
+        assertNull(BulkheadFilter.classify(new MockHttpServletRequest("GET", "/actuator/health")));
+    }
+
+    @Test
+    @DisplayName("Debe marcar el hilo con la carga de trabajo mientras atiende la petición")
+    void doFilter_ShouldRunChainUnderWorkload() throws Exception {
+        // Arrange
+        AtomicReference<Workload> seen = new AtomicReference<>();
+        HttpServlet servlet = new HttpServlet() {
+            @Override
+            protected void service(HttpServletRequest request, HttpServletResponse response) {
+                seen.set(Workload.current());
+            }
+        };
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // Act
+        filter.doFilter(new MockHttpServletRequest("GET", "/automoviles"), response, new MockFilterChain(servlet));
+
+        // Assert
+        assertEquals(Workload.UI, seen.get());
+        assertEquals(Workload.API, Workload.current());
+        assertEquals(0, filter.getBulkhead(Workload.UI).getActive());
+    }
+
+    @Test
+    @DisplayName("Debe responder 503 cuando el compartimento de la carga está lleno")
+    void doFilter_BulkheadFull_ShouldReturn503() throws Exception {
+        // Arrange
+        filter.getBulkhead(Workload.BULK).tryEnter();
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        MockFilterChain chain = new MockFilterChain();
+
+        // Act
+        filter.doFilter(new MockHttpServletRequest("GET", "/api/automoviles/exportar"), response, chain);
+
+        // Assert
+        assertNull(chain.getRequest());
+        assertEquals(503, response.getStatus());
+        assertEquals("1", response.getHeader("Retry-After"));
+        assertTrue(response.getContentAsString().contains("BULK"));
+        assertEquals(1.0, registry.get("autos.bulkhead.rejected").tag("workload", "bulk").functionCounter().count());
+    }
+
+    @Test
+    @DisplayName("Un compartimento lleno no debe afectar a las demás cargas")
+    void doFilter_OtherBulkheadFull_ShouldPass() throws Exception {
+        // Arrange
+        filter.getBulkhead(Workload.BULK).tryEnter();
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        MockFilterChain chain = new MockFilterChain();
+
+        // Act
+        filter.doFilter(new MockHttpServletRequest("GET", "/api/automoviles"), response, chain);
+
+        // Assert
+        assertNotNull(chain.getRequest());
+        assertEquals(200, response.getStatus());
+    }
+}
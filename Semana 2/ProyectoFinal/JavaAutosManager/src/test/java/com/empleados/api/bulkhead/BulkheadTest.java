@@ -0,0 +1,132 @@
+package com.empleados.api.bulkhead;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Pruebas unitarias para Bulkhead
+ */
+class BulkheadTest {
+
+    @Test
+    @DisplayName("Debe admitir hasta el máximo de peticiones concurrentes y liberar al salir")
+    void tryEnter_BelowMax_ShouldEnterAndRelease() throws Exception {
+        // Arrange
+        Bulkhead bulkhead = new Bulkhead(Workload.API, 2, Duration.ZERO, 0);
+
+        // Act
+        boolean first = bulkhead.tryEnter();
+        boolean second = bulkhead.tryEnter();
+        bulkhead.exit();
+
+        // Assert
+        assertTrue(first);
+        assertTrue(second);
+        assertEquals(1, bulkhead.getActive());
+        assertEquals(0, bulkhead.getRejected());
+    }
+
+    @Test
+    @DisplayName("Debe rechazar al momento cuando está lleno y la espera es cero")
+    void tryEnter_FullWithoutWait_ShouldReject() throws Exception {
+        // Arrange
+        Bulkhead bulkhead = new Bulkhead(Workload.BULK, 1, Duration.ZERO, 0);
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        bulkhead.bindTo(registry);
+        bulkhead.tryEnter();
+
+        // Act
+        boolean entered = bulkhead.tryEnter();
+
+        // Assert
+        assertFalse(entered);
+        assertEquals(1, bulkhead.getRejected());
+        assertEquals(1.0, registry.get("autos.bulkhead.rejected").tag("workload", "bulk").functionCounter().count());
+        assertEquals(1.0, registry.get("autos.bulkhead.active").tag("workload", "bulk").gauge().value());
+    }
+
+    @Test
+    @DisplayName("Debe esperar una plaza hasta el tiempo máximo configurado")
+    void tryEnter_FullWithWait_ShouldEnterWhenReleased() throws Exception {
+        // Arrange
+        Bulkhead bulkhead = new Bulkhead(Workload.UI, 1, Duration.ofSeconds(10), 1);
+        bulkhead.tryEnter();
+
+        // Act
+        CompletableFuture<Boolean> waiting = CompletableFuture.supplyAsync(() -> {
+            try {
+                return bulkhead.tryEnter();
+            } catch (InterruptedException e) {
+                return false;
+            }
+        });
+        while (bulkhead.getQueued() == 0) {
+            Thread.yield();
+        }
+        bulkhead.exit();
+
+        // Assert
+        assertTrue(waiting.get(5, TimeUnit.SECONDS));
+        assertEquals(0, bulkhead.getRejected());
+    }
+
+    @Test
+    @DisplayName("Debe rechazar cuando la espera supera el tiempo máximo")
+    void tryEnter_WaitExpired_ShouldReject() throws Exception {
+        // Arrange
+        Bulkhead bulkhead = new Bulkhead(Workload.UI, 1, Duration.ofMillis(20), 1);
+        bulkhead.tryEnter();
+
+        // Act
+        boolean entered = bulkhead.tryEnter();
+
+        // Assert
+        assertFalse(entered);
+        assertEquals(1, bulkhead.getRejected());
+    }
+
+    @Test
+    @DisplayName("Debe rechazar sin esperar cuando la cola de espera está llena")
+    void tryEnter_QueueFull_ShouldRejectWithoutWaiting() throws Exception {
+        // Arrange
+        Bulkhead bulkhead = new Bulkhead(Workload.UI, 1, Duration.ofSeconds(10), 1);
+        bulkhead.tryEnter();
+        CompletableFuture<Boolean> waiting = CompletableFuture.supplyAsync(() -> {
+            try {
+                return bulkhead.tryEnter();
+            } catch (InterruptedException e) {
+                return false;
+            }
+        });
+        while (bulkhead.getQueued() == 0) {
+            Thread.yield();
+        }
+
+        // Act
+        long start = System.nanoTime();
+        boolean entered = bulkhead.tryEnter();
+        long elapsedMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+        // Assert
+        assertFalse(entered);
+        assertTrue(elapsedMs < 5_000, "Esperó " + elapsedMs + " ms");
+        assertEquals(1, bulkhead.getRejected());
+        bulkhead.exit();
+        assertTrue(waiting.get(5, TimeUnit.SECONDS));
+        assertEquals(0, bulkhead.getQueued());
+    }
+
+    @Test
+    @DisplayName("Debe rechazar una configuración sin plazas o con cola negativa")
+    void constructor_WithInvalidLimits_ShouldThrowException() {
+        assertThrows(IllegalArgumentException.class, () -> new Bulkhead(Workload.API, 0, Duration.ZERO, 0));
+        assertThrows(IllegalArgumentException.class, () -> new Bulkhead(Workload.API, 1, Duration.ZERO, -1));
+    }
+}
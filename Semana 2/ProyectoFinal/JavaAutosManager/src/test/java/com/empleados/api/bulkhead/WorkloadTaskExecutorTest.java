@@ -0,0 +1,67 @@
+package com.empleados.api.bulkhead;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.task.AsyncTaskExecutor;
+
+import java.util.concurrent.Callable;
+
+import static org.mockito.Mockito.*;
+
+/**
+ * Pruebas unitarias para WorkloadTaskExecutor
+ */
+@ExtendWith(MockitoExtension.class)
+class WorkloadTaskExecutorTest {
+
+    @Mock
+    private AsyncTaskExecutor bulk;
+
+    @Mock
+    private AsyncTaskExecutor others;
+
+    private WorkloadTaskExecutor executor;
+
+    @BeforeEach
+    void setUp() {
+        executor = new WorkloadTaskExecutor(bulk, others);
+    }
+
+    @Test
+    @DisplayName("Debe ejecutar en el ejecutor masivo el trabajo de una petición masiva")
+    void submit_FromBulkRequest_ShouldUseBulkExecutor() {
+        // Arrange
+        Callable<String> task = () -> "exportado";
+
+        // Act
+        try (Workload.Scope scope = Workload.BULK.enter()) {
+            executor.submit(task);
+        }
+
+        // Assert
+        verify(bulk).submit(task);
+        verifyNoInteractions(others);
+    }
+
+    @Test
+    @DisplayName("No debe ocupar el ejecutor masivo con el trabajo de otras peticiones")
+    void submit_FromOtherRequests_ShouldUseOtherExecutor() {
+        // Arrange
+        Runnable task = () -> { };
+
+        // Act
+        try (Workload.Scope scope = Workload.API.enter()) {
+            executor.submit(task);
+        }
+        executor.execute(task);
+
+        // Assert
+        verify(others).submit(task);
+        verify(others).execute(task);
+        verifyNoInteractions(bulk);
+    }
+}
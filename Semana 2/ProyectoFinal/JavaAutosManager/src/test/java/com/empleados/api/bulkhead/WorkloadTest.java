@@ -0,0 +1,73 @@
+package com.empleados.api.bulkhead;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Pruebas unitarias para Workload y WorkloadRoutingDataSource
+ */
+class WorkloadTest {
+
+    @Test
+    @DisplayName("Debe restaurar la carga anterior al cerrar el ámbito")
+    void enter_ShouldRestorePreviousWorkload() {
+        // Act & Assert
+        assertEquals(Workload.API, Workload.current());
+        try (Workload.Scope ui = Workload.UI.enter()) {
+            assertEquals(Workload.UI, Workload.current());
+            try (Workload.Scope bulk = Workload.BULK.enter()) {
+                assertEquals(Workload.BULK, Workload.current());
+            }
+            assertEquals(Workload.UI, Workload.current());
+        }
+        assertEquals(Workload.API, Workload.current());
+    }
+
+    @Test
+    @DisplayName("Debe ejecutar la tarea envuelta con su carga de trabajo")
+    void bind_ShouldRunTaskUnderWorkload() {
+        // Arrange
+        AtomicReference<Workload> seen = new AtomicReference<>();
+
+        // Act
+        Workload.BULK.bind(() -> seen.set(Workload.current())).run();
+
+        // Assert
+        assertEquals(Workload.BULK, seen.get());
+        assertEquals(Workload.API, Workload.current());
+    }
+
+    @Test
+    @DisplayName("Debe pedir la conexión al pool de la carga de trabajo actual")
+    void getConnection_ShouldRouteByWorkload() throws Exception {
+        // Arrange
+        DataSource apiPool = mock(DataSource.class);
+        DataSource bulkPool = mock(DataSource.class);
+        Connection apiConnection = mock(Connection.class);
+        Connection bulkConnection = mock(Connection.class);
+        when(apiPool.getConnection()).thenReturn(apiConnection);
+        when(bulkPool.getConnection()).thenReturn(bulkConnection);
+        WorkloadRoutingDataSource dataSource = new WorkloadRoutingDataSource();
+        dataSource.setTargetDataSources(Map.of(Workload.API, apiPool, Workload.BULK, bulkPool));
+        dataSource.setDefaultTargetDataSource(apiPool);
+        dataSource.afterPropertiesSet();
+
+        // Act & Assert
+        assertSame(apiConnection, dataSource.getConnection());
+        try (Workload.Scope scope = Workload.BULK.enter()) {
+            assertSame(bulkConnection, dataSource.getConnection());
+        }
+        try (Workload.Scope scope = Workload.UI.enter()) {
+            assertSame(apiConnection, dataSource.getConnection());
+        }
+    }
+}
@@ -0,0 +1,97 @@
+package com.empleados.api.cache;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.empleados.api.dto.AutoDTO;
+import com.empleados.api.util.TestDataBuilder;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Pruebas unitarias para AutoCache
+ */
+class AutoCacheTest {
+
+    @Test
+    @DisplayName("Debe cargar una vez y servir copias desde la caché")
+    void get_Repeated_ShouldLoadOnce() {
+        // Arrange
+        AutoCache cache = new AutoCache(10, Duration.ofMinutes(1));
+        AtomicInteger loads = new AtomicInteger();
+
+        // Act
+        AutoDTO first = cache.get(1L, id -> load(loads));
+        first.setNombre("Modificado");
+        AutoDTO second = cache.get(1L, id -> load(loads));
+
+        // Assert
+        assertEquals(1, loads.get());
+        assertEquals("Juan", second.getNombre());
+        assertEquals(1, cache.getHits());
+        assertEquals(1, cache.getMisses());
+    }
+
+    @Test
+    @DisplayName("Debe volver a cargar tras invalidar o al caducar la entrada")
+    void get_AfterEvictOrTtl_ShouldReload() throws InterruptedException {
+        // Arrange
+        AutoCache cache = new AutoCache(10, Duration.ofMillis(50));
+        AtomicInteger loads = new AtomicInteger();
+        cache.get(1L, id -> load(loads));
+
+        // Act
+        cache.evict(1L);
+        cache.get(1L, id -> load(loads));
+        Thread.sleep(80);
+        cache.get(1L, id -> load(loads));
+
+        // Assert
+        assertEquals(3, loads.get());
+    }
+
+    @Test
+    @DisplayName("No debe guardar un valor cargado mientras se invalidaba")
+    void get_EvictDuringLoad_ShouldNotStore() {
+        // Arrange
+        AutoCache cache = new AutoCache(10, Duration.ofMinutes(1));
+
+        // Act
+        AutoDTO loaded = cache.get(1L, id -> {
+            cache.evict(1L);
+            return TestDataBuilder.createAutoDTO();
+        });
+
+        // Assert
+        assertEquals("Juan", loaded.getNombre());
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    @DisplayName("Debe descartar las entradas menos usadas al llenarse")
+    void get_Full_ShouldDropLeastRecentlyUsed() {
+        // Arrange
+        AutoCache cache = new AutoCache(2, Duration.ofMinutes(1));
+        AtomicInteger loads = new AtomicInteger();
+        cache.get(1L, id -> load(loads));
+        cache.get(2L, id -> load(loads));
+        cache.get(1L, id -> load(loads));
+
+        // Act
+        cache.get(3L, id -> load(loads));
+        cache.get(1L, id -> load(loads));
+        cache.get(2L, id -> load(loads));
+
+        // Assert
+        assertEquals(2, cache.size());
+        assertEquals(4, loads.get());
+    }
+
+    private static AutoDTO load(AtomicInteger loads) {
+        loads.incrementAndGet();
+        return TestDataBuilder.createAutoDTO();
+    }
+}
@@ -0,0 +1,156 @@
+package com.empleados.api.cache;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.empleados.api.dto.AutoDTO;
+import com.empleados.api.event.AutoChangedEvent;
+import com.empleados.api.util.TestDataBuilder;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Pruebas unitarias para CacheInvalidationBus
+ */
+class CacheInvalidationBusTest {
+
+    private Network network;
+    private AutoCache cacheA;
+    private AutoCache cacheB;
+    private CacheInvalidationBus busA;
+    private CacheInvalidationBus busB;
+
+    @BeforeEach
+    void setUp() {
+        network = new Network();
+        cacheA = new AutoCache(100, Duration.ofMinutes(1));
+        cacheB = new AutoCache(100, Duration.ofMinutes(1));
+        busA = new CacheInvalidationBus(cacheA, network.transport(), "nodo-a");
+        busB = new CacheInvalidationBus(cacheB, network.transport(), "nodo-b");
+        busA.start();
+        busB.start();
+    }
+
+    @Test
+    @DisplayName("Debe invalidar en el otro nodo el auto actualizado")
+    void onAutoChanged_Updated_ShouldEvictOnEveryNode() {
+        // Arrange
+        AutoDTO auto = TestDataBuilder.createAutoDTO();
+        cacheA.get(1L, id -> auto);
+        cacheB.get(1L, id -> auto);
+
+        // Act
+        busA.onAutoChanged(AutoChangedEvent.updated(auto, auto));
+
+        // Assert
+        assertEquals(0, cacheA.size());
+        assertEquals(0, cacheB.size());
+        assertEquals(0, busB.getGaps());
+    }
+
+    @Test
+    @DisplayName("No debe enviar nada al crear un auto")
+    void onAutoChanged_Created_ShouldNotPublish() {
+        // Act
+        busA.onAutoChanged(AutoChangedEvent.created(TestDataBuilder.createAutoDTO()));
+
+        // Assert
+        assertTrue(network.sent.isEmpty());
+    }
+
+    @Test
+    @DisplayName("Debe vaciar la caché al detectar un mensaje perdido")
+    void receive_MissingSequence_ShouldClearCache() {
+        // Arrange
+        AutoDTO auto = TestDataBuilder.createAutoDTO();
+        busA.onAutoChanged(AutoChangedEvent.deleted(auto));
+        cacheB.get(7L, id -> auto);
+        network.dropping = true;
+        busA.onAutoChanged(AutoChangedEvent.deleted(TestDataBuilder.createAutoDTO2()));
+        network.dropping = false;
+
+        // Act
+        busA.onAutoChanged(AutoChangedEvent.deleted(auto));
+
+        // Assert
+        assertEquals(0, cacheB.size());
+        assertEquals(1, busB.getGaps());
+    }
+
+    @Test
+    @DisplayName("El latido debe revelar la pérdida del último mensaje")
+    void heartbeat_AfterLostMessage_ShouldClearCache() {
+        // Arrange
+        AutoDTO auto = TestDataBuilder.createAutoDTO();
+        busA.heartbeat();
+        cacheB.get(7L, id -> auto);
+        network.dropping = true;
+        busA.onAutoChanged(AutoChangedEvent.deleted(auto));
+        network.dropping = false;
+        assertEquals(1, cacheB.size());
+
+        // Act
+        busA.heartbeat();
+
+        // Assert
+        assertEquals(0, cacheB.size());
+        assertEquals(1, busB.getGaps());
+    }
+
+    @Test
+    @DisplayName("Debe ignorar los mensajes duplicados")
+    void receive_Duplicate_ShouldBeIgnored() {
+        // Arrange
+        AutoDTO auto = TestDataBuilder.createAutoDTO();
+        busA.onAutoChanged(AutoChangedEvent.deleted(auto));
+        InvalidationMessage first = network.sent.get(0);
+        cacheB.get(1L, id -> auto);
+
+        // Act
+        busB.receive(first);
+
+        // Assert
+        assertEquals(1, cacheB.size());
+        assertEquals(0, busB.getGaps());
+    }
+
+    /**
+     * Red en memoria que reparte cada mensaje a todos los nodos, con posibilidad de perderlos
+     */
+    private static final class Network {
+
+        private final List<Consumer<InvalidationMessage>> receivers = new ArrayList<>();
+        private final List<InvalidationMessage> sent = new ArrayList<>();
+        private boolean dropping;
+
+        InvalidationTransport transport() {
+            return new InvalidationTransport() {
+                @Override
+                public void publish(InvalidationMessage message) {
+                    if (!message.isHeartbeat()) {
+                        sent.add(message);
+                    }
+                    if (!dropping) {
+                        receivers.forEach(receiver -> receiver.accept(message));
+                    }
+                }
+
+                @Override
+                public void start(Consumer<InvalidationMessage> receiver) {
+                    receivers.add(receiver);
+                }
+
+                @Override
+                public String name() {
+                    return "memoria";
+                }
+            };
+        }
+    }
+}
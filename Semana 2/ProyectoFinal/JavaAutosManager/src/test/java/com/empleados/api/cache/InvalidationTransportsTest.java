@@ -0,0 +1,109 @@
+package com.empleados.api.cache;
+
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Pruebas unitarias para los transportes de invalidación
+ */
+class InvalidationTransportsTest {
+
+    @Test
+    @DisplayName("El registro en base de datos debe entregar a cada nodo los mensajes nuevos en orden")
+    void jdbc_ShouldDeliverNewRowsInOrder() {
+        // Arrange
+        JdbcDataSource dataSource = new JdbcDataSource();
+        dataSource.setURL("jdbc:h2:mem:invalidations-" + System.nanoTime() + ";DB_CLOSE_DELAY=-1");
+        DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(dataSource);
+        JdbcInvalidationTransport sender = new JdbcInvalidationTransport(dataSource, transactionManager, Duration.ofMinutes(1));
+        sender.init();
+        sender.publish(new InvalidationMessage("nodo-a", 1, System.currentTimeMillis(), List.of(1L)));
+        JdbcInvalidationTransport receiver = new JdbcInvalidationTransport(dataSource, transactionManager, Duration.ofMinutes(1));
+        receiver.init();
+        BlockingQueue<InvalidationMessage> received = new LinkedBlockingQueue<>();
+        receiver.start(received::add);
+
+        // Act
+        sender.publish(new InvalidationMessage("nodo-a", 2, System.currentTimeMillis(), List.of(2L, 3L)));
+        sender.publish(new InvalidationMessage("nodo-a", 2, System.currentTimeMillis(), List.of()));
+        receiver.poll();
+        receiver.poll();
+
+        // Assert
+        assertEquals(2, received.size());
+        InvalidationMessage first = received.poll();
+        assertEquals(2, first.sequence());
+        assertEquals(List.of(2L, 3L), first.autoIds());
+        assertTrue(received.poll().isHeartbeat());
+    }
+
+    @Test
+    @DisplayName("El registro en base de datos debe purgar los mensajes antiguos")
+    void jdbc_Purge_ShouldDeleteOldRows() {
+        // Arrange
+        JdbcDataSource dataSource = new JdbcDataSource();
+        dataSource.setURL("jdbc:h2:mem:invalidations-" + System.nanoTime() + ";DB_CLOSE_DELAY=-1");
+        JdbcInvalidationTransport transport = new JdbcInvalidationTransport(dataSource,
+                new DataSourceTransactionManager(dataSource), Duration.ofMinutes(1));
+        transport.init();
+        transport.publish(new InvalidationMessage("nodo-a", 1, System.currentTimeMillis() - 120_000, List.of(1L)));
+        transport.publish(new InvalidationMessage("nodo-a", 2, System.currentTimeMillis(), List.of(2L)));
+        BlockingQueue<InvalidationMessage> received = new LinkedBlockingQueue<>();
+        transport.start(received::add);
+
+        // Act
+        transport.purge();
+        JdbcInvalidationTransport late = new JdbcInvalidationTransport(dataSource,
+                new DataSourceTransactionManager(dataSource), Duration.ofMinutes(1));
+        late.start(received::add);
+        late.poll();
+
+        // Assert
+        assertEquals(1, received.size());
+        assertEquals(2, received.poll().sequence());
+    }
+
+    @Test
+    @DisplayName("El multicast debe entregar los mensajes por la interfaz local")
+    void multicast_ShouldDeliverOverLoopback() throws Exception {
+        // Arrange
+        int port = 47_000 + (int) (System.nanoTime() % 1000);
+        MulticastInvalidationTransport sender = new MulticastInvalidationTransport("239.255.42.99", port, "", 0);
+        MulticastInvalidationTransport receiver = new MulticastInvalidationTransport("239.255.42.99", port, "", 0);
+        BlockingQueue<InvalidationMessage> received = new LinkedBlockingQueue<>();
+        receiver.start(received::add);
+
+        try {
+            // Act
+            sender.publish(new InvalidationMessage("nodo-a", 5, 1234L, List.of(10L, 20L)));
+            InvalidationMessage message = received.poll(5, TimeUnit.SECONDS);
+
+            // Assert
+            assertNotNull(message);
+            assertEquals("nodo-a", message.node());
+            assertEquals(5, message.sequence());
+            assertEquals(1234L, message.sentAt());
+            assertEquals(List.of(10L, 20L), message.autoIds());
+        } finally {
+            sender.close();
+            receiver.close();
+        }
+    }
+
+    @Test
+    @DisplayName("Debe rechazar datagramas malformados")
+    void multicast_Decode_ShouldRejectGarbage() {
+        byte[] data = MulticastInvalidationTransport.encode(new InvalidationMessage("nodo-a", 1, 1L, List.of(1L)));
+        assertThrows(Exception.class, () -> MulticastInvalidationTransport.decode(data, data.length - 4));
+    }
+}
@@ -0,0 +1,74 @@
+package com.empleados.api.config;
+
+import com.empleados.api.bulkhead.Workload;
+import com.empleados.api.bulkhead.WorkloadRoutingDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.autoconfigure.context.ConfigurationPropertiesAutoConfiguration;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+
+import javax.sql.DataSource;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Pruebas unitarias para BulkheadConfig
+ */
+class BulkheadConfigTest {
+
+    private final ApplicationContextRunner contextRunner = new ApplicationContextRunner()
+            .withConfiguration(AutoConfigurations.of(ConfigurationPropertiesAutoConfiguration.class))
+            .withUserConfiguration(BulkheadConfig.class)
+            .withBean(DataSourceProperties.class, DataSourceProperties::new)
+            .withBean(MeterRegistry.class, SimpleMeterRegistry::new)
+            .withPropertyValues("spring.datasource.url=jdbc:h2:mem:bulkhead-config", "spring.datasource.username=sa");
+
+    @Test
+    @DisplayName("Debe aplicar a cada pool la configuración de spring.datasource.hikari con su nombre y tamaño")
+    void dataSource_WithHikariSettings_ShouldApplyThemToEveryPool() {
+        contextRunner
+                .withPropertyValues("spring.datasource.hikari.connection-timeout=1234",
+                        "spring.datasource.hikari.max-lifetime=60000",
+                        "spring.datasource.hikari.minimum-idle=4",
+                        "spring.datasource.hikari.maximum-pool-size=50",
+                        "spring.datasource.hikari.pool-name=compartido")
+                .run(context -> {
+                    // Assert
+                    assertNull(context.getStartupFailure());
+                    HikariDataSource api = pool(context.getBean(DataSource.class), Workload.API);
+                    assertEquals("api-pool", api.getPoolName());
+                    assertEquals("jdbc:h2:mem:bulkhead-config", api.getJdbcUrl());
+                    assertEquals("sa", api.getUsername());
+                    assertEquals(1234, api.getConnectionTimeout());
+                    assertEquals(60000, api.getMaxLifetime());
+                    assertEquals(6, api.getMaximumPoolSize());
+                    assertEquals(4, api.getMinimumIdle());
+                    HikariDataSource bulk = pool(context.getBean(DataSource.class), Workload.BULK);
+                    assertEquals("bulk-pool", bulk.getPoolName());
+                    assertEquals(1234, bulk.getConnectionTimeout());
+                    assertEquals(2, bulk.getMaximumPoolSize());
+                    assertEquals(2, bulk.getMinimumIdle());
+                });
+    }
+
+    @Test
+    @DisplayName("Debe mantener una conexión inactiva por pool si no se configura minimum-idle")
+    void dataSource_WithoutMinimumIdle_ShouldKeepOneIdleConnection() {
+        contextRunner.run(context -> {
+            // Assert
+            HikariDataSource ui = pool(context.getBean(DataSource.class), Workload.UI);
+            assertEquals("ui-pool", ui.getPoolName());
+            assertEquals(2, ui.getMaximumPoolSize());
+            assertEquals(1, ui.getMinimumIdle());
+        });
+    }
+
+    private static HikariDataSource pool(DataSource dataSource, Workload workload) {
+        return (HikariDataSource) ((WorkloadRoutingDataSource) dataSource).getResolvedDataSources().get(workload);
+    }
+}
@@ -0,0 +1,84 @@
+package com.empleados.api.config;
+
+import com.empleados.api.cache.AutoCache;
+import com.empleados.api.cache.CacheInvalidationBus;
+import com.empleados.api.cache.InvalidationTransport;
+import com.empleados.api.cache.JdbcInvalidationTransport;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import javax.sql.DataSource;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Pruebas unitarias para CacheConfig
+ */
+class CacheConfigTest {
+
+    private static final DataSource DATA_SOURCE =
+            new DriverManagerDataSource("jdbc:h2:mem:cache-config;DB_CLOSE_DELAY=-1", "sa", "");
+
+    private final ApplicationContextRunner contextRunner = new ApplicationContextRunner()
+            .withUserConfiguration(CacheConfig.class)
+            .withBean(DataSource.class, () -> DATA_SOURCE)
+            .withBean(PlatformTransactionManager.class, () -> new DataSourceTransactionManager(DATA_SOURCE));
+
+    @Test
+    @DisplayName("No debe crear la caché ni el bus de invalidación por defecto")
+    void byDefault_ShouldNotCreateCache() {
+        contextRunner
+                .withPropertyValues("autos.cache.bus.transport=jdbc")
+                .run(context -> {
+                    // Assert
+                    assertEquals(0, context.getBeanNamesForType(AutoCache.class).length);
+                    assertEquals(0, context.getBeanNamesForType(InvalidationTransport.class).length);
+                    assertEquals(0, context.getBeanNamesForType(CacheInvalidationBus.class).length);
+                });
+    }
+
+    @Test
+    @DisplayName("Debe crear la caché y el bus por base de datos cuando se habilitan")
+    void enabledWithJdbcTransport_ShouldCreateCacheAndBus() {
+        contextRunner
+                .withPropertyValues("autos.cache.enabled=true", "autos.cache.bus.transport=jdbc",
+                        "autos.cache.node-id=nodo-1")
+                .run(context -> {
+                    // Assert
+                    assertNull(context.getStartupFailure());
+                    assertEquals(1, context.getBeanNamesForType(AutoCache.class).length);
+                    assertEquals(1, context.getBeanNamesForType(JdbcInvalidationTransport.class).length);
+                    assertEquals("nodo-1", context.getBean(CacheInvalidationBus.class).getNode());
+                    Integer mensajes = new JdbcTemplate(DATA_SOURCE)
+                            .queryForObject("SELECT COUNT(*) FROM cache_invalidations", Integer.class);
+                    assertNotNull(mensajes);
+                });
+    }
+
+    @Test
+    @DisplayName("Debe asignar un id de nodo aleatorio si no se configura")
+    void enabledWithoutNodeId_ShouldGenerateNodeId() {
+        contextRunner
+                .withPropertyValues("autos.cache.enabled=true", "autos.cache.bus.transport=jdbc")
+                .run(context -> {
+                    // Assert
+                    assertFalse(context.getBean(CacheInvalidationBus.class).getNode().isBlank());
+                });
+    }
+
+    @Test
+    @DisplayName("Debe fallar al arrancar si la caché se habilita sin transporte para el bus")
+    void enabledWithoutTransport_ShouldFailToStart() {
+        contextRunner
+                .withPropertyValues("autos.cache.enabled=true")
+                .run(context -> {
+                    // Assert
+                    assertNotNull(context.getStartupFailure());
+                });
+    }
+}
@@ -0,0 +1,124 @@
+package com.empleados.api.config;
+
+import com.empleados.api.replica.HedgedReads;
+import com.empleados.api.replica.LocalReplicaServer;
+import com.empleados.api.replica.Replica;
+import com.empleados.api.replica.ReplicaCopyJob;
+import com.empleados.api.replica.ReplicaHeartbeat;
+import com.empleados.api.replica.ReplicaSet;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.convert.ApplicationConversionService;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.net.ServerSocket;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Pruebas unitarias para ReplicaConfig
+ */
+class ReplicaConfigTest {
+
+    private static final DataSource PRIMARY =
+            new DriverManagerDataSource("jdbc:h2:mem:replica-config-primary;DB_CLOSE_DELAY=-1", "sa", "");
+
+    private final ApplicationContextRunner contextRunner = new ApplicationContextRunner()
+            // Converts "round-robin" to Selection as SpringApplication would
+            .withInitializer(context -> context.getBeanFactory()
+                    .setConversionService(ApplicationConversionService.getSharedInstance()))
+            .withUserConfiguration(ReplicaConfig.class)
+            .withBean(DataSourceProperties.class, DataSourceProperties::new)
+            .withBean(MeterRegistry.class, SimpleMeterRegistry::new)
+            .withBean(DataSource.class, () -> PRIMARY)
+            .withBean(PlatformTransactionManager.class, () -> new DataSourceTransactionManager(PRIMARY));
+
+    @Test
+    @DisplayName("No debe crear réplicas si no se configuran sus URLs")
+    void withoutUrls_ShouldNotCreateReplicas() {
+        contextRunner.run(context -> {
+            // Assert
+            assertEquals(0, context.getBeanNamesForType(ReplicaSet.class).length);
+            assertEquals(0, context.getBeanNamesForType(HedgedReads.class).length);
+            assertEquals(0, context.getBeanNamesForType(ReplicaHeartbeat.class).length);
+        });
+    }
+
+    @Test
+    @DisplayName("Debe crear una réplica de solo lectura por URL, con lecturas cubiertas y latido")
+    void withUrls_ShouldCreateReplicaSetHedgingAndHeartbeat() {
+        contextRunner
+                .withPropertyValues("autos.replicas.urls=jdbc:h2:mem:replica-config-1, jdbc:h2:mem:replica-config-2",
+                        "autos.replicas.check-timeout-ms=100")
+                .run(context -> {
+                    // Assert
+                    assertNull(context.getStartupFailure());
+                    assertEquals(1, context.getBeanNamesForType(ReplicaSet.class).length);
+                    assertEquals(1, context.getBeanNamesForType(HedgedReads.class).length);
+                    assertEquals(1, context.getBeanNamesForType(ReplicaHeartbeat.class).length);
+                    ReplicaSet replicaSet = context.getBean(ReplicaSet.class);
+                    assertEquals(2, replicaSet.getReplicas().size());
+                    Replica replica = replicaSet.getReplicas().get(1);
+                    assertEquals("replica-2", replica.getName());
+                    HikariDataSource pool = (HikariDataSource) replica.getDataSource();
+                    assertEquals("replica-2-pool", pool.getPoolName());
+                    assertEquals("jdbc:h2:mem:replica-config-2", pool.getJdbcUrl());
+                    assertTrue(pool.isReadOnly());
+                    assertEquals(-1, pool.getInitializationFailTimeout());
+                    assertEquals(0, context.getBeanNamesForType(LocalReplicaServer.class).length);
+                    assertEquals(0, context.getBeanNamesForType(ReplicaCopyJob.class).length);
+                });
+    }
+
+    @Test
+    @DisplayName("Debe arrancar las réplicas locales por TCP y llenarlas desde el primario")
+    void withLocalPort_ShouldStartServerAndCopyJob() throws IOException {
+        // Arrange
+        int port;
+        try (ServerSocket socket = new ServerSocket(0)) {
+            port = socket.getLocalPort();
+        }
+        contextRunner
+                .withPropertyValues("autos.replicas.local.port=" + port,
+                        "autos.replicas.urls=jdbc:h2:tcp://localhost:" + port + "/mem:replica-config-local;DB_CLOSE_DELAY=-1",
+                        "autos.replicas.hedging.enabled=false")
+                .run(context -> {
+                    assertNull(context.getStartupFailure());
+                    assertEquals(port, context.getBean(LocalReplicaServer.class).getPort());
+                    ReplicaSet replicaSet = context.getBean(ReplicaSet.class);
+                    Replica replica = replicaSet.getReplicas().get(0);
+                    assertFalse(replica.isHealthy());
+
+                    // Act
+                    context.getBean(ReplicaCopyJob.class).copy();
+                    replicaSet.checkHealth();
+
+                    // Assert
+                    assertTrue(replica.isHealthy());
+                    assertEquals(replicaSet.getPrimaryPosition(), replica.getPosition());
+                });
+    }
+
+    @Test
+    @DisplayName("Debe omitir las lecturas cubiertas cuando se deshabilitan")
+    void withHedgingDisabled_ShouldNotCreateHedgedReads() {
+        contextRunner
+                .withPropertyValues("autos.replicas.urls=jdbc:h2:mem:replica-config-3",
+                        "autos.replicas.selection=LEAST_LATENCY",
+                        "autos.replicas.hedging.enabled=false")
+                .run(context -> {
+                    // Assert
+                    assertEquals(1, context.getBeanNamesForType(ReplicaSet.class).length);
+                    assertEquals(0, context.getBeanNamesForType(HedgedReads.class).length);
+                });
+    }
+}
@@ -0,0 +1,100 @@
+package com.empleados.api.config;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.context.junit.jupiter.web.SpringJUnitWebConfig;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+import org.springframework.web.servlet.config.annotation.EnableWebMvc;
+import org.springframework.web.servlet.resource.ResourceUrlProvider;
+
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * Pruebas unitarias para StaticResourceConfig
+ */
+@SpringJUnitWebConfig(StaticResourceConfigTest.WebConfig.class)
+class StaticResourceConfigTest {
+
+    private static final String BOOTSTRAP_CSS = "/webjars/bootstrap/5.2.3/css/bootstrap.min.css";
+    private static final String ICONS_CSS = "/webjars/bootstrap-icons/1.10.2/font/bootstrap-icons.css";
+
+    @Autowired
+    private WebApplicationContext context;
+
+    @Autowired
+    private ResourceUrlProvider resourceUrlProvider;
+
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        mockMvc = MockMvcBuilders.webAppContextSetup(context).build();
+    }
+
+    @Test
+    @DisplayName("Debe enlazar los recursos con una URL que incluye el hash de su contenido")
+    void resourceUrl_ShouldBeFingerprinted() {
+        // Act
+        String url = resourceUrlProvider.getForLookupPath(BOOTSTRAP_CSS);
+
+        // Assert
+        assertNotNull(url);
+        assertTrue(url.matches("/webjars/bootstrap/5\\.2\\.3/css/bootstrap\\.min-[0-9a-f]{32}\\.css"), url);
+    }
+
+    @Test
+    @DisplayName("Debe servir la variante gzip precomprimida con caché inmutable de larga duración")
+    void get_Fingerprinted_ShouldServeGzipWithImmutableCaching() throws Exception {
+        // Arrange
+        String url = resourceUrlProvider.getForLookupPath(BOOTSTRAP_CSS);
+
+        // Act & Assert
+        mockMvc.perform(get(url).header(HttpHeaders.ACCEPT_ENCODING, "gzip, deflate, br"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CONTENT_ENCODING, "gzip"))
+                .andExpect(header().string(HttpHeaders.VARY, containsString(HttpHeaders.ACCEPT_ENCODING)))
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "max-age=31536000, public, immutable"));
+    }
+
+    @Test
+    @DisplayName("Debe servir el recurso sin comprimir si el cliente no acepta gzip")
+    void get_WithoutAcceptEncoding_ShouldServeIdentity() throws Exception {
+        mockMvc.perform(get(resourceUrlProvider.getForLookupPath(BOOTSTRAP_CSS)))
+                .andExpect(status().isOk())
+                .andExpect(header().doesNotExist(HttpHeaders.CONTENT_ENCODING))
+                .andExpect(content().string(startsWith("@charset \"UTF-8\";/*!\n * Bootstrap  v5.2.3")));
+    }
+
+    @Test
+    @DisplayName("Debe reescribir las fuentes de los iconos a URLs con hash")
+    void get_IconsCss_ShouldLinkFingerprintedFonts() throws Exception {
+        mockMvc.perform(get(resourceUrlProvider.getForLookupPath(ICONS_CSS)).header(HttpHeaders.ACCEPT_ENCODING, "gzip"))
+                .andExpect(status().isOk())
+                .andExpect(header().doesNotExist(HttpHeaders.CONTENT_ENCODING))
+                .andExpect(content().string(matchesPattern(
+                        "(?s).*url\\(\"/webjars/bootstrap-icons/1\\.10\\.2/font/fonts/bootstrap-icons-[0-9a-f]{32}\\.woff2\\?[0-9a-f]+\"\\).*")));
+    }
+
+    @Test
+    @DisplayName("Debe responder 404 a una URL con un hash que no corresponde al contenido")
+    void get_StaleFingerprint_ShouldReturnNotFound() throws Exception {
+        mockMvc.perform(get("/webjars/bootstrap/5.2.3/css/bootstrap.min-00000000000000000000000000000000.css"))
+                .andExpect(status().isNotFound());
+    }
+
+    @Configuration
+    @EnableWebMvc
+    @Import(StaticResourceConfig.class)
+    static class WebConfig {
+    }
+}
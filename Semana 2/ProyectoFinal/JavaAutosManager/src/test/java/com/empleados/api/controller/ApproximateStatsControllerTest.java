@@ -0,0 +1,87 @@
+package com.empleados.api.controller;
+
+import com.empleados.api.dto.DistinctEstimateDTO;
+import com.empleados.api.dto.FrequencyEstimateDTO;
+import com.empleados.api.dto.QuantileEstimateDTO;
+import com.empleados.api.exception.BadRequestException;
+import com.empleados.api.service.ApproximateStatsService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.hamcrest.Matchers.*;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@WebMvcTest(ApproximateStatsController.class)
+class ApproximateStatsControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private ApproximateStatsService approximateStatsService;
+
+    @Test
+    @DisplayName("Debe retornar la estimación de emails distintos con su intervalo")
+    void getEmailsDistintos_ShouldReturnEstimate() throws Exception {
+        // Arrange
+        when(approximateStatsService.getDistinctEmails()).thenReturn(
+                new DistinctEstimateDTO(1000, 0.0081, 983, 1017, 0.95));
+
+        // Act & Assert
+        mockMvc.perform(get("/api/estadisticas/aproximadas/emails"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.estimado", is(1000)))
+                .andExpect(jsonPath("$.minimo", is(983)))
+                .andExpect(jsonPath("$.confianza", is(0.95)));
+    }
+
+    @Test
+    @DisplayName("Debe retornar las marcas más frecuentes")
+    void getTopMarcas_ShouldReturnEstimates() throws Exception {
+        // Arrange
+        when(approximateStatsService.getTopMarcas(3)).thenReturn(List.of(
+                new FrequencyEstimateDTO("Nissan", 120, 118, 0.99)));
+
+        // Act & Assert
+        mockMvc.perform(get("/api/estadisticas/aproximadas/marcas/top").param("k", "3"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(1)))
+                .andExpect(jsonPath("$[0].valor", is("Nissan")))
+                .andExpect(jsonPath("$[0].minimo", is(118)));
+    }
+
+    @Test
+    @DisplayName("Debe retornar 400 con un k fuera de rango")
+    void getTopMarcas_WithInvalidK_ShouldReturn400() throws Exception {
+        // Arrange
+        when(approximateStatsService.getTopMarcas(0)).thenThrow(new BadRequestException("k debe estar entre 1 y 20"));
+
+        // Act & Assert
+        mockMvc.perform(get("/api/estadisticas/aproximadas/marcas/top").param("k", "0"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @DisplayName("Debe retornar los percentiles aproximados del costo")
+    void getPercentilesCosto_ShouldReturnEstimates() throws Exception {
+        // Arrange
+        when(approximateStatsService.getCostoPercentiles(List.of(50.0, 99.0))).thenReturn(List.of(
+                new QuantileEstimateDTO(50, new BigDecimal("49000.00"), 0.001),
+                new QuantileEstimateDTO(99, new BigDecimal("51000.00"), 0.0002)));
+
+        // Act & Assert
+        mockMvc.perform(get("/api/estadisticas/aproximadas/costo/percentiles").param("p", "50", "99"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[1].percentil", is(99.0)))
+                .andExpect(jsonPath("$[1].valor", is(51000.00)));
+    }
+}
@@ -64,9 +64,9 @@ class AutoControllerTest {
                 .contentType(MediaType.APPLICATION_JSON))
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$", hasSize(2)))
-                .andExpect(jsonPath("$[0].id", is(1)))
+                .andExpect(jsonPath("$[0].id", is("1")))
                 .andExpect(jsonPath("$[0].nombre", is("Juan")))
-                .andExpect(jsonPath("$[1].id", is(2)))
+                .andExpect(jsonPath("$[1].id", is("2")))
                 .andExpect(jsonPath("$[1].nombre", is("Ana")));
 
         verify(autoService, times(1)).getAllAutomoviles();
@@ -97,7 +97,7 @@ class AutoControllerTest {
         mockMvc.perform(get("/api/automoviles/1")
                 .contentType(MediaType.APPLICATION_JSON))
                 .andExpect(status().isOk())
-                .andExpect(jsonPath("$.id", is(1)))
+                .andExpect(jsonPath("$.id", is("1")))
                 .andExpect(jsonPath("$.nombre", is("Juan")))
                 .andExpect(jsonPath("$.apellido", is("Pérez")))
                 .andExpect(jsonPath("$.email", is("juan.perez@example.com")));
@@ -105,6 +105,21 @@ class AutoControllerTest {
         verify(autoService, times(1)).getAutoById(1L);
     }
 
+    @Test
+    @DisplayName("Debe enviar como texto un id Snowflake mayor que 2^53 sin perder precisión")
+    void getAutoById_WithSnowflakeId_ShouldSerializeIdAsString() throws Exception {
+        // Arrange
+        long snowflakeId = 9_007_199_254_740_993L;
+        autoDTO.setId(snowflakeId);
+        when(autoService.getAutoById(snowflakeId)).thenReturn(autoDTO);
+
+        // Act & Assert
+        mockMvc.perform(get("/api/automoviles/" + snowflakeId)
+                .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.id", is("9007199254740993")));
+    }
+
     @Test
     @DisplayName("Debe retornar 404 cuando el auto no existe")
     void getAutoById_WhenAutoDoesNotExist_ShouldReturn404() throws Exception {
@@ -148,7 +163,7 @@ class AutoControllerTest {
                 .contentType(MediaType.APPLICATION_JSON)
                 .content(objectMapper.writeValueAsString(newAutoDTO)))
                 .andExpect(status().isCreated())
-                .andExpect(jsonPath("$.id", is(3)))
+                .andExpect(jsonPath("$.id", is("3")))
                 .andExpect(jsonPath("$.nombre", is("Carlos")))
                 .andExpect(jsonPath("$.apellido", is("Rodríguez")));
 
@@ -214,7 +229,7 @@ class AutoControllerTest {
                 .contentType(MediaType.APPLICATION_JSON)
                 .content(objectMapper.writeValueAsString(updatedDTO)))
                 .andExpect(status().isOk())
-                .andExpect(jsonPath("$.id", is(1)))
+                .andExpect(jsonPath("$.id", is("1")))
                 .andExpect(jsonPath("$.nombre", is("Juan Carlos")))
                 .andExpect(jsonPath("$.costo", is(55000.00)));
 
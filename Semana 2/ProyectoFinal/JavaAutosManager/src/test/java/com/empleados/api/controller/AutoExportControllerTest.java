@@ -0,0 +1,80 @@
+package com.empleados.api.controller;
+
+import com.empleados.api.bulk.ExportFormat;
+import com.empleados.api.service.AutoExportService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+
+import static org.hamcrest.Matchers.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@WebMvcTest(AutoExportController.class)
+class AutoExportControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private AutoExportService autoExportService;
+
+    @Test
+    @DisplayName("Debe descargar el CSV filtrado como adjunto")
+    void exportar_ShouldStreamCsvAttachment() throws Exception {
+        // Arrange
+        when(autoExportService.exportAutomoviles(eq("Tecnología"), eq(LocalDate.of(2020, 1, 1)), eq(null),
+                eq(ExportFormat.CSV), any())).thenAnswer(invocation -> {
+                    OutputStream output = invocation.getArgument(4);
+                    output.write("id,nombre\r\n1,Juan\r\n".getBytes(StandardCharsets.UTF_8));
+                    return 1L;
+                });
+
+        // Act
+        MvcResult result = mockMvc.perform(get("/api/automoviles/exportar")
+                        .param("departamento", "Tecnología")
+                        .param("desde", "2020-01-01"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // Assert
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType("text/csv;charset=UTF-8"))
+                .andExpect(header().string("Content-Disposition", startsWith("attachment; filename=\"automoviles-")))
+                .andExpect(header().string("Content-Disposition", containsString(".csv")))
+                .andExpect(content().string("id,nombre\r\n1,Juan\r\n"));
+    }
+
+    @Test
+    @DisplayName("Debe retornar 400 con un formato no soportado")
+    void exportar_WithUnknownFormat_ShouldReturnBadRequest() throws Exception {
+        mockMvc.perform(get("/api/automoviles/exportar").param("formato", "pdf"))
+                .andExpect(status().isBadRequest());
+        verifyNoInteractions(autoExportService);
+    }
+
+    @Test
+    @DisplayName("Debe retornar 400 si la fecha desde es posterior a hasta")
+    void exportar_WithInvertedRange_ShouldReturnBadRequest() throws Exception {
+        mockMvc.perform(get("/api/automoviles/exportar")
+                        .param("formato", "xlsx")
+                        .param("desde", "2021-01-01")
+                        .param("hasta", "2020-01-01"))
+                .andExpect(status().isBadRequest());
+        verifyNoInteractions(autoExportService);
+    }
+}
@@ -0,0 +1,80 @@
+package com.empleados.api.controller;
+
+import com.empleados.api.dto.ImportJobDTO;
+import com.empleados.api.dto.ImportRejectDTO;
+import com.empleados.api.exception.ResourceNotFoundException;
+import com.empleados.api.service.AutoImportService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.Instant;
+import java.util.List;
+
+import static org.hamcrest.Matchers.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.multipart;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@WebMvcTest(AutoImportController.class)
+class AutoImportControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private AutoImportService autoImportService;
+
+    @Test
+    @DisplayName("Debe encolar la importación y devolver 202 con la ubicación del estado")
+    void importar_ShouldReturnAcceptedWithLocation() throws Exception {
+        // Arrange
+        MockMultipartFile archivo = new MockMultipartFile("archivo", "autos.csv", "text/csv",
+                "nombre,apellido\nJuan,Pérez\n".getBytes());
+        when(autoImportService.startImport(any())).thenReturn(job("PENDIENTE", 0.0, List.of()));
+
+        // Act & Assert
+        mockMvc.perform(multipart("/api/automoviles/importaciones").file(archivo))
+                .andExpect(status().isAccepted())
+                .andExpect(header().string("Location", endsWith("/api/automoviles/importaciones/abc")))
+                .andExpect(jsonPath("$.id", is("abc")))
+                .andExpect(jsonPath("$.estado", is("PENDIENTE")));
+    }
+
+    @Test
+    @DisplayName("Debe devolver el progreso y las filas rechazadas de una importación")
+    void getImportacion_ShouldReturnProgress() throws Exception {
+        // Arrange
+        when(autoImportService.getImport("abc")).thenReturn(job("EN_CURSO", 42.5,
+                List.of(new ImportRejectDTO(7, "El email es obligatorio"))));
+
+        // Act & Assert
+        mockMvc.perform(get("/api/automoviles/importaciones/abc"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.progreso", is(42.5)))
+                .andExpect(jsonPath("$.rechazos[0].linea", is(7)))
+                .andExpect(jsonPath("$.rechazos[0].motivo", is("El email es obligatorio")));
+    }
+
+    @Test
+    @DisplayName("Debe retornar 404 cuando la importación no existe")
+    void getImportacion_WhenNotFound_ShouldReturnNotFound() throws Exception {
+        // Arrange
+        when(autoImportService.getImport("nada")).thenThrow(new ResourceNotFoundException("Importación no encontrada con id: nada"));
+
+        // Act & Assert
+        mockMvc.perform(get("/api/automoviles/importaciones/nada"))
+                .andExpect(status().isNotFound());
+    }
+
+    private static ImportJobDTO job(String estado, double progreso, List<ImportRejectDTO> rechazos) {
+        return new ImportJobDTO("abc", "autos.csv", estado, progreso, 10, 9, rechazos.size(), rechazos, null,
+                Instant.now(), null, null);
+    }
+}
@@ -0,0 +1,120 @@
+package com.empleados.api.controller;
+
+import com.empleados.api.dto.IngestionTicketDTO;
+import com.empleados.api.exception.ResourceNotFoundException;
+import com.empleados.api.exception.ServiceOverloadedException;
+import com.empleados.api.service.AutoIngestionService;
+import com.empleados.api.util.TestDataBuilder;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.util.concurrent.CompletableFuture;
+
+import static org.hamcrest.Matchers.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@WebMvcTest(AutoIngestionController.class)
+class AutoIngestionControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private AutoIngestionService autoIngestionService;
+
+    private ObjectMapper objectMapper;
+
+    @BeforeEach
+    void setUp() {
+        objectMapper = new ObjectMapper();
+        objectMapper.registerModule(new JavaTimeModule());
+    }
+
+    @Test
+    @DisplayName("Debe encolar el automovil y devolver 202 con la ubicación del ticket")
+    void encolar_ShouldReturnAcceptedWithLocation() throws Exception {
+        // Arrange
+        when(autoIngestionService.submit(any())).thenReturn(new IngestionTicketDTO(7, "PENDIENTE", null, null));
+
+        // Act & Assert
+        mockMvc.perform(post("/api/automoviles/ingesta")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(TestDataBuilder.createNewAutoDTO())))
+                .andExpect(status().isAccepted())
+                .andExpect(header().string("Location", endsWith("/api/automoviles/ingesta/7")))
+                .andExpect(jsonPath("$.ticket", is(7)))
+                .andExpect(jsonPath("$.estado", is("PENDIENTE")));
+    }
+
+    @Test
+    @DisplayName("Debe retornar 400 sin encolar cuando el automovil es inválido")
+    void encolar_WithInvalidAuto_ShouldReturn400() throws Exception {
+        // Act & Assert
+        mockMvc.perform(post("/api/automoviles/ingesta")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(TestDataBuilder.createInvalidAutoDTO())))
+                .andExpect(status().isBadRequest());
+
+        verify(autoIngestionService, never()).submit(any());
+    }
+
+    @Test
+    @DisplayName("Debe retornar 503 con Retry-After cuando la cola está llena")
+    void encolar_WhenQueueFull_ShouldReturn503() throws Exception {
+        // Arrange
+        when(autoIngestionService.submit(any())).thenThrow(new ServiceOverloadedException("La cola de ingesta está llena", 1));
+
+        // Act & Assert
+        mockMvc.perform(post("/api/automoviles/ingesta")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(TestDataBuilder.createNewAutoDTO())))
+                .andExpect(status().isServiceUnavailable())
+                .andExpect(header().string("Retry-After", "1"));
+    }
+
+    @Test
+    @DisplayName("Debe devolver el estado final del ticket de forma asíncrona")
+    void getTicket_ShouldReturnStatusAsynchronously() throws Exception {
+        // Arrange
+        when(autoIngestionService.getStatus(7, 5000)).thenReturn(
+                CompletableFuture.completedFuture(new IngestionTicketDTO(7, "GUARDADO", 42L, null)));
+
+        // Act
+        MvcResult result = mockMvc.perform(get("/api/automoviles/ingesta/7").param("esperarMs", "5000"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // Assert
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.estado", is("GUARDADO")))
+                .andExpect(jsonPath("$.autoId", is("42")));
+    }
+
+    @Test
+    @DisplayName("Debe retornar 404 cuando el ticket no existe")
+    void getTicket_WhenNotFound_ShouldReturnNotFound() throws Exception {
+        // Arrange
+        when(autoIngestionService.getStatus(99, 0)).thenThrow(new ResourceNotFoundException("Ticket de ingesta no encontrado: 99"));
+
+        // Act & Assert
+        mockMvc.perform(get("/api/automoviles/ingesta/99"))
+                .andExpect(status().isNotFound());
+    }
+}
@@ -0,0 +1,128 @@
+package com.empleados.api.controller;
+
+import com.empleados.api.analytics.AutoColumn;
+import com.empleados.api.dto.CostStatsDTO;
+import com.empleados.api.dto.HistogramBucketDTO;
+import com.empleados.api.exception.BadRequestException;
+import com.empleados.api.service.AutoReportService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+import static org.hamcrest.Matchers.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@WebMvcTest(AutoReportController.class)
+class AutoReportControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private AutoReportService autoReportService;
+
+    @Test
+    @DisplayName("Debe retornar el reporte de costo por departamento de forma asíncrona")
+    void getCostoPorColumna_ShouldReturnStatsAsynchronously() throws Exception {
+        // Arrange
+        when(autoReportService.getCostoStatsBy(AutoColumn.DEPARTAMENTO)).thenReturn(CompletableFuture.completedFuture(
+                Map.of("Tecnología", new CostStatsDTO(2, new BigDecimal("102000.00"), new BigDecimal("51000.00"),
+                        new BigDecimal("50000.00"), new BigDecimal("52000.00")))));
+
+        // Act
+        MvcResult result = mockMvc.perform(get("/api/reportes/costo/departamento"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // Assert
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.Tecnología.total", is(2)))
+                .andExpect(jsonPath("$.Tecnología.promedio", is(51000.00)));
+    }
+
+    @Test
+    @DisplayName("Debe usar los percentiles por defecto")
+    void getPercentilesCosto_ShouldUseDefaultPercentiles() throws Exception {
+        // Arrange
+        when(autoReportService.getCostoPercentiles(List.of(50.0, 90.0, 99.0))).thenReturn(
+                CompletableFuture.completedFuture(Map.of("p50", new BigDecimal("50000.00"))));
+
+        // Act
+        MvcResult result = mockMvc.perform(get("/api/reportes/costo/percentiles"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // Assert
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.p50", is(50000.00)));
+    }
+
+    @Test
+    @DisplayName("Debe retornar 400 con una columna no soportada")
+    void getCostoPorColumna_WithUnknownColumn_ShouldReturn400() throws Exception {
+        // Act & Assert
+        mockMvc.perform(get("/api/reportes/costo/email"))
+                .andExpect(status().isBadRequest());
+
+        verify(autoReportService, never()).getCostoStatsBy(any());
+    }
+
+    @Test
+    @DisplayName("Debe retornar 400 cuando el reporte falla por parámetros inválidos")
+    void getHistogramaCompras_WithFailedReport_ShouldReturn400() throws Exception {
+        // Arrange
+        LocalDate desde = LocalDate.of(2020, 1, 1);
+        when(autoReportService.getComprasHistogram(desde, 30, 0)).thenReturn(
+                CompletableFuture.failedFuture(new BadRequestException("El histograma admite entre 1 y 10000 intervalos")));
+
+        // Act
+        MvcResult result = mockMvc.perform(get("/api/reportes/compras/histograma")
+                .param("desde", "2020-01-01")
+                .param("buckets", "0"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // Assert
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message", containsString("histograma")));
+    }
+
+    @Test
+    @DisplayName("Debe retornar el histograma de compras")
+    void getHistogramaCompras_ShouldReturnBuckets() throws Exception {
+        // Arrange
+        LocalDate desde = LocalDate.of(2020, 1, 1);
+        when(autoReportService.getComprasHistogram(desde, 30, 1)).thenReturn(CompletableFuture.completedFuture(
+                List.of(new HistogramBucketDTO(desde, LocalDate.of(2020, 1, 30), 3))));
+
+        // Act
+        MvcResult result = mockMvc.perform(get("/api/reportes/compras/histograma")
+                .param("desde", "2020-01-01")
+                .param("buckets", "1"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // Assert
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(1)))
+                .andExpect(jsonPath("$[0].total", is(3)));
+    }
+}
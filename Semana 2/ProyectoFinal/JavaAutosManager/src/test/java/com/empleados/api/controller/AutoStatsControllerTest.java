@@ -0,0 +1,130 @@
+package com.empleados.api.controller;
+
+import com.empleados.api.analytics.AutoColumn;
+import com.empleados.api.dto.CostStatsDTO;
+import com.empleados.api.dto.HistogramBucketDTO;
+import com.empleados.api.service.AutoStatsService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+import static org.hamcrest.Matchers.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@WebMvcTest(AutoStatsController.class)
+class AutoStatsControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private AutoStatsService autoStatsService;
+
+    @Test
+    @DisplayName("Debe contar automoviles por columna")
+    void getConteo_ShouldReturnCountsByColumn() throws Exception {
+        // Arrange
+        when(autoStatsService.getCountBy(AutoColumn.MARCA)).thenReturn(Map.of("Nissan", 2L));
+
+        // Act & Assert
+        mockMvc.perform(get("/api/estadisticas/conteo/marca"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.Nissan", is(2)));
+
+        verify(autoStatsService, times(1)).getCountBy(AutoColumn.MARCA);
+    }
+
+    @Test
+    @DisplayName("Debe retornar 400 con una columna no soportada")
+    void getConteo_WithUnknownColumn_ShouldReturn400() throws Exception {
+        // Act & Assert
+        mockMvc.perform(get("/api/estadisticas/conteo/email"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message", containsString("email")));
+
+        verify(autoStatsService, never()).getCountBy(any());
+    }
+
+    @Test
+    @DisplayName("Debe retornar 500 si falla un argumento interno, no 400")
+    void getConteo_WithInternalIllegalArgument_ShouldReturn500() throws Exception {
+        // Arrange
+        when(autoStatsService.getCountBy(AutoColumn.MARCA)).thenThrow(new IllegalArgumentException("error interno"));
+
+        // Act & Assert
+        mockMvc.perform(get("/api/estadisticas/conteo/marca"))
+                .andExpect(status().isInternalServerError());
+    }
+
+    @Test
+    @DisplayName("Debe sumar el costo por departamento")
+    void getCostoPorColumna_ShouldReturnSums() throws Exception {
+        // Arrange
+        when(autoStatsService.getCostoSumBy(AutoColumn.DEPARTAMENTO))
+                .thenReturn(Map.of("Tecnología", new BigDecimal("102000.00")));
+
+        // Act & Assert
+        mockMvc.perform(get("/api/estadisticas/costo/departamento"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.Tecnología", is(102000.00)));
+    }
+
+    @Test
+    @DisplayName("Debe retornar el costo total filtrado por departamento")
+    void getCostoTotal_ShouldFilterByDepartamento() throws Exception {
+        // Arrange
+        when(autoStatsService.getCostoSum("Tecnología")).thenReturn(new BigDecimal("102000.00"));
+
+        // Act & Assert
+        mockMvc.perform(get("/api/estadisticas/costo").param("departamento", "Tecnología"))
+                .andExpect(status().isOk())
+                .andExpect(content().string("102000.00"));
+    }
+
+    @Test
+    @DisplayName("Debe retornar el resumen del costo por marca")
+    void getResumenCostoPorColumna_ShouldReturnStats() throws Exception {
+        // Arrange
+        when(autoStatsService.getCostoStatsBy(AutoColumn.MARCA)).thenReturn(Map.of("Nissan",
+                new CostStatsDTO(2, new BigDecimal("102000.00"), new BigDecimal("51000.00"),
+                        new BigDecimal("50000.00"), new BigDecimal("52000.00"))));
+
+        // Act & Assert
+        mockMvc.perform(get("/api/estadisticas/costo/resumen/marca"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.Nissan.total", is(2)))
+                .andExpect(jsonPath("$.Nissan.promedio", is(51000.00)))
+                .andExpect(jsonPath("$.Nissan.maximo", is(52000.00)));
+    }
+
+    @Test
+    @DisplayName("Debe retornar el histograma de compras")
+    void getHistogramaCompras_ShouldReturnBuckets() throws Exception {
+        // Arrange
+        LocalDate desde = LocalDate.of(2020, 1, 1);
+        when(autoStatsService.getComprasHistogram(desde, 30, 2)).thenReturn(List.of(
+                new HistogramBucketDTO(desde, LocalDate.of(2020, 1, 30), 3),
+                new HistogramBucketDTO(LocalDate.of(2020, 1, 31), LocalDate.of(2020, 2, 29), 1)));
+
+        // Act & Assert
+        mockMvc.perform(get("/api/estadisticas/compras/histograma")
+                .param("desde", "2020-01-01")
+                .param("dias", "30")
+                .param("buckets", "2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(2)))
+                .andExpect(jsonPath("$[0].total", is(3)))
+                .andExpect(jsonPath("$[1].desde", is("2020-01-31")));
+    }
+}
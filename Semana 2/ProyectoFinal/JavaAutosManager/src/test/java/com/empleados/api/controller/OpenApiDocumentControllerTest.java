@@ -0,0 +1,72 @@
+package com.empleados.api.controller;
+
+import com.empleados.api.exception.GlobalExceptionHandler;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.core.io.Resource;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.hamcrest.Matchers.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * Pruebas unitarias para OpenApiDocumentController
+ */
+class OpenApiDocumentControllerTest {
+
+    private static final String DOCUMENT = "{\"openapi\":\"3.0.1\",\"info\":{\"title\":\"API de Gestión de Empleados\"}}";
+
+    @Test
+    @DisplayName("Debe servir la especificación generada en el build como JSON con ETag")
+    void getDocument_ShouldServeBuiltDocument() throws Exception {
+        // Arrange
+        MockMvc mockMvc = mockMvc(new ByteArrayResource(DOCUMENT.getBytes(StandardCharsets.UTF_8)));
+
+        // Act & Assert
+        mockMvc.perform(get("/api-docs"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+                .andExpect(jsonPath("$.info.title", is("API de Gestión de Empleados")))
+                .andExpect(header().string(HttpHeaders.ETAG, matchesPattern("\"[0-9a-f]{32}\"")))
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "no-cache"));
+    }
+
+    @Test
+    @DisplayName("Debe responder 304 si el cliente ya tiene la especificación")
+    void getDocument_WithMatchingEtag_ShouldReturnNotModified() throws Exception {
+        // Arrange
+        MockMvc mockMvc = mockMvc(new ByteArrayResource(DOCUMENT.getBytes(StandardCharsets.UTF_8)));
+        String etag = mockMvc.perform(get("/api-docs")).andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        // Act & Assert
+        mockMvc.perform(get("/api-docs").header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified())
+                .andExpect(content().string(""));
+    }
+
+    @Test
+    @DisplayName("Debe retornar 404 si no hay especificación en el classpath")
+    void getDocument_WithoutBuiltDocument_ShouldReturn404() throws Exception {
+        // Arrange
+        MockMvc mockMvc = mockMvc(new ClassPathResource("openapi/no-existe.json"));
+
+        // Act & Assert
+        mockMvc.perform(get("/api-docs"))
+                .andExpect(status().isNotFound());
+    }
+
+    private static MockMvc mockMvc(Resource document) throws Exception {
+        return MockMvcBuilders.standaloneSetup(new OpenApiDocumentController(document))
+                .addPlaceholderValue("springdoc.api-docs.path", "/api-docs")
+                .setControllerAdvice(new GlobalExceptionHandler())
+                .build();
+    }
+}
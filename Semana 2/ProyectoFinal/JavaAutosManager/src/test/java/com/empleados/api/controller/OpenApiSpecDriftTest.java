@@ -0,0 +1,59 @@
+package com.empleados.api.controller;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Comprueba que la especificación versionada (openapi/openapi.json), la que sirve el perfil prod,
+ * coincide con la que springdoc genera a partir de los controladores actuales.
+ */
+@SpringBootTest(properties = "springdoc.api-docs.enabled=true")
+@AutoConfigureMockMvc
+class OpenApiSpecDriftTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Test
+    @DisplayName("La especificación versionada debe coincidir con la generada por springdoc")
+    void checkedInSpec_ShouldMatchGeneratedSpec() throws Exception {
+        // Arrange
+        JsonNode checkedIn;
+        try (InputStream input = new ClassPathResource("openapi/openapi.json").getInputStream()) {
+            checkedIn = objectMapper.readTree(input);
+        }
+
+        // Act
+        String generated = mockMvc.perform(get("/api-docs"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString(StandardCharsets.UTF_8);
+
+        // Assert
+        JsonNode actual = objectMapper.readTree(generated);
+        if (!checkedIn.equals(actual)) {
+            Path written = Files.writeString(Path.of("target", "openapi-generated.json"),
+                    objectMapper.writerWithDefaultPrettyPrinter().writeValueAsString(actual));
+            fail("src/main/resources/openapi/openapi.json no coincide con los controladores; "
+                    + "regenérela con 'mvn -Popenapi package' (generada: " + written + ")");
+        }
+    }
+}
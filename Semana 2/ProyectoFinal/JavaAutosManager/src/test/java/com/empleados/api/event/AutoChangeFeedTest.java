@@ -0,0 +1,181 @@
+package com.empleados.api.event;
+
+import com.empleados.api.dto.AutoChangeDTO;
+import com.empleados.api.dto.AutoDTO;
+import com.empleados.api.exception.ServiceOverloadedException;
+import com.empleados.api.util.TestDataBuilder;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.RejectedExecutionException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Pruebas unitarias para AutoChangeFeed. Los envíos se ejecutan en el hilo del test.
+ */
+class AutoChangeFeedTest {
+
+    private final AutoChangeFeed feed = new AutoChangeFeed(3, 2, 2, 0, Runnable::run);
+
+    @Test
+    @DisplayName("Debe enviar los cambios confirmados a los suscriptores con su secuencia")
+    void onAutoChanged_ShouldSendEventsToSubscribers() {
+        // Arrange
+        RecordingEmitter emitter = new RecordingEmitter();
+        feed.subscribe(null, emitter);
+        AutoDTO juan = TestDataBuilder.createAutoDTO();
+
+        // Act
+        feed.onAutoChanged(AutoChangedEvent.created(juan));
+        feed.onAutoChanged(AutoChangedEvent.deleted(juan));
+
+        // Assert
+        assertEquals(List.of("1:created", "2:deleted"), emitter.events);
+        assertEquals(juan, emitter.changes.get(0).getAuto());
+        assertNull(emitter.changes.get(1).getAuto());
+        assertEquals(2L, feed.currentSequence());
+    }
+
+    @Test
+    @DisplayName("Debe reanudar desde Last-Event-ID reenviando solo los cambios perdidos")
+    void subscribe_WithLastEventId_ShouldReplayMissedChanges() {
+        // Arrange
+        AutoDTO juan = TestDataBuilder.createAutoDTO();
+        feed.onAutoChanged(AutoChangedEvent.created(juan));
+        feed.onAutoChanged(AutoChangedEvent.updated(juan, juan));
+        feed.onAutoChanged(AutoChangedEvent.updated(juan, juan));
+
+        // Act
+        RecordingEmitter emitter = new RecordingEmitter();
+        feed.subscribe(1L, emitter);
+        feed.onAutoChanged(AutoChangedEvent.deleted(juan));
+
+        // Assert
+        assertEquals(List.of("2:updated", "3:updated", "4:deleted"), emitter.events);
+    }
+
+    @Test
+    @DisplayName("Debe pedir recargar cuando la secuencia ya no está en el historial")
+    void subscribe_WithExpiredLastEventId_ShouldSendReset() {
+        // Arrange
+        AutoDTO juan = TestDataBuilder.createAutoDTO();
+        for (int i = 0; i < 5; i++) {
+            feed.onAutoChanged(AutoChangedEvent.updated(juan, juan));
+        }
+
+        // Act
+        RecordingEmitter expired = new RecordingEmitter();
+        feed.subscribe(1L, expired);
+        RecordingEmitter fromPreviousRun = new RecordingEmitter();
+        feed.subscribe(99L, fromPreviousRun);
+
+        // Assert
+        assertEquals(List.of("5:reset"), expired.events);
+        assertEquals(List.of("5:reset"), fromPreviousRun.events);
+    }
+
+    @Test
+    @DisplayName("Debe desconectar a los suscriptores que no consumen a tiempo")
+    void onAutoChanged_WithSlowSubscriber_ShouldDropIt() {
+        // Arrange
+        List<Runnable> pendientes = new ArrayList<>();
+        AutoChangeFeed slowFeed = new AutoChangeFeed(10, 2, 2, 0, pendientes::add);
+        slowFeed.subscribe(null, new RecordingEmitter());
+        AutoDTO juan = TestDataBuilder.createAutoDTO();
+
+        // Act
+        slowFeed.onAutoChanged(AutoChangedEvent.created(juan));
+        slowFeed.onAutoChanged(AutoChangedEvent.updated(juan, juan));
+        assertEquals(1, slowFeed.subscriberCount());
+        slowFeed.onAutoChanged(AutoChangedEvent.updated(juan, juan));
+
+        // Assert
+        assertEquals(0, slowFeed.subscriberCount());
+        assertEquals(1, pendientes.size());
+    }
+
+    @Test
+    @DisplayName("Debe eliminar al suscriptor cuando el envío falla")
+    void onAutoChanged_WhenSendFails_ShouldUnsubscribe() {
+        // Arrange
+        RecordingEmitter emitter = new RecordingEmitter();
+        emitter.failing = true;
+        feed.subscribe(null, emitter);
+
+        // Act
+        feed.onAutoChanged(AutoChangedEvent.created(TestDataBuilder.createAutoDTO()));
+
+        // Assert
+        assertEquals(0, feed.subscriberCount());
+    }
+
+    @Test
+    @DisplayName("Debe rechazar nuevos suscriptores cuando se alcanza el máximo")
+    void subscribe_WhenFull_ShouldThrowServiceOverloaded() {
+        // Arrange
+        feed.subscribe(null, new RecordingEmitter());
+        feed.subscribe(null, new RecordingEmitter());
+
+        // Act & Assert
+        assertThrows(ServiceOverloadedException.class, () -> feed.subscribe(null, new RecordingEmitter()));
+        assertEquals(2, feed.subscriberCount());
+    }
+
+    @Test
+    @DisplayName("Debe eliminar al suscriptor si el pool de envío ya no acepta tareas")
+    void subscribe_WhenSendersRejected_ShouldUnsubscribe() {
+        // Arrange
+        AutoChangeFeed stoppedFeed = new AutoChangeFeed(3, 2, 2, 0, task -> {
+            throw new RejectedExecutionException("detenido");
+        });
+        stoppedFeed.subscribe(null, new RecordingEmitter());
+
+        // Act
+        stoppedFeed.onAutoChanged(AutoChangedEvent.created(TestDataBuilder.createAutoDTO()));
+
+        // Assert
+        assertEquals(0, stoppedFeed.subscriberCount());
+    }
+
+    /**
+     * Emitter that records the id and name of each event instead of writing to a response
+     */
+    private static class RecordingEmitter extends SseEmitter {
+
+        final List<String> events = new ArrayList<>();
+        final List<AutoChangeDTO> changes = new ArrayList<>();
+        boolean failing;
+
+        @Override
+        public void send(SseEventBuilder builder) throws IOException {
+            if (failing) {
+                throw new IOException("Conexión cerrada");
+            }
+            StringBuilder text = new StringBuilder();
+            for (DataWithMediaType part : builder.build()) {
+                if (part.getData() instanceof AutoChangeDTO change) {
+                    changes.add(change);
+                } else {
+                    text.append(part.getData());
+                }
+            }
+            String id = null;
+            String name = null;
+            for (String line : text.toString().split("\n")) {
+                if (line.startsWith("id:")) {
+                    id = line.substring(3);
+                } else if (line.startsWith("event:")) {
+                    name = line.substring(6);
+                }
+            }
+            if (name != null) {
+                events.add(id + ":" + name);
+            }
+        }
+    }
+}
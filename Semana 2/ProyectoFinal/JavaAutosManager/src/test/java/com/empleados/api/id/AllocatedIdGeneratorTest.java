@@ -0,0 +1,46 @@
+package com.empleados.api.id;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Pruebas unitarias para AllocatedIdGenerator
+ */
+class AllocatedIdGeneratorTest {
+
+    @Test
+    @DisplayName("Debe usar el último asignador instalado y volver al anterior al desinstalarlo")
+    void generate_ShouldUseLatestInstalledAllocator() {
+        // Arrange
+        IdAllocator primero = allocator(7L);
+        IdAllocator segundo = allocator(9L);
+        AllocatedIdGenerator generator = new AllocatedIdGenerator(null, null, null);
+
+        try {
+            // Act
+            AllocatedIdGenerator.install(primero);
+            AllocatedIdGenerator.install(segundo);
+            Object conAmbos = generator.generate(null, null);
+            AllocatedIdGenerator.uninstall(segundo);
+            Object trasDesinstalar = generator.generate(null, null);
+
+            // Assert
+            assertEquals(9L, conAmbos);
+            assertEquals(7L, trasDesinstalar);
+        } finally {
+            AllocatedIdGenerator.uninstall(segundo);
+            AllocatedIdGenerator.uninstall(primero);
+        }
+    }
+
+    private static IdAllocator allocator(long id) {
+        IdAllocator allocator = mock(IdAllocator.class);
+        when(allocator.next(anyInt())).thenReturn(id);
+        return allocator;
+    }
+}
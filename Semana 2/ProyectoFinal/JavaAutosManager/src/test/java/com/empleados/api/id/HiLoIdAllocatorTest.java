@@ -0,0 +1,202 @@
+package com.empleados.api.id;
+
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Pruebas unitarias para HiLoIdAllocator
+ */
+class HiLoIdAllocatorTest {
+
+    private JdbcDataSource dataSource;
+
+    @BeforeEach
+    void setUp() {
+        dataSource = new JdbcDataSource();
+        dataSource.setURL("jdbc:h2:mem:hilo-" + System.nanoTime() + ";DB_CLOSE_DELAY=-1");
+    }
+
+    @Test
+    @DisplayName("Debe reservar un bloque por cada blockSize ids, el siguiente al llegar a la mitad del actual")
+    void next_ShouldReserveOneBlockPerBlockSize() {
+        // Arrange
+        HiLoIdAllocator allocator = new HiLoIdAllocator(dataSource, "automoviles", 10, 1);
+        allocator.init();
+
+        // Act
+        List<Long> ids = new ArrayList<>();
+        for (int i = 0; i < 25; i++) {
+            ids.add(allocator.next(0));
+        }
+
+        // Assert
+        assertEquals(4, allocator.getReservedBlocks());
+        assertEquals(10L, ids.get(0));
+        assertEquals(34L, ids.get(24));
+        assertEquals(25, new HashSet<>(ids).size());
+        assertEquals(5L, new JdbcTemplate(dataSource).queryForObject(
+                "SELECT next_hi FROM id_blocks WHERE name = 'automoviles'", Long.class));
+    }
+
+    @Test
+    @DisplayName("Debe reservar el siguiente bloque cuando se usa la mitad del actual")
+    void next_AtHalfBlock_ShouldReserveNextBlock() {
+        // Arrange
+        HiLoIdAllocator allocator = new HiLoIdAllocator(dataSource, "automoviles", 10, 1);
+        allocator.init();
+        for (int i = 0; i < 4; i++) {
+            allocator.next(0);
+        }
+        assertEquals(1, allocator.getReservedBlocks());
+
+        // Act
+        allocator.next(0);
+
+        // Assert
+        assertEquals(2, allocator.getReservedBlocks());
+    }
+
+    @Test
+    @DisplayName("Debe seguir entregando ids del bloque actual mientras se reserva el siguiente")
+    void next_WhileNextBlockIsReserved_ShouldNotWait() throws Exception {
+        // Arrange
+        CountDownLatch reserving = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicBoolean holdConnection = new AtomicBoolean();
+        DataSource slow = new DelegatingDataSource(dataSource) {
+            @Override
+            public Connection getConnection() throws SQLException {
+                if (holdConnection.get()) {
+                    reserving.countDown();
+                    try {
+                        release.await();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                }
+                return super.getConnection();
+            }
+        };
+        HiLoIdAllocator allocator = new HiLoIdAllocator(slow, "automoviles", 10, 1);
+        allocator.init();
+        for (int i = 0; i < 4; i++) {
+            allocator.next(0);
+        }
+        holdConnection.set(true);
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+
+        // Act
+        Future<Long> fifth = executor.submit(() -> allocator.next(0));
+        assertTrue(reserving.await(5, TimeUnit.SECONDS));
+        List<Long> rest = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            rest.add(allocator.next(0));
+        }
+        release.countDown();
+
+        // Assert
+        assertEquals(14L, fifth.get(5, TimeUnit.SECONDS));
+        assertEquals(List.of(15L, 16L, 17L, 18L, 19L), rest);
+        assertEquals(20L, allocator.next(0));
+        executor.shutdown();
+    }
+
+    @Test
+    @DisplayName("No debe fallar la petición que adelanta la reserva si quedan ids en el bloque actual")
+    void next_WhenPrefetchFails_ShouldKeepHandingOutCurrentBlock() throws Exception {
+        // Arrange
+        AtomicBoolean down = new AtomicBoolean();
+        DataSource failing = new DelegatingDataSource(dataSource) {
+            @Override
+            public Connection getConnection() throws SQLException {
+                if (down.get()) {
+                    throw new SQLException("Base de datos caída");
+                }
+                return super.getConnection();
+            }
+        };
+        HiLoIdAllocator allocator = new HiLoIdAllocator(failing, "automoviles", 4, 1);
+        allocator.init();
+        allocator.next(0);
+        down.set(true);
+
+        // Act
+        List<Long> ids = List.of(allocator.next(0), allocator.next(0), allocator.next(0));
+
+        // Assert
+        assertEquals(List.of(5L, 6L, 7L), ids);
+        assertThrows(DataAccessResourceFailureException.class, () -> allocator.next(0));
+        down.set(false);
+        assertEquals(8L, allocator.next(0));
+    }
+
+    @Test
+    @DisplayName("Dos instancias que comparten la tabla no deben repetir ids")
+    void next_TwoInstances_ShouldNotCollide() throws Exception {
+        // Arrange
+        HiLoIdAllocator first = new HiLoIdAllocator(dataSource, "automoviles", 16, 1);
+        HiLoIdAllocator second = new HiLoIdAllocator(dataSource, "automoviles", 16, 1);
+        first.init();
+        second.init();
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+
+        // Act
+        List<Future<List<Long>>> futures = new ArrayList<>();
+        for (HiLoIdAllocator allocator : List.of(first, second, first, second)) {
+            futures.add(executor.submit(() -> {
+                List<Long> ids = new ArrayList<>();
+                for (int i = 0; i < 500; i++) {
+                    ids.add(allocator.next(0));
+                }
+                return ids;
+            }));
+        }
+        Set<Long> ids = new HashSet<>();
+        for (Future<List<Long>> future : futures) {
+            ids.addAll(future.get());
+        }
+        executor.shutdown();
+
+        // Assert
+        assertEquals(2_000, ids.size());
+    }
+
+    @Test
+    @DisplayName("Debe asignar a cada partición ids que la identifican")
+    void next_Partitions_ShouldBeTraceable() {
+        // Arrange
+        HiLoIdAllocator allocator = new HiLoIdAllocator(dataSource, "automoviles", 8, 3);
+        allocator.init();
+        Set<Long> ids = new HashSet<>();
+
+        // Act & Assert
+        for (int i = 0; i < 30; i++) {
+            int partition = i % 3;
+            long id = allocator.next(partition);
+            assertEquals(partition, allocator.partitionOf(id));
+            assertTrue(ids.add(id));
+        }
+        assertThrows(IllegalArgumentException.class, () -> allocator.next(3));
+    }
+}
@@ -0,0 +1,116 @@
+package com.empleados.api.id;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Pruebas unitarias para SnowflakeIdAllocator
+ */
+class SnowflakeIdAllocatorTest {
+
+    private static final Instant EPOCH = Instant.parse("2024-01-01T00:00:00Z");
+
+    @Test
+    @DisplayName("Debe generar ids crecientes que contienen el instante y el nodo")
+    void next_ShouldBeOrderedAndCarryNode() {
+        // Arrange
+        MutableClock clock = new MutableClock(EPOCH.plusSeconds(3600));
+        SnowflakeIdAllocator allocator = new SnowflakeIdAllocator(37, EPOCH, 1, clock);
+
+        // Act
+        long first = allocator.next(0);
+        long second = allocator.next(0);
+        clock.advance(5);
+        long third = allocator.next(0);
+
+        // Assert
+        assertTrue(first < second && second < third);
+        assertEquals(37, (first >>> SnowflakeIdAllocator.SEQUENCE_BITS) & SnowflakeIdAllocator.MAX_NODE);
+        assertEquals(EPOCH.plusSeconds(3600), allocator.timestampOf(first));
+        assertEquals(EPOCH.plusSeconds(3600).plusMillis(5), allocator.timestampOf(third));
+    }
+
+    @Test
+    @DisplayName("No debe repetir ni retroceder aunque el reloj vuelva atrás o se agote el milisegundo")
+    void next_ClockBackwardsOrExhausted_ShouldStayUnique() {
+        // Arrange
+        MutableClock clock = new MutableClock(EPOCH.plusSeconds(60));
+        SnowflakeIdAllocator allocator = new SnowflakeIdAllocator(1, EPOCH, 1, clock);
+        Set<Long> ids = new HashSet<>();
+        long last = -1;
+
+        // Act & Assert
+        for (int i = 0; i < 10_000; i++) {
+            if (i == 5_000) {
+                clock.advance(-100);
+            }
+            long id = allocator.next(0);
+            assertTrue(id > last, "Id no creciente en la iteración " + i);
+            assertTrue(ids.add(id));
+            last = id;
+        }
+    }
+
+    @Test
+    @DisplayName("Debe asignar a cada partición ids que la identifican")
+    void next_Partitions_ShouldBeTraceable() {
+        // Arrange
+        SnowflakeIdAllocator allocator = new SnowflakeIdAllocator(2, EPOCH, 3, new MutableClock(EPOCH.plusSeconds(1)));
+        Set<Long> ids = new HashSet<>();
+
+        // Act & Assert
+        for (int i = 0; i < 6_000; i++) {
+            int partition = i % 3;
+            long id = allocator.next(partition);
+            assertEquals(partition, allocator.partitionOf(id));
+            assertTrue(ids.add(id));
+        }
+    }
+
+    @Test
+    @DisplayName("Debe rechazar un nodo fuera de rango")
+    void constructor_InvalidNode_ShouldThrow() {
+        assertThrows(IllegalArgumentException.class, () -> new SnowflakeIdAllocator(1024, EPOCH, 1));
+        assertThrows(IllegalArgumentException.class, () -> new SnowflakeIdAllocator(-1, EPOCH, 1));
+    }
+
+    /**
+     * Reloj que solo avanza cuando la prueba lo indica
+     */
+    private static final class MutableClock extends Clock {
+
+        private Instant now;
+
+        MutableClock(Instant now) {
+            this.now = now;
+        }
+
+        void advance(long millis) {
+            now = now.plusMillis(millis);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
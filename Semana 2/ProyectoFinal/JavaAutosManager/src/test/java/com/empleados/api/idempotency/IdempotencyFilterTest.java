@@ -0,0 +1,255 @@
+package com.empleados.api.idempotency;
+
+import com.empleados.api.controller.AutoController;
+import com.empleados.api.dto.AutoDTO;
+import com.empleados.api.service.AutoService;
+import com.empleados.api.util.TestDataBuilder;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@WebMvcTest(AutoController.class)
+class IdempotencyFilterTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private AutoService autoService;
+
+    private ObjectMapper objectMapper;
+    private String body;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        objectMapper = new ObjectMapper();
+        objectMapper.registerModule(new JavaTimeModule());
+        body = objectMapper.writeValueAsString(TestDataBuilder.createNewAutoDTO());
+    }
+
+    @Test
+    @DisplayName("Debe repetir la primera respuesta sin volver a crear el auto")
+    void post_WithSameKey_ShouldReplayFirstResponse() throws Exception {
+        // Arrange
+        AutoDTO creado = TestDataBuilder.createNewAutoDTO();
+        creado.setId(3L);
+        when(autoService.createAuto(any())).thenReturn(creado);
+
+        // Act & Assert
+        mockMvc.perform(post("/api/automoviles").header(IdempotencyFilter.HEADER, "clave-1")
+                .contentType(MediaType.APPLICATION_JSON).content(body))
+                .andExpect(status().isCreated())
+                .andExpect(header().doesNotExist(IdempotencyFilter.REPLAYED_HEADER));
+        mockMvc.perform(post("/api/automoviles").header(IdempotencyFilter.HEADER, "clave-1")
+                .contentType(MediaType.APPLICATION_JSON).content(body))
+                .andExpect(status().isCreated())
+                .andExpect(header().string(IdempotencyFilter.REPLAYED_HEADER, "true"))
+                .andExpect(jsonPath("$.id", is("3")));
+
+        verify(autoService, times(1)).createAuto(any());
+    }
+
+    @Test
+    @DisplayName("Debe retornar 422 si la clave se reutiliza con otra petición")
+    void post_WithSameKeyAndDifferentBody_ShouldReturn422() throws Exception {
+        // Arrange
+        when(autoService.createAuto(any())).thenReturn(TestDataBuilder.createAutoDTO());
+        mockMvc.perform(post("/api/automoviles").header(IdempotencyFilter.HEADER, "clave-2")
+                .contentType(MediaType.APPLICATION_JSON).content(body))
+                .andExpect(status().isCreated());
+
+        // Act & Assert
+        mockMvc.perform(post("/api/automoviles").header(IdempotencyFilter.HEADER, "clave-2")
+                .contentType(MediaType.APPLICATION_JSON).content(body.replace("Carlos", "Carla")))
+                .andExpect(status().isUnprocessableEntity())
+                .andExpect(jsonPath("$.message", containsString("petición distinta")));
+
+        verify(autoService, times(1)).createAuto(any());
+    }
+
+    @Test
+    @DisplayName("Debe volver a ejecutar la petición si la primera terminó con error del servidor")
+    void post_AfterServerError_ShouldExecuteAgain() throws Exception {
+        // Arrange
+        when(autoService.createAuto(any()))
+                .thenThrow(new IllegalStateException("base de datos caída"))
+                .thenReturn(TestDataBuilder.createAutoDTO());
+
+        // Act & Assert
+        mockMvc.perform(post("/api/automoviles").header(IdempotencyFilter.HEADER, "clave-3")
+                .contentType(MediaType.APPLICATION_JSON).content(body))
+                .andExpect(status().isInternalServerError());
+        mockMvc.perform(post("/api/automoviles").header(IdempotencyFilter.HEADER, "clave-3")
+                .contentType(MediaType.APPLICATION_JSON).content(body))
+                .andExpect(status().isCreated())
+                .andExpect(header().doesNotExist(IdempotencyFilter.REPLAYED_HEADER));
+
+        verify(autoService, times(2)).createAuto(any());
+    }
+
+    @Test
+    @DisplayName("Debe avisar al ReadListener de inmediato con el cuerpo ya leído")
+    void doFilter_WithReadListener_ShouldDeliverBufferedBody() throws Exception {
+        // Arrange
+        IdempotencyFilter filter = new IdempotencyFilter(objectMapper, 10, 60_000, 100);
+        ByteArrayOutputStream leido = new ByteArrayOutputStream();
+        List<String> eventos = new ArrayList<>();
+        FilterChain chain = (request, response) -> {
+            ServletInputStream input = request.getInputStream();
+            input.setReadListener(new ReadListener() {
+                @Override
+                public void onDataAvailable() throws IOException {
+                    eventos.add("datos");
+                    while (input.isReady() && !input.isFinished()) {
+                        leido.write(input.read());
+                    }
+                }
+
+                @Override
+                public void onAllDataRead() {
+                    eventos.add("fin");
+                }
+
+                @Override
+                public void onError(Throwable t) {
+                    eventos.add("error");
+                }
+            });
+            ((HttpServletResponse) response).setStatus(201);
+        };
+
+        // Act
+        filter.doFilter(apiPost("clave-5"), new MockHttpServletResponse(), chain);
+
+        // Assert
+        assertEquals(List.of("datos", "fin"), eventos);
+        assertEquals(body, leido.toString(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    @DisplayName("Debe retornar 503 si el almacén está lleno de peticiones en curso")
+    void doFilter_WhenStoreFullOfInFlightRequests_ShouldReturn503() throws Exception {
+        // Arrange
+        IdempotencyFilter filter = new IdempotencyFilter(objectMapper, 1, 60_000, 100);
+        MockHttpServletResponse rechazada = new MockHttpServletResponse();
+        FilterChain chain = (request, response) -> {
+            filter.doFilter(apiPost("clave-7"), rechazada, new MockFilterChain());
+            ((HttpServletResponse) response).setStatus(201);
+        };
+
+        // Act
+        MockHttpServletResponse primera = new MockHttpServletResponse();
+        filter.doFilter(apiPost("clave-6"), primera, chain);
+
+        // Assert
+        assertEquals(201, primera.getStatus());
+        assertEquals(503, rechazada.getStatus());
+        assertEquals("1", rechazada.getHeader(HttpHeaders.RETRY_AFTER));
+        assertTrue(rechazada.getContentAsString(StandardCharsets.UTF_8).contains("\"details\":\"Servicio saturado"));
+    }
+
+    @Test
+    @DisplayName("Debe responder 409 con Retry-After si la petición original sigue en curso")
+    void doFilter_WhenOriginalStillRunning_ShouldReturn409() throws Exception {
+        // Arrange
+        IdempotencyFilter filter = new IdempotencyFilter(objectMapper, 10, 60_000, 50);
+        MockHttpServletResponse repetida = new MockHttpServletResponse();
+        List<String> ejecuciones = new ArrayList<>();
+        FilterChain chain = (request, response) -> {
+            ejecuciones.add("original");
+            filter.doFilter(apiPost("clave-8"), repetida, (r, s) -> ejecuciones.add("repetida"));
+            ((HttpServletResponse) response).setStatus(201);
+        };
+
+        // Act
+        MockHttpServletResponse primera = new MockHttpServletResponse();
+        filter.doFilter(apiPost("clave-8"), primera, chain);
+
+        // Assert
+        assertEquals(201, primera.getStatus());
+        assertEquals(409, repetida.getStatus());
+        assertEquals("1", repetida.getHeader(HttpHeaders.RETRY_AFTER));
+        assertEquals(List.of("original"), ejecuciones);
+    }
+
+    @Test
+    @DisplayName("No debe repetir a un cliente la respuesta dada a otro con la misma clave")
+    void post_WithSameKeyFromAnotherClient_ShouldExecuteAgain() throws Exception {
+        // Arrange
+        when(autoService.createAuto(any())).thenReturn(TestDataBuilder.createAutoDTO());
+
+        // Act & Assert
+        mockMvc.perform(post("/api/automoviles").header(IdempotencyFilter.HEADER, "clave-9")
+                .header(HttpHeaders.AUTHORIZATION, "Bearer cliente-a")
+                .contentType(MediaType.APPLICATION_JSON).content(body))
+                .andExpect(status().isCreated());
+        mockMvc.perform(post("/api/automoviles").header(IdempotencyFilter.HEADER, "clave-9")
+                .header(HttpHeaders.AUTHORIZATION, "Bearer cliente-b")
+                .contentType(MediaType.APPLICATION_JSON).content(body))
+                .andExpect(status().isCreated())
+                .andExpect(header().doesNotExist(IdempotencyFilter.REPLAYED_HEADER));
+
+        verify(autoService, times(2)).createAuto(any());
+    }
+
+    @Test
+    @DisplayName("Debe rechazar una espera configurada de más de un segundo")
+    void constructor_WithLongWait_ShouldThrow() {
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> new IdempotencyFilter(objectMapper, 10, 60_000, 30_000));
+    }
+
+    @Test
+    @DisplayName("Sin cabecera debe ejecutar cada petición")
+    void post_WithoutKey_ShouldExecuteEveryTime() throws Exception {
+        // Arrange
+        when(autoService.createAuto(any())).thenReturn(TestDataBuilder.createAutoDTO());
+
+        // Act
+        for (int i = 0; i < 2; i++) {
+            mockMvc.perform(post("/api/automoviles").contentType(MediaType.APPLICATION_JSON).content(body))
+                    .andExpect(status().isCreated());
+        }
+
+        // Assert
+        verify(autoService, times(2)).createAuto(any());
+    }
+
+    private MockHttpServletRequest apiPost(String key) {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/automoviles");
+        request.addHeader(IdempotencyFilter.HEADER, key);
+        request.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        request.setContent(body.getBytes(StandardCharsets.UTF_8));
+        return request;
+    }
+}
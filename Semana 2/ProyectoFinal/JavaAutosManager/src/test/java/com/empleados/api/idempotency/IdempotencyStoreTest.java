@@ -0,0 +1,130 @@
+package com.empleados.api.idempotency;
+
+import com.empleados.api.exception.ServiceOverloadedException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Pruebas unitarias para IdempotencyStore
+ */
+class IdempotencyStoreTest {
+
+    private static final IdempotencyStore.StoredResponse CREADO =
+            new IdempotencyStore.StoredResponse(201, "application/json", null, "{\"id\":1}".getBytes());
+
+    private final MutableClock clock = new MutableClock();
+
+    @Test
+    @DisplayName("Debe entregar a la repetición la respuesta de la primera petición, aunque siga en curso")
+    void claim_WithSameKey_ShouldWaitForFirstResponse() throws Exception {
+        // Arrange
+        IdempotencyStore store = new IdempotencyStore(10, 60_000, clock);
+        IdempotencyStore.Claim primera = store.claim("k1", "huella");
+
+        // Act
+        IdempotencyStore.Claim repetida = store.claim("k1", "huella");
+        CompletableFuture<IdempotencyStore.StoredResponse> espera = repetida.entry().getResponse();
+        assertFalse(espera.isDone());
+        store.complete(primera.entry(), CREADO);
+
+        // Assert
+        assertTrue(primera.owner());
+        assertFalse(repetida.owner());
+        assertSame(CREADO, espera.get(1, TimeUnit.SECONDS));
+    }
+
+    @Test
+    @DisplayName("Debe olvidar la clave si la ejecución falla para permitir el reintento")
+    void abandon_ShouldReleaseKeyAndFailWaiters() {
+        // Arrange
+        IdempotencyStore store = new IdempotencyStore(10, 60_000, clock);
+        IdempotencyStore.Claim primera = store.claim("k1", "huella");
+        CompletableFuture<IdempotencyStore.StoredResponse> espera = store.claim("k1", "huella").entry().getResponse();
+
+        // Act
+        store.abandon("k1", primera.entry(), new IllegalStateException("fallo"));
+
+        // Assert
+        assertThrows(ExecutionException.class, espera::get);
+        assertTrue(store.claim("k1", "huella").owner());
+    }
+
+    @Test
+    @DisplayName("Debe expulsar las claves caducadas y las más antiguas cuando se llena")
+    void claim_ShouldEvictExpiredAndEldestEntries() {
+        // Arrange
+        IdempotencyStore store = new IdempotencyStore(2, 60_000, clock);
+        store.complete(store.claim("k1", "a").entry(), CREADO);
+        store.complete(store.claim("k2", "b").entry(), CREADO);
+
+        // Act
+        IdempotencyStore.Claim tercera = store.claim("k3", "c");
+        IdempotencyStore.Claim expulsada = store.claim("k1", "a");
+        store.complete(tercera.entry(), CREADO);
+        store.complete(expulsada.entry(), CREADO);
+        clock.advance(Duration.ofMinutes(2));
+        store.claim("k4", "d");
+
+        // Assert
+        assertTrue(expulsada.owner());
+        assertEquals(1, store.size());
+    }
+
+    @Test
+    @DisplayName("No debe expulsar claves en curso; si todas lo están, debe rechazar la nueva")
+    void claim_WhenFullOfInFlightEntries_ShouldRejectInsteadOfEvicting() {
+        // Arrange
+        IdempotencyStore store = new IdempotencyStore(2, 60_000, clock);
+        IdempotencyStore.Claim primera = store.claim("k1", "a");
+        store.claim("k2", "b");
+
+        // Act
+        ServiceOverloadedException rechazo = assertThrows(ServiceOverloadedException.class, () -> store.claim("k3", "c"));
+        IdempotencyStore.Claim repetida = store.claim("k1", "a");
+        store.complete(primera.entry(), CREADO);
+        IdempotencyStore.Claim tercera = store.claim("k3", "c");
+
+        // Assert
+        assertEquals(1, rechazo.getRetryAfterSeconds());
+        assertFalse(repetida.owner());
+        assertSame(primera.entry(), repetida.entry());
+        assertTrue(tercera.owner());
+        assertFalse(store.claim("k2", "b").owner());
+        assertEquals(2, store.size());
+    }
+
+    private static final class MutableClock extends Clock {
+
+        private Instant now = Instant.parse("2024-01-01T00:00:00Z");
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneOffset getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
@@ -0,0 +1,245 @@
+package com.empleados.api.ingest;
+
+import com.empleados.api.bulk.AutoBatchWriter;
+import com.empleados.api.bulk.ImportJob;
+import com.empleados.api.bulk.ImportRow;
+import com.empleados.api.dto.AutoDTO;
+import com.empleados.api.exception.ServiceOverloadedException;
+import com.empleados.api.util.TestDataBuilder;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.when;
+
+/**
+ * Pruebas unitarias para AutoCreateBatcher
+ */
+@ExtendWith(MockitoExtension.class)
+class AutoCreateBatcherTest {
+
+    @Mock
+    private AutoBatchWriter batchWriter;
+
+    private AutoCreateBatcher batcher;
+    private final List<List<ImportRow>> lotes = new CopyOnWriteArrayList<>();
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        batcher.shutdown();
+    }
+
+    @Test
+    @DisplayName("Debe agrupar altas concurrentes en un lote y devolver a cada llamada su auto")
+    void create_WithConcurrentCalls_ShouldMergeThemIntoOneBatch() throws Exception {
+        // Arrange
+        saveAll();
+        batcher = start(200_000, 8);
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+
+        // Act
+        List<Future<AutoDTO>> resultados = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            AutoDTO auto = auto(i);
+            resultados.add(executor.submit(() -> batcher.create(auto)));
+        }
+        List<String> emails = new ArrayList<>();
+        for (Future<AutoDTO> resultado : resultados) {
+            AutoDTO creado = resultado.get(10, TimeUnit.SECONDS);
+            assertNotNull(creado.getId());
+            emails.add(creado.getEmail());
+        }
+        executor.shutdown();
+
+        // Assert
+        assertEquals(1, lotes.size());
+        assertEquals(8, lotes.get(0).size());
+        for (int i = 0; i < 8; i++) {
+            assertEquals("auto" + i + "@example.com", emails.get(i));
+        }
+    }
+
+    @Test
+    @DisplayName("Debe lanzar la misma excepción que createAuto cuando el email ya existe")
+    void create_WithRejectedRow_ShouldThrowDataIntegrityViolation() {
+        // Arrange
+        when(batchWriter.write(anyList())).thenAnswer(invocation -> {
+            List<ImportRow> rows = invocation.getArgument(0);
+            return new AutoBatchWriter.BatchResult(List.of(), List.of(
+                    new ImportJob.Reject(rows.get(0).linea(), "Ya existe un auto con el email: juan.perez@example.com")));
+        });
+        batcher = start(0, 64);
+
+        // Act & Assert
+        DataIntegrityViolationException exception = assertThrows(DataIntegrityViolationException.class,
+                () -> batcher.create(TestDataBuilder.createAutoDTO()));
+        assertEquals("Error al crear el auto: Ya existe un auto con el email: juan.perez@example.com", exception.getMessage());
+    }
+
+    @Test
+    @DisplayName("Debe propagar a la llamada el error inesperado del lote")
+    void create_WhenWriterFails_ShouldPropagateException() {
+        // Arrange
+        when(batchWriter.write(anyList())).thenThrow(new IllegalStateException("base de datos caída"));
+        batcher = start(0, 64);
+
+        // Act & Assert
+        IllegalStateException exception = assertThrows(IllegalStateException.class,
+                () -> batcher.create(TestDataBuilder.createNewAutoDTO()));
+        assertEquals("base de datos caída", exception.getMessage());
+    }
+
+    @Test
+    @DisplayName("Debe esperar hueco en la cola llena en lugar de rechazar el alta")
+    void create_WhenQueueFull_ShouldWaitForRoom() throws Exception {
+        // Arrange
+        CountDownLatch liberar = new CountDownLatch(1);
+        CountDownLatch primerLote = blockFirstBatch(liberar);
+        batcher = start(0, 1, 1, 10_000);
+        ExecutorService executor = Executors.newFixedThreadPool(3);
+        Future<AutoDTO> primera = executor.submit(() -> batcher.create(auto(0)));
+        assertTrue(primerLote.await(10, TimeUnit.SECONDS));
+        Future<AutoDTO> segunda = executor.submit(() -> batcher.create(auto(1)));
+
+        // Act
+        Future<AutoDTO> tercera = executor.submit(() -> batcher.create(auto(2)));
+        Thread.sleep(100);
+        boolean terminadaAntes = tercera.isDone();
+        liberar.countDown();
+
+        // Assert
+        assertFalse(terminadaAntes);
+        assertEquals("auto0@example.com", primera.get(10, TimeUnit.SECONDS).getEmail());
+        assertEquals("auto1@example.com", segunda.get(10, TimeUnit.SECONDS).getEmail());
+        assertEquals("auto2@example.com", tercera.get(10, TimeUnit.SECONDS).getEmail());
+        executor.shutdown();
+    }
+
+    @Test
+    @DisplayName("Debe rechazar con 503 si la cola sigue llena al agotar la espera")
+    void create_WhenQueueStaysFull_ShouldThrowOverloadedAfterWaiting() throws Exception {
+        // Arrange
+        CountDownLatch liberar = new CountDownLatch(1);
+        CountDownLatch primerLote = blockFirstBatch(liberar);
+        batcher = start(0, 1, 1, 50);
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        executor.submit(() -> batcher.create(auto(0)));
+        assertTrue(primerLote.await(10, TimeUnit.SECONDS));
+        executor.submit(() -> batcher.create(auto(1)));
+        Thread.sleep(100);
+
+        // Act & Assert
+        long inicio = System.nanoTime();
+        assertThrows(ServiceOverloadedException.class, () -> batcher.create(auto(2)));
+        assertTrue(System.nanoTime() - inicio >= TimeUnit.MILLISECONDS.toNanos(50));
+        liberar.countDown();
+        executor.shutdown();
+    }
+
+    @Test
+    @DisplayName("Debe devolver a cada llamada solo el error de su propia fila")
+    void create_WithRowError_ShouldFailOnlyThatCall() throws Exception {
+        // Arrange
+        IllegalStateException fallo = new IllegalStateException("valor no admitido");
+        when(batchWriter.write(anyList())).thenAnswer(invocation -> {
+            List<ImportRow> rows = invocation.getArgument(0);
+            lotes.add(rows);
+            List<ImportRow> creadas = new ArrayList<>();
+            List<AutoBatchWriter.RowError> errores = new ArrayList<>();
+            for (ImportRow row : rows) {
+                if (row.auto().getEmail().equals("auto1@example.com")) {
+                    errores.add(new AutoBatchWriter.RowError(row.linea(), fallo));
+                } else {
+                    AutoDTO saved = new AutoDTO();
+                    saved.setId(100L + row.linea());
+                    saved.setEmail(row.auto().getEmail());
+                    creadas.add(new ImportRow(row.linea(), saved));
+                }
+            }
+            return new AutoBatchWriter.BatchResult(creadas, List.of(), errores);
+        });
+        batcher = start(200_000, 2);
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+
+        // Act
+        Future<AutoDTO> correcta = executor.submit(() -> batcher.create(auto(0)));
+        Future<AutoDTO> fallida = executor.submit(() -> batcher.create(auto(1)));
+
+        // Assert
+        assertEquals("auto0@example.com", correcta.get(10, TimeUnit.SECONDS).getEmail());
+        ExecutionException exception = assertThrows(ExecutionException.class, () -> fallida.get(10, TimeUnit.SECONDS));
+        assertSame(fallo, exception.getCause());
+        assertEquals(1, lotes.size());
+        executor.shutdown();
+    }
+
+    private AutoCreateBatcher start(long ventanaUs, int maxLote) {
+        return start(ventanaUs, maxLote, 128, 1000);
+    }
+
+    private AutoCreateBatcher start(long ventanaUs, int maxLote, int capacidad, long esperaMs) {
+        AutoCreateBatcher started = new AutoCreateBatcher(batchWriter, new SimpleMeterRegistry(), ventanaUs, maxLote,
+                capacidad, esperaMs);
+        started.start();
+        return started;
+    }
+
+    /**
+     * Blocks the first batch until {@code liberar} is released, so the next calls fill the queue
+     */
+    private CountDownLatch blockFirstBatch(CountDownLatch liberar) {
+        CountDownLatch primerLote = new CountDownLatch(1);
+        AtomicInteger llamadas = new AtomicInteger();
+        when(batchWriter.write(anyList())).thenAnswer(invocation -> {
+            if (llamadas.getAndIncrement() == 0) {
+                primerLote.countDown();
+                liberar.await(10, TimeUnit.SECONDS);
+            }
+            List<ImportRow> rows = invocation.getArgument(0);
+            return new AutoBatchWriter.BatchResult(rows.stream().map(row -> {
+                AutoDTO saved = new AutoDTO();
+                saved.setId(100L + row.linea());
+                saved.setEmail(row.auto().getEmail());
+                return new ImportRow(row.linea(), saved);
+            }).toList(), List.of());
+        });
+        return primerLote;
+    }
+
+    private void saveAll() {
+        when(batchWriter.write(anyList())).thenAnswer(invocation -> {
+            List<ImportRow> rows = invocation.getArgument(0);
+            lotes.add(rows);
+            return new AutoBatchWriter.BatchResult(rows.stream().map(row -> {
+                AutoDTO saved = new AutoDTO();
+                saved.setId(100L + row.linea());
+                saved.setEmail(row.auto().getEmail());
+                return new ImportRow(row.linea(), saved);
+            }).toList(), List.of());
+        });
+    }
+
+    private static AutoDTO auto(int i) {
+        AutoDTO auto = TestDataBuilder.createNewAutoDTO();
+        auto.setEmail("auto" + i + "@example.com");
+        return auto;
+    }
+}
@@ -0,0 +1,243 @@
+package com.empleados.api.ingest;
+
+import com.empleados.api.bulk.AutoBatchWriter;
+import com.empleados.api.bulk.ImportJob;
+import com.empleados.api.bulk.ImportRow;
+import com.empleados.api.dto.AutoDTO;
+import com.empleados.api.exception.ServiceOverloadedException;
+import com.empleados.api.util.TestDataBuilder;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.when;
+
+/**
+ * Pruebas unitarias para AutoIngestionQueue
+ */
+@ExtendWith(MockitoExtension.class)
+class AutoIngestionQueueTest {
+
+    @Mock
+    private AutoBatchWriter batchWriter;
+
+    private AutoIngestionQueue queue;
+    private final List<List<ImportRow>> lotes = new CopyOnWriteArrayList<>();
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        if (queue != null) {
+            queue.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("Debe guardar el auto encolado y devolver su id en el ticket")
+    void submit_ShouldCompleteTicketWithAutoId() throws Exception {
+        // Arrange
+        saveAll(null);
+        queue = start(16);
+
+        // Act
+        AutoIngestionQueue.TicketStatus pendiente = queue.submit(TestDataBuilder.createNewAutoDTO());
+        AutoIngestionQueue.TicketStatus guardado = await(pendiente.ticket());
+
+        // Assert
+        assertEquals(AutoIngestionQueue.Status.PENDIENTE, pendiente.status());
+        assertEquals(AutoIngestionQueue.Status.GUARDADO, guardado.status());
+        assertEquals(100L + pendiente.ticket(), guardado.autoId());
+        assertEquals(guardado, queue.status(pendiente.ticket()).orElseThrow());
+    }
+
+    @Test
+    @DisplayName("Debe marcar como rechazado el ticket de un email repetido")
+    void submit_WithRejectedRow_ShouldCompleteTicketWithReason() throws Exception {
+        // Arrange
+        when(batchWriter.write(anyList())).thenAnswer(invocation -> {
+            List<ImportRow> rows = invocation.getArgument(0);
+            return new AutoBatchWriter.BatchResult(List.of(), rows.stream()
+                    .map(row -> new ImportJob.Reject(row.linea(), "Ya existe un auto con el email: " + row.auto().getEmail()))
+                    .toList());
+        });
+        queue = start(16);
+
+        // Act
+        AutoIngestionQueue.TicketStatus ticket = queue.submit(TestDataBuilder.createAutoDTO());
+        AutoIngestionQueue.TicketStatus resultado = await(ticket.ticket());
+
+        // Assert
+        assertEquals(AutoIngestionQueue.Status.RECHAZADO, resultado.status());
+        assertEquals("Ya existe un auto con el email: juan.perez@example.com", resultado.motivo());
+        assertNull(resultado.autoId());
+    }
+
+    @Test
+    @DisplayName("Debe marcar como rechazado solo el ticket de la fila que falló")
+    void submit_WithRowError_ShouldFailOnlyThatTicket() throws Exception {
+        // Arrange
+        when(batchWriter.write(anyList())).thenAnswer(invocation -> {
+            List<ImportRow> rows = invocation.getArgument(0);
+            return new AutoBatchWriter.BatchResult(List.of(), List.of(), rows.stream()
+                    .map(row -> new AutoBatchWriter.RowError(row.linea(), new IllegalStateException("valor fuera de rango")))
+                    .toList());
+        });
+        queue = start(16);
+
+        // Act
+        AutoIngestionQueue.TicketStatus ticket = queue.submit(TestDataBuilder.createAutoDTO());
+        AutoIngestionQueue.TicketStatus resultado = await(ticket.ticket());
+
+        // Assert
+        assertEquals(AutoIngestionQueue.Status.RECHAZADO, resultado.status());
+        assertEquals("Error al guardar: valor fuera de rango", resultado.motivo());
+    }
+
+    @Test
+    @DisplayName("Debe agrupar en un solo lote los autos encolados mientras se escribe el anterior")
+    void submit_WhileWriting_ShouldGroupNextAutosInOneBatch() throws Exception {
+        // Arrange
+        CountDownLatch escribiendo = new CountDownLatch(1);
+        CountDownLatch continuar = new CountDownLatch(1);
+        saveAll(() -> {
+            if (lotes.size() == 1) {
+                escribiendo.countDown();
+                continuar.await(5, TimeUnit.SECONDS);
+            }
+        });
+        queue = start(16);
+
+        // Act
+        queue.submit(TestDataBuilder.createAutoDTO());
+        assertTrue(escribiendo.await(5, TimeUnit.SECONDS));
+        List<Long> tickets = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            tickets.add(queue.submit(auto(i)).ticket());
+        }
+        continuar.countDown();
+        for (long ticket : tickets) {
+            assertEquals(AutoIngestionQueue.Status.GUARDADO, await(ticket).status());
+        }
+
+        // Assert
+        assertEquals(2, lotes.size());
+        assertEquals(tickets, lotes.get(1).stream().map(ImportRow::linea).toList());
+    }
+
+    @Test
+    @DisplayName("Debe rechazar con servicio saturado cuando la cola está llena")
+    void submit_WhenFull_ShouldThrowServiceOverloaded() throws Exception {
+        // Arrange
+        CountDownLatch escribiendo = new CountDownLatch(1);
+        CountDownLatch continuar = new CountDownLatch(1);
+        saveAll(() -> {
+            escribiendo.countDown();
+            continuar.await(5, TimeUnit.SECONDS);
+        });
+        queue = start(2);
+        queue.submit(auto(0));
+        assertTrue(escribiendo.await(5, TimeUnit.SECONDS));
+        queue.submit(auto(1));
+        queue.submit(auto(2));
+
+        // Act & Assert
+        ServiceOverloadedException exception = assertThrows(ServiceOverloadedException.class, () -> queue.submit(auto(3)));
+        assertEquals("La cola de ingesta está llena", exception.getMessage());
+        assertEquals(2, queue.pending());
+        continuar.countDown();
+    }
+
+    @Test
+    @DisplayName("Debe rechazar todo el lote si la escritura falla")
+    void submit_WhenWriterFails_ShouldRejectTicket() throws Exception {
+        // Arrange
+        when(batchWriter.write(anyList())).thenThrow(new IllegalStateException("base de datos caída"));
+        queue = start(16);
+
+        // Act
+        AutoIngestionQueue.TicketStatus resultado = await(queue.submit(TestDataBuilder.createAutoDTO()).ticket());
+
+        // Assert
+        assertEquals(AutoIngestionQueue.Status.RECHAZADO, resultado.status());
+        assertEquals("Error al guardar: base de datos caída", resultado.motivo());
+    }
+
+    @Test
+    @DisplayName("Debe guardar los autos pendientes al detenerse y no aceptar nuevos")
+    void shutdown_ShouldDrainPendingAutos() throws Exception {
+        // Arrange
+        saveAll(null);
+        queue = start(16);
+        List<Long> tickets = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            tickets.add(queue.submit(auto(i)).ticket());
+        }
+
+        // Act
+        queue.shutdown();
+
+        // Assert
+        for (long ticket : tickets) {
+            assertEquals(AutoIngestionQueue.Status.GUARDADO, queue.status(ticket).orElseThrow().status());
+        }
+        assertThrows(ServiceOverloadedException.class, () -> queue.submit(auto(10)));
+    }
+
+    @Test
+    @DisplayName("Debe devolver vacío para un ticket desconocido")
+    void status_WithUnknownTicket_ShouldBeEmpty() {
+        // Arrange
+        queue = start(16);
+
+        // Act & Assert
+        assertTrue(queue.status(999).isEmpty());
+        assertTrue(queue.await(999, Duration.ofMillis(10)).isEmpty());
+    }
+
+    private AutoIngestionQueue start(int capacidad) {
+        AutoIngestionQueue started = new AutoIngestionQueue(batchWriter, new SimpleMeterRegistry(), capacidad, 100, 60_000);
+        started.start();
+        return started;
+    }
+
+    private AutoIngestionQueue.TicketStatus await(long ticket) throws Exception {
+        return queue.await(ticket, Duration.ofSeconds(5)).orElseThrow().get(10, TimeUnit.SECONDS);
+    }
+
+    private void saveAll(BatchHook hook) {
+        when(batchWriter.write(anyList())).thenAnswer(invocation -> {
+            List<ImportRow> rows = invocation.getArgument(0);
+            lotes.add(rows);
+            if (hook != null) {
+                hook.run();
+            }
+            return new AutoBatchWriter.BatchResult(rows.stream().map(row -> {
+                AutoDTO saved = row.auto();
+                saved.setId(100L + row.linea());
+                return new ImportRow(row.linea(), saved);
+            }).toList(), List.of());
+        });
+    }
+
+    private static AutoDTO auto(int i) {
+        AutoDTO auto = TestDataBuilder.createNewAutoDTO();
+        auto.setEmail("auto" + i + "@example.com");
+        return auto;
+    }
+
+    private interface BatchHook {
+        void run() throws InterruptedException;
+    }
+}
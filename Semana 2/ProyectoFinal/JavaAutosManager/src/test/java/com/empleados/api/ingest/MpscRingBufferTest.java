@@ -0,0 +1,107 @@
+package com.empleados.api.ingest;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Pruebas unitarias para MpscRingBuffer
+ */
+class MpscRingBufferTest {
+
+    @Test
+    @DisplayName("Debe rechazar capacidades que no son potencia de dos")
+    void constructor_WithInvalidCapacity_ShouldThrow() {
+        assertThrows(IllegalArgumentException.class, () -> new MpscRingBuffer<>(6));
+        assertThrows(IllegalArgumentException.class, () -> new MpscRingBuffer<>(0));
+    }
+
+    @Test
+    @DisplayName("Debe entregar los elementos en orden y rechazar cuando está lleno")
+    void offer_WhenFull_ShouldReturnFalse() {
+        // Arrange
+        MpscRingBuffer<Integer> buffer = new MpscRingBuffer<>(4);
+
+        // Act
+        for (int i = 1; i <= 4; i++) {
+            assertTrue(buffer.offer(i));
+        }
+        boolean aceptado = buffer.offer(5);
+        List<Integer> drenados = new ArrayList<>();
+        int movidos = buffer.drainTo(drenados, 3);
+
+        // Assert
+        assertFalse(aceptado);
+        assertEquals(3, movidos);
+        assertEquals(List.of(1, 2, 3), drenados);
+        assertEquals(1, buffer.size());
+        assertTrue(buffer.offer(5));
+        buffer.drainTo(drenados, 10);
+        assertEquals(List.of(1, 2, 3, 4, 5), drenados);
+        assertTrue(buffer.isEmpty());
+    }
+
+    @Test
+    @DisplayName("Debe entregar cada elemento una sola vez con varios productores concurrentes")
+    void offer_WithConcurrentProducers_ShouldDeliverEveryElementOnce() throws InterruptedException {
+        // Arrange
+        MpscRingBuffer<Integer> buffer = new MpscRingBuffer<>(256);
+        int productores = 4;
+        int porProductor = 10_000;
+        ExecutorService executor = Executors.newFixedThreadPool(productores);
+        CountDownLatch inicio = new CountDownLatch(1);
+        for (int p = 0; p < productores; p++) {
+            int base = p * porProductor;
+            executor.execute(() -> {
+                try {
+                    inicio.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+                for (int i = 0; i < porProductor; i++) {
+                    while (!buffer.offer(base + i)) {
+                        Thread.yield();
+                    }
+                }
+            });
+        }
+
+        // Act
+        inicio.countDown();
+        Set<Integer> recibidos = new HashSet<>();
+        List<Integer> lote = new ArrayList<>();
+        int[] ultimoPorProductor = new int[productores];
+        Arrays.fill(ultimoPorProductor, -1);
+        long limite = System.nanoTime() + TimeUnit.SECONDS.toNanos(20);
+        while (recibidos.size() < productores * porProductor && System.nanoTime() < limite) {
+            lote.clear();
+            if (buffer.drainTo(lote, 64) == 0) {
+                Thread.yield();
+            }
+            for (int valor : lote) {
+                assertTrue(recibidos.add(valor), "Elemento repetido: " + valor);
+                int productor = valor / porProductor;
+                assertTrue(valor > ultimoPorProductor[productor], "Orden alterado para el productor " + productor);
+                ultimoPorProductor[productor] = valor;
+            }
+        }
+        executor.shutdown();
+
+        // Assert
+        assertTrue(executor.awaitTermination(5, TimeUnit.SECONDS));
+        assertEquals(productores * porProductor, recibidos.size());
+        assertTrue(buffer.isEmpty());
+    }
+}
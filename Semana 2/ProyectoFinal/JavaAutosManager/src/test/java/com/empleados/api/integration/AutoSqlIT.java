@@ -5,9 +5,11 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.context.jdbc.Sql;
 
+import com.empleados.api.config.IdConfig;
 import com.empleados.api.model.Auto;
 import com.empleados.api.repository.AutoRepository;
 
@@ -20,6 +22,7 @@ import static org.junit.jupiter.api.Assertions.*;
  * Pruebas de integración con scripts SQL
  */
 @DataJpaTest
+@Import(IdConfig.class)
 @AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
 @ActiveProfiles("test")
 public class AutoSqlIT {
@@ -0,0 +1,180 @@
+package com.empleados.api.integration;
+
+import com.empleados.api.dto.AutoDTO;
+import com.empleados.api.model.Auto;
+import com.empleados.api.replica.ConsistencyTokenFilter;
+import com.empleados.api.replica.ReadConsistency;
+import com.empleados.api.replica.Replica;
+import com.empleados.api.replica.ReplicaSet;
+import com.empleados.api.repository.AutoRepository;
+import com.empleados.api.util.TestDataBuilder;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.net.ServerSocket;
+import java.time.LocalDate;
+import java.util.Optional;
+import java.util.function.BooleanSupplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Pruebas de integración de las lecturas desde una réplica H2 servida por TCP y copiada del primario
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+public class ReplicatedReadsIT {
+
+    private static final int PORT = freePort();
+    private static final long TIMEOUT_MS = 10_000;
+
+    @DynamicPropertySource
+    static void replicas(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", () -> "jdbc:h2:mem:replicated-primary;DB_CLOSE_DELAY=-1");
+        registry.add("autos.replicas.local.port", () -> PORT);
+        registry.add("autos.replicas.urls", () -> "jdbc:h2:tcp://localhost:" + PORT + "/mem:replica1;DB_CLOSE_DELAY=-1");
+        registry.add("autos.replicas.check-interval-ms", () -> 100);
+        registry.add("autos.replicas.local.copy-interval-ms", () -> 100);
+    }
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private AutoRepository autoRepository;
+
+    @Autowired
+    private ReplicaSet replicaSet;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @AfterEach
+    void tearDown() {
+        autoRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("Debe copiar las filas y el latido del primario a la réplica")
+    void replica_ShouldReceiveRowsAndHeartbeat() {
+        // Arrange
+        Auto saved = autoRepository.save(newAuto());
+        long token = replicaSet.currentToken();
+
+        // Act
+        awaitReplicaAt(token);
+
+        // Assert
+        assertTrue(replica().isHealthy());
+        assertEquals(1, new JdbcTemplate(replica().getDataSource()).queryForObject(
+                "SELECT COUNT(*) FROM automoviles WHERE id = ?", Integer.class, saved.getId()));
+    }
+
+    @Test
+    @DisplayName("Debe servir desde la réplica una lectura de solo lectura que exige la escritura previa")
+    void readOnlyRead_ShouldBeServedByReplica() {
+        // Arrange
+        Auto saved = autoRepository.save(newAuto());
+        long token = replicaSet.currentToken();
+        awaitReplicaAt(token);
+        long replicaReads = replica().getReads();
+        TransactionTemplate readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+
+        // Act
+        Optional<Auto> found;
+        try (ReadConsistency.Scope scope = ReadConsistency.require(token)) {
+            found = readOnly.execute(status -> autoRepository.findByEmail(saved.getEmail()));
+        }
+
+        // Assert
+        assertTrue(found.isPresent());
+        assertEquals(saved.getId(), found.get().getId());
+        assertEquals(replicaReads + 1, replica().getReads());
+    }
+
+    @Test
+    @DisplayName("Debe leer por la API desde la réplica con el token de consistencia de la escritura")
+    void restApi_WithConsistencyToken_ShouldReadFromReplica() throws Exception {
+        // Arrange
+        AutoDTO nuevo = TestDataBuilder.createNewAutoDTO();
+        MockHttpServletResponse created = mockMvc.perform(post("/api/automoviles")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(nuevo)))
+                .andExpect(status().isCreated())
+                .andReturn().getResponse();
+        long id = objectMapper.readValue(created.getContentAsString(), AutoDTO.class).getId();
+        String token = created.getHeader(ConsistencyTokenFilter.HEADER);
+        assertNotNull(token);
+        awaitReplicaAt(Long.parseLong(token));
+        long replicaReads = replica().getReads();
+
+        // Act & Assert
+        mockMvc.perform(get("/api/automoviles/{id}", id).header(ConsistencyTokenFilter.HEADER, token))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.email").value(nuevo.getEmail()));
+        assertTrue(replica().getReads() > replicaReads);
+    }
+
+    private static Auto newAuto() {
+        return new Auto(null, "Lucia", "Fernandez", "Toyota", "Corolla", "Gris", LocalDate.of(2022, 3, 1),
+                "lucia.fernandez@example.com", LocalDate.of(2021, 6, 15), new BigDecimal("21000.00"), "Ventas", 3);
+    }
+
+    private Replica replica() {
+        return replicaSet.getReplicas().get(0);
+    }
+
+    private void awaitReplicaAt(long position) {
+        await(() -> replica().isHealthy() && replica().getPosition() >= position,
+                "La réplica no alcanzó la posición " + position);
+    }
+
+    private static void await(BooleanSupplier condition, String message) {
+        long deadline = System.currentTimeMillis() + TIMEOUT_MS;
+        while (!condition.getAsBoolean()) {
+            if (System.currentTimeMillis() > deadline) {
+                fail(message);
+            }
+            try {
+                Thread.sleep(20);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                fail(message);
+            }
+        }
+    }
+
+    private static int freePort() {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,417 @@
+package com.empleados.api.integration;
+
+import com.empleados.api.bulk.AutoBatchWriter;
+import com.empleados.api.bulk.ImportRow;
+import com.empleados.api.dto.AutoDTO;
+import com.empleados.api.model.Auto;
+import com.empleados.api.repository.AutoKeyset;
+import com.empleados.api.repository.AutoRepository;
+import com.empleados.api.repository.AutoSortField;
+import com.empleados.api.repository.OutboxEventRepository;
+import com.empleados.api.repository.ValueCount;
+import com.empleados.api.shard.ShardContext;
+import com.empleados.api.shard.ShardSet;
+import com.empleados.api.shard.ShardedAutoRepository;
+import com.empleados.api.util.TestDataBuilder;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Example;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Pruebas de integración de la persistencia particionada en tres bases H2 en memoria
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@TestPropertySource(properties = {
+        "spring.datasource.url=jdbc:h2:mem:shard0;DB_CLOSE_DELAY=-1",
+        "autos.shards.urls=jdbc:h2:mem:shard1;DB_CLOSE_DELAY=-1,jdbc:h2:mem:shard2;DB_CLOSE_DELAY=-1"
+})
+public class ShardedPersistenceIT {
+
+    private static final int AUTOMOVILES = 30;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private AutoRepository autoRepository;
+
+    @Autowired
+    private ShardSet shardSet;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private AutoBatchWriter batchWriter;
+
+    @Autowired
+    private OutboxEventRepository outboxEventRepository;
+
+    @BeforeEach
+    void setUp() {
+        autoRepository.deleteAll();
+    }
+
+    @AfterEach
+    void tearDown() {
+        autoRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("Debe usar el repositorio particionado")
+    void autoRepository_ShouldBeSharded() {
+        assertInstanceOf(ShardedAutoRepository.class, autoRepository);
+        assertEquals(3, shardSet.size());
+    }
+
+    @Test
+    @DisplayName("Debe guardar cada auto en la partición de su departamento con un id que la identifica")
+    void save_ShouldPlaceByDepartamento() {
+        // Act
+        List<Auto> saved = saveAutomoviles();
+
+        // Assert
+        for (Auto auto : saved) {
+            int shard = shardSet.getRing().shardFor(auto.getDepartamento());
+            assertEquals(shard, auto.getId() % 3, "Id fuera de su partición: " + auto.getId());
+            assertEquals(1, rowsOn(shard, auto.getId()));
+        }
+        int[] perShard = new int[3];
+        for (int shard = 0; shard < 3; shard++) {
+            perShard[shard] = countOn(shard);
+        }
+        assertEquals(AUTOMOVILES, perShard[0] + perShard[1] + perShard[2]);
+        for (int count : perShard) {
+            assertTrue(count > 0, "Partición vacía");
+        }
+    }
+
+    @Test
+    @DisplayName("Debe leer un auto o un departamento de una sola partición")
+    void findByIdAndDepartamento_ShouldReadOneShard() {
+        // Arrange
+        List<Auto> saved = saveAutomoviles();
+        ShardedAutoRepository sharded = (ShardedAutoRepository) autoRepository;
+        Auto auto = saved.get(7);
+        long fanOutBefore = sharded.getFanOutQueries();
+
+        // Act
+        Auto found = autoRepository.findById(auto.getId()).orElseThrow();
+        List<Auto> departamento = autoRepository.findByDepartamento(auto.getDepartamento());
+
+        // Assert
+        assertEquals(auto.getEmail(), found.getEmail());
+        assertEquals(saved.stream().filter(a -> a.getDepartamento().equals(auto.getDepartamento())).count(),
+                departamento.size());
+        assertEquals(fanOutBefore, sharded.getFanOutQueries());
+    }
+
+    @Test
+    @DisplayName("Debe combinar las consultas sobre todas las particiones")
+    void fanOutQueries_ShouldMergeAllShards() {
+        // Arrange
+        List<Auto> saved = saveAutomoviles();
+        BigDecimal totalCosto = saved.stream().map(Auto::getCosto).reduce(BigDecimal.ZERO, BigDecimal::add);
+
+        // Act
+        List<Auto> all = autoRepository.findAll();
+        Page<Auto> page = autoRepository.findAll(PageRequest.of(1, 4, Sort.by(Sort.Direction.DESC, "costo")));
+        List<ValueCount> porDepartamento = autoRepository.countByDepartamento();
+
+        // Assert
+        assertEquals(AUTOMOVILES, all.size());
+        assertEquals(AUTOMOVILES, autoRepository.count());
+        assertEquals(0, totalCosto.compareTo(autoRepository.sumCosto()));
+        List<Long> expectedPage = saved.stream()
+                .sorted(Comparator.comparing(Auto::getCosto).reversed())
+                .skip(4).limit(4).map(Auto::getId).toList();
+        assertEquals(expectedPage, page.getContent().stream().map(Auto::getId).toList());
+        assertEquals(AUTOMOVILES, page.getTotalElements());
+        assertEquals(10, porDepartamento.size());
+        assertEquals(AUTOMOVILES, porDepartamento.stream().mapToLong(ValueCount::getTotal).sum());
+        assertTrue(autoRepository.findByEmail(saved.get(11).getEmail()).isPresent());
+    }
+
+    @Test
+    @DisplayName("Debe paginar por cursor sobre todas las particiones en el orden global")
+    void findPage_ShouldMergeShardsInGlobalOrder() {
+        // Arrange
+        List<Auto> saved = saveAutomoviles();
+        List<Long> expected = saved.stream()
+                .sorted(Comparator.comparing(Auto::getDepartamento).thenComparing(Auto::getId).reversed())
+                .map(Auto::getId).toList();
+
+        // Act
+        List<Long> ids = new ArrayList<>();
+        AutoKeyset after = null;
+        List<Auto> page;
+        do {
+            page = autoRepository.findPage(AutoSortField.DEPARTAMENTO, true, after, 7);
+            page.forEach(auto -> ids.add(auto.getId()));
+            after = page.isEmpty() ? null : AutoKeyset.of(AutoSortField.DEPARTAMENTO, page.get(page.size() - 1));
+        } while (page.size() == 7);
+
+        // Assert
+        assertEquals(expected, ids);
+    }
+
+    @Test
+    @DisplayName("Debe trasladar el auto de partición sin cambiar su id al cambiar de departamento")
+    void save_NewDepartamento_ShouldMoveKeepingId() {
+        // Arrange
+        List<Auto> saved = saveAutomoviles();
+        Auto auto = saved.get(0);
+        int from = shardSet.getRing().shardFor(auto.getDepartamento());
+        String destino = saved.stream()
+                .map(Auto::getDepartamento)
+                .filter(d -> shardSet.getRing().shardFor(d) != from)
+                .findFirst().orElseThrow();
+        int to = shardSet.getRing().shardFor(destino);
+
+        // Act
+        auto.setDepartamento(destino);
+        autoRepository.save(auto);
+
+        // Assert
+        assertEquals(0, rowsOn(from, auto.getId()));
+        assertEquals(1, rowsOn(to, auto.getId()));
+        assertEquals(destino, autoRepository.findById(auto.getId()).orElseThrow().getDepartamento());
+        assertEquals(AUTOMOVILES, autoRepository.count());
+
+        // Act
+        autoRepository.deleteById(auto.getId());
+
+        // Assert
+        assertFalse(autoRepository.existsById(auto.getId()));
+    }
+
+    @Test
+    @DisplayName("Debe borrar el auto de su partición anterior solo al confirmar la transacción del traslado")
+    void save_NewDepartamentoInTransaction_ShouldMoveOnCommit() {
+        // Arrange
+        List<Auto> saved = saveAutomoviles();
+        Auto auto = onShard(saved, 1);
+        String destino = departamentoOn(saved, 2);
+
+        // Act
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            auto.setDepartamento(destino);
+            autoRepository.save(auto);
+        });
+
+        // Assert
+        assertEquals(0, rowsOn(1, auto.getId()));
+        assertEquals(1, rowsOn(2, auto.getId()));
+        assertEquals(AUTOMOVILES, autoRepository.count());
+    }
+
+    @Test
+    @DisplayName("Debe conservar el auto si se deshace la transacción que lo traslada a la partición cero")
+    void save_NewDepartamentoOnHomeShard_RolledBack_ShouldKeepAuto() {
+        // Arrange
+        List<Auto> saved = saveAutomoviles();
+        Auto auto = onShard(saved, 1);
+        String destino = departamentoOn(saved, 0);
+
+        // Act
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            auto.setDepartamento(destino);
+            autoRepository.save(auto);
+            status.setRollbackOnly();
+        });
+
+        // Assert
+        assertEquals(1, rowsOn(1, auto.getId()));
+        assertEquals(0, rowsOn(0, auto.getId()));
+        assertEquals(AUTOMOVILES, autoRepository.count());
+    }
+
+    @Test
+    @DisplayName("Debe borrar la copia si se deshace la transacción que traslada el auto a otra partición")
+    void save_NewDepartamentoOnOtherShard_RolledBack_ShouldDeleteCopy() {
+        // Arrange
+        List<Auto> saved = saveAutomoviles();
+        Auto auto = onShard(saved, 0);
+        String destino = departamentoOn(saved, 2);
+
+        // Act
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            auto.setDepartamento(destino);
+            autoRepository.save(auto);
+            status.setRollbackOnly();
+        });
+
+        // Assert
+        assertEquals(1, rowsOn(0, auto.getId()));
+        assertEquals(0, rowsOn(2, auto.getId()));
+        assertEquals(AUTOMOVILES, autoRepository.count());
+    }
+
+    @Test
+    @DisplayName("Debe resolver las consultas fluidas por ejemplo sobre todas las particiones")
+    void findBy_ShouldMergeAllShards() {
+        // Arrange
+        List<Auto> saved = saveAutomoviles();
+        Auto probe = new Auto();
+        probe.setMarca("Marca1");
+        Example<Auto> example = Example.of(probe);
+        List<Long> expected = saved.stream()
+                .filter(auto -> auto.getMarca().equals("Marca1"))
+                .sorted(Comparator.comparing(Auto::getCosto).reversed())
+                .map(Auto::getId).toList();
+        Sort porCosto = Sort.by(Sort.Direction.DESC, "costo");
+
+        // Act
+        List<Auto> all = autoRepository.findBy(example, query -> query.sortBy(porCosto).all());
+        Page<Auto> page = autoRepository.findBy(example, query -> query.sortBy(porCosto).page(PageRequest.of(1, 3)));
+        Auto first = autoRepository.findBy(example, query -> query.sortBy(porCosto).firstValue());
+        long count = autoRepository.findBy(example, query -> query.count());
+
+        // Assert
+        assertEquals(expected, all.stream().map(Auto::getId).toList());
+        assertEquals(expected.subList(3, 6), page.getContent().stream().map(Auto::getId).toList());
+        assertEquals(expected.size(), page.getTotalElements());
+        assertEquals(expected.get(0), first.getId());
+        assertEquals(expected.size(), count);
+    }
+
+    @Test
+    @DisplayName("Debe exportar todas las particiones ordenadas por id")
+    void streamForExport_ShouldMergeById() {
+        // Arrange
+        List<Auto> saved = saveAutomoviles();
+        TransactionTemplate readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+
+        // Act
+        List<Long> ids = readOnly.execute(status -> {
+            try (Stream<Auto> automoviles = autoRepository.streamForExport(null, null, null)) {
+                return automoviles.map(Auto::getId).toList();
+            }
+        });
+
+        // Assert
+        assertEquals(saved.stream().map(Auto::getId).sorted().toList(), ids);
+    }
+
+    @Test
+    @DisplayName("Debe contar como creada y con su evento la fila de otra partición de un lote revertido")
+    void batchWrite_WhenChunkFails_ShouldKeepRowsCommittedOnOtherShards() {
+        // Arrange
+        List<Auto> saved = saveAutomoviles();
+        AutoDTO otraParticion = TestDataBuilder.createNewAutoDTO();
+        otraParticion.setDepartamento(departamentoOn(saved, 1));
+        AutoDTO invalida = TestDataBuilder.createNewAutoDTO();
+        invalida.setEmail("invalida@example.com");
+        invalida.setDepartamento(departamentoOn(saved, 0));
+        invalida.setNombre(" ");
+        autoRepository.deleteAll();
+
+        // Act
+        AutoBatchWriter.BatchResult result = batchWriter.write(
+                List.of(new ImportRow(2, otraParticion), new ImportRow(3, invalida)));
+
+        // Assert
+        assertEquals(1, result.insertadas());
+        assertEquals(2L, result.creadas().get(0).linea());
+        assertTrue(result.rechazos().stream().noneMatch(rechazo -> rechazo.linea() == 2));
+        long id = result.creadas().get(0).auto().getId();
+        assertEquals(1, rowsOn(1, id));
+        assertEquals(1, autoRepository.count());
+        assertEquals(1, outboxEventRepository.findAll().stream()
+                .filter(event -> event.getAutoId() == id && event.getTipo().equals("CREATED")).count());
+    }
+
+    @Test
+    @DisplayName("Debe crear y consultar un auto por la API")
+    void restApi_ShouldWorkOnShards() throws Exception {
+        // Arrange
+        AutoDTO nuevo = TestDataBuilder.createNewAutoDTO();
+
+        // Act
+        String body = mockMvc.perform(post("/api/automoviles")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(nuevo)))
+                .andExpect(status().isCreated())
+                .andReturn().getResponse().getContentAsString();
+        long id = objectMapper.readValue(body, AutoDTO.class).getId();
+
+        // Assert
+        mockMvc.perform(get("/api/automoviles/{id}", id))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.email").value(nuevo.getEmail()));
+        assertEquals(1, rowsOn(shardSet.getRing().shardFor(nuevo.getDepartamento()), id));
+    }
+
+    private List<Auto> saveAutomoviles() {
+        List<Auto> saved = new ArrayList<>();
+        for (int i = 0; i < AUTOMOVILES; i++) {
+            Auto auto = new Auto(null, "Nombre" + i, "Apellido" + i, "Marca" + (i % 4), "Modelo", "Rojo",
+                    LocalDate.of(2020, 1, 1).plusDays(i), "auto" + i + "@example.com", LocalDate.of(2021, 1, 1),
+                    new BigDecimal(10_000 + i * 137), "Departamento " + (i % 10), i % 5);
+            saved.add(autoRepository.save(auto));
+        }
+        return saved;
+    }
+
+    private Auto onShard(List<Auto> saved, int shard) {
+        return saved.stream()
+                .filter(auto -> shardSet.getRing().shardFor(auto.getDepartamento()) == shard)
+                .findFirst().orElseThrow();
+    }
+
+    private String departamentoOn(List<Auto> saved, int shard) {
+        return onShard(saved, shard).getDepartamento();
+    }
+
+    private int rowsOn(int shard, long id) {
+        try (ShardContext.Scope scope = ShardContext.on(shard)) {
+            return new JdbcTemplate(dataSource).queryForObject(
+                    "SELECT COUNT(*) FROM automoviles WHERE id = ?", Integer.class, id);
+        }
+    }
+
+    private int countOn(int shard) {
+        try (ShardContext.Scope scope = ShardContext.on(shard)) {
+            return new JdbcTemplate(dataSource).queryForObject("SELECT COUNT(*) FROM automoviles", Integer.class);
+        }
+    }
+}
@@ -0,0 +1,83 @@
+package com.empleados.api.limiter;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Pruebas unitarias para AdaptiveConcurrencyLimit
+ */
+class AdaptiveConcurrencyLimitTest {
+
+    private static final long MS = TimeUnit.MILLISECONDS.toNanos(1);
+
+    @Test
+    @DisplayName("Debe admitir peticiones hasta el límite y liberar sus plazas")
+    void tryAcquire_AboveLimit_ShouldReject() {
+        // Arrange
+        AdaptiveConcurrencyLimit limit = new AdaptiveConcurrencyLimit(2, 1, 10, 1.5, 5);
+
+        // Act & Assert
+        assertEquals(1, limit.tryAcquire());
+        assertEquals(2, limit.tryAcquire());
+        assertEquals(-1, limit.tryAcquire());
+        limit.release();
+        assertEquals(2, limit.tryAcquire());
+    }
+
+    @Test
+    @DisplayName("Debe reducir el límite cuando la latencia crece respecto a la habitual")
+    void release_WhenLatencyRises_ShouldLowerLimit() {
+        // Arrange
+        AdaptiveConcurrencyLimit limit = new AdaptiveConcurrencyLimit(40, 4, 200, 1.5, 10);
+        saturate(limit, 40, 5 * MS, 10);
+        int antes = limit.getLimit();
+
+        // Act
+        saturate(limit, antes, 50 * MS, 20);
+
+        // Assert
+        assertTrue(limit.getLimit() < antes, "límite " + limit.getLimit() + " no bajó de " + antes);
+        assertTrue(limit.getLimit() >= 4);
+    }
+
+    @Test
+    @DisplayName("Debe ampliar el límite mientras la latencia se mantiene y hay carga")
+    void release_WithStableLatencyUnderLoad_ShouldRaiseLimit() {
+        // Arrange
+        AdaptiveConcurrencyLimit limit = new AdaptiveConcurrencyLimit(10, 4, 200, 1.5, 10);
+
+        // Act
+        saturate(limit, 10, 5 * MS, 50);
+
+        // Assert
+        assertTrue(limit.getLimit() > 10, "límite " + limit.getLimit());
+        assertTrue(limit.getLimit() <= 200);
+    }
+
+    @Test
+    @DisplayName("No debe ampliar el límite si la carga no llega a usarlo")
+    void release_WithLowLoad_ShouldKeepLimit() {
+        // Arrange
+        AdaptiveConcurrencyLimit limit = new AdaptiveConcurrencyLimit(20, 4, 200, 1.5, 10);
+
+        // Act
+        for (int i = 0; i < 500; i++) {
+            int enCurso = limit.tryAcquire();
+            limit.release(5 * MS, enCurso);
+        }
+
+        // Assert
+        assertEquals(20, limit.getLimit());
+    }
+
+    private static void saturate(AdaptiveConcurrencyLimit limit, int enCurso, long rtt, int ventanas) {
+        for (int i = 0; i < ventanas * 10; i++) {
+            limit.tryAcquire();
+            limit.release(rtt, enCurso);
+        }
+    }
+}
@@ -0,0 +1,83 @@
+package com.empleados.api.limiter;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Pruebas unitarias para ConcurrencyLimitFilter
+ */
+class ConcurrencyLimitFilterTest {
+
+    private ConcurrencyLimitFilter filter;
+    private SimpleMeterRegistry registry;
+
+    @BeforeEach
+    void setUp() {
+        ObjectMapper objectMapper = new ObjectMapper();
+        objectMapper.registerModule(new JavaTimeModule());
+        filter = new ConcurrencyLimitFilter(objectMapper, 1, 1, 10, 1.5, 20, 2);
+        registry = new SimpleMeterRegistry();
+        filter.bindTo(registry);
+    }
+
+    @Test
+    @DisplayName("Debe dejar pasar la petición y liberar su plaza al terminar")
+    void doFilter_BelowLimit_ShouldPassAndRelease() throws Exception {
+        // Arrange
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        MockFilterChain chain = new MockFilterChain();
+
+        // Act
+        filter.doFilter(new MockHttpServletRequest("GET", "/api/automoviles"), response, chain);
+
+        // Assert
+        assertNotNull(chain.getRequest());
+        assertEquals(200, response.getStatus());
+        assertEquals(0, filter.getLimit().getInFlight());
+    }
+
+    @Test
+    @DisplayName("Debe responder 503 con Retry-After cuando no quedan plazas")
+    void doFilter_AtLimit_ShouldReturn503() throws Exception {
+        // Arrange
+        filter.getLimit().tryAcquire();
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        MockFilterChain chain = new MockFilterChain();
+
+        // Act
+        filter.doFilter(new MockHttpServletRequest("GET", "/api/automoviles"), response, chain);
+
+        // Assert
+        assertNull(chain.getRequest());
+        assertEquals(503, response.getStatus());
+        assertEquals("2", response.getHeader("Retry-After"));
+        assertTrue(response.getContentAsString().contains("Límite de peticiones concurrentes alcanzado"));
+        assertEquals(1.0, registry.get("autos.concurrency.rejected").functionCounter().count());
+        assertEquals(1.0, registry.get("autos.concurrency.inflight").gauge().value());
+    }
+
+    @Test
+    @DisplayName("No debe limitar las rutas fuera de la API")
+    void doFilter_OutsideApi_ShouldNotLimit() throws Exception {
+        // Arrange
+        filter.getLimit().tryAcquire();
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        MockFilterChain chain = new MockFilterChain();
+
+        // Act
+        filter.doFilter(new MockHttpServletRequest("GET", "/actuator/health"), response, chain);
+
+        // Assert
+        assertNotNull(chain.getRequest());
+        assertEquals(200, response.getStatus());
+    }
+}
@@ -0,0 +1,139 @@
+package com.empleados.api.outbox;
+
+import com.empleados.api.model.OutboxEvent;
+import com.empleados.api.repository.OutboxEventRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+/**
+ * Pruebas unitarias para OutboxDispatcher
+ */
+@ExtendWith(MockitoExtension.class)
+class OutboxDispatcherTest {
+
+    @Mock
+    private OutboxEventRepository outboxEventRepository;
+
+    private RecordingSink sink;
+    private MeterRegistry meterRegistry;
+    private OutboxDispatcher dispatcher;
+
+    @BeforeEach
+    void setUp() {
+        sink = new RecordingSink();
+        meterRegistry = new SimpleMeterRegistry();
+        dispatcher = new OutboxDispatcher(outboxEventRepository, List.of(sink), meterRegistry, 2, 60_000);
+    }
+
+    @Test
+    @DisplayName("Debe entregar los eventos pendientes por lotes y marcarlos como entregados")
+    void dispatch_ShouldDrainPendingEventsInBatches() {
+        // Arrange
+        when(outboxEventRepository.findPending(any(Pageable.class)))
+                .thenReturn(events(1, 2), events(3));
+
+        // Act
+        int entregados = dispatcher.dispatch();
+
+        // Assert
+        assertEquals(3, entregados);
+        assertEquals(List.of(List.of(1L, 2L), List.of(3L)), sink.batchIds());
+        verify(outboxEventRepository).markDispatched(eq(List.of(1L, 2L)), any(Instant.class));
+        verify(outboxEventRepository).markDispatched(eq(List.of(3L)), any(Instant.class));
+        assertEquals(3.0, meterRegistry.counter("autos.outbox.dispatched").count());
+        assertEquals(0.0, dispatcher.lagSeconds());
+    }
+
+    @Test
+    @DisplayName("Debe dejar el lote pendiente cuando el destino falla")
+    void dispatch_WhenSinkFails_ShouldKeepBatchPending() {
+        // Arrange
+        sink.failing = true;
+        when(outboxEventRepository.findPending(any(Pageable.class))).thenReturn(events(1, 2));
+
+        // Act
+        int entregados = dispatcher.dispatch();
+
+        // Assert
+        assertEquals(0, entregados);
+        verify(outboxEventRepository).incrementAttempts(List.of(1L, 2L));
+        verify(outboxEventRepository, never()).markDispatched(anyList(), any());
+        assertEquals(1.0, meterRegistry.counter("autos.outbox.failures").count());
+        assertTrue(dispatcher.lagSeconds() > 0);
+    }
+
+    @Test
+    @DisplayName("Debe reenviar el lote en la siguiente consulta tras un fallo")
+    void dispatch_AfterFailure_ShouldRedeliverBatch() {
+        // Arrange
+        sink.failing = true;
+        when(outboxEventRepository.findPending(any(Pageable.class)))
+                .thenReturn(events(1), events(1), List.of());
+        dispatcher.dispatch();
+        sink.failing = false;
+
+        // Act
+        int entregados = dispatcher.dispatch();
+
+        // Assert
+        assertEquals(1, entregados);
+        assertEquals(List.of(List.of(1L)), sink.batchIds());
+        verify(outboxEventRepository).markDispatched(eq(List.of(1L)), any(Instant.class));
+    }
+
+    @Test
+    @DisplayName("Debe rechazar un tamaño de lote no positivo")
+    void constructor_WithInvalidBatchSize_ShouldThrowException() {
+        assertThrows(IllegalArgumentException.class,
+                () -> new OutboxDispatcher(outboxEventRepository, List.of(sink), meterRegistry, 0, 60_000));
+    }
+
+    private static List<OutboxEvent> events(long... ids) {
+        Instant createdAt = Instant.now().minusSeconds(5);
+        return LongStream.of(ids)
+                .mapToObj(id -> new OutboxEvent(id, id, "CREATED", "{}", createdAt, null, 0))
+                .toList();
+    }
+
+    private static final class RecordingSink implements OutboxSink {
+
+        private final List<List<OutboxMessage>> batches = new ArrayList<>();
+        private boolean failing;
+
+        @Override
+        public void publish(List<OutboxMessage> messages) {
+            if (failing) {
+                throw new IllegalStateException("destino no disponible");
+            }
+            batches.add(messages);
+        }
+
+        @Override
+        public String name() {
+            return "recording";
+        }
+
+        List<List<Long>> batchIds() {
+            return batches.stream()
+                    .map(batch -> batch.stream().map(OutboxMessage::id).toList())
+                    .toList();
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package com.empleados.api.outbox;
+
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Pruebas unitarias para los destinos del outbox
+ */
+class OutboxSinksTest {
+
+    private static final Instant FECHA = Instant.parse("2024-01-15T10:00:00Z");
+
+    @Test
+    @DisplayName("Debe añadir una línea JSON por evento al archivo")
+    void fileSink_ShouldAppendJsonLines(@TempDir Path dir) throws Exception {
+        // Arrange
+        Path archivo = dir.resolve("eventos/autos.jsonl");
+        FileOutboxSink sink = new FileOutboxSink(archivo, JsonMapper.builder().findAndAddModules().build());
+
+        // Act
+        sink.publish(List.of(message(1)));
+        sink.publish(List.of(message(2)));
+
+        // Assert
+        List<String> lineas = Files.readAllLines(archivo);
+        assertEquals(2, lineas.size());
+        assertTrue(lineas.get(0).startsWith("{\"id\":1,\"tipo\":\"CREATED\",\"autoId\":1,\"payload\":{\"id\":1}"));
+        assertTrue(lineas.get(1).startsWith("{\"id\":2,"));
+    }
+
+    @Test
+    @DisplayName("Debe encolar lotes completos y rechazar los que no caben")
+    void queueSink_ShouldRejectBatchesThatDoNotFit() {
+        // Arrange
+        QueueOutboxSink sink = new QueueOutboxSink(2);
+        sink.publish(List.of(message(1)));
+
+        // Act & Assert
+        assertThrows(IllegalStateException.class, () -> sink.publish(List.of(message(2), message(3))));
+        assertEquals(1, sink.size());
+
+        List<OutboxMessage> recibidos = new ArrayList<>();
+        assertEquals(1, sink.drainTo(recibidos, 10));
+        assertEquals(1L, recibidos.get(0).id());
+    }
+
+    private static OutboxMessage message(long id) {
+        return new OutboxMessage(id, "CREATED", id, "{\"id\":" + id + "}", FECHA);
+    }
+}
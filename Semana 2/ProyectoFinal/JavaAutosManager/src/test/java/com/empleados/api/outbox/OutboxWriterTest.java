@@ -0,0 +1,75 @@
+package com.empleados.api.outbox;
+
+import com.empleados.api.dto.AutoDTO;
+import com.empleados.api.event.AutoChangedEvent;
+import com.empleados.api.model.OutboxEvent;
+import com.empleados.api.repository.OutboxEventRepository;
+import com.empleados.api.util.TestDataBuilder;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.verify;
+
+/**
+ * Pruebas unitarias para OutboxWriter
+ */
+@ExtendWith(MockitoExtension.class)
+class OutboxWriterTest {
+
+    @Mock
+    private OutboxEventRepository outboxEventRepository;
+
+    private OutboxWriter writer;
+
+    @BeforeEach
+    void setUp() {
+        writer = new OutboxWriter(outboxEventRepository, JsonMapper.builder().findAndAddModules().build());
+    }
+
+    @Test
+    @DisplayName("Debe guardar el estado nuevo del auto al crearlo")
+    void onAutoChanged_WhenCreated_ShouldStoreNewState() {
+        // Arrange
+        AutoDTO auto = TestDataBuilder.createAutoDTO();
+
+        // Act
+        writer.onAutoChanged(AutoChangedEvent.created(auto));
+
+        // Assert
+        OutboxEvent guardado = captureSaved();
+        assertEquals(1L, guardado.getAutoId());
+        assertEquals("CREATED", guardado.getTipo());
+        assertTrue(guardado.getPayload().contains("\"email\":\"juan.perez@example.com\""));
+        assertNotNull(guardado.getCreatedAt());
+        assertNull(guardado.getDispatchedAt());
+    }
+
+    @Test
+    @DisplayName("Debe guardar el último estado del auto al eliminarlo")
+    void onAutoChanged_WhenDeleted_ShouldStorePreviousState() {
+        // Arrange
+        AutoDTO auto = TestDataBuilder.createAutoDTO2();
+
+        // Act
+        writer.onAutoChanged(AutoChangedEvent.deleted(auto));
+
+        // Assert
+        OutboxEvent guardado = captureSaved();
+        assertEquals(2L, guardado.getAutoId());
+        assertEquals("DELETED", guardado.getTipo());
+        assertTrue(guardado.getPayload().contains("\"marca\":\"Ford\""));
+    }
+
+    private OutboxEvent captureSaved() {
+        ArgumentCaptor<OutboxEvent> captor = ArgumentCaptor.forClass(OutboxEvent.class);
+        verify(outboxEventRepository).save(captor.capture());
+        return captor.getValue();
+    }
+}
@@ -0,0 +1,94 @@
+package com.empleados.api.registry;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Pruebas unitarias para EmailReservationRegistry
+ */
+class EmailReservationRegistryTest {
+
+    private static final String EMAIL = "juan.perez@example.com";
+
+    private EmailReservationRegistry registry;
+
+    @BeforeEach
+    void setUp() {
+        registry = new EmailReservationRegistry();
+        TransactionSynchronizationManager.initSynchronization();
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            complete(TransactionSynchronization.STATUS_ROLLED_BACK);
+        }
+    }
+
+    @Test
+    @DisplayName("Debe reservar un email una sola vez mientras la transacción sigue abierta")
+    void tryReserve_WhenAlreadyReserved_ShouldReturnFalse() throws InterruptedException {
+        // Act
+        boolean primera = registry.tryReserve(EMAIL);
+        boolean repetida = registry.tryReserve(EMAIL);
+        AtomicBoolean otraTransaccion = new AtomicBoolean(true);
+        Thread hilo = new Thread(() -> {
+            TransactionSynchronizationManager.initSynchronization();
+            otraTransaccion.set(registry.tryReserve(EMAIL));
+            TransactionSynchronizationManager.clearSynchronization();
+        });
+        hilo.start();
+        hilo.join();
+
+        // Assert
+        assertTrue(primera);
+        assertFalse(repetida);
+        assertFalse(otraTransaccion.get());
+        assertTrue(registry.isReserved(EMAIL));
+    }
+
+    @Test
+    @DisplayName("Debe liberar los emails al confirmar o revertir la transacción")
+    void afterCompletion_ShouldReleaseReservations() {
+        // Arrange
+        registry.tryReserve(EMAIL);
+        registry.tryReserve("ana.garcia@example.com");
+
+        // Act
+        complete(TransactionSynchronization.STATUS_COMMITTED);
+
+        // Assert
+        assertEquals(0, registry.size());
+        assertNull(TransactionSynchronizationManager.getResource(registry));
+        TransactionSynchronizationManager.initSynchronization();
+        assertTrue(registry.tryReserve(EMAIL));
+    }
+
+    @Test
+    @DisplayName("Fuera de una transacción solo debe comprobar sin reservar")
+    void tryReserve_WithoutTransaction_ShouldOnlyCheck() {
+        // Arrange
+        registry.tryReserve(EMAIL);
+        TransactionSynchronizationManager.clearSynchronization();
+
+        // Act & Assert
+        assertFalse(registry.tryReserve(EMAIL));
+        assertTrue(registry.tryReserve("ana.garcia@example.com"));
+        assertFalse(registry.isReserved("ana.garcia@example.com"));
+        TransactionSynchronizationManager.unbindResource(registry);
+    }
+
+    private static void complete(int status) {
+        var synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        TransactionSynchronizationManager.clearSynchronization();
+        synchronizations.forEach(synchronization -> synchronization.afterCompletion(status));
+    }
+}
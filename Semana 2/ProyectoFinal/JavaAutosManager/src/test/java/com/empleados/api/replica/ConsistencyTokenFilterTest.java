@@ -0,0 +1,98 @@
+package com.empleados.api.replica;
+
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServlet;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Pruebas unitarias para ConsistencyTokenFilter
+ */
+class ConsistencyTokenFilterTest {
+
+    private ReplicaSet replicas;
+    private ConsistencyTokenFilter filter;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        replicas = new ReplicaSet(List.of(), ReplicaSet.Selection.ROUND_ROBIN, 5, 1);
+        replicas.advancePrimary(41);
+        ObjectProvider<ReplicaSet> provider = mock(ObjectProvider.class);
+        when(provider.getIfAvailable()).thenReturn(replicas);
+        when(provider.getObject()).thenReturn(replicas);
+        filter = new ConsistencyTokenFilter(provider);
+    }
+
+    @Test
+    @DisplayName("Debe devolver el token de consistencia en las respuestas a escrituras")
+    void doFilter_Write_ShouldReturnToken() throws Exception {
+        // Arrange
+        HttpServlet servlet = new HttpServlet() {
+            @Override
+            protected void service(HttpServletRequest request, HttpServletResponse response) throws java.io.IOException {
+                response.setStatus(201);
+                response.getWriter().write("{}");
+            }
+        };
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // Act
+        filter.doFilter(new MockHttpServletRequest("POST", "/api/automoviles"), response, new MockFilterChain(servlet));
+
+        // Assert
+        assertEquals("42", response.getHeader(ConsistencyTokenFilter.HEADER));
+        assertEquals("42", response.getCookie("consistency-token").getValue());
+    }
+
+    @Test
+    @DisplayName("No debe devolver token en las lecturas")
+    void doFilter_Read_ShouldNotReturnToken() throws Exception {
+        // Arrange
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // Act
+        filter.doFilter(new MockHttpServletRequest("GET", "/api/automoviles"), response, new MockFilterChain());
+
+        // Assert
+        assertNull(response.getHeader(ConsistencyTokenFilter.HEADER));
+    }
+
+    @Test
+    @DisplayName("Debe exigir a las lecturas la posición del token recibido por cabecera o cookie")
+    void doFilter_TokenSent_ShouldRequirePosition() throws Exception {
+        // Arrange
+        AtomicLong seen = new AtomicLong();
+        HttpServlet servlet = new HttpServlet() {
+            @Override
+            protected void service(HttpServletRequest request, HttpServletResponse response) {
+                seen.set(ReadConsistency.required());
+            }
+        };
+        MockHttpServletRequest byHeader = new MockHttpServletRequest("GET", "/api/automoviles");
+        byHeader.addHeader(ConsistencyTokenFilter.HEADER, "37");
+        MockHttpServletRequest byCookie = new MockHttpServletRequest("GET", "/automoviles");
+        byCookie.setCookies(new Cookie("consistency-token", "39"));
+
+        // Act & Assert
+        filter.doFilter(byHeader, new MockHttpServletResponse(), new MockFilterChain(servlet));
+        assertEquals(37, seen.get());
+        filter.doFilter(byCookie, new MockHttpServletResponse(), new MockFilterChain(servlet));
+        assertEquals(39, seen.get());
+        assertEquals(0, ReadConsistency.required());
+    }
+}
@@ -0,0 +1,154 @@
+package com.empleados.api.replica;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.AbstractPlatformTransactionManager;
+import org.springframework.transaction.support.DefaultTransactionStatus;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Pruebas unitarias para HedgedReads
+ */
+class HedgedReadsTest {
+
+    private Replica replicaA;
+    private Replica replicaB;
+    private ReplicaSet replicas;
+    private HedgedReads hedgedReads;
+
+    @BeforeEach
+    void setUp() {
+        replicaA = new Replica("replica-a", ReplicaSetTest.replicaDatabase("hedged-a", 10));
+        replicaB = new Replica("replica-b", ReplicaSetTest.replicaDatabase("hedged-b", 10));
+        replicas = new ReplicaSet(List.of(replicaA, replicaB), ReplicaSet.Selection.ROUND_ROBIN, 5, 1);
+        replicas.advancePrimary(10);
+        replicas.checkHealth();
+        hedgedReads = new HedgedReads(replicas, new NoOpTransactionManager(), 4,
+                Duration.ofMillis(1), Duration.ofMillis(20));
+    }
+
+    @AfterEach
+    void tearDown() {
+        hedgedReads.close();
+    }
+
+    @Test
+    @DisplayName("No debe cubrir una lectura que responde antes del retardo")
+    void read_FastReplica_ShouldNotHedge() {
+        // Act
+        String result = hedgedReads.read(() -> "ok");
+
+        // Assert
+        assertEquals("ok", result);
+        assertEquals(1, hedgedReads.getReads());
+        assertEquals(0, hedgedReads.getHedged());
+    }
+
+    @Test
+    @DisplayName("Debe enviar la lectura a otra réplica cuando la primera tarda y quedarse con la más rápida")
+    void read_SlowReplica_ShouldHedgeAndWin() throws Exception {
+        // Arrange
+        CountDownLatch slowCancelled = new CountDownLatch(1);
+
+        // Act
+        String result = hedgedReads.read(() -> {
+            Replica target = ReadConsistency.pinned();
+            if (target == replicaA) {
+                try {
+                    Thread.sleep(10_000);
+                } catch (InterruptedException e) {
+                    slowCancelled.countDown();
+                }
+                return "lenta";
+            }
+            return target.getName();
+        });
+
+        // Assert
+        assertEquals("replica-b", result);
+        assertEquals(1, hedgedReads.getHedged());
+        assertEquals(1, hedgedReads.getWins());
+        assertTrue(slowCancelled.await(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    @DisplayName("Debe usar la respuesta de la otra réplica cuando la primera falla")
+    void read_FirstAttemptFails_ShouldUseHedge() {
+        // Act
+        String result = hedgedReads.read(() -> {
+            if (ReadConsistency.pinned() == replicaA) {
+                try {
+                    Thread.sleep(100);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                throw new IllegalStateException("réplica caída");
+            }
+            try {
+                Thread.sleep(200);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return "respaldo";
+        });
+
+        // Assert
+        assertEquals("respaldo", result);
+    }
+
+    @Test
+    @DisplayName("Debe propagar la excepción de la lectura")
+    void read_Exception_ShouldPropagate() {
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> hedgedReads.read(() -> {
+            throw new IllegalArgumentException("no encontrado");
+        }));
+    }
+
+    @Test
+    @DisplayName("Debe leer del primario sin cubrir cuando no hay réplicas al día")
+    void read_NoCandidates_ShouldUsePrimary() {
+        // Act
+        Boolean pinnedToPrimary;
+        try (ReadConsistency.Scope scope = ReadConsistency.require(replicas.currentToken())) {
+            pinnedToPrimary = hedgedReads.read(() -> ReadConsistency.isPinned() && ReadConsistency.pinned() == null);
+        }
+
+        // Assert
+        assertTrue(pinnedToPrimary);
+        assertEquals(0, hedgedReads.getReads());
+        assertEquals(1, replicas.getPrimaryReads());
+    }
+
+    /**
+     * Transaction manager that only lets the callback run
+     */
+    private static final class NoOpTransactionManager extends AbstractPlatformTransactionManager {
+
+        @Override
+        protected Object doGetTransaction() {
+            return new Object();
+        }
+
+        @Override
+        protected void doBegin(Object transaction, TransactionDefinition definition) {
+        }
+
+        @Override
+        protected void doCommit(DefaultTransactionStatus status) {
+        }
+
+        @Override
+        protected void doRollback(DefaultTransactionStatus status) {
+        }
+    }
+}
@@ -0,0 +1,112 @@
+package com.empleados.api.replica;
+
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Pruebas unitarias para ReplicaCopyJob
+ */
+class ReplicaCopyJobTest {
+
+    private JdbcTemplate primary;
+    private JdbcDataSource replica;
+    private ReplicaCopyJob copyJob;
+
+    @BeforeEach
+    void setUp() {
+        JdbcDataSource primaryDataSource = database("replica-copy-primary");
+        primary = new JdbcTemplate(primaryDataSource);
+        primary.execute("CREATE TABLE automoviles (id BIGINT PRIMARY KEY, email VARCHAR(100) NOT NULL UNIQUE, "
+                + "costo DECIMAL(10, 2))");
+        primary.execute("CREATE TABLE replica_heartbeat (id INT PRIMARY KEY, position BIGINT NOT NULL)");
+        primary.update("INSERT INTO replica_heartbeat (id, position) VALUES (1, 7)");
+        primary.update("INSERT INTO automoviles (id, email, costo) VALUES (1, 'juan@example.com', 15000.50), "
+                + "(2, 'ana@example.com', NULL)");
+        replica = database("replica-copy-replica");
+        copyJob = new ReplicaCopyJob(primaryDataSource, List.of(replica));
+    }
+
+    @Test
+    @DisplayName("Debe crear las tablas en la réplica y copiar las filas y el latido")
+    void copy_ShouldCreateTablesAndCopyRowsAndHeartbeat() {
+        // Act
+        copyJob.copy();
+
+        // Assert
+        JdbcTemplate copia = new JdbcTemplate(replica);
+        assertEquals(List.of("juan@example.com", "ana@example.com"),
+                copia.queryForList("SELECT email FROM automoviles ORDER BY id", String.class));
+        assertNull(copia.queryForObject("SELECT costo FROM automoviles WHERE id = 2", Object.class));
+        assertEquals(7L, copia.queryForObject(ReplicaHeartbeat.SELECT_POSITION, Long.class));
+    }
+
+    @Test
+    @DisplayName("Debe reemplazar el contenido de la réplica con el del primario en cada copia")
+    void copy_ShouldReplaceReplicaContent() {
+        // Arrange
+        copyJob.copy();
+        primary.update("DELETE FROM automoviles WHERE id = 1");
+        primary.update("UPDATE automoviles SET email = 'ana.lopez@example.com' WHERE id = 2");
+        primary.update("INSERT INTO automoviles (id, email) VALUES (3, 'luis@example.com')");
+        primary.update("UPDATE replica_heartbeat SET position = 8 WHERE id = 1");
+
+        // Act
+        copyJob.copy();
+
+        // Assert
+        JdbcTemplate copia = new JdbcTemplate(replica);
+        assertEquals(List.of("ana.lopez@example.com", "luis@example.com"),
+                copia.queryForList("SELECT email FROM automoviles ORDER BY id", String.class));
+        assertEquals(8L, copia.queryForObject(ReplicaHeartbeat.SELECT_POSITION, Long.class));
+    }
+
+    @Test
+    @DisplayName("Debe dejar la réplica sana en la posición del latido copiado")
+    void copy_ShouldMakeReplicaHealthy() {
+        // Arrange
+        Replica standIn = new Replica("replica-1", replica);
+        standIn.check(1);
+        assertFalse(standIn.isHealthy());
+
+        // Act
+        copyJob.copy();
+        standIn.check(1);
+
+        // Assert
+        assertTrue(standIn.isHealthy());
+        assertEquals(7, standIn.getPosition());
+    }
+
+    @Test
+    @DisplayName("Debe seguir copiando a las demás réplicas si una no responde")
+    void copy_WithUnreachableReplica_ShouldCopyTheOthers() throws SQLException {
+        // Arrange
+        DataSource caida = mock(DataSource.class);
+        when(caida.getConnection()).thenThrow(new SQLException("Conexión rechazada"));
+        JdbcDataSource primaryDataSource = (JdbcDataSource) primary.getDataSource();
+        ReplicaCopyJob job = new ReplicaCopyJob(primaryDataSource, List.of(caida, replica));
+
+        // Act
+        job.copy();
+
+        // Assert
+        assertEquals(2, new JdbcTemplate(replica).queryForObject("SELECT COUNT(*) FROM automoviles", Integer.class));
+    }
+
+    private static JdbcDataSource database(String name) {
+        JdbcDataSource dataSource = new JdbcDataSource();
+        dataSource.setURL("jdbc:h2:mem:" + name + "-" + System.nanoTime() + ";DB_CLOSE_DELAY=-1");
+        return dataSource;
+    }
+}
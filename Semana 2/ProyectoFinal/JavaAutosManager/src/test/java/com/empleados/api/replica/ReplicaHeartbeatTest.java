@@ -0,0 +1,126 @@
+package com.empleados.api.replica;
+
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Pruebas unitarias para ReplicaHeartbeat
+ */
+class ReplicaHeartbeatTest {
+
+    private JdbcDataSource primary;
+    private ReplicaSet replicas;
+
+    @BeforeEach
+    void setUp() {
+        primary = new JdbcDataSource();
+        primary.setURL("jdbc:h2:mem:replica-heartbeat-" + System.nanoTime() + ";DB_CLOSE_DELAY=-1");
+        replicas = new ReplicaSet(List.of(), ReplicaSet.Selection.ROUND_ROBIN, 5, 1);
+    }
+
+    @Test
+    @DisplayName("Debe avanzar la posición en memoria antes de escribir el latido")
+    void beat_ShouldAdvancePositionBeforeUpdate() {
+        // Arrange
+        AtomicLong tokenDuranteUpdate = new AtomicLong(-1);
+        ReplicaHeartbeat heartbeat = new ReplicaHeartbeat(
+                onUpdate(primary, () -> tokenDuranteUpdate.set(replicas.currentToken())), replicas);
+        heartbeat.init();
+
+        // Act
+        heartbeat.beat();
+
+        // Assert
+        assertEquals(2, tokenDuranteUpdate.get());
+        assertEquals(1, position());
+        assertEquals(1, replicas.getPrimaryPosition());
+    }
+
+    @Test
+    @DisplayName("Debe incrementar la posición guardada y adoptar la leída aunque otra instancia la haya movido")
+    void beat_ShouldIncrementStoredPositionAndReadItBack() {
+        // Arrange
+        ReplicaHeartbeat heartbeat = new ReplicaHeartbeat(primary, replicas);
+        heartbeat.init();
+        heartbeat.beat();
+        new JdbcTemplate(primary).update("UPDATE replica_heartbeat SET position = 9 WHERE id = 1");
+
+        // Act
+        heartbeat.beat();
+
+        // Assert
+        assertEquals(10, position());
+        assertEquals(10, replicas.getPrimaryPosition());
+        assertEquals(11, replicas.currentToken());
+    }
+
+    @Test
+    @DisplayName("Debe partir de la posición ya guardada al arrancar")
+    void init_ShouldStartFromStoredPosition() {
+        // Arrange
+        ReplicaHeartbeat previa = new ReplicaHeartbeat(primary, new ReplicaSet(List.of(), ReplicaSet.Selection.ROUND_ROBIN, 5, 1));
+        previa.init();
+        previa.beat();
+        previa.beat();
+
+        // Act
+        new ReplicaHeartbeat(primary, replicas).init();
+
+        // Assert
+        assertEquals(2, replicas.getPrimaryPosition());
+    }
+
+    private long position() {
+        return new JdbcTemplate(primary).queryForObject(ReplicaHeartbeat.SELECT_POSITION, Long.class);
+    }
+
+    /**
+     * Runs {@code hook} right before each UPDATE sent through a plain statement
+     */
+    private static DelegatingDataSource onUpdate(JdbcDataSource target, Runnable hook) {
+        return new DelegatingDataSource(target) {
+            @Override
+            public Connection getConnection() throws SQLException {
+                Connection connection = super.getConnection();
+                return (Connection) Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[] {Connection.class},
+                        (proxy, method, args) -> {
+                            Object result = invoke(connection, method, args);
+                            if (result instanceof Statement statement && "createStatement".equals(method.getName())) {
+                                return Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[] {Statement.class},
+                                        (statementProxy, statementMethod, statementArgs) -> {
+                                            if (statementArgs != null && statementArgs.length > 0
+                                                    && statementArgs[0] instanceof String sql && sql.startsWith("UPDATE")) {
+                                                hook.run();
+                                            }
+                                            return invoke(statement, statementMethod, statementArgs);
+                                        });
+                            }
+                            return result;
+                        });
+            }
+        };
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+}
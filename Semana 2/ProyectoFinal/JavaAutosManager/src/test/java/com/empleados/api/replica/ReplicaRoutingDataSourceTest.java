@@ -0,0 +1,73 @@
+package com.empleados.api.replica;
+
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.sql.Connection;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Pruebas unitarias para ReplicaRoutingDataSource
+ */
+class ReplicaRoutingDataSourceTest {
+
+    private ReplicaSet replicas;
+    private ReplicaRoutingDataSource dataSource;
+
+    @BeforeEach
+    void setUp() {
+        JdbcDataSource primary = ReplicaSetTest.replicaDatabase("routing-primary", 10);
+        Replica replica = new Replica("replica-1", ReplicaSetTest.replicaDatabase("routing-replica", 10));
+        replicas = new ReplicaSet(List.of(replica), ReplicaSet.Selection.ROUND_ROBIN, 5, 1);
+        replicas.advancePrimary(10);
+        replicas.checkHealth();
+        dataSource = new ReplicaRoutingDataSource(primary, replicas);
+    }
+
+    @AfterEach
+    void tearDown() {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+    }
+
+    @Test
+    @DisplayName("Debe enviar las transacciones de solo lectura a la réplica")
+    void getConnection_ReadOnly_ShouldUseReplica() throws Exception {
+        // Arrange
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        // Act & Assert
+        assertTrue(url().contains("routing-replica"));
+    }
+
+    @Test
+    @DisplayName("Debe enviar las escrituras al primario")
+    void getConnection_Write_ShouldUsePrimary() throws Exception {
+        // Act & Assert
+        assertTrue(url().contains("routing-primary"));
+    }
+
+    @Test
+    @DisplayName("Debe leer del primario cuando la réplica no alcanzó el token del cliente")
+    void getConnection_TokenAhead_ShouldUsePrimary() throws Exception {
+        // Arrange
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        // Act & Assert
+        try (ReadConsistency.Scope scope = ReadConsistency.require(replicas.currentToken())) {
+            assertTrue(url().contains("routing-primary"));
+        }
+        assertEquals(0, ReadConsistency.required());
+    }
+
+    private String url() throws Exception {
+        try (Connection connection = dataSource.getConnection()) {
+            return connection.getMetaData().getURL();
+        }
+    }
+}
@@ -0,0 +1,112 @@
+package com.empleados.api.replica;
+
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Pruebas unitarias para ReplicaSet
+ */
+class ReplicaSetTest {
+
+    private Replica replicaA;
+    private Replica replicaB;
+
+    @BeforeEach
+    void setUp() {
+        replicaA = new Replica("replica-a", replicaDatabase("replica-set-a", 10));
+        replicaB = new Replica("replica-b", replicaDatabase("replica-set-b", 8));
+    }
+
+    @Test
+    @DisplayName("Debe repartir las lecturas en turno rotativo entre las réplicas sanas")
+    void select_RoundRobin_ShouldAlternate() {
+        // Arrange
+        ReplicaSet replicas = new ReplicaSet(List.of(replicaA, replicaB), ReplicaSet.Selection.ROUND_ROBIN, 5, 1);
+        replicas.advancePrimary(10);
+        replicas.checkHealth();
+
+        // Act
+        Replica first = replicas.select(0);
+        Replica second = replicas.select(0);
+
+        // Assert
+        assertNotSame(first, second);
+        assertEquals(1, replicaA.getReads());
+        assertEquals(1, replicaB.getReads());
+    }
+
+    @Test
+    @DisplayName("Debe elegir la réplica con menor latencia")
+    void select_LeastLatency_ShouldPickFastest() {
+        // Arrange
+        ReplicaSet replicas = new ReplicaSet(List.of(replicaA, replicaB), ReplicaSet.Selection.LEAST_LATENCY, 5, 1);
+        replicas.checkHealth();
+        Replica fastest = replicaA.getLatencyMillis() <= replicaB.getLatencyMillis() ? replicaA : replicaB;
+
+        // Act & Assert
+        assertSame(fastest, replicas.select(0));
+        assertSame(fastest, replicas.select(0));
+    }
+
+    @Test
+    @DisplayName("No debe leer de una réplica que no alcanzó el token de consistencia")
+    void select_TokenAhead_ShouldSkipLaggingReplica() {
+        // Arrange
+        ReplicaSet replicas = new ReplicaSet(List.of(replicaA, replicaB), ReplicaSet.Selection.ROUND_ROBIN, 5, 1);
+        replicas.advancePrimary(10);
+        replicas.checkHealth();
+
+        // Act & Assert
+        assertSame(replicaA, replicas.select(9));
+        assertSame(replicaA, replicas.select(9));
+        assertNull(replicas.select(11));
+        assertEquals(1, replicas.getPrimaryReads());
+    }
+
+    @Test
+    @DisplayName("No debe leer de réplicas con más retraso que el permitido")
+    void select_LagAboveMax_ShouldUsePrimary() {
+        // Arrange
+        ReplicaSet replicas = new ReplicaSet(List.of(replicaB), ReplicaSet.Selection.ROUND_ROBIN, 1, 1);
+        replicas.advancePrimary(10);
+        replicas.checkHealth();
+
+        // Act & Assert
+        assertNull(replicas.select(0));
+        assertEquals(11, replicas.currentToken());
+    }
+
+    @Test
+    @DisplayName("Debe marcar como no disponible una réplica sin latido")
+    void checkHealth_NoHeartbeat_ShouldMarkUnhealthy() {
+        // Arrange
+        JdbcDataSource empty = new JdbcDataSource();
+        empty.setURL("jdbc:h2:mem:replica-set-empty;DB_CLOSE_DELAY=-1");
+        Replica broken = new Replica("broken", empty);
+        ReplicaSet replicas = new ReplicaSet(List.of(broken), ReplicaSet.Selection.ROUND_ROBIN, 5, 1);
+
+        // Act
+        replicas.checkHealth();
+
+        // Assert
+        assertFalse(broken.isHealthy());
+        assertEquals(-1, broken.getPosition());
+        assertNull(replicas.select(0));
+    }
+
+    static JdbcDataSource replicaDatabase(String name, long position) {
+        JdbcDataSource dataSource = new JdbcDataSource();
+        dataSource.setURL("jdbc:h2:mem:" + name + ";DB_CLOSE_DELAY=-1");
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS replica_heartbeat (id INT PRIMARY KEY, position BIGINT NOT NULL)");
+        jdbcTemplate.update("MERGE INTO replica_heartbeat (id, position) KEY (id) VALUES (1, ?)", position);
+        return dataSource;
+    }
+}
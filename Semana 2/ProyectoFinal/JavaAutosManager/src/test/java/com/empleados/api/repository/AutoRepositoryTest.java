@@ -1,5 +1,6 @@
 package com.empleados.api.repository;
 
+import com.empleados.api.config.IdConfig;
 import com.empleados.api.model.Auto;
 
 import com.empleados.api.util.TestDataBuilder;
@@ -8,12 +9,18 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
 import org.springframework.test.context.ActiveProfiles;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -21,6 +28,7 @@ import static org.junit.jupiter.api.Assertions.*;
  * Pruebas unitarias para AutoRepository
  */
 @DataJpaTest
+@Import(IdConfig.class)
 @ActiveProfiles("test")
 class AutoRepositoryTest {
 
@@ -58,6 +66,23 @@ class AutoRepositoryTest {
         assertFalse(found.isPresent());
     }
 
+    @Test
+    @DisplayName("Debe devolver solo los emails que ya están registrados")
+    void findExistingEmails_ShouldReturnOnlyStoredEmails() {
+        // Arrange
+        Auto auto = TestDataBuilder.createAuto();
+        auto.setId(null);
+        entityManager.persist(auto);
+        entityManager.flush();
+
+        // Act
+        List<String> existentes = autoRepository.findExistingEmails(
+                List.of("juan.perez@example.com", "noexiste@example.com"));
+
+        // Assert
+        assertEquals(List.of("juan.perez@example.com"), existentes);
+    }
+
     @Test
     @DisplayName("Debe encontrar empleados por departamento")
     void findByDepartamento_ShouldReturnEmpleadosInDepartamento() {
@@ -185,4 +210,118 @@ class AutoRepositoryTest {
         assertTrue(autoRepository.existsById(auto.getId()));
         assertFalse(autoRepository.existsById(999L));
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("Debe calcular los agregados usados por el dashboard")
+    void aggregates_ShouldSumAndCountByGroup() {
+        // Arrange
+        Auto auto1 = TestDataBuilder.createAuto();
+        auto1.setId(null);
+        Auto auto2 = TestDataBuilder.createAuto2();
+        auto2.setId(null);
+        Auto auto3 = new Auto(null, "Pedro", "Sánchez", "Nissan", "Sentra", "Negro", LocalDate.of(2020, 1, 15),
+                "pedro.sanchez@example.com", LocalDate.of(2021, 3, 5),
+                new BigDecimal("52000.00"), "Tecnología", 1);
+        entityManager.persist(auto1);
+        entityManager.persist(auto2);
+        entityManager.persist(auto3);
+        entityManager.flush();
+
+        // Act
+        BigDecimal costo = autoRepository.sumCosto();
+        Map<String, Long> marcas = autoRepository.countByMarca().stream()
+                .collect(Collectors.toMap(ValueCount::getValor, ValueCount::getTotal));
+        Map<String, Long> departamentos = autoRepository.countByDepartamento().stream()
+                .collect(Collectors.toMap(ValueCount::getValor, ValueCount::getTotal));
+
+        // Assert
+        assertEquals(0, new BigDecimal("150000.00").compareTo(costo));
+        assertEquals(Map.of("Nissan", 2L, "Ford", 1L), marcas);
+        assertEquals(Map.of("Tecnología", 2L, "Recursos Humanos", 1L), departamentos);
+    }
+
+    @Test
+    @DisplayName("Debe recorrer con cursor los automoviles filtrados por departamento y fecha de compra")
+    void streamForExport_ShouldApplyOptionalFilters() {
+        // Arrange
+        Auto auto1 = TestDataBuilder.createAuto();
+        auto1.setId(null);
+        Auto auto2 = TestDataBuilder.createAuto2();
+        auto2.setId(null);
+        Auto auto3 = new Auto(null, "Pedro", "Sánchez", "Nissan", "Sentra", "Negro", LocalDate.of(2021, 6, 1),
+                "pedro.sanchez@example.com", LocalDate.of(2021, 3, 5),
+                new BigDecimal("52000.00"), "Tecnología", 1);
+        entityManager.persist(auto1);
+        entityManager.persist(auto2);
+        entityManager.persist(auto3);
+        entityManager.flush();
+
+        // Act
+        List<String> todos;
+        try (Stream<Auto> cursor = autoRepository.streamForExport(null, null, null)) {
+            todos = cursor.map(Auto::getEmail).toList();
+        }
+        List<String> filtrados;
+        try (Stream<Auto> cursor = autoRepository.streamForExport("Tecnología", LocalDate.of(2021, 1, 1), null)) {
+            filtrados = cursor.map(Auto::getEmail).toList();
+        }
+
+        // Assert
+        assertEquals(3, todos.size());
+        assertEquals(List.of("pedro.sanchez@example.com"), filtrados);
+    }
+
+    @Test
+    @DisplayName("Debe recorrer por cursor la lista ordenada con nulos y empates en ambos sentidos")
+    void findPage_ShouldWalkSortedListWithNullsAndTies() {
+        // Arrange
+        String[] costos = {"300.00", null, "100.00", "300.00", null, "200.00", "100.00"};
+        for (int i = 0; i < costos.length; i++) {
+            entityManager.persist(new Auto(null, "Nombre" + i, "Apellido" + i, "Marca", "Modelo", "Rojo",
+                    LocalDate.of(2020, 1, 1), "auto" + i + "@example.com", LocalDate.of(2021, 1, 1),
+                    costos[i] == null ? null : new BigDecimal(costos[i]), "Ventas", 1));
+        }
+        entityManager.flush();
+        Comparator<Auto> ascending = Comparator.comparing(Auto::getCosto, Comparator.nullsFirst(Comparator.<BigDecimal>naturalOrder()))
+                .thenComparing(Auto::getId);
+        List<Auto> todos = autoRepository.findAll();
+
+        // Act
+        List<Long> asc = walk(AutoSortField.COSTO, false, 2);
+        List<Long> desc = walk(AutoSortField.COSTO, true, 3);
+
+        // Assert
+        assertEquals(todos.stream().sorted(ascending).map(Auto::getId).toList(), asc);
+        assertEquals(todos.stream().sorted(ascending.reversed()).map(Auto::getId).toList(), desc);
+    }
+
+    @Test
+    @DisplayName("Debe crear un índice en cada sentido por cada columna ordenable")
+    void sortFields_ShouldBeBackedByIndexes() {
+        // Act
+        List<?> columnas = entityManager.getEntityManager().createNativeQuery(
+                "SELECT c.COLUMN_NAME || ' ' || c.ORDERING_SPECIFICATION FROM INFORMATION_SCHEMA.INDEX_COLUMNS c"
+                        + " WHERE c.TABLE_NAME = 'AUTOMOVILES' AND c.ORDINAL_POSITION = 1").getResultList();
+
+        // Assert
+        for (String columna : List.of("ID", "APELLIDO", "MARCA", "FECHA_COMPRA", "COSTO", "DEPARTAMENTO")) {
+            assertTrue(columnas.contains(columna + " ASC"), "Falta el índice ascendente de " + columna);
+            assertTrue(columnas.contains(columna + " DESC"), "Falta el índice descendente de " + columna);
+        }
+    }
+
+    private List<Long> walk(AutoSortField field, boolean descending, int size) {
+        List<Long> ids = new ArrayList<>();
+        AutoKeyset after = null;
+        List<Auto> page;
+        do {
+            page = autoRepository.findPage(field, descending, after, size);
+            page.forEach(auto -> ids.add(auto.getId()));
+            if (!page.isEmpty()) {
+                // El cursor pasa por su forma de texto, como entre dos peticiones
+                after = AutoKeyset.decode(AutoKeyset.of(field, page.get(page.size() - 1)).encode(), field);
+            }
+        } while (page.size() == size);
+        return ids;
+    }
+}
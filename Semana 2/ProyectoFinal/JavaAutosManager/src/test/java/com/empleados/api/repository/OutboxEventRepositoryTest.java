@@ -0,0 +1,73 @@
+package com.empleados.api.repository;
+
+import com.empleados.api.model.OutboxEvent;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.Instant;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Pruebas unitarias para OutboxEventRepository
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+class OutboxEventRepositoryTest {
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private OutboxEventRepository outboxEventRepository;
+
+    @Test
+    @DisplayName("Debe devolver los pendientes en orden y marcarlos como entregados")
+    void findPendingAndMarkDispatched_ShouldTrackDelivery() {
+        // Arrange
+        Instant ahora = Instant.now();
+        OutboxEvent primero = persist(1L, ahora, null);
+        OutboxEvent segundo = persist(2L, ahora, null);
+        persist(3L, ahora, ahora);
+
+        // Act
+        List<OutboxEvent> pendientes = outboxEventRepository.findPending(PageRequest.of(0, 10));
+        outboxEventRepository.markDispatched(List.of(primero.getId()), ahora);
+        outboxEventRepository.incrementAttempts(List.of(segundo.getId()));
+        entityManager.clear();
+
+        // Assert
+        assertEquals(List.of(primero.getId(), segundo.getId()), pendientes.stream().map(OutboxEvent::getId).toList());
+        assertEquals(1L, outboxEventRepository.countByDispatchedAtIsNull());
+        assertEquals(1, outboxEventRepository.findById(segundo.getId()).orElseThrow().getAttempts());
+    }
+
+    @Test
+    @DisplayName("Debe purgar solo los eventos entregados antes del límite")
+    void deleteDispatchedBefore_ShouldKeepPendingAndRecentEvents() {
+        // Arrange
+        Instant ahora = Instant.now();
+        persist(1L, ahora.minusSeconds(7200), ahora.minusSeconds(7200));
+        persist(2L, ahora, ahora);
+        persist(3L, ahora.minusSeconds(7200), null);
+
+        // Act
+        int eliminados = outboxEventRepository.deleteDispatchedBefore(ahora.minusSeconds(3600));
+
+        // Assert
+        assertEquals(1, eliminados);
+        assertEquals(2L, outboxEventRepository.count());
+    }
+
+    private OutboxEvent persist(Long autoId, Instant createdAt, Instant dispatchedAt) {
+        return entityManager.persistAndFlush(
+                new OutboxEvent(null, autoId, "CREATED", "{\"id\":" + autoId + "}", createdAt, dispatchedAt, 0));
+    }
+}
@@ -0,0 +1,128 @@
+package com.empleados.api.service;
+
+import com.empleados.api.analytics.sketch.FleetSketches;
+import com.empleados.api.dto.DistinctEstimateDTO;
+import com.empleados.api.dto.FrequencyEstimateDTO;
+import com.empleados.api.dto.QuantileEstimateDTO;
+import com.empleados.api.exception.BadRequestException;
+import com.empleados.api.service.impl.ApproximateStatsServiceImpl;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.*;
+
+/**
+ * Pruebas unitarias para ApproximateStatsServiceImpl
+ */
+@ExtendWith(MockitoExtension.class)
+class ApproximateStatsServiceTest {
+
+    @Mock
+    private FleetSketches fleetSketches;
+
+    @InjectMocks
+    private ApproximateStatsServiceImpl approximateStatsService;
+
+    @Test
+    @DisplayName("Debe estimar los propietarios distintos con un intervalo de dos errores estándar")
+    void getDistinctOwners_ShouldReturnEstimateWithBounds() {
+        // Arrange
+        when(fleetSketches.distinctOwners()).thenReturn(new FleetSketches.DistinctEstimate(1000, 0.012345));
+
+        // Act
+        DistinctEstimateDTO result = approximateStatsService.getDistinctOwners();
+
+        // Assert
+        assertEquals(1000, result.getEstimado());
+        assertEquals(0.0123, result.getErrorRelativo());
+        assertEquals(975, result.getMinimo());
+        assertEquals(1025, result.getMaximo());
+        assertEquals(0.95, result.getConfianza());
+    }
+
+    @Test
+    @DisplayName("Debe estimar los emails distintos")
+    void getDistinctEmails_ShouldReturnEstimate() {
+        // Arrange
+        when(fleetSketches.distinctEmails()).thenReturn(new FleetSketches.DistinctEstimate(0, 0.01));
+
+        // Act
+        DistinctEstimateDTO result = approximateStatsService.getDistinctEmails();
+
+        // Assert
+        assertEquals(0, result.getEstimado());
+        assertEquals(0, result.getMinimo());
+        assertEquals(0, result.getMaximo());
+    }
+
+    @Test
+    @DisplayName("Debe retornar las marcas más frecuentes con su cota inferior")
+    void getTopMarcas_ShouldReturnEstimatesWithLowerBound() {
+        // Arrange
+        when(fleetSketches.topKCapacity()).thenReturn(20);
+        when(fleetSketches.marcaErrorBound()).thenReturn(3L);
+        when(fleetSketches.marcaConfidence()).thenReturn(0.99);
+        when(fleetSketches.topMarcas(2)).thenReturn(List.of(Map.entry("Nissan", 10L), Map.entry("Kia", 2L)));
+
+        // Act
+        List<FrequencyEstimateDTO> result = approximateStatsService.getTopMarcas(2);
+
+        // Assert
+        assertEquals(2, result.size());
+        assertEquals("Nissan", result.get(0).getValor());
+        assertEquals(10, result.get(0).getEstimado());
+        assertEquals(7, result.get(0).getMinimo());
+        assertEquals(0, result.get(1).getMinimo());
+        assertEquals(0.99, result.get(1).getConfianza());
+    }
+
+    @Test
+    @DisplayName("Debe rechazar un k fuera de la capacidad del sketch")
+    void getTopMarcas_WithInvalidK_ShouldThrowBadRequest() {
+        // Arrange
+        when(fleetSketches.topKCapacity()).thenReturn(20);
+
+        // Act & Assert
+        assertThrows(BadRequestException.class, () -> approximateStatsService.getTopMarcas(0));
+        assertThrows(BadRequestException.class, () -> approximateStatsService.getTopMarcas(21));
+        verify(fleetSketches, never()).topMarcas(anyInt());
+    }
+
+    @Test
+    @DisplayName("Debe retornar los percentiles del costo y null sin datos")
+    void getCostoPercentiles_ShouldConvertCentsToAmounts() {
+        // Arrange
+        when(fleetSketches.costoQuantileCents(0.5)).thenReturn(5_000_050.4);
+        when(fleetSketches.costoQuantileRankError(0.5)).thenReturn(0.01);
+        when(fleetSketches.costoQuantileCents(1.0)).thenReturn(Double.NaN);
+
+        // Act
+        List<QuantileEstimateDTO> result = approximateStatsService.getCostoPercentiles(List.of(50.0, 100.0));
+
+        // Assert
+        assertEquals(2, result.size());
+        assertEquals(50.0, result.get(0).getPercentil());
+        assertEquals(new BigDecimal("50000.50"), result.get(0).getValor());
+        assertEquals(0.01, result.get(0).getErrorRango());
+        assertNull(result.get(1).getValor());
+    }
+
+    @Test
+    @DisplayName("Debe rechazar percentiles fuera de 0 a 100")
+    void getCostoPercentiles_OutOfRange_ShouldThrowBadRequest() {
+        // Act & Assert
+        assertThrows(BadRequestException.class, () -> approximateStatsService.getCostoPercentiles(List.of(101.0)));
+        assertThrows(BadRequestException.class, () -> approximateStatsService.getCostoPercentiles(List.of(-1.0)));
+        assertThrows(BadRequestException.class, () -> approximateStatsService.getCostoPercentiles(List.of(Double.NaN)));
+    }
+}
@@ -0,0 +1,111 @@
+package com.empleados.api.service;
+
+import com.empleados.api.bulk.ExportFormat;
+import com.empleados.api.model.Auto;
+import com.empleados.api.repository.AutoRepository;
+import com.empleados.api.service.impl.AutoExportServiceImpl;
+import com.empleados.api.util.TestDataBuilder;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * Pruebas unitarias para AutoExportServiceImpl
+ */
+@ExtendWith(MockitoExtension.class)
+class AutoExportServiceTest {
+
+    @Mock
+    private AutoRepository autoRepository;
+
+    @Mock
+    private EntityManager entityManager;
+
+    @InjectMocks
+    private AutoExportServiceImpl autoExportService;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(autoExportService, "entityManager", entityManager);
+    }
+
+    @Test
+    @DisplayName("Debe exportar a CSV con el id y las columnas de importación, desvinculando cada auto")
+    void exportAutomoviles_Csv_ShouldWriteHeaderAndRows() throws Exception {
+        // Arrange
+        LocalDate desde = LocalDate.of(2020, 1, 1);
+        when(autoRepository.streamForExport("Tecnología", desde, null))
+                .thenReturn(Stream.of(TestDataBuilder.createAuto(), TestDataBuilder.createAuto2()));
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+        // Act
+        long rows = autoExportService.exportAutomoviles(" Tecnología ", desde, null, ExportFormat.CSV, output);
+
+        // Assert
+        List<String> lines = output.toString(StandardCharsets.UTF_8).lines().toList();
+        assertEquals(2, rows);
+        assertEquals(3, lines.size());
+        assertTrue(lines.get(0).startsWith("id,nombre,apellido,marca"));
+        assertTrue(lines.get(1).startsWith("1,Juan,Pérez,Nissan"));
+        verify(entityManager, times(2)).detach(any(Auto.class));
+    }
+
+    @Test
+    @DisplayName("Debe exportar todos los departamentos cuando el filtro está en blanco")
+    void exportAutomoviles_BlankDepartamento_ShouldNotFilter() throws Exception {
+        // Arrange
+        List<Auto> automoviles = IntStream.range(0, 1001).mapToObj(i -> TestDataBuilder.createAuto()).toList();
+        when(autoRepository.streamForExport(null, null, null)).thenReturn(automoviles.stream());
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+        // Act
+        long rows = autoExportService.exportAutomoviles("  ", null, null, ExportFormat.CSV, output);
+
+        // Assert
+        assertEquals(1001, rows);
+        assertEquals(1002, output.toString(StandardCharsets.UTF_8).lines().count());
+    }
+
+    @Test
+    @DisplayName("Debe exportar a XLSX un libro con una hoja")
+    void exportAutomoviles_Xlsx_ShouldWriteWorkbook() throws Exception {
+        // Arrange
+        List<Auto> automoviles = IntStream.range(0, 1001).mapToObj(i -> TestDataBuilder.createAuto2()).toList();
+        when(autoRepository.streamForExport(null, null, null)).thenReturn(automoviles.stream());
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+        // Act
+        long rows = autoExportService.exportAutomoviles(null, null, null, ExportFormat.XLSX, output);
+
+        // Assert
+        assertEquals(1001, rows);
+        boolean hoja = false;
+        try (ZipInputStream zip = new ZipInputStream(new ByteArrayInputStream(output.toByteArray()))) {
+            for (ZipEntry entry = zip.getNextEntry(); entry != null; entry = zip.getNextEntry()) {
+                hoja |= entry.getName().startsWith("xl/worksheets/");
+            }
+        }
+        assertTrue(hoja);
+        verify(entityManager, times(1001)).detach(any(Auto.class));
+    }
+}
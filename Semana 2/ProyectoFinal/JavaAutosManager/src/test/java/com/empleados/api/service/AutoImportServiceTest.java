@@ -0,0 +1,144 @@
+package com.empleados.api.service;
+
+import com.empleados.api.bulk.AutoCsvImporter;
+import com.empleados.api.bulk.ImportJob;
+import com.empleados.api.dto.ImportJobDTO;
+import com.empleados.api.exception.BadRequestException;
+import com.empleados.api.exception.ResourceNotFoundException;
+import com.empleados.api.service.impl.AutoImportServiceImpl;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockMultipartFile;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * Pruebas unitarias para AutoImportServiceImpl
+ */
+@ExtendWith(MockitoExtension.class)
+class AutoImportServiceTest {
+
+    private static final String CSV = "nombre,email\nJuan,juan@example.com\n";
+
+    @Mock
+    private AutoCsvImporter importer;
+
+    @InjectMocks
+    private AutoImportServiceImpl autoImportService;
+
+    @Test
+    @DisplayName("Debe copiar el archivo subido a un fichero temporal y encolar su importación")
+    void startImport_ShouldSubmitCopyOfUpload() throws Exception {
+        // Arrange
+        ImportJob job = job(ImportJob.Status.PENDIENTE, 40, 10);
+        AtomicReference<String> contenido = new AtomicReference<>();
+        when(importer.submit(eq("autos.csv"), any(Path.class))).thenAnswer(invocation -> {
+            Path file = invocation.getArgument(1);
+            contenido.set(Files.readString(file));
+            Files.delete(file);
+            return job;
+        });
+
+        // Act
+        ImportJobDTO result = autoImportService.startImport(upload(CSV));
+
+        // Assert
+        assertEquals(CSV, contenido.get());
+        assertEquals("job-1", result.getId());
+        assertEquals("PENDIENTE", result.getEstado());
+        assertEquals(25.0, result.getProgreso());
+    }
+
+    @Test
+    @DisplayName("Debe borrar el fichero temporal si no se puede encolar la importación")
+    void startImport_WhenSubmitFails_ShouldDeleteTempFile() throws Exception {
+        // Arrange
+        AtomicReference<Path> temporal = new AtomicReference<>();
+        when(importer.submit(any(), any(Path.class))).thenAnswer(invocation -> {
+            temporal.set(invocation.getArgument(1));
+            throw new IllegalStateException("Importador detenido");
+        });
+
+        // Act & Assert
+        assertThrows(IllegalStateException.class, () -> autoImportService.startImport(upload(CSV)));
+        assertFalse(Files.exists(temporal.get()));
+    }
+
+    @Test
+    @DisplayName("Debe rechazar un archivo vacío")
+    void startImport_WithEmptyFile_ShouldThrowBadRequest() throws Exception {
+        // Act & Assert
+        assertThrows(BadRequestException.class, () -> autoImportService.startImport(upload("")));
+        verify(importer, never()).submit(any(), any());
+    }
+
+    @Test
+    @DisplayName("Debe retornar una importación terminada al 100% con sus rechazos")
+    void getImport_Completed_ShouldReturnFullProgress() {
+        // Arrange
+        ImportJob job = job(ImportJob.Status.COMPLETADO, 40, 30);
+        when(job.getRechazadas()).thenReturn(1L);
+        when(job.getRejects()).thenReturn(List.of(new ImportJob.Reject(3, "Email inválido")));
+        when(importer.find("job-1")).thenReturn(Optional.of(job));
+
+        // Act
+        ImportJobDTO result = autoImportService.getImport("job-1");
+
+        // Assert
+        assertEquals(100.0, result.getProgreso());
+        assertEquals(1, result.getRechazadas());
+        assertEquals(3, result.getRechazos().get(0).getLinea());
+        assertEquals("Email inválido", result.getRechazos().get(0).getMotivo());
+    }
+
+    @Test
+    @DisplayName("Debe retornar progreso cero para un archivo sin bytes contados")
+    void getImport_WithoutTotalBytes_ShouldReturnZeroProgress() {
+        // Arrange
+        ImportJob job = job(ImportJob.Status.EN_CURSO, 0, 0);
+        when(importer.find("job-1")).thenReturn(Optional.of(job));
+
+        // Act
+        ImportJobDTO result = autoImportService.getImport("job-1");
+
+        // Assert
+        assertEquals(0.0, result.getProgreso());
+    }
+
+    @Test
+    @DisplayName("Debe lanzar excepción cuando la importación no existe")
+    void getImport_Unknown_ShouldThrowNotFound() {
+        // Arrange
+        when(importer.find("otro")).thenReturn(Optional.empty());
+
+        // Act & Assert
+        assertThrows(ResourceNotFoundException.class, () -> autoImportService.getImport("otro"));
+    }
+
+    private static MockMultipartFile upload(String content) {
+        return new MockMultipartFile("archivo", "autos.csv", "text/csv", content.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static ImportJob job(ImportJob.Status status, long totalBytes, long bytesLeidos) {
+        ImportJob job = mock(ImportJob.class);
+        when(job.getId()).thenReturn("job-1");
+        when(job.getStatus()).thenReturn(status);
+        lenient().when(job.getTotalBytes()).thenReturn(totalBytes);
+        lenient().when(job.getBytesLeidos()).thenReturn(bytesLeidos);
+        return job;
+    }
+}
@@ -0,0 +1,106 @@
+package com.empleados.api.service;
+
+import com.empleados.api.dto.AutoDTO;
+import com.empleados.api.dto.IngestionTicketDTO;
+import com.empleados.api.exception.BadRequestException;
+import com.empleados.api.exception.ResourceNotFoundException;
+import com.empleados.api.ingest.AutoIngestionQueue;
+import com.empleados.api.service.impl.AutoIngestionServiceImpl;
+import com.empleados.api.util.TestDataBuilder;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+/**
+ * Pruebas unitarias para AutoIngestionServiceImpl
+ */
+@ExtendWith(MockitoExtension.class)
+class AutoIngestionServiceTest {
+
+    @Mock
+    private AutoIngestionQueue queue;
+
+    @InjectMocks
+    private AutoIngestionServiceImpl autoIngestionService;
+
+    @Test
+    @DisplayName("Debe encolar el auto sin su id y retornar el ticket")
+    void submit_ShouldClearIdAndReturnTicket() {
+        // Arrange
+        AutoDTO auto = TestDataBuilder.createAutoDTO();
+        when(queue.submit(auto)).thenReturn(
+                new AutoIngestionQueue.TicketStatus(7, AutoIngestionQueue.Status.PENDIENTE, null, null));
+
+        // Act
+        IngestionTicketDTO result = autoIngestionService.submit(auto);
+
+        // Assert
+        assertNull(auto.getId());
+        assertEquals(7, result.getTicket());
+        assertEquals("PENDIENTE", result.getEstado());
+    }
+
+    @Test
+    @DisplayName("Debe retornar el estado actual del ticket sin esperar")
+    void getStatus_WithoutWait_ShouldReturnCurrentStatus() {
+        // Arrange
+        when(queue.status(7)).thenReturn(Optional.of(
+                new AutoIngestionQueue.TicketStatus(7, AutoIngestionQueue.Status.GUARDADO, 42L, null)));
+
+        // Act
+        IngestionTicketDTO result = autoIngestionService.getStatus(7, 0).join();
+
+        // Assert
+        assertEquals("GUARDADO", result.getEstado());
+        assertEquals(42L, result.getAutoId());
+        verify(queue, never()).await(anyLong(), any());
+    }
+
+    @Test
+    @DisplayName("Debe esperar a que el ticket se resuelva")
+    void getStatus_WithWait_ShouldAwaitQueue() {
+        // Arrange
+        when(queue.await(7, Duration.ofMillis(500))).thenReturn(Optional.of(CompletableFuture.completedFuture(
+                new AutoIngestionQueue.TicketStatus(7, AutoIngestionQueue.Status.RECHAZADO, null, "Email duplicado"))));
+
+        // Act
+        IngestionTicketDTO result = autoIngestionService.getStatus(7, 500).join();
+
+        // Assert
+        assertEquals("RECHAZADO", result.getEstado());
+        assertEquals("Email duplicado", result.getMotivo());
+    }
+
+    @Test
+    @DisplayName("Debe lanzar excepción con un ticket desconocido")
+    void getStatus_UnknownTicket_ShouldThrowNotFound() {
+        // Arrange
+        when(queue.status(9)).thenReturn(Optional.empty());
+        when(queue.await(9, Duration.ofMillis(100))).thenReturn(Optional.empty());
+
+        // Act & Assert
+        assertThrows(ResourceNotFoundException.class, () -> autoIngestionService.getStatus(9, 0));
+        assertThrows(ResourceNotFoundException.class, () -> autoIngestionService.getStatus(9, 100));
+    }
+
+    @Test
+    @DisplayName("Debe rechazar una espera negativa o mayor que el máximo")
+    void getStatus_WithInvalidWait_ShouldThrowBadRequest() {
+        // Act & Assert
+        assertThrows(BadRequestException.class, () -> autoIngestionService.getStatus(7, -1));
+        assertThrows(BadRequestException.class, () -> autoIngestionService.getStatus(7, 30_001));
+        verifyNoInteractions(queue);
+    }
+}
@@ -1,9 +1,20 @@
 package com.empleados.api.service;
 
+import com.empleados.api.cache.AutoCache;
 import com.empleados.api.dto.AutoDTO;
+import com.empleados.api.dto.AutoPageDTO;
+import com.empleados.api.event.AutoChangedEvent;
+import com.empleados.api.exception.BadRequestException;
 import com.empleados.api.exception.ResourceNotFoundException;
+import com.empleados.api.ingest.AutoCreateBatcher;
 import com.empleados.api.model.Auto;
+import com.empleados.api.registry.EmailReservationRegistry;
+import com.empleados.api.replica.HedgedReads;
+import com.empleados.api.replica.ReadConsistency;
+import com.empleados.api.replica.ReplicaSet;
+import com.empleados.api.repository.AutoKeyset;
 import com.empleados.api.repository.AutoRepository;
+import com.empleados.api.repository.AutoSortField;
 import com.empleados.api.service.impl.AutoServiceImpl;
 import com.empleados.api.util.TestDataBuilder;
 import org.junit.jupiter.api.BeforeEach;
@@ -12,18 +23,24 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.PlatformTransactionManager;
 
 import java.math.BigDecimal;
+import java.time.Duration;
 import java.time.LocalDate;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.*;
 
@@ -33,6 +50,33 @@ class AutoServiceTest {
     @Mock
     private AutoRepository autoRepository;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Spy
+    private EmailReservationRegistry emailReservations = new EmailReservationRegistry();
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Mock
+    private ObjectProvider<AutoCreateBatcher> createBatcherProvider;
+
+    @Mock
+    private AutoCreateBatcher createBatcher;
+
+    @Mock
+    private ObjectProvider<HedgedReads> hedgedReadsProvider;
+
+    @Mock
+    private HedgedReads hedgedReads;
+
+    @Mock
+    private ObjectProvider<AutoCache> autoCacheProvider;
+
+    @Mock
+    private ObjectProvider<ReplicaSet> replicaSetProvider;
+
     @InjectMocks
     private AutoServiceImpl autoService;
 
@@ -69,6 +113,37 @@ class AutoServiceTest {
         verify(autoRepository, times(1)).findAll();
     }
 
+    @Test
+    @DisplayName("Debe devolver una página y el cursor de la siguiente")
+    void getAutomovilesPage_WithMoreRows_ShouldReturnCursor() {
+        // Arrange
+        when(autoRepository.findPage(AutoSortField.MARCA, true, null, 2))
+                .thenReturn(Arrays.asList(auto, auto2));
+        when(autoRepository.findPage(AutoSortField.MARCA, true, new AutoKeyset("Nissan", 1L), 2))
+                .thenReturn(List.of(auto2));
+
+        // Act
+        AutoPageDTO first = autoService.getAutomovilesPage("marca", "desc", null, 1);
+        AutoPageDTO last = autoService.getAutomovilesPage("marca", "desc", first.getSiguiente(), 1);
+
+        // Assert
+        assertEquals(List.of("Juan"), first.getAutomoviles().stream().map(AutoDTO::getNombre).toList());
+        assertEquals("marca", first.getOrdenarPor());
+        assertEquals("desc", first.getDireccion());
+        assertNotNull(first.getSiguiente());
+        assertEquals(List.of("Ana"), last.getAutomoviles().stream().map(AutoDTO::getNombre).toList());
+        assertNull(last.getSiguiente());
+    }
+
+    @Test
+    @DisplayName("Debe rechazar una ordenación o un cursor no válidos")
+    void getAutomovilesPage_WithInvalidParameters_ShouldThrow() {
+        assertThrows(BadRequestException.class, () -> autoService.getAutomovilesPage("email", "asc", null, 10));
+        assertThrows(BadRequestException.class, () -> autoService.getAutomovilesPage("id", "arriba", null, 10));
+        assertThrows(BadRequestException.class, () -> autoService.getAutomovilesPage("costo", "asc", "no-es-un-cursor", 10));
+        verifyNoInteractions(autoRepository);
+    }
+
     @Test
     @DisplayName("Debe retornar un auto por ID")
     void getAutoById_WhenEmpleadoExists_ShouldReturnAuto() {
@@ -87,6 +162,96 @@ class AutoServiceTest {
         verify(autoRepository, times(1)).findById(1L);
     }
 
+    @Test
+    @DisplayName("Debe obtener el auto por id con lecturas cubiertas cuando hay réplicas")
+    void getAutoById_WithHedgedReads_ShouldDelegate() {
+        // Arrange
+        when(hedgedReadsProvider.getIfAvailable()).thenReturn(hedgedReads);
+        when(hedgedReads.read(any())).thenAnswer(invocation -> ((Supplier<?>) invocation.getArgument(0)).get());
+        when(autoRepository.findById(1L)).thenReturn(Optional.of(auto));
+        AutoServiceImpl hedgedService = new AutoServiceImpl(autoRepository, eventPublisher, emailReservations,
+                transactionManager, createBatcherProvider, hedgedReadsProvider, autoCacheProvider,
+                replicaSetProvider);
+
+        // Act
+        AutoDTO result = hedgedService.getAutoById(1L);
+
+        // Assert
+        assertEquals("Juan", result.getNombre());
+        verify(hedgedReads).read(any());
+    }
+
+    @Test
+    @DisplayName("Debe servir desde la caché las consultas repetidas de un auto")
+    void getAutoById_WithCache_ShouldLoadOnce() {
+        // Arrange
+        AutoCache autoCache = new AutoCache(100, Duration.ofMinutes(1));
+        when(autoCacheProvider.getIfAvailable()).thenReturn(autoCache);
+        when(autoRepository.findById(1L)).thenReturn(Optional.of(auto));
+        AutoServiceImpl cachedService = new AutoServiceImpl(autoRepository, eventPublisher, emailReservations,
+                transactionManager, createBatcherProvider, hedgedReadsProvider, autoCacheProvider,
+                replicaSetProvider);
+
+        // Act
+        AutoDTO first = cachedService.getAutoById(1L);
+        first.setNombre("Modificado");
+        AutoDTO second = cachedService.getAutoById(1L);
+
+        // Assert
+        assertEquals("Juan", second.getNombre());
+        assertEquals(1, autoCache.getHits());
+        verify(autoRepository, times(1)).findById(1L);
+    }
+
+    @Test
+    @DisplayName("Debe saltarse la caché cuando el cliente trae un token de consistencia")
+    void getAutoById_WithConsistencyToken_ShouldBypassCache() {
+        // Arrange
+        AutoCache autoCache = new AutoCache(100, Duration.ofMinutes(1));
+        when(autoCacheProvider.getIfAvailable()).thenReturn(autoCache);
+        when(autoRepository.findById(1L)).thenReturn(Optional.of(auto));
+        AutoServiceImpl cachedService = new AutoServiceImpl(autoRepository, eventPublisher, emailReservations,
+                transactionManager, createBatcherProvider, hedgedReadsProvider, autoCacheProvider,
+                replicaSetProvider);
+
+        // Act
+        try (ReadConsistency.Scope scope = ReadConsistency.require(5)) {
+            cachedService.getAutoById(1L);
+            cachedService.getAutoById(1L);
+        }
+
+        // Assert
+        assertEquals(0, autoCache.size());
+        assertEquals(0, autoCache.getHits());
+        verify(autoRepository, times(2)).findById(1L);
+    }
+
+    @Test
+    @DisplayName("Debe cargar la caché solo desde el primario o una réplica al día")
+    void getAutoById_WithCacheAndReplicas_ShouldRequireCurrentToken() {
+        // Arrange
+        ReplicaSet replicaSet = new ReplicaSet(List.of(), ReplicaSet.Selection.ROUND_ROBIN, 5, 1);
+        AtomicLong requerida = new AtomicLong(-1);
+        when(autoCacheProvider.getIfAvailable()).thenReturn(new AutoCache(100, Duration.ofMinutes(1)));
+        when(replicaSetProvider.getIfAvailable()).thenReturn(replicaSet);
+        when(hedgedReadsProvider.getIfAvailable()).thenReturn(hedgedReads);
+        when(hedgedReads.read(any())).thenAnswer(invocation -> {
+            requerida.set(ReadConsistency.required());
+            return ((Supplier<?>) invocation.getArgument(0)).get();
+        });
+        when(autoRepository.findById(1L)).thenReturn(Optional.of(auto));
+        AutoServiceImpl cachedService = new AutoServiceImpl(autoRepository, eventPublisher, emailReservations,
+                transactionManager, createBatcherProvider, hedgedReadsProvider, autoCacheProvider,
+                replicaSetProvider);
+
+        // Act
+        cachedService.getAutoById(1L);
+
+        // Assert
+        assertEquals(replicaSet.currentToken(), requerida.get());
+        assertEquals(0, ReadConsistency.required());
+    }
+
     @Test
     @DisplayName("Debe lanzar excepción cuando el auto no existe")
     void getAutoById_WhenAutoDoesNotExist_ShouldThrowException() {
@@ -151,6 +316,7 @@ class AutoServiceTest {
         
         verify(autoRepository, times(1)).findByEmail(anyString());
         verify(autoRepository, times(1)).save(any(Auto.class));
+        verify(eventPublisher, times(1)).publishEvent(any(AutoChangedEvent.class));
     }
 
     @Test
@@ -165,6 +331,42 @@ class AutoServiceTest {
         
         verify(autoRepository, times(1)).findByEmail("juan.perez@example.com");
         verify(autoRepository, never()).save(any(Auto.class));
+        verify(eventPublisher, never()).publishEvent(any());
+    }
+
+    @Test
+    @DisplayName("Debe fallar sin consultar la base cuando otra transacción reservó el email")
+    void createAuto_WithEmailReservedElsewhere_ShouldFailFast() {
+        // Arrange
+        AutoDTO newAutoDTO = TestDataBuilder.createNewAutoDTO();
+        doReturn(false).when(emailReservations).tryReserve(newAutoDTO.getEmail());
+
+        // Act & Assert
+        DataIntegrityViolationException exception = assertThrows(DataIntegrityViolationException.class,
+                () -> autoService.createAuto(newAutoDTO));
+        assertEquals("Error al crear el auto: Ya existe un auto con el email: " + newAutoDTO.getEmail(), exception.getMessage());
+        verify(autoRepository, never()).findByEmail(anyString());
+        verify(autoRepository, never()).save(any(Auto.class));
+    }
+
+    @Test
+    @DisplayName("Debe delegar la creación en el agrupador de altas cuando está habilitado")
+    void createAuto_WithBatcher_ShouldDelegateToBatcher() {
+        // Arrange
+        AutoDTO newAutoDTO = TestDataBuilder.createNewAutoDTO();
+        when(createBatcherProvider.getIfAvailable()).thenReturn(createBatcher);
+        when(createBatcher.create(newAutoDTO)).thenReturn(autoDTO);
+        AutoServiceImpl batchedService = new AutoServiceImpl(autoRepository, eventPublisher, emailReservations,
+                transactionManager, createBatcherProvider, hedgedReadsProvider, autoCacheProvider,
+                replicaSetProvider);
+
+        // Act
+        AutoDTO result = batchedService.createAuto(newAutoDTO);
+
+        // Assert
+        assertEquals(1L, result.getId());
+        verify(createBatcher, times(1)).create(newAutoDTO);
+        verifyNoInteractions(autoRepository, transactionManager);
     }
 
     @Test
@@ -214,6 +416,7 @@ class AutoServiceTest {
         
         verify(autoRepository, times(1)).findById(1L);
         verify(autoRepository, times(1)).save(any(Auto.class));
+        verify(eventPublisher, times(1)).publishEvent(any(AutoChangedEvent.class));
     }
 
     @Test
@@ -266,30 +469,32 @@ class AutoServiceTest {
     @DisplayName("Debe eliminar un auto existente")
     void deleteAuto_WhenEmpleadoExists_ShouldDeleteAuto() {
         // Arrange
-        when(autoRepository.existsById(1L)).thenReturn(true);
-        doNothing().when(autoRepository).deleteById(1L);
+        when(autoRepository.findById(1L)).thenReturn(Optional.of(auto));
+        doNothing().when(autoRepository).delete(auto);
 
         // Act
         autoService.deleteAuto(1L);
 
         // Assert
-        verify(autoRepository, times(1)).existsById(1L);
-        verify(autoRepository, times(1)).deleteById(1L);
+        verify(autoRepository, times(1)).findById(1L);
+        verify(autoRepository, times(1)).delete(auto);
+        verify(eventPublisher, times(1)).publishEvent(any(AutoChangedEvent.class));
     }
 
     @Test
     @DisplayName("Debe lanzar excepción al eliminar un auto inexistente")
     void deleteAuto_WhenAutoDoesNotExist_ShouldThrowException() {
         // Arrange
-        when(autoRepository.existsById(99L)).thenReturn(false);
+        when(autoRepository.findById(99L)).thenReturn(Optional.empty());
 
         // Act & Assert
         ResourceNotFoundException exception = assertThrows(ResourceNotFoundException.class, 
                 () -> autoService.deleteAuto(99L));
         
         assertTrue(exception.getMessage().contains("99"));
-        verify(autoRepository, times(1)).existsById(99L);
-        verify(autoRepository, never()).deleteById(anyLong());
+        verify(autoRepository, times(1)).findById(99L);
+        verify(autoRepository, never()).delete(any(Auto.class));
+        verify(eventPublisher, never()).publishEvent(any());
     }
 
     @Test
@@ -0,0 +1,150 @@
+package com.empleados.api.service;
+
+import com.empleados.api.analytics.AutoColumn;
+import com.empleados.api.analytics.AutoColumnStore;
+import com.empleados.api.analytics.CostSummary;
+import com.empleados.api.analytics.DashboardFigures;
+import com.empleados.api.analytics.DashboardStats;
+import com.empleados.api.dto.CostStatsDTO;
+import com.empleados.api.dto.DashboardStatsDTO;
+import com.empleados.api.dto.HistogramBucketDTO;
+import com.empleados.api.service.impl.AutoStatsServiceImpl;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Pruebas unitarias para AutoStatsServiceImpl
+ */
+@ExtendWith(MockitoExtension.class)
+class AutoStatsServiceTest {
+
+    @Mock
+    private AutoColumnStore columnStore;
+
+    @Mock
+    private DashboardStats dashboardStats;
+
+    @InjectMocks
+    private AutoStatsServiceImpl autoStatsService;
+
+    @Test
+    @DisplayName("Debe contar automoviles por columna")
+    void getCountBy_ShouldDelegateToColumnStore() {
+        // Arrange
+        when(columnStore.countBy(AutoColumn.MARCA)).thenReturn(Map.of("Nissan", 2L));
+
+        // Act
+        Map<String, Long> result = autoStatsService.getCountBy(AutoColumn.MARCA);
+
+        // Assert
+        assertEquals(Map.of("Nissan", 2L), result);
+    }
+
+    @Test
+    @DisplayName("Debe convertir a importes las sumas de costo por columna")
+    void getCostoSumBy_ShouldConvertCents() {
+        // Arrange
+        when(columnStore.sumCostoCentsBy(AutoColumn.DEPARTAMENTO)).thenReturn(Map.of("Tecnología", 10_200_050L));
+
+        // Act
+        Map<String, BigDecimal> result = autoStatsService.getCostoSumBy(AutoColumn.DEPARTAMENTO);
+
+        // Assert
+        assertEquals(new BigDecimal("102000.50"), result.get("Tecnología"));
+    }
+
+    @Test
+    @DisplayName("Debe sumar el costo de toda la flota o de un departamento")
+    void getCostoSum_ShouldFilterByDepartamento() {
+        // Arrange
+        when(columnStore.sumCostoCents()).thenReturn(300_000L);
+        when(columnStore.sumCostoCents("Ventas")).thenReturn(100_000L);
+
+        // Act & Assert
+        assertEquals(new BigDecimal("3000.00"), autoStatsService.getCostoSum(null));
+        assertEquals(new BigDecimal("1000.00"), autoStatsService.getCostoSum("Ventas"));
+    }
+
+    @Test
+    @DisplayName("Debe resumir el costo de la flota y de cada grupo")
+    void getCostoStats_ShouldSummarize() {
+        // Arrange
+        when(columnStore.costSummary()).thenReturn(new CostSummary(2, 10_200_000L, 5_000_000L, 5_200_000L));
+        when(columnStore.costSummaryBy(AutoColumn.MARCA)).thenReturn(Map.of("Kia", new CostSummary(0, 0, 0, 0)));
+
+        // Act
+        CostStatsDTO total = autoStatsService.getCostoStats();
+        Map<String, CostStatsDTO> porMarca = autoStatsService.getCostoStatsBy(AutoColumn.MARCA);
+
+        // Assert
+        assertEquals(2, total.getTotal());
+        assertEquals(new BigDecimal("51000.00"), total.getPromedio());
+        assertEquals(new BigDecimal("50000.00"), total.getMinimo());
+        assertEquals(new BigDecimal("52000.00"), total.getMaximo());
+        assertEquals(0, porMarca.get("Kia").getTotal());
+        assertNull(porMarca.get("Kia").getPromedio());
+    }
+
+    @Test
+    @DisplayName("Debe contar las compras de un periodo y agruparlas en un histograma")
+    void compras_ShouldCountAndBucket() {
+        // Arrange
+        LocalDate desde = LocalDate.of(2020, 1, 1);
+        when(columnStore.countFechaCompraBetween(desde, LocalDate.of(2020, 12, 31))).thenReturn(4L);
+        when(columnStore.fechaCompraHistogram(desde, 30, 2)).thenReturn(new long[] {3, 1});
+
+        // Act
+        long total = autoStatsService.countComprasBetween(desde, LocalDate.of(2020, 12, 31));
+        List<HistogramBucketDTO> histograma = autoStatsService.getComprasHistogram(desde, 30, 2);
+
+        // Assert
+        assertEquals(4, total);
+        assertEquals(2, histograma.size());
+        assertEquals(LocalDate.of(2020, 1, 30), histograma.get(0).getHasta());
+        assertEquals(LocalDate.of(2020, 1, 31), histograma.get(1).getDesde());
+        assertEquals(1, histograma.get(1).getTotal());
+    }
+
+    @Test
+    @DisplayName("Debe calcular el costo promedio del tablero a partir de las cifras mantenidas")
+    void getDashboardStats_ShouldUseMaintainedFigures() {
+        // Arrange
+        when(dashboardStats.figures()).thenReturn(new DashboardFigures(3, 10_000L,
+                Map.of("Nissan", 3L), Map.of("Ventas", 3L)));
+
+        // Act
+        DashboardStatsDTO result = autoStatsService.getDashboardStats();
+
+        // Assert
+        assertEquals(3, result.getTotal());
+        assertEquals(new BigDecimal("100.00"), result.getCostoTotal());
+        assertEquals(new BigDecimal("33.33"), result.getCostoPromedio());
+        assertEquals(Map.of("Nissan", 3L), result.getMarcas());
+        assertEquals(Map.of("Ventas", 3L), result.getDepartamentos());
+    }
+
+    @Test
+    @DisplayName("Debe retornar costo promedio cero con la flota vacía")
+    void getDashboardStats_WithoutAutos_ShouldNotDivideByZero() {
+        // Arrange
+        when(dashboardStats.figures()).thenReturn(new DashboardFigures(0, 0L, Map.of(), Map.of()));
+
+        // Act
+        DashboardStatsDTO result = autoStatsService.getDashboardStats();
+
+        // Assert
+        assertEquals(new BigDecimal("0.00"), result.getCostoPromedio());
+    }
+}
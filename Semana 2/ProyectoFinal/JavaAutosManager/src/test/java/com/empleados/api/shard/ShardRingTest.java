@@ -0,0 +1,75 @@
+package com.empleados.api.shard;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Pruebas unitarias para ShardRing
+ */
+class ShardRingTest {
+
+    @Test
+    @DisplayName("Debe asignar siempre la misma partición a un departamento")
+    void shardFor_SameKey_ShouldBeStable() {
+        // Arrange
+        ShardRing ring = new ShardRing(3, 128);
+        ShardRing other = new ShardRing(3, 128);
+
+        // Act & Assert
+        for (int i = 0; i < 100; i++) {
+            String departamento = "Departamento " + i;
+            assertEquals(ring.shardFor(departamento), ring.shardFor(departamento));
+            assertEquals(ring.shardFor(departamento), other.shardFor(departamento));
+        }
+        assertEquals(ring.shardFor(""), ring.shardFor(null));
+    }
+
+    @Test
+    @DisplayName("Debe repartir los departamentos de forma equilibrada")
+    void shardFor_ManyKeys_ShouldSpreadEvenly() {
+        // Arrange
+        ShardRing ring = new ShardRing(4, 128);
+        int[] counts = new int[4];
+
+        // Act
+        for (int i = 0; i < 10_000; i++) {
+            counts[ring.shardFor("Departamento " + i)]++;
+        }
+
+        // Assert
+        for (int count : counts) {
+            assertTrue(count > 1_750 && count < 3_250, "Reparto desequilibrado: " + count);
+        }
+    }
+
+    @Test
+    @DisplayName("Al añadir una partición solo debe mover una fracción de los departamentos")
+    void shardFor_AddShard_ShouldMoveFewKeys() {
+        // Arrange
+        ShardRing before = new ShardRing(3, 128);
+        ShardRing after = new ShardRing(4, 128);
+        int moved = 0;
+
+        // Act
+        for (int i = 0; i < 10_000; i++) {
+            String departamento = "Departamento " + i;
+            int previous = before.shardFor(departamento);
+            int current = after.shardFor(departamento);
+            if (previous != current) {
+                moved++;
+                assertEquals(3, current, "Solo debe moverse a la nueva partición");
+            }
+        }
+
+        // Assert
+        assertTrue(moved > 1_750 && moved < 3_250, "Departamentos movidos: " + moved);
+    }
+
+    @Test
+    @DisplayName("Debe rechazar un anillo sin particiones")
+    void constructor_NoShards_ShouldThrow() {
+        assertThrows(IllegalArgumentException.class, () -> new ShardRing(0, 128));
+    }
+}
@@ -0,0 +1,46 @@
+package com.empleados.api.shard;
+
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Pruebas unitarias para ShardSchema
+ */
+class ShardSchemaTest {
+
+    private JdbcDataSource home;
+
+    @BeforeEach
+    void setUp() {
+        home = new JdbcDataSource();
+        home.setURL("jdbc:h2:mem:shard-schema-" + System.nanoTime() + ";DB_CLOSE_DELAY=-1");
+        new JdbcTemplate(home).execute("CREATE TABLE automoviles (id BIGINT PRIMARY KEY, departamento VARCHAR(100))");
+    }
+
+    @Test
+    @DisplayName("Debe registrar el número de particiones y aceptar el mismo en los arranques siguientes")
+    void prepare_WithSameShardCount_ShouldStart() {
+        // Act
+        ShardSchema.prepare(home, 3);
+        ShardSchema.prepare(home, 3);
+
+        // Assert
+        assertEquals(3, new JdbcTemplate(home).queryForObject("SELECT shards FROM shard_layout WHERE id = 1", Integer.class));
+    }
+
+    @Test
+    @DisplayName("Debe negarse a arrancar si cambia el número de particiones")
+    void prepare_WithDifferentShardCount_ShouldFail() {
+        // Arrange
+        ShardSchema.prepare(home, 3);
+
+        // Act & Assert
+        IllegalStateException error = assertThrows(IllegalStateException.class, () -> ShardSchema.prepare(home, 4));
+        assertTrue(error.getMessage().contains("repartidos en 3 particiones y se configuraron 4"));
+    }
+}
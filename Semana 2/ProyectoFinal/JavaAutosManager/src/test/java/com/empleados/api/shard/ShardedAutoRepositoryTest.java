@@ -0,0 +1,593 @@
+package com.empleados.api.shard;
+
+import com.empleados.api.id.IdAllocator;
+import com.empleados.api.model.Auto;
+import com.empleados.api.repository.AutoRepository;
+import com.empleados.api.repository.ValueCount;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.EntityNotFoundException;
+import jakarta.persistence.EntityTransaction;
+import jakarta.persistence.Query;
+import jakarta.persistence.TypedQuery;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.IncorrectResultSizeDataAccessException;
+import org.springframework.data.domain.Example;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.repository.query.FluentQuery;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * Pruebas unitarias para ShardedAutoRepository, con cada partición simulada en memoria
+ */
+class ShardedAutoRepositoryTest {
+
+    private final Map<Integer, Map<Long, Auto>> stores = new ConcurrentHashMap<>();
+    private final Set<Integer> failingDeletes = ConcurrentHashMap.newKeySet();
+    private final AtomicLong sequence = new AtomicLong();
+
+    private ShardSet shardSet;
+    private AutoRepository delegate;
+    private EntityManagerFactory entityManagerFactory;
+    private ShardedAutoRepository repository;
+
+    @BeforeEach
+    void setUp() {
+        shardSet = new ShardSet(new ShardRing(3, 128), List.of(mock(DataSource.class), mock(DataSource.class)));
+        delegate = mock(AutoRepository.class);
+        fakeShards();
+
+        IdAllocator idAllocator = mock(IdAllocator.class);
+        when(idAllocator.partitionOf(anyLong())).thenAnswer(invocation -> (int) Math.floorMod((long) invocation.getArgument(0), 3L));
+
+        PlatformTransactionManager transactionManager = mock(PlatformTransactionManager.class);
+        when(transactionManager.getTransaction(any())).thenReturn(mock(TransactionStatus.class));
+
+        entityManagerFactory = mock(EntityManagerFactory.class);
+        EntityManager entityManager = mock(EntityManager.class);
+        when(entityManagerFactory.createEntityManager()).thenReturn(entityManager);
+        fakeInsertWithId(entityManager);
+        fakeExportQuery(entityManager);
+
+        repository = new ShardedAutoRepository(delegate, shardSet, idAllocator, mock(DataSource.class),
+                entityManagerFactory, transactionManager, 2);
+    }
+
+    @AfterEach
+    void tearDown() {
+        repository.close();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("Debe guardar un auto nuevo en la partición de su departamento")
+    void save_NewAuto_ShouldGoToShardOfDepartamento() {
+        // Act
+        Auto saved = repository.save(auto(null, departamentoOn(2)));
+
+        // Assert
+        assertEquals(2, saved.getId() % 3);
+        assertTrue(store(2).containsKey(saved.getId()));
+        assertTrue(store(0).isEmpty());
+        assertTrue(store(1).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Debe actualizar en su partición un auto que no cambia de departamento")
+    void save_SameDepartamento_ShouldUpdateInPlace() {
+        // Arrange
+        Auto saved = repository.save(auto(null, departamentoOn(1)));
+        saved.setNombre("Cambiado");
+
+        // Act
+        repository.save(saved);
+
+        // Assert
+        assertEquals("Cambiado", store(1).get(saved.getId()).getNombre());
+        assertEquals(1, store(1).size());
+        verify(entityManagerFactory, never()).createEntityManager();
+    }
+
+    @Test
+    @DisplayName("Debe leer de una sola partición un auto que sigue en la de su id")
+    void findById_OnHomeShard_ShouldNotFanOut() {
+        // Arrange
+        Auto saved = repository.save(auto(null, departamentoOn(1)));
+        long fanOutBefore = repository.getFanOutQueries();
+
+        // Act
+        Optional<Auto> found = repository.findById(saved.getId());
+
+        // Assert
+        assertTrue(found.isPresent());
+        assertEquals(fanOutBefore, repository.getFanOutQueries());
+    }
+
+    @Test
+    @DisplayName("Debe buscar en las demás particiones un auto trasladado")
+    void findById_MovedAuto_ShouldFanOut() {
+        // Arrange
+        Auto saved = repository.save(auto(null, departamentoOn(1)));
+        saved.setDepartamento(departamentoOn(2));
+        repository.save(saved);
+        long fanOutBefore = repository.getFanOutQueries();
+
+        // Act
+        Auto found = repository.findById(saved.getId()).orElseThrow();
+
+        // Assert
+        assertEquals(departamentoOn(2), found.getDepartamento());
+        assertTrue(repository.existsById(saved.getId()));
+        assertTrue(repository.getFanOutQueries() > fanOutBefore);
+        assertThrows(EntityNotFoundException.class, () -> repository.getReferenceById(999L));
+    }
+
+    @Test
+    @DisplayName("Debe trasladar el auto con su id y borrarlo de la partición anterior sin transacción del llamante")
+    void save_NewDepartamento_WithoutTransaction_ShouldMoveAtOnce() {
+        // Arrange
+        Auto saved = repository.save(auto(null, departamentoOn(1)));
+        saved.setDepartamento(departamentoOn(0));
+
+        // Act
+        repository.save(saved);
+
+        // Assert
+        assertFalse(store(1).containsKey(saved.getId()));
+        assertEquals(departamentoOn(0), store(0).get(saved.getId()).getDepartamento());
+    }
+
+    @Test
+    @DisplayName("Debe borrar la copia y propagar el error si falla el borrado en la partición anterior")
+    void save_NewDepartamento_WhenSourceDeleteFails_ShouldDeleteCopy() {
+        // Arrange
+        Auto saved = repository.save(auto(null, departamentoOn(1)));
+        saved.setDepartamento(departamentoOn(2));
+        failingDeletes.add(1);
+
+        // Act & Assert
+        assertThrows(IllegalStateException.class, () -> repository.save(saved));
+        assertTrue(store(1).containsKey(saved.getId()));
+        assertFalse(store(2).containsKey(saved.getId()));
+    }
+
+    @Test
+    @DisplayName("Debe esperar a la confirmación del llamante para borrar el auto de la partición anterior")
+    void save_NewDepartamento_InTransaction_ShouldDeleteSourceAfterCommit() {
+        // Arrange
+        Auto saved = repository.save(auto(null, departamentoOn(1)));
+        saved.setDepartamento(departamentoOn(2));
+        TransactionSynchronizationManager.initSynchronization();
+
+        // Act
+        repository.save(saved);
+        boolean enAmbasAntes = store(1).containsKey(saved.getId()) && store(2).containsKey(saved.getId());
+        complete(TransactionSynchronization.STATUS_COMMITTED);
+
+        // Assert
+        assertTrue(enAmbasAntes);
+        assertFalse(store(1).containsKey(saved.getId()));
+        assertTrue(store(2).containsKey(saved.getId()));
+    }
+
+    @Test
+    @DisplayName("Debe borrar la copia en otra partición si el llamante deshace su transacción")
+    void save_NewDepartamento_RolledBack_ShouldDeleteCopyOnOtherShard() {
+        // Arrange
+        Auto saved = repository.save(auto(null, departamentoOn(0)));
+        saved.setDepartamento(departamentoOn(1));
+        TransactionSynchronizationManager.initSynchronization();
+
+        // Act
+        repository.save(saved);
+        complete(TransactionSynchronization.STATUS_ROLLED_BACK);
+
+        // Assert
+        assertTrue(store(0).containsKey(saved.getId()));
+        assertFalse(store(1).containsKey(saved.getId()));
+    }
+
+    @Test
+    @DisplayName("Debe dejar a la transacción del llamante deshacer la copia en la partición cero")
+    void save_NewDepartamentoOnHomeShard_RolledBack_ShouldNotCompensate() {
+        // Arrange
+        Auto saved = repository.save(auto(null, departamentoOn(2)));
+        saved.setDepartamento(departamentoOn(0));
+        TransactionSynchronizationManager.initSynchronization();
+
+        // Act
+        repository.save(saved);
+        complete(TransactionSynchronization.STATUS_ROLLED_BACK);
+
+        // Assert
+        assertTrue(store(2).containsKey(saved.getId()));
+        // The fake home shard keeps what a real rollback would undo: no compensating delete ran there
+        assertTrue(store(0).containsKey(saved.getId()));
+    }
+
+    @Test
+    @DisplayName("Debe borrar el auto en la partición donde esté")
+    void deleteById_ShouldDeleteWhereverItIs() {
+        // Arrange
+        Auto primero = repository.save(auto(null, departamentoOn(1)));
+        Auto segundo = repository.save(auto(null, departamentoOn(2)));
+        segundo.setDepartamento(departamentoOn(0));
+        repository.save(segundo);
+
+        // Act
+        repository.delete(primero);
+        repository.deleteAllById(List.of(segundo.getId(), 999L));
+
+        // Assert
+        stores.values().forEach(store -> assertTrue(store.isEmpty()));
+    }
+
+    @Test
+    @DisplayName("Debe leer un departamento de una sola partición")
+    void findByDepartamento_ShouldReadOneShard() {
+        // Arrange
+        repository.save(auto(null, departamentoOn(1)));
+        repository.save(auto(null, departamentoOn(2)));
+        long fanOutBefore = repository.getFanOutQueries();
+
+        // Act
+        List<Auto> found = repository.findByDepartamento(departamentoOn(2));
+
+        // Assert
+        assertEquals(1, found.size());
+        assertEquals(fanOutBefore, repository.getFanOutQueries());
+    }
+
+    @Test
+    @DisplayName("Debe combinar listas, conteos y sumas de todas las particiones")
+    void fanOut_ShouldMergeAllShards() {
+        // Arrange
+        List<Auto> saved = saveOnEveryShard();
+
+        // Act
+        List<Auto> all = repository.findAll();
+        List<Auto> porCosto = repository.findAll(Sort.by(Sort.Direction.DESC, "costo"));
+        Map<String, Long> porMarca = repository.countByMarca().stream()
+                .collect(Collectors.toMap(ValueCount::getValor, ValueCount::getTotal));
+
+        // Assert
+        assertEquals(saved.stream().map(Auto::getId).sorted().toList(), all.stream().map(Auto::getId).toList());
+        assertEquals(saved.stream().sorted(Comparator.comparing(Auto::getCosto).reversed()).map(Auto::getId).toList(),
+                porCosto.stream().map(Auto::getId).toList());
+        assertEquals(saved.size(), repository.count());
+        assertEquals(new BigDecimal("12600"), repository.sumCosto());
+        assertEquals(Map.of("Marca0", 3L, "Marca1", 3L), porMarca);
+        assertEquals(6, repository.countByDepartamento().stream().mapToLong(ValueCount::getTotal).sum());
+        assertEquals(saved.get(4).getId(), repository.findByEmail("auto4@example.com").orElseThrow().getId());
+        assertEquals(List.of("auto1@example.com"), repository.findExistingEmails(List.of("auto1@example.com", "otro@example.com")));
+    }
+
+    @Test
+    @DisplayName("Debe cortar la página del resultado combinado de las particiones")
+    void findAll_Pageable_ShouldCutMergedPage() {
+        // Arrange
+        List<Auto> saved = saveOnEveryShard();
+        List<Long> expected = saved.stream()
+                .sorted(Comparator.comparing(Auto::getCosto).reversed())
+                .skip(2).limit(2).map(Auto::getId).toList();
+
+        // Act
+        Page<Auto> page = repository.findAll(PageRequest.of(1, 2, Sort.by(Sort.Direction.DESC, "costo")));
+
+        // Assert
+        assertEquals(expected, page.getContent().stream().map(Auto::getId).toList());
+        assertEquals(saved.size(), page.getTotalElements());
+    }
+
+    @Test
+    @DisplayName("Debe exportar todas las particiones ordenadas por id")
+    void streamForExport_ShouldMergeById() {
+        // Arrange
+        List<Auto> saved = saveOnEveryShard();
+
+        // Act
+        List<Long> ids;
+        try (Stream<Auto> automoviles = repository.streamForExport(null, null, null)) {
+            ids = automoviles.map(Auto::getId).toList();
+        }
+
+        // Assert
+        assertEquals(saved.stream().map(Auto::getId).sorted().toList(), ids);
+    }
+
+    @Test
+    @DisplayName("Debe resolver las consultas fluidas combinando todas las particiones")
+    void findBy_ShouldMergeFluentQueries() {
+        // Arrange
+        List<Auto> saved = saveOnEveryShard();
+        Example<Auto> example = Example.of(new Auto());
+        List<Long> porCosto = saved.stream()
+                .sorted(Comparator.comparing(Auto::getCosto).reversed())
+                .map(Auto::getId).toList();
+        Sort sort = Sort.by(Sort.Direction.DESC, "costo");
+
+        // Act
+        List<Auto> all = repository.findBy(example, query -> query.sortBy(sort).all());
+        List<Auto> limited = repository.findBy(example, query -> query.sortBy(sort).limit(2).all());
+        Auto first = repository.findBy(example, query -> query.sortBy(sort).firstValue());
+        Page<Auto> page = repository.findBy(example, query -> query.sortBy(sort).page(PageRequest.of(1, 2)));
+        long count = repository.findBy(example, FluentQuery.FetchableFluentQuery::count);
+        boolean exists = repository.findBy(example, FluentQuery.FetchableFluentQuery::exists);
+
+        // Assert
+        assertEquals(porCosto, all.stream().map(Auto::getId).toList());
+        assertEquals(porCosto.subList(0, 2), limited.stream().map(Auto::getId).toList());
+        assertEquals(porCosto.get(0), first.getId());
+        assertEquals(porCosto.subList(2, 4), page.getContent().stream().map(Auto::getId).toList());
+        assertEquals(saved.size(), page.getTotalElements());
+        assertEquals(saved.size(), count);
+        assertTrue(exists);
+        assertThrows(IncorrectResultSizeDataAccessException.class,
+                () -> repository.findBy(example, FluentQuery.FetchableFluentQuery::oneValue));
+    }
+
+    @Test
+    @DisplayName("Debe devolver el único resultado de una consulta fluida aunque venga de otra partición")
+    void findBy_OneValue_ShouldReturnTheOnlyMatch() {
+        // Arrange
+        Auto saved = repository.save(auto(null, departamentoOn(2)));
+
+        // Act
+        Auto found = repository.findBy(Example.of(new Auto()), FluentQuery.FetchableFluentQuery::oneValue);
+
+        // Assert
+        assertEquals(saved.getId(), found.getId());
+    }
+
+    @Test
+    @DisplayName("Debe exponer las consultas de una y de varias particiones como métricas")
+    void bindTo_ShouldRegisterQueryCounters() {
+        // Arrange
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        repository.bindTo(registry);
+
+        // Act
+        repository.count();
+
+        // Assert
+        assertEquals(1, registry.get("autos.shard.queries").tag("mode", "fanout").functionCounter().count());
+        assertNotNull(registry.get("autos.shard.moves").functionCounter());
+    }
+
+    /**
+     * Two autos on each shard, with costos 1000 to 3200 in an order unrelated to their ids
+     */
+    private List<Auto> saveOnEveryShard() {
+        List<Auto> saved = new ArrayList<>();
+        int[] costos = {2100, 1000, 3200, 1500, 2600, 2200};
+        for (int i = 0; i < 6; i++) {
+            Auto auto = auto(null, departamentoOn(i % 3));
+            auto.setMarca("Marca" + (i % 2));
+            auto.setEmail("auto" + i + "@example.com");
+            auto.setCosto(new BigDecimal(costos[i]));
+            saved.add(repository.save(auto));
+        }
+        return saved;
+    }
+
+    private void complete(int status) {
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        TransactionSynchronizationManager.clearSynchronization();
+        if (status == TransactionSynchronization.STATUS_COMMITTED) {
+            synchronizations.forEach(TransactionSynchronization::afterCommit);
+        }
+        synchronizations.forEach(synchronization -> synchronization.afterCompletion(status));
+    }
+
+    private String departamentoOn(int shard) {
+        for (int i = 0; ; i++) {
+            if (shardSet.getRing().shardFor("Departamento " + i) == shard) {
+                return "Departamento " + i;
+            }
+        }
+    }
+
+    private static Auto auto(Long id, String departamento) {
+        Auto auto = new Auto();
+        auto.setId(id);
+        auto.setNombre("Nombre");
+        auto.setDepartamento(departamento);
+        auto.setCosto(BigDecimal.ONE);
+        return auto;
+    }
+
+    private Map<Long, Auto> store(int shard) {
+        return stores.computeIfAbsent(shard, key -> new ConcurrentHashMap<>());
+    }
+
+    private Map<Long, Auto> current() {
+        return store(ShardContext.current());
+    }
+
+    /**
+     * The delegate answers from the store of the shard the calling thread is on
+     */
+    private void fakeShards() {
+        when(delegate.save(any(Auto.class))).thenAnswer(invocation -> {
+            Auto auto = invocation.getArgument(0);
+            if (auto.getId() == null) {
+                auto.setId(sequence.incrementAndGet() * 3 + ShardContext.current());
+            }
+            current().put(auto.getId(), auto);
+            return auto;
+        });
+        when(delegate.existsById(anyLong())).thenAnswer(invocation -> current().containsKey(invocation.<Long>getArgument(0)));
+        when(delegate.findById(anyLong())).thenAnswer(invocation -> Optional.ofNullable(current().get(invocation.<Long>getArgument(0))));
+        doAnswer(invocation -> {
+            if (failingDeletes.contains(ShardContext.current())) {
+                throw new IllegalStateException("Partición caída");
+            }
+            current().remove(invocation.<Long>getArgument(0));
+            return null;
+        }).when(delegate).deleteById(anyLong());
+        when(delegate.findByDepartamento(anyString())).thenAnswer(invocation -> current().values().stream()
+                .filter(auto -> auto.getDepartamento().equals(invocation.getArgument(0)))
+                .toList());
+        when(delegate.findAll()).thenAnswer(invocation -> new ArrayList<>(current().values()));
+        when(delegate.findAll(any(Sort.class))).thenAnswer(invocation -> byCostoDesc());
+        when(delegate.findAll(any(Pageable.class))).thenAnswer(invocation -> {
+            Pageable pageable = invocation.getArgument(0);
+            List<Auto> rows = byCostoDesc();
+            return new PageImpl<>(rows.stream().limit(pageable.getPageSize()).toList(), pageable, rows.size());
+        });
+        when(delegate.count()).thenAnswer(invocation -> (long) current().size());
+        when(delegate.sumCosto()).thenAnswer(invocation -> current().values().stream()
+                .map(Auto::getCosto).reduce(BigDecimal.ZERO, BigDecimal::add));
+        when(delegate.countByMarca()).thenAnswer(invocation -> counts(Auto::getMarca));
+        when(delegate.countByDepartamento()).thenAnswer(invocation -> counts(Auto::getDepartamento));
+        when(delegate.findByEmail(anyString())).thenAnswer(invocation -> current().values().stream()
+                .filter(auto -> invocation.getArgument(0).equals(auto.getEmail()))
+                .findFirst());
+        when(delegate.findExistingEmails(any())).thenAnswer(invocation -> current().values().stream()
+                .map(Auto::getEmail)
+                .filter(invocation.<List<String>>getArgument(0)::contains)
+                .toList());
+        when(delegate.streamForExport(any(), any(), any())).thenAnswer(invocation -> byId().stream());
+        when(delegate.findBy(any(), any())).thenAnswer(invocation ->
+                invocation.<Function<FluentQuery.FetchableFluentQuery<Auto>, ?>>getArgument(1).apply(fluentQuery()));
+    }
+
+    /**
+     * A fluent query over the current shard, always sorted by costo descending
+     */
+    @SuppressWarnings("unchecked")
+    private FluentQuery.FetchableFluentQuery<Auto> fluentQuery() {
+        List<Auto> rows = byCostoDesc();
+        int[] limit = {Integer.MAX_VALUE};
+        FluentQuery.FetchableFluentQuery<Auto> query = mock(FluentQuery.FetchableFluentQuery.class);
+        when(query.sortBy(any())).thenReturn(query);
+        when(query.limit(anyInt())).thenAnswer(invocation -> {
+            limit[0] = invocation.getArgument(0);
+            return query;
+        });
+        when(query.all()).thenAnswer(invocation -> rows.stream().limit(limit[0]).toList());
+        when(query.firstValue()).thenAnswer(invocation -> rows.isEmpty() ? null : rows.get(0));
+        when(query.oneValue()).thenAnswer(invocation -> {
+            if (rows.size() > 1) {
+                throw new IncorrectResultSizeDataAccessException(1, rows.size());
+            }
+            return rows.isEmpty() ? null : rows.get(0);
+        });
+        when(query.page(any())).thenAnswer(invocation -> {
+            Pageable pageable = invocation.getArgument(0);
+            return new PageImpl<>(rows.stream().limit(pageable.getPageSize()).toList(), pageable, rows.size());
+        });
+        when(query.count()).thenReturn((long) rows.size());
+        when(query.exists()).thenReturn(!rows.isEmpty());
+        return query;
+    }
+
+    /**
+     * The moving INSERT goes to the store of the shard the calling thread is on
+     */
+    private void fakeInsertWithId(EntityManager entityManager) {
+        Map<Integer, Object> parameters = new ConcurrentHashMap<>();
+        Query insert = mock(Query.class);
+        when(entityManager.createNativeQuery(anyString())).thenReturn(insert);
+        when(insert.setParameter(anyInt(), any())).thenAnswer(invocation -> {
+            if (invocation.getArgument(1) != null) {
+                parameters.put(invocation.getArgument(0), invocation.getArgument(1));
+            }
+            return insert;
+        });
+        when(insert.executeUpdate()).thenAnswer(invocation -> {
+            Auto copy = auto((Long) parameters.get(1), (String) parameters.get(11));
+            copy.setNombre((String) parameters.get(2));
+            current().put(copy.getId(), copy);
+            return 1;
+        });
+    }
+
+    /**
+     * The export query of the shards other than zero, read while the shard's transaction begins
+     */
+    @SuppressWarnings("unchecked")
+    private void fakeExportQuery(EntityManager entityManager) {
+        EntityTransaction transaction = mock(EntityTransaction.class);
+        when(entityManager.getTransaction()).thenReturn(transaction);
+        List<Integer> order = new ArrayList<>();
+        doAnswer(invocation -> {
+            order.add(ShardContext.current());
+            return null;
+        }).when(transaction).begin();
+        TypedQuery<Auto> export = mock(TypedQuery.class);
+        when(entityManager.createQuery(anyString(), eq(Auto.class))).thenReturn(export);
+        when(export.setParameter(anyString(), any())).thenReturn(export);
+        when(export.setHint(anyString(), any())).thenReturn(export);
+        when(export.getResultStream()).thenAnswer(invocation -> {
+            int shard = order.remove(0);
+            return store(shard).values().stream().sorted(Comparator.comparing(Auto::getId));
+        });
+    }
+
+    private List<Auto> byId() {
+        return current().values().stream().sorted(Comparator.comparing(Auto::getId)).toList();
+    }
+
+    private List<Auto> byCostoDesc() {
+        return current().values().stream()
+                .sorted(Comparator.comparing(Auto::getCosto).reversed().thenComparing(Auto::getId))
+                .toList();
+    }
+
+    private List<ValueCount> counts(Function<Auto, String> column) {
+        return current().values().stream()
+                .collect(Collectors.groupingBy(column, Collectors.counting()))
+                .entrySet().stream()
+                .map(entry -> (ValueCount) new Count(entry.getKey(), entry.getValue()))
+                .toList();
+    }
+
+    private record Count(String valor, long total) implements ValueCount {
+
+        @Override
+        public String getValor() {
+            return valor;
+        }
+
+        @Override
+        public long getTotal() {
+            return total;
+        }
+    }
+}
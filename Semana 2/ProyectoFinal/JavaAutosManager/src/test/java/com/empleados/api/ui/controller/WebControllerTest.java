@@ -1,25 +1,38 @@
 package com.empleados.api.ui.controller;
 
 import com.empleados.api.dto.AutoDTO;
+import com.empleados.api.dto.AutoPageDTO;
+import com.empleados.api.dto.DashboardStatsDTO;
+import com.empleados.api.event.AutoChangeFeed;
 import com.empleados.api.service.AutoService;
+import com.empleados.api.service.AutoStatsService;
+import com.empleados.api.ui.view.AutoListStreamer;
 import com.empleados.api.util.TestDataBuilder;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 import org.springframework.ui.Model;
 import org.springframework.validation.BindingResult;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 import org.springframework.web.servlet.mvc.support.RedirectAttributes;
 
+import java.io.ByteArrayOutputStream;
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.ArgumentMatchers.any;
@@ -28,10 +41,12 @@ import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -40,6 +55,15 @@ class WebControllerTest {
     @Mock
     private AutoService autoService;
 
+    @Mock
+    private AutoStatsService autoStatsService;
+
+    @Mock
+    private AutoChangeFeed autoChangeFeed;
+
+    @Mock
+    private AutoListStreamer autoListStreamer;
+
     @InjectMocks
     private WebController webController;
 
@@ -47,6 +71,7 @@ class WebControllerTest {
     private AutoDTO autoDTO1;
     private AutoDTO autoDTO2;
     private List<AutoDTO> automovilesList;
+    private DashboardStatsDTO dashboardStats;
 
     @BeforeEach
     void setUp() {
@@ -61,13 +86,15 @@ class WebControllerTest {
         autoDTO1 = TestDataBuilder.createAutoDTO();
         autoDTO2 = TestDataBuilder.createAutoDTO2();
         automovilesList = Arrays.asList(autoDTO1, autoDTO2);
+        dashboardStats = new DashboardStatsDTO(2, new BigDecimal("98000.00"), new BigDecimal("49000.00"),
+                Map.of("Nissan", 1L, "Ford", 1L), Map.of("Tecnología", 1L, "Recursos Humanos", 1L));
     }
 
     @Test
     @DisplayName("Debería mostrar el dashboard")
     void dashboard_ShouldDisplayDashboard() throws Exception {
         // Arrange
-        when(autoService.getAllAutomoviles()).thenReturn(automovilesList);
+        when(autoStatsService.getDashboardStats()).thenReturn(dashboardStats);
 
         // Act & Assert
         mockMvc.perform(get("/"))
@@ -75,9 +102,11 @@ class WebControllerTest {
                 .andExpect(model().attributeExists("totalAutomoviles"))
                 .andExpect(model().attributeExists("costoPromedio"))
                 .andExpect(model().attributeExists("marcas"))
-                .andExpect(model().attribute("totalAutomoviles", 2));
+                .andExpect(model().attributeExists("departamentos"))
+                .andExpect(model().attribute("totalAutomoviles", 2L));
         
-        verify(autoService, times(1)).getAllAutomoviles();
+        verify(autoStatsService, times(1)).getDashboardStats();
+        verify(autoService, never()).getAllAutomoviles();
         
         // Verificar el nombre de la vista directamente
         Model model = mock(Model.class);
@@ -86,23 +115,101 @@ class WebControllerTest {
     }
 
     @Test
-    @DisplayName("Debería listar todos los automoviles")
-    void listarAutomoviles_ShouldListAllAutomoviles() throws Exception {
+    @DisplayName("Debería listar la primera página de automoviles")
+    void listarAutomoviles_ShouldListFirstPage() throws Exception {
         // Arrange
-        when(autoService.getAllAutomoviles()).thenReturn(automovilesList);
+        AutoPageDTO pagina = new AutoPageDTO(automovilesList, "id", "asc", "cursor");
+        when(autoService.getAutomovilesPage("id", "asc", null, 50)).thenReturn(pagina);
+        when(autoChangeFeed.currentSequence()).thenReturn(7L);
 
         // Act & Assert
         mockMvc.perform(get("/automoviles"))
                 .andExpect(status().isOk())
-                .andExpect(model().attributeExists("automoviles"))
-                .andExpect(model().attribute("automoviles", automovilesList));
+                .andExpect(model().attribute("pagina", pagina))
+                .andExpect(model().attribute("feedSequence", 7L));
         
-        verify(autoService, times(1)).getAllAutomoviles();
+        verify(autoService, never()).getAllAutomoviles();
         
         // Verificar el nombre de la vista directamente
         Model model = mock(Model.class);
-        String viewName = webController.listarAutomoviles(model);
+        String viewName = webController.listarAutomoviles("marca", "desc", 20, model);
         assertEquals("automoviles", viewName);
+        verify(autoService).getAutomovilesPage("marca", "desc", null, 20);
+    }
+
+    @Test
+    @DisplayName("Debería enviar la lista completa con la plantilla en modo por partes")
+    @SuppressWarnings("unchecked")
+    void listarTodos_ShouldStreamFullList() throws Exception {
+        // Arrange
+        when(autoChangeFeed.currentSequence()).thenReturn(3L);
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+        // Act
+        ResponseEntity<StreamingResponseBody> result = webController.listarTodos(request, response);
+        result.getBody().writeTo(output);
+
+        // Assert
+        assertEquals(MediaType.TEXT_HTML, new MediaType(result.getHeaders().getContentType().getType(),
+                result.getHeaders().getContentType().getSubtype()));
+        ArgumentCaptor<Map<String, Object>> variables = ArgumentCaptor.forClass(Map.class);
+        verify(autoListStreamer).stream(eq("automoviles"), variables.capture(), eq(request), eq(response), eq(output));
+        assertEquals(true, variables.getValue().get("completa"));
+        assertEquals(3L, variables.getValue().get("feedSequence"));
+        verify(autoService, never()).getAllAutomoviles();
+    }
+
+    @Test
+    @DisplayName("Debería devolver solo las filas de la página siguiente")
+    void filasAutomoviles_ShouldRenderRowsFragment() throws Exception {
+        // Arrange
+        AutoPageDTO pagina = new AutoPageDTO(List.of(autoDTO2), "costo", "desc", null);
+        when(autoService.getAutomovilesPage("costo", "desc", "abc", 50)).thenReturn(pagina);
+
+        // Act & Assert
+        mockMvc.perform(get("/automoviles/fragmentos/filas")
+                        .param("ordenarPor", "costo")
+                        .param("direccion", "desc")
+                        .param("cursor", "abc"))
+                .andExpect(status().isOk())
+                .andExpect(view().name("automoviles :: filas"))
+                .andExpect(model().attribute("pagina", pagina))
+                .andExpect(model().attributeDoesNotExist("feedSequence"));
+    }
+
+    @Test
+    @DisplayName("Debería devolver la fila del auto creado o el formulario con errores")
+    void guardarAutoFragmento_ShouldRenderRowOrForm() throws Exception {
+        // Arrange
+        AutoDTO newAutoDTO = TestDataBuilder.createNewAutoDTO();
+        when(autoService.createAuto(any(AutoDTO.class))).thenReturn(autoDTO1);
+
+        // Act & Assert
+        mockMvc.perform(post("/automoviles/fragmentos/guardar")
+                        .param("nombre", newAutoDTO.getNombre())
+                        .param("apellido", newAutoDTO.getApellido())
+                        .param("marca", newAutoDTO.getMarca())
+                        .param("modelo", newAutoDTO.getModelo())
+                        .param("color", newAutoDTO.getColor())
+                        .param("email", newAutoDTO.getEmail()))
+                .andExpect(status().isCreated())
+                .andExpect(view().name("automoviles :: fila"))
+                .andExpect(model().attribute("auto", autoDTO1));
+        mockMvc.perform(post("/automoviles/fragmentos/guardar").param("nombre", ""))
+                .andExpect(status().isUnprocessableEntity())
+                .andExpect(view().name("form :: formulario"));
+        verify(autoService, times(1)).createAuto(any(AutoDTO.class));
+    }
+
+    @Test
+    @DisplayName("Debería eliminar un auto sin devolver la página")
+    void eliminarAutoFragmento_ShouldReturnNoContent() throws Exception {
+        // Act & Assert
+        mockMvc.perform(post("/automoviles/fragmentos/eliminar/1"))
+                .andExpect(status().isNoContent());
+        verify(autoService).deleteAuto(1L);
     }
 
     @Test
@@ -245,7 +352,7 @@ class WebControllerTest {
     @DisplayName("Debería calcular correctamente las estadísticas del dashboard")
     void dashboard_ShouldCalculateStatisticsCorrectly() {
         // Arrange
-        when(autoService.getAllAutomoviles()).thenReturn(automovilesList);
+        when(autoStatsService.getDashboardStats()).thenReturn(dashboardStats);
         Model model = mock(Model.class);
 
         // Act
@@ -253,9 +360,10 @@ class WebControllerTest {
 
         // Assert
         assertEquals("index", viewName);
-        verify(model).addAttribute(eq("totalAutomoviles"), eq(2));
-        verify(model).addAttribute(eq("costoPromedio"), anyString());
-        verify(model).addAttribute(eq("marcas"), any());
-        verify(autoService, times(1)).getAllAutomoviles();
+        verify(model).addAttribute(eq("totalAutomoviles"), eq(2L));
+        verify(model).addAttribute(eq("costoPromedio"), eq("49000.00"));
+        verify(model).addAttribute(eq("marcas"), eq(dashboardStats.getMarcas()));
+        verify(model).addAttribute(eq("departamentos"), eq(dashboardStats.getDepartamentos()));
+        verify(autoStatsService, times(1)).getDashboardStats();
     }
 }
\ No newline at end of file
@@ -0,0 +1,111 @@
+package com.empleados.api.ui.view;
+
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.thymeleaf.spring6.SpringTemplateEngine;
+import org.thymeleaf.templateresolver.StringTemplateResolver;
+
+import com.empleados.api.model.Auto;
+import com.empleados.api.repository.AutoRepository;
+
+import java.io.ByteArrayOutputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.Map;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Pruebas unitarias para AutoListStreamer
+ */
+@ExtendWith(MockitoExtension.class)
+class AutoListStreamerTest {
+
+    private static final String TEMPLATE = "<h1 th:text=\"${titulo}\"></h1><table>"
+            + "<tr th:each=\"auto : ${automoviles}\"><td th:text=\"${auto.id}\"></td><td th:text=\"${auto.email}\"></td></tr>"
+            + "</table>";
+
+    @Mock
+    private AutoRepository autoRepository;
+
+    @Mock
+    private EntityManager entityManager;
+
+    private AutoListStreamer streamer;
+
+    @BeforeEach
+    void setUp() {
+        SpringTemplateEngine templateEngine = new SpringTemplateEngine();
+        templateEngine.setTemplateResolver(new StringTemplateResolver());
+        streamer = new AutoListStreamer(autoRepository, templateEngine);
+        ReflectionTestUtils.setField(streamer, "entityManager", entityManager);
+    }
+
+    @Test
+    @DisplayName("Debe enviar la página por partes mientras recorre el cursor, liberando cada auto")
+    void stream_ShouldFlushChunksAndDetachRows() throws Exception {
+        // Arrange
+        int rows = 2000;
+        boolean[] closed = new boolean[1];
+        when(autoRepository.streamForExport(null, null, null)).thenReturn(IntStream.rangeClosed(1, rows)
+                .mapToObj(AutoListStreamerTest::auto)
+                .onClose(() -> closed[0] = true));
+        CountingOutputStream output = new CountingOutputStream();
+
+        // Act
+        long count = streamer.stream(TEMPLATE, Map.of("titulo", "Automoviles"), new MockHttpServletRequest(),
+                new MockHttpServletResponse(), output);
+
+        // Assert
+        String html = output.toString(StandardCharsets.UTF_8);
+        assertEquals(rows, count);
+        assertTrue(html.startsWith("<h1>Automoviles</h1><table><tr><td>1</td><td>auto1@example.com</td></tr>"));
+        assertTrue(html.endsWith("<tr><td>2000</td><td>auto2000@example.com</td></tr></table>"));
+        assertTrue(output.flushes > html.length() / AutoListStreamer.CHUNK_BYTES, "Debe vaciarse tras cada parte");
+        assertTrue(closed[0]);
+        verify(entityManager, times(rows)).detach(any(Auto.class));
+    }
+
+    @Test
+    @DisplayName("Debe cerrar el cursor aunque la plantilla falle")
+    void stream_TemplateError_ShouldCloseCursor() {
+        // Arrange
+        boolean[] closed = new boolean[1];
+        when(autoRepository.streamForExport(null, null, null)).thenReturn(Stream.of(auto(1)).onClose(() -> closed[0] = true));
+
+        // Act & Assert
+        assertThrows(RuntimeException.class, () -> streamer.stream("<p th:text=\"${auto.nada}\" th:each=\"auto : ${automoviles}\"></p>",
+                Map.of(), new MockHttpServletRequest(), new MockHttpServletResponse(), new ByteArrayOutputStream()));
+        assertTrue(closed[0]);
+    }
+
+    private static Auto auto(int id) {
+        return new Auto((long) id, "Nombre" + id, "Apellido", "Marca", "Modelo", "Rojo", LocalDate.of(2020, 1, 1),
+                "auto" + id + "@example.com", LocalDate.of(2021, 1, 1), new BigDecimal("1000.00"), "Ventas", 1);
+    }
+
+    private static final class CountingOutputStream extends ByteArrayOutputStream {
+
+        private int flushes;
+
+        @Override
+        public void flush() {
+            flushes++;
+        }
+    }
+}